@@ -51,6 +51,13 @@ public class GlobalExceptionHandler {
                 .body(ResponseDto.error(HttpStatus.UNAUTHORIZED, ex.getMessage()));
     }
 
+    // 403 Forbidden - 권한 없음
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ResponseDto<Void>> handleForbidden(ForbiddenException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ResponseDto.error(HttpStatus.FORBIDDEN, ex.getMessage()));
+    }
+
     // 404 Not Found - 리소스를 찾을 수 없음
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ResponseDto<Void>> handleNotFound(NotFoundException ex) {
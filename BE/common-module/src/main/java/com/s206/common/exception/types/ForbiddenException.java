@@ -0,0 +1,10 @@
+package com.s206.common.exception.types;
+
+import com.s206.common.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class ForbiddenException extends CustomException {
+    public ForbiddenException(String message) {
+        super(message, HttpStatus.FORBIDDEN);
+    }
+}
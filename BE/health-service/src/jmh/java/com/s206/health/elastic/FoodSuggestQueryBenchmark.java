@@ -0,0 +1,141 @@
+package com.s206.health.elastic;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 검색어 입력 중 음식 이름 조회: 기존 앞쪽 wildcard + match_phrase_prefix vs edge-ngram match vs completion suggester
+// 합성 음식 100,000건 인덱스를 만들어 측정 (nori 플러그인이 설치된 Elasticsearch 필요)
+// 실행: ELASTIC_BENCHMARK_URI=http://localhost:9200 ./gradlew jmh (ELASTIC_BENCHMARK_KEEP_INDEX=true 면 인덱스 재사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FoodSuggestQueryBenchmark {
+
+    private static final String INDEX = "food_suggest_benchmark";
+    private static final int FOOD_COUNT = 100_000;
+    private static final int BULK_SIZE = 5_000;
+    private static final int SIZE = 10;
+
+    private static final String[] PREFIXES = {"", "", "", "수제 ", "국산 ", "저당 ", "매운 "};
+    private static final String[] MAINS = {
+            "닭가슴살", "김치", "된장", "불고기", "제육", "오징어", "새우", "참치", "두부", "돼지고기",
+            "소고기", "연어", "고등어", "계란", "감자", "고구마", "버섯", "시금치", "콩나물", "미역"};
+    private static final String[] DISHES = {
+            "볶음밥", "찌개", "샐러드", "덮밥", "김밥", "국수", "전", "조림", "구이", "무침",
+            "비빔밥", "샌드위치", "스테이크", "카레", "수프", "파스타", "만두", "떡볶이", "튀김", "죽"};
+
+    // 입력 단계별 검색어 (한 글자, 단어 일부, 단어 중간부터 입력)
+    @Param({"닭", "닭가슴", "볶음", "김치 볶"})
+    private String keyword;
+
+    private RestClient restClient;
+    private ElasticsearchClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String uri = System.getenv().getOrDefault("ELASTIC_BENCHMARK_URI", "http://localhost:9200");
+        restClient = RestClient.builder(HttpHost.create(uri)).build();
+        client = new ElasticsearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper()));
+
+        if (client.indices().exists(e -> e.index(INDEX)).value()) {
+            return;
+        }
+
+        String settings;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("elastic-settings.json")) {
+            settings = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String body = "{\"settings\":" + settings + ",\"mappings\":{\"properties\":{"
+                + "\"foodId\":{\"type\":\"integer\"},"
+                + "\"name\":{\"type\":\"text\",\"analyzer\":\"nori_analyzer\",\"fields\":{\"autocomplete\":"
+                + "{\"type\":\"text\",\"analyzer\":\"autocomplete_index_analyzer\","
+                + "\"search_analyzer\":\"autocomplete_search_analyzer\"}}},"
+                + "\"suggest\":{\"type\":\"completion\",\"analyzer\":\"completion_analyzer\","
+                + "\"search_analyzer\":\"completion_analyzer\",\"max_input_length\":50}}}}";
+        client.indices().create(c -> c.index(INDEX).withJson(new StringReader(body)));
+
+        Random random = new Random(206);
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (int foodId = 1; foodId <= FOOD_COUNT; foodId++) {
+            String main = MAINS[random.nextInt(MAINS.length)];
+            String dish = DISHES[random.nextInt(DISHES.length)];
+            String name = PREFIXES[random.nextInt(PREFIXES.length)] + main + " " + dish + " " + foodId;
+
+            Map<String, Object> document = new HashMap<>();
+            document.put("foodId", foodId);
+            document.put("name", name);
+            document.put("suggest", Map.of("input", List.of(name, dish + " " + foodId, String.valueOf(foodId))));
+            String id = String.valueOf(foodId);
+            bulk.operations(op -> op.index(i -> i.index(INDEX).id(id).document(document)));
+
+            if (foodId % BULK_SIZE == 0) {
+                client.bulk(bulk.build());
+                bulk = new BulkRequest.Builder();
+            }
+        }
+        client.indices().refresh(r -> r.index(INDEX));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (!Boolean.parseBoolean(System.getenv("ELASTIC_BENCHMARK_KEEP_INDEX"))) {
+            client.indices().delete(d -> d.index(INDEX));
+        }
+        restClient.close();
+    }
+
+    // 기존 쿼리: *검색어* wildcard + match_phrase_prefix
+    @Benchmark
+    public void leadingWildcard(Blackhole blackhole) throws IOException {
+        SearchResponse<Map> response = client.search(s -> s
+                .index(INDEX)
+                .size(SIZE)
+                .query(q -> q.bool(b -> b
+                        .should(sh -> sh.wildcard(w -> w.field("name").value("*" + keyword + "*")))
+                        .should(sh -> sh.matchPhrasePrefix(p -> p.field("name").query(keyword))))),
+                Map.class);
+        blackhole.consume(response.hits().hits());
+    }
+
+    // 새 쿼리: name.autocomplete(edge-ngram) match
+    @Benchmark
+    public void edgeNgram(Blackhole blackhole) throws IOException {
+        SearchResponse<Map> response = client.search(s -> s
+                .index(INDEX)
+                .size(SIZE)
+                .query(q -> q.match(m -> m.field("name.autocomplete").query(keyword).operator(Operator.And))),
+                Map.class);
+        blackhole.consume(response.hits().hits());
+    }
+
+    // 새 쿼리: completion suggester
+    @Benchmark
+    public void completionSuggester(Blackhole blackhole) throws IOException {
+        SearchResponse<Map> response = client.search(s -> s
+                .index(INDEX)
+                .size(0)
+                .suggest(sg -> sg.suggesters("food-suggest", fs -> fs
+                        .prefix(keyword)
+                        .completion(c -> c.field("suggest").size(SIZE).skipDuplicates(true)))),
+                Map.class);
+        blackhole.consume(response.suggest());
+    }
+}
@@ -0,0 +1,122 @@
+package com.s206.health.nutrition.food.catalog;
+
+import com.s206.health.nutrition.food.entity.Food;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 하루 식단 영양소 합산: 기존 BigDecimal 누적 vs NutrientVector 고정소수점 누적
+// foodsPerDay: 하루 식단의 음식 수 (가벼운 기록 ~ 간식까지 모두 기록한 날)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NutrientVectorBenchmark {
+
+    private static final int CATALOG_SIZE = 20_000;
+    private static final float[] QUANTITIES = {0.5f, 1.0f, 1.0f, 1.0f, 1.5f, 2.0f};
+
+    @Param({"4", "12", "30"})
+    private int foodsPerDay;
+
+    private FoodCatalogSnapshot catalog;
+    private Food[] foods;
+    private int[] slots;
+    private Float[] quantities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(206);
+
+        List<Food> catalogFoods = new ArrayList<>(CATALOG_SIZE);
+        for (int foodId = 1; foodId <= CATALOG_SIZE; foodId++) {
+            catalogFoods.add(Food.builder()
+                    .foodId(foodId)
+                    .foodName("food-" + foodId)
+                    .calorie(50 + random.nextInt(800))
+                    .carbohydrate(decimal(random, 120))
+                    .protein(decimal(random, 60))
+                    .fat(decimal(random, 50))
+                    .sweet(decimal(random, 40))
+                    .sodium(decimal(random, 2000))
+                    .saturatedFat(decimal(random, 20))
+                    .transFat(decimal(random, 3))
+                    .cholesterol(decimal(random, 300))
+                    .baseAmount("100g")
+                    .isDeleted(false)
+                    .build());
+        }
+        catalog = FoodCatalogSnapshot.of(catalogFoods, 1L);
+
+        foods = new Food[foodsPerDay];
+        slots = new int[foodsPerDay];
+        quantities = new Float[foodsPerDay];
+        for (int i = 0; i < foodsPerDay; i++) {
+            Food food = catalogFoods.get(random.nextInt(CATALOG_SIZE));
+            foods[i] = food;
+            slots[i] = catalog.indexOf(food.getFoodId());
+            quantities[i] = QUANTITIES[random.nextInt(QUANTITIES.length)];
+        }
+    }
+
+    // 기존 경로: 음식마다 BigDecimal 곱셈/덧셈 (영양소 6종)
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        int totalCalorie = 0;
+        BigDecimal totalCarb = BigDecimal.ZERO;
+        BigDecimal totalProtein = BigDecimal.ZERO;
+        BigDecimal totalFat = BigDecimal.ZERO;
+        BigDecimal totalSugar = BigDecimal.ZERO;
+        BigDecimal totalSodium = BigDecimal.ZERO;
+
+        for (int i = 0; i < foodsPerDay; i++) {
+            Food food = foods[i];
+            Float quantity = quantities[i];
+            BigDecimal multiplier = BigDecimal.valueOf(quantity);
+
+            totalCalorie += (int) (food.getCalorie() * quantity);
+            totalCarb = totalCarb.add(food.getCarbohydrate().multiply(multiplier));
+            totalProtein = totalProtein.add(food.getProtein().multiply(multiplier));
+            totalFat = totalFat.add(food.getFat().multiply(multiplier));
+            totalSugar = totalSugar.add(food.getSweet().multiply(multiplier));
+            totalSodium = totalSodium.add(food.getSodium().multiply(multiplier));
+        }
+
+        blackhole.consume(totalCalorie);
+        blackhole.consume(totalCarb);
+        blackhole.consume(totalProtein);
+        blackhole.consume(totalFat);
+        blackhole.consume(totalSugar);
+        blackhole.consume(totalSodium);
+    }
+
+    // 새 경로: 카탈로그 행 배열에서 영양소 9종을 long 누적
+    @Benchmark
+    public void nutrientVector(Blackhole blackhole) {
+        NutrientVector total = NutrientVector.zero();
+        for (int i = 0; i < foodsPerDay; i++) {
+            total.addScaled(catalog, slots[i], quantities[i]);
+        }
+        blackhole.consume(total);
+    }
+
+    // 새 경로 + DTO 변환 비용 (응답 생성 시점에만 BigDecimal 생성)
+    @Benchmark
+    public void nutrientVectorWithConversion(Blackhole blackhole) {
+        NutrientVector total = NutrientVector.zero();
+        for (int i = 0; i < foodsPerDay; i++) {
+            total.addScaled(catalog, slots[i], quantities[i]);
+        }
+        for (int i = 0; i < NutrientVector.LENGTH; i++) {
+            blackhole.consume(total.decimal(i));
+        }
+    }
+
+    private static BigDecimal decimal(Random random, int max) {
+        return BigDecimal.valueOf(random.nextInt(max * 100), 2);
+    }
+}
@@ -0,0 +1,139 @@
+package com.s206.health.persistence.id;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 한 트랜잭션에서 rows 개 INSERT: IDENTITY(행마다 INSERT) vs 테이블 시퀀스 pooled-lo + JDBC batch
+// rows: 식단 한 번 저장(식사 3 + 음식 15 + 식단 1), 운동 기록 일괄 저장
+// 내장 H2(MySQL 모드, 메모리)라 네트워크 왕복이 없으므로 실제 MySQL 에서는 차이가 더 큼
+// JDBC 문 수(prepared statement 수)와 INSERT 행 수를 보조 카운터로 함께 보고 (statements / insertedRows = 행당 문 수)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGenerationBatchBenchmark {
+
+    @Param({"IDENTITY", "POOLED"})
+    private String strategy;
+
+    @Param({"19", "500"})
+    private int rows;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:id_bench_" + strategy + "_" + rows
+                        + ";MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .applySetting(AvailableSettings.ORDER_INSERTS, "true")
+                .applySetting(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, "true")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public void insert(StatementCounters counters) {
+        Statistics statistics = sessionFactory.getStatistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long insertsBefore = statistics.getEntityInsertCount();
+
+        boolean pooled = "POOLED".equals(strategy);
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(pooled ? new PooledRow(i) : new IdentityRow(i));
+            }
+            transaction.commit();
+        }
+
+        counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+        counters.insertedRows += statistics.getEntityInsertCount() - insertsBefore;
+    }
+
+    // 반복(iteration)마다 합계로 보고되는 보조 카운터
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounters {
+
+        public long statements;
+        public long insertedRows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            insertedRows = 0;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_identity_tb")
+    public static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Integer id;
+
+        @Column(name = "row_value", nullable = false)
+        private Integer value;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(int value) {
+            this.value = value;
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_pooled_tb")
+    public static class PooledRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_pooled_id")
+        @TableGenerator(name = "bench_pooled_id", table = IdSequences.TABLE,
+                pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+                pkColumnValue = "bench_pooled_tb", allocationSize = IdSequences.ALLOCATION_SIZE)
+        private Integer id;
+
+        @Column(name = "row_value", nullable = false)
+        private Integer value;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(int value) {
+            this.value = value;
+        }
+    }
+}
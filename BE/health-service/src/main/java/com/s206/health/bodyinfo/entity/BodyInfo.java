@@ -1,5 +1,6 @@
 package com.s206.health.bodyinfo.entity;
 
+import com.s206.health.persistence.id.IdSequences;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,7 +31,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class BodyInfo {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "body_id")
+	@TableGenerator(name = "body_id", table = IdSequences.TABLE,
+			pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+			pkColumnValue = IdSequences.BODY, allocationSize = IdSequences.ALLOCATION_SIZE)
 	private Integer bodyId;
 
 	@Column(nullable = false)
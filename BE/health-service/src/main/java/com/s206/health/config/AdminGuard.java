@@ -0,0 +1,22 @@
+package com.s206.health.config;
+
+import com.s206.common.exception.types.ForbiddenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// 운영용 API(전체 재구축, 이미지 정리/백필, 음식 가져오기) 호출 권한 확인
+// 게이트웨이는 X-USER-ID 만 넘기고 권한 정보가 없으므로 설정한 관리자 사용자 ID 만 허용 (설정이 없으면 모두 거부)
+@Component
+public class AdminGuard {
+
+    @Value("${health.admin.user-ids:}")
+    private Set<Integer> adminUserIds;
+
+    public void check(Integer userId) {
+        if (userId == null || !adminUserIds.contains(userId)) {
+            throw new ForbiddenException("관리자만 실행할 수 있습니다.");
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -19,4 +21,45 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // 식단 이미지 병렬 업로드용 (MinIO putObject)
+    @Bean("mealImageUploadExecutor")
+    public ThreadPoolTaskExecutor mealImageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("MEAL-IMG-");
+        // 큐가 가득 차면 요청 스레드에서 직접 업로드 (거절 대신 순차 처리로 후퇴)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 식단 이미지 파생본(썸네일/중간 크기) 생성용
+    // 이미지 디코딩이 메모리를 많이 쓰므로 동시 실행 수를 작게 제한, 큐가 가득 차면 생략 후 백필로 처리
+    // 대기 작업은 objectName 만 가지며 원본은 실행 시 MinIO 에서 읽으므로 큐 크기가 힙 사용량을 늘리지 않음
+    @Bean("mealImageDerivativeExecutor")
+    public ThreadPoolTaskExecutor mealImageDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("MEAL-IMG-DERIV-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 검색 개인화용 사용자 선호도 계산 (검색 요청 스레드와 커밋 후 콜백에서 DB 집계를 떼어 냄)
+    // 큐가 가득 차면 생략 (다음 검색에서 다시 예약하고, 그 사이에는 이전 값이나 빈 선호도 사용)
+    @Bean("foodAffinityExecutor")
+    public ThreadPoolTaskExecutor foodAffinityExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("FOOD-AFFINITY-");
+        executor.initialize();
+        return executor;
+    }
+}
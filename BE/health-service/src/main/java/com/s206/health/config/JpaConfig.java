@@ -0,0 +1,23 @@
+package com.s206.health.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // 테이블 시퀀스 ID(IdSequences) + JDBC batch 설정
+    @Bean
+    public HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+        return properties -> {
+            // next_val 을 예약 구간의 첫 ID 로 해석 (마이그레이션/IdSequenceInitializer 가 MAX(id) + 1 로 맞추는 것과 일치해야 함)
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+            // 같은 테이블 INSERT/UPDATE 를 모아 batch 로 전송 (설정 서버 값이 있으면 그대로 사용)
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, "50");
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+        };
+    }
+}
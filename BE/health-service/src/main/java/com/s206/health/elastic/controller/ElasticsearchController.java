@@ -2,9 +2,12 @@ package com.s206.health.elastic.controller;
 
 import com.s206.common.dto.ResponseDto;
 import com.s206.health.elastic.document.ElasticFood;
+import com.s206.health.elastic.dto.request.FoodSearchRequest;
+import com.s206.health.elastic.scheduler.ElasticFoodSyncScheduler;
 import com.s206.health.elastic.service.ElasticsearchService;
 import com.s206.health.nutrition.food.dto.response.FoodDetailResponse;
 import com.s206.health.nutrition.food.dto.response.FoodListResponse;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,9 +19,12 @@ import java.util.List;
 public class ElasticsearchController {
 
     private final ElasticsearchService elasticsearchService;
+    private final ElasticFoodSyncScheduler elasticFoodSyncScheduler;
 
-    public ElasticsearchController(ElasticsearchService elasticsearchService) {
+    public ElasticsearchController(ElasticsearchService elasticsearchService,
+                                   ElasticFoodSyncScheduler elasticFoodSyncScheduler) {
         this.elasticsearchService = elasticsearchService;
+        this.elasticFoodSyncScheduler = elasticFoodSyncScheduler;
     }
 
     // 음식 이름으로 검색
@@ -30,6 +36,15 @@ public class ElasticsearchController {
         return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK,"검색 성공",foods));
     }
 
+    // 이름 + 영양소 범위 조건 검색 (예: minProtein=20, maxCalorie=300, lowSodium=true), 페이지 단위
+    @GetMapping("/filter")
+    public ResponseEntity<ResponseDto<Page<FoodDetailResponse>>> searchByCondition(
+            @RequestHeader("X-USER-ID") Integer userId,
+            @ModelAttribute FoodSearchRequest request) {
+        Page<FoodDetailResponse> foods = elasticsearchService.search(request, userId);
+        return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK,"검색 성공",foods));
+    }
+
     @PostMapping
     public ResponseEntity<ResponseDto<ElasticFood>> createFood(@RequestBody ElasticFood food) {
         ElasticFood savedFood = elasticsearchService.save(food);
@@ -43,10 +58,11 @@ public class ElasticsearchController {
         return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK,"모든 검색 성공",foods));
     }
 
-    // MySQL 데이터를 Elasticsearch 로 수동 동기화
+    // MySQL 데이터를 Elasticsearch 로 수동 동기화 (rebuild=true 이면 새 인덱스로 전체 재색인 후 alias 교체)
     @PostMapping("/sync")
-    public ResponseEntity<ResponseDto<String>> syncFoods() {
-        elasticsearchService.syncFoodsFromDatabase();
-        return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK,"동기화 성공"));
+    public ResponseEntity<ResponseDto<String>> syncFoods(
+            @RequestParam(defaultValue = "false") boolean rebuild) {
+        elasticFoodSyncScheduler.syncAsync(rebuild);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ResponseDto.success(HttpStatus.ACCEPTED,"동기화 시작"));
     }
 }
\ No newline at end of file
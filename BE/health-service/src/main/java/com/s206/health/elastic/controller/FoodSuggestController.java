@@ -0,0 +1,33 @@
+package com.s206.health.elastic.controller;
+
+import com.s206.common.dto.ResponseDto;
+import com.s206.health.elastic.dto.response.FoodSuggestResponse;
+import com.s206.health.elastic.service.FoodSuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/foods/suggest")
+public class FoodSuggestController {
+
+    private final FoodSuggestService foodSuggestService;
+
+    // 음식 이름 자동완성 (입력 중인 검색어 접두사)
+    @GetMapping
+    public ResponseEntity<ResponseDto<List<FoodSuggestResponse>>> suggest(
+            @RequestHeader("X-USER-ID") Integer userId,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        List<FoodSuggestResponse> suggestions = foodSuggestService.suggest(prefix, size);
+        return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "자동완성 조회 성공", suggestions));
+    }
+}
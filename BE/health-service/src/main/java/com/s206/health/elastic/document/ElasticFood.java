@@ -1,26 +1,126 @@
 package com.s206.health.elastic.document;
 
+import com.s206.health.nutrition.food.entity.Food;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.CompletionField;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 검색 결과를 MySQL 조회 없이 만들 수 있도록 표시용 값과 영양소를 함께 저장
+// 영양소는 DECIMAL(6,2)이므로 scaled_float(1/100)로 저장하여 범위 필터/정렬에 사용
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Document(indexName = "food") // Elasticsearch 인덱스 이름 지정
+@Document(indexName = "food") // Elasticsearch 인덱스 이름 지정 (버전 인덱스를 가리키는 alias)
 @Setting(settingPath = "elastic-settings.json")
 public class ElasticFood {
 
     @Id // Elasticsearch 문서 ID
     private String id;
 
-    @Field(type = FieldType.Text, analyzer = "nori_analyzer")
+    // name.autocomplete: 토큰별 edge-ngram (검색어 입력 중 부분 일치용, 앞쪽 wildcard 대체)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "nori_analyzer"),
+            otherFields = @InnerField(suffix = "autocomplete", type = FieldType.Text,
+                    analyzer = "autocomplete_index_analyzer", searchAnalyzer = "autocomplete_search_analyzer"))
     private String name;
 
+    // 자동완성 completion suggester 입력 (이름 전체 + 띄어쓰기 뒤 단어부터 시작하는 부분)
+    @CompletionField(analyzer = "completion_analyzer", searchAnalyzer = "completion_analyzer", maxInputLength = 50)
+    private Completion suggest;
+
     @Field(type = FieldType.Integer)
     private Integer foodId;
-}
\ No newline at end of file
+
+    @Field(type = FieldType.Integer)
+    private Integer calorie;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double carbohydrate;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double protein;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double fat;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double sweet;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double sodium;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double saturatedFat;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double transFat;
+
+    @Field(type = FieldType.Scaled_Float, scalingFactor = 100)
+    private Double cholesterol;
+
+    // 표시용 (검색/필터 대상 아님)
+    @Field(type = FieldType.Keyword, index = false)
+    private String baseAmount;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createdAt;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime updatedAt;
+
+    public static ElasticFood from(Food food) {
+        return ElasticFood.builder()
+                .id(food.getFoodId().toString()) // ID를 MySQL의 foodId로 설정
+                .foodId(food.getFoodId())
+                .name(food.getFoodName())
+                .suggest(suggestOf(food.getFoodName()))
+                .calorie(food.getCalorie())
+                .carbohydrate(toDouble(food.getCarbohydrate()))
+                .protein(toDouble(food.getProtein()))
+                .fat(toDouble(food.getFat()))
+                .sweet(toDouble(food.getSweet()))
+                .sodium(toDouble(food.getSodium()))
+                .saturatedFat(toDouble(food.getSaturatedFat()))
+                .transFat(toDouble(food.getTransFat()))
+                .cholesterol(toDouble(food.getCholesterol()))
+                .baseAmount(food.getBaseAmount())
+                .createdAt(food.getCreatedAt())
+                .updatedAt(food.getUpdatedAt())
+                .build();
+    }
+
+    // "닭가슴살 샐러드" → ["닭가슴살 샐러드", "샐러드"] (이름 중간 단어로 입력해도 제안되도록)
+    private static Completion suggestOf(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String trimmed = name.trim();
+        List<String> inputs = new ArrayList<>();
+        inputs.add(trimmed);
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (Character.isWhitespace(trimmed.charAt(i)) && i + 1 < trimmed.length()
+                    && !Character.isWhitespace(trimmed.charAt(i + 1))) {
+                inputs.add(trimmed.substring(i + 1));
+            }
+        }
+        return new Completion(inputs.toArray(new String[0]));
+    }
+
+    private static Double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.s206.health.elastic.dto.request;
+
+import com.s206.health.elastic.type.FoodSearchSort;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// 음식 검색 조건 (이름은 선택, 영양소는 1회 제공량 기준 범위, 비어 있는 조건은 적용하지 않음)
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class FoodSearchRequest {
+
+    private String name;
+
+    private Integer minCalorie;
+    private Integer maxCalorie;
+
+    private Double minProtein;
+    private Double maxProtein;
+
+    private Double minCarbohydrate;
+    private Double maxCarbohydrate;
+
+    private Double minFat;
+    private Double maxFat;
+
+    private Double maxSugar;
+
+    private Double maxSodium;
+
+    // 저나트륨 (나트륨 120mg 이하)
+    private boolean lowSodium;
+
+    private FoodSearchSort sort = FoodSearchSort.RELEVANCE;
+
+    private int page = 0;
+    private int size = 20;
+}
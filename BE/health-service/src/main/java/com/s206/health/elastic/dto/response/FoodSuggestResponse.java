@@ -0,0 +1,24 @@
+package com.s206.health.elastic.dto.response;
+
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+// 자동완성 제안 (입력 중 목록 표시용 최소 필드)
+@Getter
+@Builder
+public class FoodSuggestResponse {
+    private Integer foodId;
+    private String foodName;
+    private Integer calorie;
+    private String baseAmount;
+
+    public static FoodSuggestResponse toDto(FoodCatalogSnapshot snapshot, int slot) {
+        return FoodSuggestResponse.builder()
+                .foodId(snapshot.foodId(slot))
+                .foodName(snapshot.foodName(slot))
+                .calorie(snapshot.calorie(slot))
+                .baseAmount(snapshot.baseAmount(slot))
+                .build();
+    }
+}
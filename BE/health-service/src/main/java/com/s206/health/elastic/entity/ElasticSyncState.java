@@ -0,0 +1,57 @@
+package com.s206.health.elastic.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Elasticsearch 음식 인덱스 동기화 상태 (단일 행)
+// alias가 가리키는 인덱스와 어디까지 반영했는지(updatedAt 워터마크)를 저장
+@Entity
+@Getter
+@Table(name = "elastic_sync_state_tb")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ElasticSyncState {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer elasticSyncStateId;
+
+    // 마지막 전체 재색인으로 만든 인덱스 이름 (alias가 다른 인덱스를 가리키면 재색인)
+    @Column(length = 100)
+    private String indexName;
+
+    // 이 시각까지 수정된 음식은 인덱스에 반영됨 (null이면 전체 재색인 필요)
+    private LocalDateTime watermark;
+
+    // 여러 인스턴스 중 한 곳만 실행하기 위한 점유 만료 시각
+    private LocalDateTime lockedUntil;
+
+    private LocalDateTime lastRebuiltAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public void advance(LocalDateTime watermark) {
+        if (this.watermark == null || watermark.isAfter(this.watermark)) {
+            this.watermark = watermark;
+        }
+    }
+
+    public void rebuilt(String indexName, LocalDateTime watermark, LocalDateTime rebuiltAt) {
+        this.indexName = indexName;
+        this.watermark = watermark;
+        this.lastRebuiltAt = rebuiltAt;
+    }
+
+    public void unlock() {
+        this.lockedUntil = null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.s206.health.elastic.repository;
+
+import com.s206.health.elastic.entity.ElasticSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ElasticSyncStateRepository extends JpaRepository<ElasticSyncState, Integer> {
+
+    // 점유가 비어 있거나 만료된 경우에만 점유 (반환값 1이면 점유 성공)
+    @Modifying
+    @Query("UPDATE ElasticSyncState s SET s.lockedUntil = :lockedUntil " +
+            "WHERE s.elasticSyncStateId = :id AND (s.lockedUntil IS NULL OR s.lockedUntil < :now)")
+    int tryLock(@Param("id") Integer id,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+}
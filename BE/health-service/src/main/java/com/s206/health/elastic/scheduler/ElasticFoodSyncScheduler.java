@@ -0,0 +1,29 @@
+package com.s206.health.elastic.scheduler;
+
+import com.s206.health.elastic.service.ElasticFoodSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 음식 데이터 Elasticsearch 증분 동기화 (다른 인스턴스/직접 수정된 음식도 워터마크 기준으로 반영)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ElasticFoodSyncScheduler {
+
+    private final ElasticFoodSyncService elasticFoodSyncService;
+
+    @Scheduled(fixedDelayString = "${elastic.sync.interval-ms:300000}",
+            initialDelayString = "${elastic.sync.interval-ms:300000}")
+    public void syncChanges() {
+        elasticFoodSyncService.sync(false);
+    }
+
+    // 시작 시/수동 실행 (readiness 를 막지 않도록 백그라운드에서 실행)
+    @Async
+    public void syncAsync(boolean rebuild) {
+        elasticFoodSyncService.sync(rebuild);
+    }
+}
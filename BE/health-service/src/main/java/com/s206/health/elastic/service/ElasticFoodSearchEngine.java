@@ -0,0 +1,85 @@
+package com.s206.health.elastic.service;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch.core.search.Suggester;
+import com.s206.health.elastic.document.ElasticFood;
+import com.s206.health.nutrition.food.search.FoodSearchEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.suggest.response.CompletionSuggestion;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Elasticsearch 음식 이름 자동완성
+// 1) completion suggester: 메모리 FST에서 접두사로 바로 찾으므로 가장 빠름
+// 2) 결과가 모자라면 name.autocomplete(edge-ngram) match 로 단어 중간부터 입력한 경우까지 보충
+@Component
+@RequiredArgsConstructor
+public class ElasticFoodSearchEngine implements FoodSearchEngine {
+
+    private static final String SUGGESTION_NAME = "food-suggest";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Override
+    public List<Integer> search(String query, int limit) {
+        Set<Integer> foodIds = new LinkedHashSet<>();
+        suggestByCompletion(query, limit, foodIds);
+        if (foodIds.size() < limit) {
+            suggestByEdgeNgram(query, limit, foodIds);
+        }
+
+        List<Integer> result = new ArrayList<>(Math.min(limit, foodIds.size()));
+        for (Integer foodId : foodIds) {
+            if (result.size() == limit) break;
+            result.add(foodId);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void suggestByCompletion(String keyword, int size, Set<Integer> foodIds) {
+        NativeQuery query = NativeQuery.builder()
+                .withSuggester(Suggester.of(s -> s.suggesters(SUGGESTION_NAME, fs -> fs
+                        .prefix(keyword)
+                        .completion(c -> c.field("suggest").size(size).skipDuplicates(true)))))
+                .withMaxResults(0)
+                .build();
+
+        Suggest suggest = elasticsearchOperations.search(query, ElasticFood.class).getSuggest();
+        if (suggest == null || !(suggest.getSuggestion(SUGGESTION_NAME) instanceof CompletionSuggestion<?> completion)) {
+            return;
+        }
+        for (CompletionSuggestion.Entry<?> entry : completion.getEntries()) {
+            for (CompletionSuggestion.Entry.Option<?> option : entry.getOptions()) {
+                SearchHit<ElasticFood> hit = (SearchHit<ElasticFood>) option.getSearchHit();
+                if (hit != null && hit.getContent().getFoodId() != null) {
+                    foodIds.add(hit.getContent().getFoodId());
+                }
+            }
+        }
+    }
+
+    private void suggestByEdgeNgram(String keyword, int size, Set<Integer> foodIds) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.match(m -> m.field("name.autocomplete").query(keyword).operator(Operator.And)))
+                .withPageable(PageRequest.of(0, size))
+                .build();
+
+        SearchHits<ElasticFood> hits = elasticsearchOperations.search(query, ElasticFood.class);
+        for (SearchHit<ElasticFood> hit : hits.getSearchHits()) {
+            if (hit.getContent().getFoodId() != null) {
+                foodIds.add(hit.getContent().getFoodId());
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.s206.health.elastic.service;
+
+import com.s206.health.elastic.document.ElasticFood;
+import com.s206.health.elastic.entity.ElasticSyncState;
+import com.s206.health.elastic.repository.ElasticSyncStateRepository;
+import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.nutrition.food.repository.FoodRepository;
+import com.s206.health.nutrition.food.search.FoodSearchCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// MySQL 음식 데이터 → Elasticsearch 동기화
+// 검색은 항상 alias(food)로 하고, 전체 재색인은 새 버전 인덱스(food_v{시각})에 채운 뒤 alias를 한 번에 교체
+// 평소에는 updatedAt 워터마크 이후 변경분만 청크 단위 bulk로 반영
+// 문서에 영양소까지 담으므로 음식 수정도 같은 경로로 반영됨
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ElasticFoodSyncService {
+
+    public static final String ALIAS = "food";
+
+    // ElasticFood 매핑이 바뀌면 올림 (alias가 이전 버전 인덱스를 가리키면 전체 재색인)
+    private static final int SCHEMA_VERSION = 3;
+    private static final String INDEX_PREFIX = "food_v";
+    private static final String CURRENT_INDEX_PREFIX = INDEX_PREFIX + SCHEMA_VERSION + "_";
+    private static final DateTimeFormatter INDEX_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final FoodRepository foodRepository;
+    private final ElasticSyncStateRepository syncStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FoodSearchCache foodSearchCache;
+
+    // DB 페이지 크기 = bulk 요청 한 번에 보내는 문서 수
+    @Value("${elastic.sync.chunk-size:1000}")
+    private int chunkSize;
+
+    // 늦게 커밋된 트랜잭션의 updatedAt이 워터마크보다 앞설 수 있으므로 이 구간만큼 겹쳐서 다시 반영
+    @Value("${elastic.sync.overlap-ms:60000}")
+    private long overlapMs;
+
+    @Value("${elastic.sync.lease-minutes:30}")
+    private long leaseMinutes;
+
+    // rebuild가 true이거나 alias/워터마크가 없으면 전체 재색인, 그 외에는 증분 동기화
+    public void sync(boolean rebuild) {
+        if (!tryLock(LocalDateTime.now())) {
+            log.info("[ELASTIC_SYNC] 다른 인스턴스에서 실행 중이어서 건너뜀");
+            return;
+        }
+
+        try {
+            ElasticSyncState state = syncStateRepository.findById(ElasticSyncState.SINGLETON_ID).orElseThrow();
+            String aliasIndex = findAliasIndex();
+            if (rebuild || state.getWatermark() == null || aliasIndex == null
+                    || !aliasIndex.equals(state.getIndexName())
+                    || !aliasIndex.startsWith(CURRENT_INDEX_PREFIX)) {
+                rebuildIndex();
+            }
+            syncChanges();
+        } catch (Exception e) {
+            log.error("[ELASTIC_SYNC] 동기화 중단, 다음 실행에서 이어서 진행: {}", e.getMessage(), e);
+        } finally {
+            updateState(ElasticSyncState::unlock);
+        }
+    }
+
+    // 새 버전 인덱스에 전체 음식을 bulk로 채우고 alias 교체 후 이전 인덱스 삭제
+    private void rebuildIndex() {
+        long start = System.currentTimeMillis();
+        // 스캔 도중 수정된 음식은 이후 증분 동기화가 반영하도록 스캔 전 시각을 워터마크로 사용
+        LocalDateTime latestUpdatedAt = foodRepository.findLatestUpdatedAt();
+        LocalDateTime watermark = latestUpdatedAt != null ? latestUpdatedAt : EPOCH;
+
+        String indexName = CURRENT_INDEX_PREFIX + LocalDateTime.now().format(INDEX_SUFFIX);
+        IndexCoordinates target = IndexCoordinates.of(indexName);
+        IndexOperations indexOps = elasticsearchOperations.indexOps(target);
+        indexOps.create(indexOps.createSettings(ElasticFood.class), indexOps.createMapping(ElasticFood.class));
+
+        int indexed = 0;
+        try {
+            Integer lastFoodId = 0;
+            while (true) {
+                List<Food> page = foodRepository.findByFoodIdGreaterThanOrderByFoodIdAsc(
+                        lastFoodId, PageRequest.of(0, chunkSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                List<ElasticFood> documents = new ArrayList<>(page.size());
+                for (Food food : page) {
+                    if (!Boolean.TRUE.equals(food.getIsDeleted())) {
+                        documents.add(ElasticFood.from(food));
+                    }
+                }
+                if (!documents.isEmpty()) {
+                    elasticsearchOperations.save(documents, target);
+                    indexed += documents.size();
+                }
+
+                lastFoodId = page.get(page.size() - 1).getFoodId();
+                if (page.size() < chunkSize) {
+                    break;
+                }
+            }
+            indexOps.refresh();
+        } catch (RuntimeException e) {
+            // 채우다 실패한 인덱스는 alias에 붙이지 않고 제거
+            indexOps.delete();
+            throw e;
+        }
+
+        swapAlias(indexName);
+        updateState(state -> state.rebuilt(indexName, watermark, LocalDateTime.now()));
+        foodSearchCache.invalidateAll();
+
+        log.info("[ELASTIC_SYNC] 전체 재색인 완료: index={}, 문서 수={}, 소요={}ms",
+                indexName, indexed, System.currentTimeMillis() - start);
+    }
+
+    // 워터마크 이후 변경분을 (updatedAt, foodId) 순으로 읽어 청크마다 bulk 반영 후 워터마크 전진
+    private void syncChanges() {
+        long start = System.currentTimeMillis();
+        LocalDateTime watermark = syncStateRepository.findById(ElasticSyncState.SINGLETON_ID)
+                .map(ElasticSyncState::getWatermark)
+                .orElse(EPOCH);
+        IndexCoordinates target = IndexCoordinates.of(ALIAS);
+
+        LocalDateTime cursorAt = watermark.minus(overlapMs, ChronoUnit.MILLIS);
+        Integer cursorId = 0;
+        int indexed = 0;
+        int deleted = 0;
+        while (true) {
+            List<Food> page = foodRepository.findUpdatedAfter(cursorAt, cursorId, PageRequest.of(0, chunkSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<ElasticFood> documents = new ArrayList<>(page.size());
+            for (Food food : page) {
+                if (Boolean.TRUE.equals(food.getIsDeleted())) {
+                    // soft delete 는 드물어서 문서 단위로 삭제
+                    elasticsearchOperations.delete(food.getFoodId().toString(), target);
+                    deleted++;
+                } else {
+                    documents.add(ElasticFood.from(food));
+                }
+            }
+            if (!documents.isEmpty()) {
+                elasticsearchOperations.save(documents, target);
+                indexed += documents.size();
+            }
+
+            Food last = page.get(page.size() - 1);
+            cursorAt = last.getUpdatedAt();
+            cursorId = last.getFoodId();
+            LocalDateTime reached = cursorAt;
+            updateState(state -> state.advance(reached));
+
+            if (page.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (indexed > 0 || deleted > 0) {
+            // 이 인스턴스의 검색 결과 캐시는 바로 비우고, 다른 인스턴스는 워터마크(인덱스 버전) 변경으로 비움
+            foodSearchCache.invalidateAll();
+            log.info("[ELASTIC_SYNC] 증분 동기화 완료: 반영={}, 삭제={}, 소요={}ms",
+                    indexed, deleted, System.currentTimeMillis() - start);
+        }
+    }
+
+    // alias를 새 인덱스로 원자적으로 교체 (alias 도입 전 같은 이름의 실제 인덱스가 있으면 함께 제거)
+    private void swapAlias(String indexName) {
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS));
+        Set<String> aliasedIndices = getAliasedIndices();
+        boolean legacyIndex = aliasedIndices.isEmpty() && aliasOps.exists();
+
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(ALIAS)
+                .build()));
+        if (!aliasedIndices.isEmpty()) {
+            actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                    .withIndices(aliasedIndices.toArray(new String[0]))
+                    .withAliases(ALIAS)
+                    .build()));
+        }
+        if (legacyIndex) {
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(ALIAS)
+                    .build()));
+        }
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+                .alias(new AliasActions(actions.toArray(new AliasAction[0])));
+
+        // 이전 버전 인덱스와 실패로 남은 인덱스 정리
+        Map<String, Set<AliasData>> versionedIndices = elasticsearchOperations
+                .indexOps(IndexCoordinates.of(INDEX_PREFIX + "*"))
+                .getAliasesForIndex(INDEX_PREFIX + "*");
+        for (String oldIndex : versionedIndices.keySet()) {
+            if (!oldIndex.equals(indexName)) {
+                elasticsearchOperations.indexOps(IndexCoordinates.of(oldIndex)).delete();
+            }
+        }
+
+        log.info("[ELASTIC_SYNC] alias 교체: {} → {} (이전={}, 기존 인덱스 제거={})",
+                ALIAS, indexName, aliasedIndices, legacyIndex);
+    }
+
+    // alias가 가리키는 인덱스가 정확히 하나면 그 이름, 아니면 null
+    private String findAliasIndex() {
+        Set<String> indices = getAliasedIndices();
+        return indices.size() == 1 ? indices.iterator().next() : null;
+    }
+
+    private Set<String> getAliasedIndices() {
+        try {
+            return elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS)).getAliases(ALIAS).keySet();
+        } catch (Exception e) {
+            // alias가 아직 없으면 404
+            return Set.of();
+        }
+    }
+
+    // 상태 행이 없으면 만들고, 점유가 비어 있거나 만료된 경우에만 점유
+    private boolean tryLock(LocalDateTime now) {
+        if (!syncStateRepository.existsById(ElasticSyncState.SINGLETON_ID)) {
+            try {
+                syncStateRepository.saveAndFlush(ElasticSyncState.builder()
+                        .elasticSyncStateId(ElasticSyncState.SINGLETON_ID)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 생성
+            }
+        }
+        Integer locked = transactionTemplate.execute(status -> syncStateRepository.tryLock(
+                ElasticSyncState.SINGLETON_ID, now, now.plusMinutes(leaseMinutes)));
+        return locked != null && locked == 1;
+    }
+
+    private void updateState(Consumer<ElasticSyncState> update) {
+        transactionTemplate.executeWithoutResult(status -> syncStateRepository
+                .findById(ElasticSyncState.SINGLETON_ID)
+                .ifPresent(update));
+    }
+}
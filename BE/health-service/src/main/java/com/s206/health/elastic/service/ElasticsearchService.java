@@ -1,25 +1,39 @@
 package com.s206.health.elastic.service;
 
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.s206.common.exception.types.BadRequestException;
 import com.s206.health.elastic.document.ElasticFood;
+import com.s206.health.elastic.dto.request.FoodSearchRequest;
 import com.s206.health.elastic.repository.ElasticRepository;
-import com.s206.health.nutrition.favorite.repository.FavoriteFoodRepository;
+import com.s206.health.elastic.type.FoodSearchSort;
+import com.s206.health.nutrition.favorite.service.FavoriteFoodIds;
+import com.s206.health.nutrition.favorite.service.FavoriteService;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
 import com.s206.health.nutrition.food.dto.response.FoodDetailResponse;
-import com.s206.health.nutrition.food.dto.response.FoodListResponse;
-import com.s206.health.nutrition.food.entity.Food;
-import com.s206.health.nutrition.food.repository.FoodRepository;
+import com.s206.health.nutrition.food.search.CatalogFoodSearchEngine;
+import com.s206.health.nutrition.food.search.FoodSearchCache;
+import com.s206.health.nutrition.recent.service.FoodAffinityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
-import org.springframework.data.elasticsearch.core.query.Query;
-import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
-import java.util.*;
-import java.util.function.Function;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -28,44 +42,107 @@ import java.util.stream.StreamSupport;
 @Slf4j
 public class ElasticsearchService {
 
+    // 저나트륨 기준 (mg)
+    private static final double LOW_SODIUM_MAX = 120.0;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // index.max_result_window 기본값 (from + size 상한)
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    // 이름 검색(/name)은 목록으로 응답하므로 상위 결과만 반환
+    private static final int NAME_SEARCH_LIMIT = 50;
+
     private final ElasticRepository elasticRepository; // Elasticsearch 레포지토리
-    private final FoodRepository foodRepository; // MySQL 음식 레포지토리
-    private final FavoriteFoodRepository favoriteFoodRepository;
+    private final FavoriteService favoriteService;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final CatalogFoodSearchEngine catalogFoodSearchEngine;
+    private final FoodCatalog foodCatalog;
+    private final FoodSearchCache foodSearchCache;
+    private final FoodAffinityService foodAffinityService;
+
+    // 개인화 재정렬 강도 (0이면 검색 점수 순서 그대로)
+    @Value("${food.search.affinity-strength:1.0}")
+    private float affinityStrength;
 
     // 음식 저장
     public ElasticFood save(ElasticFood food) {
         return elasticRepository.save(food);
     }
 
-    // 이름으로 음식 검색
+    // 이름으로 음식 검색 (검색 점수 순 상위 NAME_SEARCH_LIMIT 개)
+    // 순위(음식 ID 목록)는 검색어별 캐시에서 읽고, 사용자 선호도로 재정렬한 뒤 표시 값과 즐겨찾기 여부는 카탈로그 스냅샷으로 채움
     public List<FoodDetailResponse> searchByName(String name, Integer userId) {
         log.info("검색어: {}", name);
 
-        // findByNameFlexible 메서드는 wildcard와 match_phrase_prefix를 조합하여
-        // 부분 문자열 검색과 접두사 검색을 동시에 지원
-        List<ElasticFood> results = elasticRepository.findByNameFlexible(name);
-        log.info("검색 결과: {}", results.size());
+        List<Integer> foodIds;
+        try {
+            foodIds = foodSearchCache.get(name, () -> searchIdsByName(name));
+        } catch (DataAccessException e) {
+            // 대체 결과는 순위가 달라 캐시하지 않음
+            log.warn("[FOOD_SEARCH] Elasticsearch 검색 실패, 인메모리 검색으로 대체: name={}, 사유={}", name, e.getMessage());
+            foodIds = catalogFoodSearchEngine.search(name, NAME_SEARCH_LIMIT);
+        }
 
-        List<FoodDetailResponse> result = new ArrayList<>();
+        foodIds = foodAffinityService.getAffinity(userId).rerank(foodIds, affinityStrength);
+        List<FoodDetailResponse> result = toResponses(foodIds, userId);
+        log.info("최종 결과 개수: {}", result.size());
+        return result;
+    }
 
-        for (ElasticFood elasticFood : results) {
-            // ElasticFood의 foodId로 MySQL에서 실제 Food 엔티티 조회
-            Optional<Food> foodOpt = foodRepository.findById(elasticFood.getFoodId());
+    // Elasticsearch 이름 검색 결과의 음식 ID만 순위대로 조회
+    private List<Integer> searchIdsByName(String name) {
+        FoodSearchRequest request = new FoodSearchRequest();
+        request.setName(name);
+        request.setSize(NAME_SEARCH_LIMIT);
 
-            if (foodOpt.isPresent()) {
-                Food food = foodOpt.get();
-                // 사용자의 즐겨찾기 여부 확인
-                boolean isFavorite = favoriteFoodRepository.existsByUserIdAndFoodFoodId(userId, food.getFoodId());
-                // Food 엔티티를 FoodDetailResponse DTO로 변환하여 결과에 추가
-                result.add(FoodDetailResponse.toDto(food, isFavorite));
-            }
+        SearchHits<ElasticFood> hits = elasticsearchOperations.search(buildSearchQuery(request), ElasticFood.class);
+        List<Integer> foodIds = new ArrayList<>(hits.getSearchHits().size());
+        for (SearchHit<ElasticFood> hit : hits.getSearchHits()) {
+            foodIds.add(hit.getContent().getFoodId());
         }
+        return foodIds;
+    }
 
-        log.info("최종 결과 개수: {}", result.size());
+    // 음식 ID 목록 → 응답 (스냅샷에 없는 음식은 제외)
+    private List<FoodDetailResponse> toResponses(List<Integer> foodIds, Integer userId) {
+        FoodCatalogSnapshot snapshot = foodCatalog.snapshot();
+        FavoriteFoodIds favoriteFoodIds = favoriteService.getFavoriteFoodIds(userId);
+
+        List<FoodDetailResponse> result = new ArrayList<>(foodIds.size());
+        for (Integer foodId : foodIds) {
+            int slot = snapshot.indexOf(foodId);
+            if (slot >= 0) {
+                result.add(FoodDetailResponse.toDto(snapshot, slot, favoriteFoodIds.contains(foodId)));
+            }
+        }
         return result;
     }
 
+    // 이름 + 영양소 범위 조건 검색
+    // 영양소 조건은 점수에 영향이 없는 filter 로 실행하고, 결과는 검색 문서만으로 응답 생성 (MySQL 조회 없음)
+    public Page<FoodDetailResponse> search(FoodSearchRequest request, Integer userId) {
+        if (request.getPage() < 0 || request.getSize() < 1 || request.getSize() > MAX_PAGE_SIZE) {
+            throw new BadRequestException("page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if ((long) (request.getPage() + 1) * request.getSize() > MAX_RESULT_WINDOW) {
+            throw new BadRequestException("검색 결과는 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
+        SearchHits<ElasticFood> hits = elasticsearchOperations.search(buildSearchQuery(request), ElasticFood.class);
+        log.info("검색 결과: {} (조건={})", hits.getTotalHits(), request);
+
+        // 즐겨찾기는 사용자 집합 한 번으로 확인
+        FavoriteFoodIds favoriteFoodIds = favoriteService.getFavoriteFoodIds(userId);
+        List<FoodDetailResponse> content = new ArrayList<>(hits.getSearchHits().size());
+        for (SearchHit<ElasticFood> hit : hits.getSearchHits()) {
+            ElasticFood food = hit.getContent();
+            content.add(FoodDetailResponse.toDto(food, favoriteFoodIds.contains(food.getFoodId())));
+        }
+        return new PageImpl<>(content, pageable, hits.getTotalHits());
+    }
+
     // 모든 음식 조회
     public List<ElasticFood> findAll() {
         Iterable<ElasticFood> foods = elasticRepository.findAll();
@@ -73,31 +150,63 @@ public class ElasticsearchService {
                 .collect(Collectors.toList());
     }
 
-    // MySQL 음식 데이터를 Elasticsearch 로 동기화
-    public void syncFoodsFromDatabase() {
-        log.info("MySQL 음식 데이터 조회 시작");
-        List<com.s206.health.nutrition.food.entity.Food> mysqlFoods = foodRepository.findAll();
-        log.info("총 {} 개의 음식 데이터 조회됨", mysqlFoods.size());
-
-        int syncCount = 0;
-        for (com.s206.health.nutrition.food.entity.Food mysqlFood : mysqlFoods) {
-            Boolean isDeleted = mysqlFood.getIsDeleted();
-            if (Boolean.TRUE.equals(isDeleted)) {
-                continue; // 삭제된 데이터는 건너뜀
+    private NativeQuery buildSearchQuery(FoodSearchRequest request) {
+        FoodSearchSort sort = request.getSort() != null ? request.getSort() : FoodSearchSort.RELEVANCE;
+
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(buildQuery(request))
+                .withPageable(PageRequest.of(request.getPage(), request.getSize()));
+        if (sort.getField() != null) {
+            queryBuilder.withSort(s -> s.field(f -> f.field(sort.getField()).order(sort.getOrder())));
+        } else {
+            queryBuilder.withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)));
+        }
+        // 같은 값끼리 페이지 사이 순서가 바뀌지 않도록 foodId 로 마무리
+        queryBuilder.withSort(s -> s.field(f -> f.field("foodId").order(SortOrder.Asc)));
+        return queryBuilder.build();
+    }
+
+    private Query buildQuery(FoodSearchRequest request) {
+        return Query.of(q -> q.bool(bool -> {
+            String name = request.getName();
+            if (StringUtils.hasText(name)) {
+                // 토큰별 edge-ngram(name.autocomplete)으로 단어 중간부터 입력해도 일치시키고,
+                // 구문 접두사 일치(match_phrase_prefix)는 점수를 높여 앞쪽에 오도록 함 (앞쪽 wildcard 스캔 없음)
+                String keyword = name.trim();
+                bool.must(m -> m.bool(nameQuery -> nameQuery
+                        .should(s -> s.match(t -> t.field("name.autocomplete").query(keyword).operator(Operator.And)))
+                        .should(s -> s.matchPhrasePrefix(p -> p.field("name").query(keyword).boost(2.0f)))
+                        .minimumShouldMatch("1")));
             }
 
-            // Elasticsearch Food 엔티티로 변환
-            ElasticFood esFood = ElasticFood.builder()
-                    .id(mysqlFood.getFoodId().toString()) // ID를 MySQL의 foodId로 설정
-                    .foodId(mysqlFood.getFoodId())        // foodId 필드 설정
-                    .name(mysqlFood.getFoodName())        // 음식 이름 설정
-                    .build();
+            Double maxSodium = request.getMaxSodium();
+            if (request.isLowSodium()) {
+                maxSodium = maxSodium != null ? Math.min(maxSodium, LOW_SODIUM_MAX) : LOW_SODIUM_MAX;
+            }
 
-            // Elasticsearch 에 저장
-            elasticRepository.save(esFood);
-            syncCount++;
+            addRange(bool, "calorie", toDouble(request.getMinCalorie()), toDouble(request.getMaxCalorie()));
+            addRange(bool, "protein", request.getMinProtein(), request.getMaxProtein());
+            addRange(bool, "carbohydrate", request.getMinCarbohydrate(), request.getMaxCarbohydrate());
+            addRange(bool, "fat", request.getMinFat(), request.getMaxFat());
+            addRange(bool, "sweet", null, request.getMaxSugar());
+            addRange(bool, "sodium", null, maxSodium);
+            return bool;
+        }));
+    }
+
+    private void addRange(BoolQuery.Builder bool, String field, Double min, Double max) {
+        if (min == null && max == null) {
+            return;
         }
+        bool.filter(f -> f.range(r -> r.number(n -> {
+            n.field(field);
+            if (min != null) n.gte(min);
+            if (max != null) n.lte(max);
+            return n;
+        })));
+    }
 
-        log.info("Elasticsearch 동기화 완료: {} 개의 음식 데이터 처리됨", syncCount);
+    private static Double toDouble(Integer value) {
+        return value != null ? value.doubleValue() : null;
     }
-}
\ No newline at end of file
+}
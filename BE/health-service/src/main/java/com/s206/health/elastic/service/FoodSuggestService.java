@@ -0,0 +1,101 @@
+package com.s206.health.elastic.service;
+
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.health.elastic.dto.response.FoodSuggestResponse;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import com.s206.health.nutrition.food.search.CatalogFoodSearchEngine;
+import com.s206.health.nutrition.food.search.HangulJamo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 음식 이름 자동완성 (검색어 입력마다 호출)
+// 짧은 검색어와 초성 검색어는 인메모리 엔진이 바로 처리하고, 나머지는 Elasticsearch 로 조회
+// Elasticsearch 가 실패하면 인메모리 엔진으로 대체
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FoodSuggestService {
+
+    private static final int MAX_PREFIX_LENGTH = 20;
+    private static final int MAX_SIZE = 20;
+
+    private final ElasticFoodSearchEngine elasticFoodSearchEngine;
+    private final CatalogFoodSearchEngine catalogFoodSearchEngine;
+    private final FoodCatalog foodCatalog;
+    private final MeterRegistry meterRegistry;
+
+    // 한 글자 입력당 목표 응답 시간 (초과 시 경고 로그, SLO 버킷으로 비율 확인)
+    @Value("${elastic.suggest.target-ms:100}")
+    private long targetMs;
+
+    // 이 글자 수 이하의 검색어는 인메모리 엔진이 기본 처리
+    @Value("${food.search.embedded-max-length:2}")
+    private int embeddedMaxLength;
+
+    private Timer suggestTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        suggestTimer = Timer.builder("food.suggest.latency")
+                .description("음식 자동완성 응답 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .serviceLevelObjectives(Duration.ofMillis(targetMs))
+                .register(meterRegistry);
+    }
+
+    public List<FoodSuggestResponse> suggest(String prefix, int size) {
+        String keyword = prefix != null ? prefix.trim() : "";
+        if (keyword.isEmpty() || keyword.length() > MAX_PREFIX_LENGTH) {
+            throw new BadRequestException("검색어는 1~" + MAX_PREFIX_LENGTH + "자여야 합니다.");
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestException("size는 1~" + MAX_SIZE + " 사이여야 합니다.");
+        }
+
+        long start = System.nanoTime();
+        List<Integer> foodIds = search(keyword, size);
+        long elapsed = System.nanoTime() - start;
+        suggestTimer.record(Duration.ofNanos(elapsed));
+
+        long elapsedMs = elapsed / 1_000_000;
+        if (elapsedMs > targetMs) {
+            log.warn("[FOOD_SUGGEST] 목표 응답 시간 초과: prefix={}, 소요={}ms (목표 {}ms)", keyword, elapsedMs, targetMs);
+        }
+
+        // 표시 값은 카탈로그 스냅샷에서 채움 (삭제되었거나 아직 반영되지 않은 음식은 제외)
+        FoodCatalogSnapshot snapshot = foodCatalog.snapshot();
+        List<FoodSuggestResponse> result = new ArrayList<>(foodIds.size());
+        for (Integer foodId : foodIds) {
+            int slot = snapshot.indexOf(foodId);
+            if (slot >= 0 && !snapshot.isDeleted(slot)) {
+                result.add(FoodSuggestResponse.toDto(snapshot, slot));
+            }
+        }
+        return result;
+    }
+
+    private List<Integer> search(String keyword, int size) {
+        if (keyword.length() <= embeddedMaxLength || HangulJamo.isChoseongOnly(keyword)) {
+            return catalogFoodSearchEngine.search(keyword, size);
+        }
+
+        try {
+            return elasticFoodSearchEngine.search(keyword, size);
+        } catch (DataAccessException e) {
+            log.warn("[FOOD_SUGGEST] Elasticsearch 조회 실패, 인메모리 검색으로 대체: prefix={}, 사유={}",
+                    keyword, e.getMessage());
+            return catalogFoodSearchEngine.search(keyword, size);
+        }
+    }
+}
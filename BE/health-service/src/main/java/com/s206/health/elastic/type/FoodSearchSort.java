@@ -0,0 +1,30 @@
+package com.s206.health.elastic.type;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+
+// 음식 검색 정렬 기준 (RELEVANCE 는 검색 점수 순)
+public enum FoodSearchSort {
+    RELEVANCE(null, SortOrder.Desc),
+    CALORIE_ASC("calorie", SortOrder.Asc),
+    CALORIE_DESC("calorie", SortOrder.Desc),
+    PROTEIN_DESC("protein", SortOrder.Desc),
+    CARBOHYDRATE_ASC("carbohydrate", SortOrder.Asc),
+    FAT_ASC("fat", SortOrder.Asc),
+    SODIUM_ASC("sodium", SortOrder.Asc);
+
+    private final String field;
+    private final SortOrder order;
+
+    FoodSearchSort(String field, SortOrder order) {
+        this.field = field;
+        this.order = order;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public SortOrder getOrder() {
+        return order;
+    }
+}
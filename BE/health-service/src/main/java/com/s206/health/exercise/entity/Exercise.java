@@ -1,5 +1,6 @@
 package com.s206.health.exercise.entity;
 
+import com.s206.health.persistence.id.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,10 @@ import java.time.LocalDateTime;
 public class Exercise {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "exercise_id")
+    @TableGenerator(name = "exercise_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.EXERCISE, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "exercise_id")
     private Integer exerciseId;
 
@@ -2,6 +2,8 @@ package com.s206.health.nutrition.favorite.repository;
 
 import com.s206.health.nutrition.favorite.entity.FavoriteFood;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +13,8 @@ public interface FavoriteFoodRepository extends JpaRepository<FavoriteFood, Inte
     List<FavoriteFood> findAllByUserId(Integer userId);
     boolean existsByUserIdAndFoodFoodId(Integer userId, Integer foodId);
     List<FavoriteFood> findAllByUserIdAndFoodFoodIdIn(Integer userId, List<Integer> foodIds);
+
+    // (user_id, food_id) 유니크 인덱스만 읽음
+    @Query("SELECT f.food.foodId FROM FavoriteFood f WHERE f.userId = :userId")
+    List<Integer> findFoodIdsByUserId(@Param("userId") Integer userId);
 }
\ No newline at end of file
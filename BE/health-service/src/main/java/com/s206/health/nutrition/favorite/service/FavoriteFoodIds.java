@@ -0,0 +1,33 @@
+package com.s206.health.nutrition.favorite.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// 사용자의 즐겨찾기 음식 ID 집합 (정렬된 int 배열, 이진 탐색)
+// 목록/검색 응답에서 음식마다 existsBy 조회를 하지 않도록 요청당 한 번 읽어서 사용
+public final class FavoriteFoodIds {
+
+    private static final FavoriteFoodIds EMPTY = new FavoriteFoodIds(new int[0]);
+
+    private final int[] sortedFoodIds;
+
+    private FavoriteFoodIds(int[] sortedFoodIds) {
+        this.sortedFoodIds = sortedFoodIds;
+    }
+
+    public static FavoriteFoodIds of(Collection<Integer> foodIds) {
+        if (foodIds.isEmpty()) {
+            return EMPTY;
+        }
+        int[] sorted = foodIds.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        return new FavoriteFoodIds(sorted);
+    }
+
+    public boolean contains(Integer foodId) {
+        return foodId != null && Arrays.binarySearch(sortedFoodIds, foodId) >= 0;
+    }
+
+    public int size() {
+        return sortedFoodIds.length;
+    }
+}
@@ -8,6 +8,7 @@ import com.s206.health.nutrition.favorite.repository.FavoriteFoodRepository;
 import com.s206.health.nutrition.food.dto.response.FoodDetailResponse;
 import com.s206.health.nutrition.food.entity.Food;
 import com.s206.health.nutrition.food.repository.FoodRepository;
+import com.s206.health.nutrition.recent.service.FoodAffinityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,7 @@ public class FavoriteService {
 
     private final FavoriteFoodRepository favoriteFoodRepository;
     private final FoodRepository foodRepository;
+    private final FoodAffinityService foodAffinityService;
 
     @Transactional
     public FavoriteToggleResponse toggleFavorite(Integer userId, Integer foodId) {
@@ -31,6 +33,7 @@ public class FavoriteService {
 
         if (favorite != null) {
             favoriteFoodRepository.delete(favorite);
+            foodAffinityService.refresh(userId);
             return FavoriteToggleResponse.toDto(favorite, false);
         }
 
@@ -41,10 +44,17 @@ public class FavoriteService {
                 .userId(userId)
                 .food(food)
                 .build());
+        foodAffinityService.refresh(userId);
 
         return FavoriteToggleResponse.toDto(newFavorite, true);
     }
 
+    // 사용자의 즐겨찾기 음식 ID 집합 (쿼리 한 번)
+    @Transactional(readOnly = true)
+    public FavoriteFoodIds getFavoriteFoodIds(Integer userId) {
+        return FavoriteFoodIds.of(favoriteFoodRepository.findFoodIdsByUserId(userId));
+    }
+
     public List<FoodDetailResponse> getFavoriteFoods(Integer userId) {
         return favoriteFoodRepository.findAllByUserId(userId).stream()
                 .map(favoriteFood -> FoodDetailResponse.toDto(favoriteFood.getFood(), true))
@@ -0,0 +1,103 @@
+package com.s206.health.nutrition.food.catalog;
+
+import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.nutrition.food.repository.FoodRepository;
+import com.s206.health.nutrition.food.service.FoodCatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 음식 카탈로그 인메모리 캐시
+// 식단/세트 저장 시 음식 ID 검증과 영양소 계산을 DB 조회 없이 처리하기 위해 사용
+// 변경이 감지되면 새 스냅샷을 만들어 통째로 교체 (copy-on-write)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FoodCatalog {
+
+    private final FoodRepository foodRepository;
+    private final FoodCatalogVersionService foodCatalogVersionService;
+
+    private final AtomicReference<FoodCatalogSnapshot> current = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    // 현재 스냅샷 반환 (아직 적재 전이면 즉시 적재)
+    public FoodCatalogSnapshot snapshot() {
+        FoodCatalogSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            snapshot = refresh();
+        }
+        return snapshot;
+    }
+
+    // 음식 존재 여부 확인
+    // 다른 인스턴스에서 추가되어 아직 스냅샷에 없는 음식은 DB로 한 번 더 확인
+    public boolean contains(Integer foodId) {
+        if (foodId == null) {
+            return false;
+        }
+        if (snapshot().contains(foodId)) {
+            return true;
+        }
+        return foodRepository.existsById(foodId);
+    }
+
+    // 삭제되지 않은 음식인지 확인 (식단에 새로 추가할 음식 검증용)
+    // 스냅샷에 없으면 다른 인스턴스에서 추가된 음식일 수 있으므로 DB로 한 번 더 확인
+    public boolean isActive(Integer foodId) {
+        if (foodId == null) {
+            return false;
+        }
+        FoodCatalogSnapshot snapshot = snapshot();
+        int slot = snapshot.indexOf(foodId);
+        if (slot >= 0) {
+            return !snapshot.isDeleted(slot);
+        }
+        return foodRepository.existsByFoodIdAndIsDeletedFalse(foodId);
+    }
+
+    // 전체 재적재 후 스냅샷 교체
+    public synchronized FoodCatalogSnapshot refresh() {
+        long start = System.currentTimeMillis();
+        // 버전을 먼저 읽으므로 적재한 음식에는 이 버전 이하의 변경이 모두 포함됨
+        long catalogVersion = foodCatalogVersionService.current();
+        List<Food> foods = foodRepository.findAll();
+
+        FoodCatalogSnapshot snapshot = FoodCatalogSnapshot.of(foods, catalogVersion);
+        current.set(snapshot);
+
+        log.info("[FOOD_CATALOG] 스냅샷 적재 완료: 음식 수={}, 소요={}ms",
+                snapshot.size(), System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    // 주기적으로 음식 수 / 카탈로그 버전을 비교하여 변경이 있을 때만 재적재
+    @Scheduled(fixedDelayString = "${food.catalog.refresh-interval-ms:60000}",
+            initialDelayString = "${food.catalog.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        FoodCatalogSnapshot snapshot = current.get();
+        try {
+            long count = foodRepository.count();
+            long catalogVersion = foodCatalogVersionService.current();
+
+            if (snapshot == null
+                    || snapshot.getFoodCount() != count
+                    || snapshot.getCatalogVersion() != catalogVersion) {
+                log.info("[FOOD_CATALOG] 음식 데이터 변경 감지: 음식 수={}, 카탈로그 버전={}", count, catalogVersion);
+                refresh();
+            }
+        } catch (Exception e) {
+            log.warn("[FOOD_CATALOG] 변경 확인 실패: {}", e.getMessage());
+        }
+    }
+}
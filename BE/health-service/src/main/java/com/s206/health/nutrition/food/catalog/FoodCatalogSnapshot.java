@@ -0,0 +1,249 @@
+package com.s206.health.nutrition.food.catalog;
+
+import com.s206.health.nutrition.food.entity.Food;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// food_information_tb 전체를 컬럼 단위 원시 배열로 보관하는 불변 스냅샷
+// 영양소(DECIMAL(6,2))는 소수점 둘째 자리까지를 정수로 옮긴 고정소수점(long, 1/100 단위)으로 저장
+public final class FoodCatalogSnapshot {
+
+    public static final int SCALE = 2;
+
+    private static final FoodCatalogSnapshot EMPTY = new FoodCatalogSnapshot(
+            new int[0], new int[0], new String[0], new String[0], new int[0],
+            new long[0], new long[0], new long[0], new long[0], new long[0],
+            new long[0], new long[0], new long[0], new long[0], new boolean[0],
+            new LocalDateTime[0], new LocalDateTime[0], 0L, 0L);
+
+    // foodId → 슬롯 인덱스 (없으면 -1)
+    private final int[] slotByFoodId;
+
+    private final int[] foodIds;
+    private final String[] foodNames;
+    private final String[] baseAmounts;
+    private final int[] calories;
+    private final long[] carbohydrates;
+    private final long[] proteins;
+    private final long[] fats;
+    private final long[] sugars;
+    private final long[] sodiums;
+    private final long[] saturatedFats;
+    private final long[] transFats;
+    private final long[] cholesterols;
+    private final boolean[] deleted;
+    private final LocalDateTime[] createdAts;
+    private final LocalDateTime[] updatedAts;
+
+    // 영양소 합산용 행 단위 배열: 슬롯마다 NutrientVector 순서의 9개 값이 연속 배치 (칼로리도 1/100 단위)
+    private final long[] nutrientRows;
+
+    // 스냅샷을 만든 시점의 카탈로그 상태 (변경 감지용)
+    // catalogVersion: 적재 전에 읽은 커밋된 카탈로그 버전 (이 버전 이하의 변경은 모두 포함)
+    private final long foodCount;
+    private final long catalogVersion;
+
+    private FoodCatalogSnapshot(int[] slotByFoodId, int[] foodIds, String[] foodNames, String[] baseAmounts,
+                                int[] calories, long[] carbohydrates, long[] proteins, long[] fats,
+                                long[] sugars, long[] sodiums, long[] saturatedFats, long[] transFats,
+                                long[] cholesterols, long[] nutrientRows, boolean[] deleted,
+                                LocalDateTime[] createdAts, LocalDateTime[] updatedAts,
+                                long foodCount, long catalogVersion) {
+        this.slotByFoodId = slotByFoodId;
+        this.foodIds = foodIds;
+        this.foodNames = foodNames;
+        this.baseAmounts = baseAmounts;
+        this.calories = calories;
+        this.carbohydrates = carbohydrates;
+        this.proteins = proteins;
+        this.fats = fats;
+        this.sugars = sugars;
+        this.sodiums = sodiums;
+        this.saturatedFats = saturatedFats;
+        this.transFats = transFats;
+        this.cholesterols = cholesterols;
+        this.nutrientRows = nutrientRows;
+        this.deleted = deleted;
+        this.createdAts = createdAts;
+        this.updatedAts = updatedAts;
+        this.foodCount = foodCount;
+        this.catalogVersion = catalogVersion;
+    }
+
+    public static FoodCatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static FoodCatalogSnapshot of(List<Food> foods, long catalogVersion) {
+        int size = foods.size();
+        int maxFoodId = 0;
+        for (Food food : foods) {
+            maxFoodId = Math.max(maxFoodId, food.getFoodId());
+        }
+
+        int[] slotByFoodId = new int[maxFoodId + 1];
+        Arrays.fill(slotByFoodId, -1);
+
+        int[] foodIds = new int[size];
+        String[] foodNames = new String[size];
+        String[] baseAmounts = new String[size];
+        int[] calories = new int[size];
+        long[] carbohydrates = new long[size];
+        long[] proteins = new long[size];
+        long[] fats = new long[size];
+        long[] sugars = new long[size];
+        long[] sodiums = new long[size];
+        long[] saturatedFats = new long[size];
+        long[] transFats = new long[size];
+        long[] cholesterols = new long[size];
+        long[] nutrientRows = new long[size * NutrientVector.LENGTH];
+        boolean[] deleted = new boolean[size];
+        LocalDateTime[] createdAts = new LocalDateTime[size];
+        LocalDateTime[] updatedAts = new LocalDateTime[size];
+
+        for (int slot = 0; slot < size; slot++) {
+            Food food = foods.get(slot);
+            slotByFoodId[food.getFoodId()] = slot;
+            foodIds[slot] = food.getFoodId();
+            foodNames[slot] = food.getFoodName();
+            baseAmounts[slot] = food.getBaseAmount();
+            calories[slot] = food.getCalorie() != null ? food.getCalorie() : 0;
+            carbohydrates[slot] = toFixed(food.getCarbohydrate());
+            proteins[slot] = toFixed(food.getProtein());
+            fats[slot] = toFixed(food.getFat());
+            sugars[slot] = toFixed(food.getSweet());
+            sodiums[slot] = toFixed(food.getSodium());
+            saturatedFats[slot] = toFixed(food.getSaturatedFat());
+            transFats[slot] = toFixed(food.getTransFat());
+            cholesterols[slot] = toFixed(food.getCholesterol());
+            deleted[slot] = Boolean.TRUE.equals(food.getIsDeleted());
+            createdAts[slot] = food.getCreatedAt();
+            updatedAts[slot] = food.getUpdatedAt();
+
+            int offset = slot * NutrientVector.LENGTH;
+            nutrientRows[offset + NutrientVector.CALORIE] = calories[slot] * 100L;
+            nutrientRows[offset + NutrientVector.CARBOHYDRATE] = carbohydrates[slot];
+            nutrientRows[offset + NutrientVector.PROTEIN] = proteins[slot];
+            nutrientRows[offset + NutrientVector.FAT] = fats[slot];
+            nutrientRows[offset + NutrientVector.SUGAR] = sugars[slot];
+            nutrientRows[offset + NutrientVector.SODIUM] = sodiums[slot];
+            nutrientRows[offset + NutrientVector.SATURATED_FAT] = saturatedFats[slot];
+            nutrientRows[offset + NutrientVector.TRANS_FAT] = transFats[slot];
+            nutrientRows[offset + NutrientVector.CHOLESTEROL] = cholesterols[slot];
+        }
+
+        return new FoodCatalogSnapshot(slotByFoodId, foodIds, foodNames, baseAmounts, calories,
+                carbohydrates, proteins, fats, sugars, sodiums, saturatedFats, transFats, cholesterols,
+                nutrientRows, deleted, createdAts, updatedAts, size, catalogVersion);
+    }
+
+    // BigDecimal → 1/100 단위 고정소수점
+    public static long toFixed(BigDecimal value) {
+        if (value == null) {
+            return 0L;
+        }
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    // 1/100 단위 고정소수점 → BigDecimal
+    public static BigDecimal toDecimal(long fixed) {
+        return BigDecimal.valueOf(fixed, SCALE);
+    }
+
+    // foodId의 슬롯 인덱스, 카탈로그에 없으면 -1
+    public int indexOf(Integer foodId) {
+        if (foodId == null || foodId < 0 || foodId >= slotByFoodId.length) {
+            return -1;
+        }
+        return slotByFoodId[foodId];
+    }
+
+    public boolean contains(Integer foodId) {
+        return indexOf(foodId) >= 0;
+    }
+
+    // 슬롯이 있을 수 있는 가장 큰 foodId (foodId 순 순회용)
+    public int maxFoodId() {
+        return slotByFoodId.length - 1;
+    }
+
+    public int size() {
+        return foodIds.length;
+    }
+
+    public long getFoodCount() {
+        return foodCount;
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public int foodId(int slot) {
+        return foodIds[slot];
+    }
+
+    public String foodName(int slot) {
+        return foodNames[slot];
+    }
+
+    public String baseAmount(int slot) {
+        return baseAmounts[slot];
+    }
+
+    public int calorie(int slot) {
+        return calories[slot];
+    }
+
+    public long carbohydrate(int slot) {
+        return carbohydrates[slot];
+    }
+
+    public long protein(int slot) {
+        return proteins[slot];
+    }
+
+    public long fat(int slot) {
+        return fats[slot];
+    }
+
+    public long sugar(int slot) {
+        return sugars[slot];
+    }
+
+    public long sodium(int slot) {
+        return sodiums[slot];
+    }
+
+    public long saturatedFat(int slot) {
+        return saturatedFats[slot];
+    }
+
+    public long transFat(int slot) {
+        return transFats[slot];
+    }
+
+    public long cholesterol(int slot) {
+        return cholesterols[slot];
+    }
+
+    public boolean isDeleted(int slot) {
+        return deleted[slot];
+    }
+
+    public LocalDateTime createdAt(int slot) {
+        return createdAts[slot];
+    }
+
+    public LocalDateTime updatedAt(int slot) {
+        return updatedAts[slot];
+    }
+
+    long[] nutrientRows() {
+        return nutrientRows;
+    }
+}
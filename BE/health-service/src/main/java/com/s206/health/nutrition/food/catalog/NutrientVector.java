@@ -0,0 +1,126 @@
+package com.s206.health.nutrition.food.catalog;
+
+import com.s206.health.nutrition.food.entity.Food;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 음식 영양소 9종(칼로리, 탄수화물, 단백질, 지방, 당, 나트륨, 포화지방, 트랜스지방, 콜레스테롤)을
+// 1/10000 단위 고정소수점 long 배열 하나로 보관하는 누적기
+// 합산 중에는 BigDecimal을 만들지 않고, DTO로 내보낼 때만 변환
+public final class NutrientVector {
+
+    public static final int CALORIE = 0;
+    public static final int CARBOHYDRATE = 1;
+    public static final int PROTEIN = 2;
+    public static final int FAT = 3;
+    public static final int SUGAR = 4;
+    public static final int SODIUM = 5;
+    public static final int SATURATED_FAT = 6;
+    public static final int TRANS_FAT = 7;
+    public static final int CHOLESTEROL = 8;
+
+    public static final int LENGTH = 9;
+
+    // 음식 영양소(1/100) × 수량(1/100) = 1/10000
+    public static final int SCALE = FoodCatalogSnapshot.SCALE + 2;
+    private static final long UNIT = 10_000L;
+    private static final long FIXED_UNIT = 100L;
+
+    private final long[] values;
+
+    private NutrientVector(long[] values) {
+        this.values = values;
+    }
+
+    public static NutrientVector zero() {
+        return new NutrientVector(new long[LENGTH]);
+    }
+
+    // 카탈로그 슬롯의 영양소 × 수량
+    public static NutrientVector of(FoodCatalogSnapshot catalog, int slot, Float quantity) {
+        return zero().addScaled(catalog, slot, quantity);
+    }
+
+    // 음식 엔티티의 영양소 × 수량 (카탈로그에 없는 음식용)
+    public static NutrientVector of(Food food, Float quantity) {
+        return of(food.getCalorie(), food.getCarbohydrate(), food.getProtein(), food.getFat(), food.getSweet(),
+                food.getSodium(), food.getSaturatedFat(), food.getTransFat(), food.getCholesterol(), quantity);
+    }
+
+    // 조회 결과 컬럼 값의 영양소 × 수량
+    public static NutrientVector of(Integer calorie, BigDecimal carbohydrate, BigDecimal protein, BigDecimal fat,
+                                    BigDecimal sugar, BigDecimal sodium, BigDecimal saturatedFat,
+                                    BigDecimal transFat, BigDecimal cholesterol, Float quantity) {
+        long[] perUnit = new long[LENGTH];
+        perUnit[CALORIE] = calorie != null ? calorie * FIXED_UNIT : 0L;
+        perUnit[CARBOHYDRATE] = FoodCatalogSnapshot.toFixed(carbohydrate);
+        perUnit[PROTEIN] = FoodCatalogSnapshot.toFixed(protein);
+        perUnit[FAT] = FoodCatalogSnapshot.toFixed(fat);
+        perUnit[SUGAR] = FoodCatalogSnapshot.toFixed(sugar);
+        perUnit[SODIUM] = FoodCatalogSnapshot.toFixed(sodium);
+        perUnit[SATURATED_FAT] = FoodCatalogSnapshot.toFixed(saturatedFat);
+        perUnit[TRANS_FAT] = FoodCatalogSnapshot.toFixed(transFat);
+        perUnit[CHOLESTEROL] = FoodCatalogSnapshot.toFixed(cholesterol);
+        return zero().addScaled(perUnit, 0, quantity);
+    }
+
+    // 수량 → 1/100 단위 고정소수점
+    private static long toFixedQuantity(Float quantity) {
+        if (quantity == null) {
+            return 0L;
+        }
+        return Math.round(quantity.doubleValue() * FIXED_UNIT);
+    }
+
+    // this += other
+    public NutrientVector add(NutrientVector other) {
+        long[] source = other.values;
+        for (int i = 0; i < LENGTH; i++) {
+            values[i] += source[i];
+        }
+        return this;
+    }
+
+    // this += 카탈로그 슬롯 영양소 × 수량 (스냅샷의 행 단위 배열을 그대로 읽음)
+    public NutrientVector addScaled(FoodCatalogSnapshot catalog, int slot, Float quantity) {
+        return addScaled(catalog.nutrientRows(), slot * LENGTH, quantity);
+    }
+
+    private NutrientVector addScaled(long[] perUnit, int offset, Float quantity) {
+        long fixedQuantity = toFixedQuantity(quantity);
+        for (int i = 0; i < LENGTH; i++) {
+            values[i] += perUnit[offset + i] * fixedQuantity;
+        }
+        return this;
+    }
+
+    // this /= divisor (평균 계산용, 0 방향 절사)
+    public NutrientVector divide(long divisor) {
+        for (int i = 0; i < LENGTH; i++) {
+            values[i] /= divisor;
+        }
+        return this;
+    }
+
+    // 1/10000 단위 원시 값
+    public long raw(int index) {
+        return values[index];
+    }
+
+    // 원시 값 직접 설정 (DB 집계 결과를 옮길 때 사용)
+    public NutrientVector set(int index, BigDecimal value) {
+        values[index] = value == null ? 0L
+                : value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValue();
+        return this;
+    }
+
+    // 정수부 (소수점 이하 절사)
+    public int intValue(int index) {
+        return (int) (values[index] / UNIT);
+    }
+
+    public BigDecimal decimal(int index) {
+        return BigDecimal.valueOf(values[index], SCALE);
+    }
+}
@@ -1,14 +1,20 @@
 package com.s206.health.nutrition.food.controller;
 
 import com.s206.common.dto.ResponseDto;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
 import com.s206.health.nutrition.food.dto.response.FoodDetailResponse;
 import com.s206.health.nutrition.food.dto.response.FoodListResponse;
+import com.s206.health.nutrition.food.dto.response.FoodSyncResponse;
 import com.s206.health.nutrition.food.service.FoodService;
+import com.s206.health.nutrition.food.service.FoodSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -19,6 +25,7 @@ import java.util.List;
 public class FoodController {
 
     private final FoodService foodService;
+    private final FoodSyncService foodSyncService;
 
     @GetMapping
     public ResponseEntity<ResponseDto<List<FoodListResponse>>> getFoodList(
@@ -38,4 +45,50 @@ public class FoodController {
         FoodDetailResponse response = foodService.getFoodDetail(foodId, userId);
         return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "음식 상세 조회 성공", response));
     }
-}
\ No newline at end of file
+
+    // 카탈로그 변경분 동기화: 클라이언트가 가진 version 이후 추가/수정/삭제된 음식만 반환
+    // If-None-Match가 현재 카탈로그 ETag와 같으면 본문 없이 304
+    @GetMapping("/sync")
+    public ResponseEntity<ResponseDto<FoodSyncResponse>> syncFoods(
+            @RequestHeader("X-USER-ID") Integer userId,
+            @RequestParam long version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String currentETag = FoodSyncService.eTagOf(foodSyncService.getCurrentVersion());
+        if (isNotModified(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+
+        log.info("음식 카탈로그 변경분 요청 - userId={}, version={}", userId, version);
+        FoodSyncResponse response = foodSyncService.getChangesSince(version);
+        return ResponseEntity.ok()
+                .eTag(FoodSyncService.eTagOf(response.getVersion()))
+                .body(ResponseDto.success(HttpStatus.OK, "음식 카탈로그 변경분 조회 성공", response));
+    }
+
+    // 카탈로그 전체 스냅샷: foodId 순 NDJSON으로 스트리밍 (버전은 ETag / X-Food-Catalog-Version 헤더)
+    @GetMapping(value = "/sync/snapshot", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getFoodSnapshot(
+            @RequestHeader("X-USER-ID") Integer userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        FoodCatalogSnapshot snapshot = foodSyncService.getSnapshot();
+        long version = snapshot.getCatalogVersion();
+        String eTag = FoodSyncService.eTagOf(version);
+        if (isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        log.info("음식 카탈로그 스냅샷 요청 - userId={}, version={}", userId, version);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .header("X-Food-Catalog-Version", String.valueOf(version))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> foodSyncService.writeSnapshot(snapshot, out));
+    }
+
+    // 압축 등으로 약한 ETag(W/"...")나 여러 값이 와도 비교할 수 있도록 포함 여부로 판단
+    private boolean isNotModified(String ifNoneMatch, String eTag) {
+        return ifNoneMatch != null && ifNoneMatch.contains(eTag);
+    }
+}
@@ -0,0 +1,48 @@
+package com.s206.health.nutrition.food.controller;
+
+import com.s206.common.dto.ResponseDto;
+import com.s206.health.config.AdminGuard;
+import com.s206.health.nutrition.food.dto.response.FoodImportStatusResponse;
+import com.s206.health.nutrition.food.importer.FoodImportJob;
+import com.s206.health.nutrition.food.importer.FoodImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/foods/import")
+@Slf4j
+public class FoodImportController {
+
+    private final FoodImportService foodImportService;
+    private final AdminGuard adminGuard;
+
+    // 음식 카탈로그 일괄 가져오기 (xlsx/csv, 비동기, 관리자 전용, 진행 중이면 409)
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResponseDto<FoodImportStatusResponse>> importFoods(
+            @RequestParam("file") MultipartFile file,
+            @RequestHeader("X-USER-ID") Integer userId) {
+
+        adminGuard.check(userId);
+        log.info("[FOOD_IMPORT] userId={} → 음식 가져오기 요청: file={}", userId, file.getOriginalFilename());
+        FoodImportJob job = foodImportService.start(file);
+        foodImportService.runAsync(job);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ResponseDto.success(HttpStatus.ACCEPTED, "음식 가져오기 시작", job.toResponse()));
+    }
+
+    // 마지막 가져오기 진행 상황 (관리자 전용)
+    @GetMapping
+    public ResponseEntity<ResponseDto<FoodImportStatusResponse>> getImportStatus(
+            @RequestHeader("X-USER-ID") Integer userId) {
+
+        adminGuard.check(userId);
+        FoodImportStatusResponse response = foodImportService.getCurrentJob().toResponse();
+        return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "음식 가져오기 상태 조회 성공", response));
+    }
+}
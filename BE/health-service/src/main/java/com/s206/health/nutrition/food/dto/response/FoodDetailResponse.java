@@ -1,11 +1,14 @@
 package com.s206.health.nutrition.food.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.s206.health.elastic.document.ElasticFood;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
 import com.s206.health.nutrition.food.entity.Food;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 @Getter
@@ -52,4 +55,50 @@ public class FoodDetailResponse {
                 .baseAmount(food.getBaseAmount())
                 .build();
     }
+
+    // 검색 문서만으로 응답 생성 (MySQL 조회 없음)
+    public static FoodDetailResponse toDto(ElasticFood food, boolean isFavorite) {
+        return FoodDetailResponse.builder()
+                .foodId(food.getFoodId())
+                .foodName(food.getName())
+                .calorie(food.getCalorie())
+                .carbohydrate(toDecimal(food.getCarbohydrate()))
+                .protein(toDecimal(food.getProtein()))
+                .fat(toDecimal(food.getFat()))
+                .sweet(toDecimal(food.getSweet()))
+                .sodium(toDecimal(food.getSodium()))
+                .saturatedFat(toDecimal(food.getSaturatedFat()))
+                .transFat(toDecimal(food.getTransFat()))
+                .cholesterol(toDecimal(food.getCholesterol()))
+                .isFavorite(isFavorite)
+                .createdAt(food.getCreatedAt())
+                .updatedAt(food.getUpdatedAt())
+                .baseAmount(food.getBaseAmount())
+                .build();
+    }
+
+    // 카탈로그 스냅샷만으로 응답 생성 (검색 결과 캐시 / 검색 엔진 대체 경로)
+    public static FoodDetailResponse toDto(FoodCatalogSnapshot snapshot, int slot, boolean isFavorite) {
+        return FoodDetailResponse.builder()
+                .foodId(snapshot.foodId(slot))
+                .foodName(snapshot.foodName(slot))
+                .calorie(snapshot.calorie(slot))
+                .carbohydrate(FoodCatalogSnapshot.toDecimal(snapshot.carbohydrate(slot)))
+                .protein(FoodCatalogSnapshot.toDecimal(snapshot.protein(slot)))
+                .fat(FoodCatalogSnapshot.toDecimal(snapshot.fat(slot)))
+                .sweet(FoodCatalogSnapshot.toDecimal(snapshot.sugar(slot)))
+                .sodium(FoodCatalogSnapshot.toDecimal(snapshot.sodium(slot)))
+                .saturatedFat(FoodCatalogSnapshot.toDecimal(snapshot.saturatedFat(slot)))
+                .transFat(FoodCatalogSnapshot.toDecimal(snapshot.transFat(slot)))
+                .cholesterol(FoodCatalogSnapshot.toDecimal(snapshot.cholesterol(slot)))
+                .isFavorite(isFavorite)
+                .createdAt(snapshot.createdAt(slot))
+                .updatedAt(snapshot.updatedAt(slot))
+                .baseAmount(snapshot.baseAmount(slot))
+                .build();
+    }
+
+    private static BigDecimal toDecimal(Double value) {
+        return value != null ? BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP) : null;
+    }
 }
@@ -0,0 +1,26 @@
+package com.s206.health.nutrition.food.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 음식 카탈로그 가져오기 진행 상황
+@Getter
+@Builder
+public class FoodImportStatusResponse {
+    private String fileName;
+    // RUNNING / COMPLETED / FAILED
+    private String status;
+    // 읽은 데이터 행 수 (머리글 제외)
+    private int processed;
+    private int inserted;
+    private int updated;
+    // 이미 같은 값으로 있는 음식
+    private int unchanged;
+    // 값이 잘못되었거나 파일 안에서 이름이 중복된 행
+    private int skipped;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+}
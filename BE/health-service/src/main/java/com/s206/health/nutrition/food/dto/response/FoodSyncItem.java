@@ -0,0 +1,60 @@
+package com.s206.health.nutrition.food.dto.response;
+
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import com.s206.health.nutrition.food.entity.Food;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 클라이언트 로컬 음식 카탈로그 동기화용 음식 한 건 (사용자별 값인 즐겨찾기는 포함하지 않음)
+@Getter
+@Builder
+public class FoodSyncItem {
+    private Integer foodId;
+    private String foodName;
+    private Integer calorie;
+    private BigDecimal carbohydrate;
+    private BigDecimal protein;
+    private BigDecimal fat;
+    private BigDecimal sweet;
+    private BigDecimal sodium;
+    private BigDecimal saturatedFat;
+    private BigDecimal transFat;
+    private BigDecimal cholesterol;
+    private String baseAmount;
+
+    public static FoodSyncItem toDto(Food food) {
+        return FoodSyncItem.builder()
+                .foodId(food.getFoodId())
+                .foodName(food.getFoodName())
+                .calorie(food.getCalorie())
+                .carbohydrate(food.getCarbohydrate())
+                .protein(food.getProtein())
+                .fat(food.getFat())
+                .sweet(food.getSweet())
+                .sodium(food.getSodium())
+                .saturatedFat(food.getSaturatedFat())
+                .transFat(food.getTransFat())
+                .cholesterol(food.getCholesterol())
+                .baseAmount(food.getBaseAmount())
+                .build();
+    }
+
+    public static FoodSyncItem toDto(FoodCatalogSnapshot snapshot, int slot) {
+        return FoodSyncItem.builder()
+                .foodId(snapshot.foodId(slot))
+                .foodName(snapshot.foodName(slot))
+                .calorie(snapshot.calorie(slot))
+                .carbohydrate(FoodCatalogSnapshot.toDecimal(snapshot.carbohydrate(slot)))
+                .protein(FoodCatalogSnapshot.toDecimal(snapshot.protein(slot)))
+                .fat(FoodCatalogSnapshot.toDecimal(snapshot.fat(slot)))
+                .sweet(FoodCatalogSnapshot.toDecimal(snapshot.sugar(slot)))
+                .sodium(FoodCatalogSnapshot.toDecimal(snapshot.sodium(slot)))
+                .saturatedFat(FoodCatalogSnapshot.toDecimal(snapshot.saturatedFat(slot)))
+                .transFat(FoodCatalogSnapshot.toDecimal(snapshot.transFat(slot)))
+                .cholesterol(FoodCatalogSnapshot.toDecimal(snapshot.cholesterol(slot)))
+                .baseAmount(snapshot.baseAmount(slot))
+                .build();
+    }
+}
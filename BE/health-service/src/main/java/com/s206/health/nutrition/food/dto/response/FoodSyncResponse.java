@@ -0,0 +1,16 @@
+package com.s206.health.nutrition.food.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 음식 카탈로그 변경분 (클라이언트 version 이후 추가/수정된 음식과 삭제된 음식 ID)
+@Getter
+@Builder
+public class FoodSyncResponse {
+    // 다음 동기화 요청에 그대로 보낼 카탈로그 버전
+    private long version;
+    private List<FoodSyncItem> foods;
+    private List<Integer> deletedFoodIds;
+}
@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "food_information_tb")
+@Table(name = "food_information_tb",
+        indexes = {
+                @Index(name = "IDX_food_information_updated_at", columnList = "updated_at"),
+                @Index(name = "IDX_food_information_catalog_version", columnList = "catalog_version")
+        })
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -67,4 +71,9 @@ public class Food {
     @Column(nullable = false)
     @Builder.Default
     private Boolean isDeleted = false;
+
+    // 마지막으로 이 음식을 바꾼 카탈로그 버전 (FoodCatalogVersion 참고)
+    @Column(nullable = false)
+    @Builder.Default
+    private Long catalogVersion = 0L;
 }
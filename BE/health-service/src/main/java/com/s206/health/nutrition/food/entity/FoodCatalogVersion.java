@@ -0,0 +1,30 @@
+package com.s206.health.nutrition.food.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 음식 카탈로그 버전 카운터 (단일 행)
+// 음식을 추가/수정/삭제하는 트랜잭션이 같은 트랜잭션에서 증가시키고, 바뀐 음식 행에 그 값을 catalog_version 으로 기록
+// 증가한 행은 커밋까지 잠기므로 버전은 커밋 순서대로 발급됨 (버전 v 가 보이면 v 이하의 변경은 모두 커밋된 상태)
+@Entity
+@Getter
+@Table(name = "food_catalog_version_tb")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FoodCatalogVersion {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer foodCatalogVersionId;
+
+    @Column(nullable = false)
+    private Long version;
+}
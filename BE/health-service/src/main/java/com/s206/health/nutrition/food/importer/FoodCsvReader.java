@@ -0,0 +1,83 @@
+package com.s206.health.nutrition.food.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// CSV(UTF-8, RFC 4180 따옴표 규칙)를 한 행씩 읽음, 열 순서는 XLSX와 같음
+// 첫 행은 머리글로 보고 건너뜀
+final class FoodCsvReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private FoodCsvReader() {
+    }
+
+    static void read(Path file, Consumer<List<String>> rowConsumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.mark(1);
+            if (reader.read() != BOM) {
+                reader.reset();
+            }
+
+            boolean header = true;
+            List<String> row;
+            while ((row = readRow(reader)) != null) {
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                if (row.size() == 1 && row.get(0).isBlank()) {
+                    continue;
+                }
+                rowConsumer.accept(row);
+            }
+        }
+    }
+
+    // 한 행 읽기 (따옴표 안의 구분자/줄바꿈은 값으로 취급), 파일 끝이면 null
+    private static List<String> readRow(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>(FoodImportRow.COLUMN_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c >= 0) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
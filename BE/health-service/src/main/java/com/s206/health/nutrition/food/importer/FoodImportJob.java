@@ -0,0 +1,63 @@
+package com.s206.health.nutrition.food.importer;
+
+import com.s206.health.nutrition.food.dto.response.FoodImportStatusResponse;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 가져오기 작업 한 건의 입력 파일과 진행 상황
+// 처리 스레드가 값을 바꾸는 동안 상태 조회는 다른 스레드에서 읽으므로 카운터는 원자적으로 갱신
+public final class FoodImportJob {
+
+    enum Status { RUNNING, COMPLETED, FAILED }
+
+    final String fileName;
+    final Path file;
+    final boolean csv;
+    final LocalDateTime startedAt = LocalDateTime.now();
+
+    volatile Status status = Status.RUNNING;
+    final AtomicInteger processed = new AtomicInteger();
+    final AtomicInteger inserted = new AtomicInteger();
+    final AtomicInteger updated = new AtomicInteger();
+    final AtomicInteger unchanged = new AtomicInteger();
+    final AtomicInteger skipped = new AtomicInteger();
+    // 영양 정보가 실제로 바뀐 기존 음식 (완료 후 롤업 재구축 대상)
+    final Set<Integer> updatedFoodIds = ConcurrentHashMap.newKeySet();
+    volatile LocalDateTime finishedAt;
+    volatile String message;
+
+    FoodImportJob(String fileName, Path file, boolean csv) {
+        this.fileName = fileName;
+        this.file = file;
+        this.csv = csv;
+    }
+
+    boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    void finish(Status status, String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public FoodImportStatusResponse toResponse() {
+        return FoodImportStatusResponse.builder()
+                .fileName(fileName)
+                .status(status.name())
+                .processed(processed.get())
+                .inserted(inserted.get())
+                .updated(updated.get())
+                .unchanged(unchanged.get())
+                .skipped(skipped.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .message(message)
+                .build();
+    }
+}
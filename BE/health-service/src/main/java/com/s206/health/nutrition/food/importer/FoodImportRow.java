@@ -0,0 +1,83 @@
+package com.s206.health.nutrition.food.importer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+// 가져오기 파일의 한 행 (food_information.xlsx 열 순서)
+// 0 이름, 1 열량, 2 단백질, 3 지방, 4 탄수화물, 5 당류, 6 나트륨, 7 콜레스테롤, 8 포화지방, 9 트랜스지방, 10 기준량
+final class FoodImportRow {
+
+    static final int COLUMN_COUNT = 11;
+
+    // food_information_tb 컬럼 제약 (VARCHAR(50), DECIMAL(6,2))
+    private static final int MAX_NAME_LENGTH = 50;
+    private static final int MAX_BASE_AMOUNT_LENGTH = 255;
+    private static final BigDecimal MAX_DECIMAL = new BigDecimal("9999.99");
+
+    final String foodName;
+    final int calorie;
+    final BigDecimal protein;
+    final BigDecimal fat;
+    final BigDecimal carbohydrate;
+    final BigDecimal sweet;
+    final BigDecimal sodium;
+    final BigDecimal cholesterol;
+    final BigDecimal saturatedFat;
+    final BigDecimal transFat;
+    final String baseAmount;
+
+    private FoodImportRow(String[] cells) {
+        this.foodName = cells[0];
+        this.calorie = toDecimal(cells[1]).setScale(0, RoundingMode.HALF_UP).intValueExact();
+        this.protein = toDecimal(cells[2]);
+        this.fat = toDecimal(cells[3]);
+        this.carbohydrate = toDecimal(cells[4]);
+        this.sweet = toDecimal(cells[5]);
+        this.sodium = toDecimal(cells[6]);
+        this.cholesterol = toDecimal(cells[7]);
+        this.saturatedFat = toDecimal(cells[8]);
+        this.transFat = toDecimal(cells[9]);
+        this.baseAmount = cells[10];
+    }
+
+    // 셀 문자열 → 행, 이름이 없거나 값이 컬럼 범위를 벗어나면 null
+    static FoodImportRow parse(List<String> values) {
+        String[] cells = new String[COLUMN_COUNT];
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            String value = i < values.size() ? values.get(i) : null;
+            cells[i] = value != null ? value.trim() : "";
+        }
+        if (cells[0].isEmpty() || cells[0].length() > MAX_NAME_LENGTH
+                || cells[10].length() > MAX_BASE_AMOUNT_LENGTH) {
+            return null;
+        }
+        try {
+            FoodImportRow row = new FoodImportRow(cells);
+            return row.isInRange() ? row : null;
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private boolean isInRange() {
+        if (calorie < 0) {
+            return false;
+        }
+        for (BigDecimal value : new BigDecimal[]{protein, fat, carbohydrate, sweet, sodium,
+                cholesterol, saturatedFat, transFat}) {
+            if (value.signum() < 0 || value.compareTo(MAX_DECIMAL) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 빈 칸은 0, 천 단위 구분 기호는 제거
+    private static BigDecimal toDecimal(String value) {
+        if (value.isEmpty() || "-".equals(value)) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return new BigDecimal(value.replace(",", "")).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,244 @@
+package com.s206.health.nutrition.food.importer;
+
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.common.exception.types.ConflictException;
+import com.s206.common.exception.types.InternalServerErrorException;
+import com.s206.common.exception.types.NotFoundException;
+import com.s206.common.exception.types.UnsupportedMediaTypeException;
+import com.s206.health.elastic.service.ElasticFoodSyncService;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.service.FoodCatalogVersionService;
+import com.s206.health.nutrition.rollup.scheduler.NutritionRollupScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 음식 카탈로그 일괄 가져오기 (food_information.xlsx / CSV)
+// 파일은 한 행씩 스트리밍으로 읽고, 기존 음식 이름은 시작 시 한 번만 읽어 메모리에서 중복 확인
+// 청크 단위 JDBC batch 로 새 음식은 INSERT, 같은 이름의 음식은 값이 바뀐 경우에만 UPDATE
+// 청크마다 같은 트랜잭션에서 카탈로그 버전을 하나 발급받아 쓴 행에 기록 (동기화 API 의 변경분 기준)
+// 완료 후 카탈로그 스냅샷을 다시 적재하고, 값이 바뀐 음식이 들어간 식단의 롤업 재구축 후 Elasticsearch 증분 동기화 실행
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FoodImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO food_information_tb " +
+            "(food_name, calorie, protein, fat, carbohydrate, sweet, sodium, cholesterol, saturated_fat, trans_fat, " +
+            "base_amount, created_at, updated_at, catalog_version, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    // INSERT_SQL 파라미터 중 catalog_version 위치
+    private static final int INSERT_VERSION_INDEX = 13;
+
+    // 값이 모두 같으면 갱신하지 않음 (updated_at 이 바뀌지 않아 재색인 대상에서도 빠짐)
+    private static final String UPDATE_SQL = "UPDATE food_information_tb SET " +
+            "calorie = ?, protein = ?, fat = ?, carbohydrate = ?, sweet = ?, sodium = ?, cholesterol = ?, " +
+            "saturated_fat = ?, trans_fat = ?, base_amount = ?, updated_at = ?, catalog_version = ? " +
+            "WHERE food_id = ? AND NOT (calorie = ? AND protein = ? AND fat = ? AND carbohydrate = ? AND sweet = ? " +
+            "AND sodium = ? AND cholesterol = ? AND saturated_fat = ? AND trans_fat = ? AND base_amount = ?)";
+    // UPDATE_SQL 파라미터 중 catalog_version / food_id 위치
+    private static final int UPDATE_VERSION_INDEX = 11;
+    private static final int UPDATE_FOOD_ID_INDEX = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FoodCatalog foodCatalog;
+    private final FoodCatalogVersionService foodCatalogVersionService;
+    private final ElasticFoodSyncService elasticFoodSyncService;
+    private final NutritionRollupScheduler nutritionRollupScheduler;
+
+    // 트랜잭션 하나로 쓰는 행 수 (rewriteBatchedStatements 로 다중 행 INSERT 로 전송)
+    @Value("${food.import.chunk-size:1000}")
+    private int chunkSize;
+
+    // 마지막(또는 진행 중인) 가져오기 작업
+    private final AtomicReference<FoodImportJob> current = new AtomicReference<>();
+
+    // 업로드 파일을 임시 파일로 옮기고 작업 등록 (처리는 runAsync)
+    public FoodImportJob start(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("가져올 파일이 없습니다.");
+        }
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "";
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        boolean csv = lowerName.endsWith(".csv");
+        if (!csv && !lowerName.endsWith(".xlsx")) {
+            throw new UnsupportedMediaTypeException("xlsx 또는 csv 파일만 가져올 수 있습니다.");
+        }
+
+        FoodImportJob previous = current.get();
+        if (previous != null && previous.isRunning()) {
+            throw new ConflictException("이미 진행 중인 음식 가져오기가 있습니다.");
+        }
+
+        Path temp;
+        try {
+            temp = Files.createTempFile("food-import-", csv ? ".csv" : ".xlsx");
+            file.transferTo(temp);
+        } catch (IOException e) {
+            throw new InternalServerErrorException("업로드 파일 저장 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        FoodImportJob job = new FoodImportJob(fileName, temp, csv);
+        if (!current.compareAndSet(previous, job)) {
+            deleteQuietly(temp);
+            throw new ConflictException("이미 진행 중인 음식 가져오기가 있습니다.");
+        }
+        log.info("[FOOD_IMPORT] 가져오기 시작: file={}, size={}", fileName, file.getSize());
+        return job;
+    }
+
+    @Async
+    public void runAsync(FoodImportJob job) {
+        long start = System.currentTimeMillis();
+        try {
+            Importer importer = new Importer(job, loadExistingFoodIds());
+            if (job.csv) {
+                FoodCsvReader.read(job.file, importer::accept);
+            } else {
+                FoodXlsxReader.read(job.file, importer::accept);
+            }
+            importer.flush();
+            job.finish(FoodImportJob.Status.COMPLETED, null);
+
+            log.info("[FOOD_IMPORT] 가져오기 완료: file={}, 처리={}, 추가={}, 수정={}, 동일={}, 건너뜀={}, 소요={}ms",
+                    job.fileName, job.processed.get(), job.inserted.get(), job.updated.get(), job.unchanged.get(),
+                    job.skipped.get(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 이미 커밋된 청크는 그대로 두고, 같은 파일을 다시 가져오면 남은 행만 반영됨
+            job.finish(FoodImportJob.Status.FAILED, e.getMessage());
+            log.error("[FOOD_IMPORT] 가져오기 실패: file={}, 처리={}, 사유={}", job.fileName, job.processed.get(), e.getMessage(), e);
+        } finally {
+            deleteQuietly(job.file);
+        }
+
+        if (job.inserted.get() > 0 || job.updated.get() > 0) {
+            foodCatalog.refresh();
+            // 실패로 중단되어도 이미 커밋된 청크의 변경은 롤업에 반영
+            if (!job.updatedFoodIds.isEmpty()) {
+                nutritionRollupScheduler.rebuildForFoods(job.updatedFoodIds);
+            }
+            elasticFoodSyncService.sync(false);
+        }
+    }
+
+    public FoodImportJob getCurrentJob() {
+        FoodImportJob job = current.get();
+        if (job == null) {
+            throw new NotFoundException("음식 가져오기 기록이 없습니다.");
+        }
+        return job;
+    }
+
+    // 삭제되지 않은 음식의 이름 → ID (같은 이름이 여러 개면 가장 먼저 등록된 음식)
+    private Map<String, Integer> loadExistingFoodIds() {
+        Map<String, Integer> foodIds = new HashMap<>();
+        jdbcTemplate.query("SELECT food_id, food_name FROM food_information_tb WHERE is_deleted = 0 ORDER BY food_id",
+                (RowCallbackHandler) rs -> foodIds.putIfAbsent(rs.getString(2).trim(), rs.getInt(1)));
+        return foodIds;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[FOOD_IMPORT] 임시 파일 삭제 실패: {}", file);
+        }
+    }
+
+    // 행을 청크로 모아 batch 로 쓰는 처리기 (한 작업 안에서만 사용)
+    private final class Importer {
+
+        private final FoodImportJob job;
+        private final Map<String, Integer> existingFoodIds;
+        private final Set<String> seenNames = new HashSet<>();
+        private final List<Object[]> inserts = new ArrayList<>();
+        private final List<Object[]> updates = new ArrayList<>();
+
+        private Importer(FoodImportJob job, Map<String, Integer> existingFoodIds) {
+            this.job = job;
+            this.existingFoodIds = existingFoodIds;
+        }
+
+        void accept(List<String> values) {
+            job.processed.incrementAndGet();
+            FoodImportRow row = FoodImportRow.parse(values);
+            if (row == null || !seenNames.add(row.foodName)) {
+                job.skipped.incrementAndGet();
+                return;
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            Integer foodId = existingFoodIds.get(row.foodName);
+            if (foodId == null) {
+                inserts.add(new Object[]{row.foodName, row.calorie, row.protein, row.fat, row.carbohydrate,
+                        row.sweet, row.sodium, row.cholesterol, row.saturatedFat, row.transFat, row.baseAmount,
+                        now, now, null});
+            } else {
+                updates.add(new Object[]{row.calorie, row.protein, row.fat, row.carbohydrate, row.sweet,
+                        row.sodium, row.cholesterol, row.saturatedFat, row.transFat, row.baseAmount, now, null,
+                        foodId,
+                        row.calorie, row.protein, row.fat, row.carbohydrate, row.sweet,
+                        row.sodium, row.cholesterol, row.saturatedFat, row.transFat, row.baseAmount});
+            }
+
+            if (inserts.size() + updates.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (inserts.isEmpty() && updates.isEmpty()) {
+                return;
+            }
+
+            int[] updateCounts = transactionTemplate.execute(status -> {
+                // 버전 행은 커밋까지 잠기므로 다른 카탈로그 변경과 커밋 순서대로 버전이 발급됨
+                long catalogVersion = foodCatalogVersionService.next();
+                inserts.forEach(args -> args[INSERT_VERSION_INDEX] = catalogVersion);
+                updates.forEach(args -> args[UPDATE_VERSION_INDEX] = catalogVersion);
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                }
+                return updates.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            });
+
+            int changed = 0;
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] > 0) {
+                    changed++;
+                    job.updatedFoodIds.add((Integer) updates.get(i)[UPDATE_FOOD_ID_INDEX]);
+                }
+            }
+            job.inserted.addAndGet(inserts.size());
+            job.updated.addAndGet(changed);
+            job.unchanged.addAndGet(updates.size() - changed);
+            inserts.clear();
+            updates.clear();
+
+            log.info("[FOOD_IMPORT] 진행: file={}, 처리={}, 추가={}, 수정={}",
+                    job.fileName, job.processed.get(), job.inserted.get(), job.updated.get());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.s206.health.nutrition.food.importer;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+// XLSX 첫 번째 시트를 SAX 이벤트로 한 행씩 읽음 (워크북 전체를 메모리에 올리지 않음)
+// 첫 행은 머리글로 보고 건너뜀
+final class FoodXlsxReader {
+
+    private FoodXlsxReader() {
+    }
+
+    static void read(Path file, Consumer<List<String>> rowConsumer) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null, strings,
+                        new RowHandler(rowConsumer), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<List<String>> rowConsumer;
+        private final String[] values = new String[FoodImportRow.COLUMN_COUNT];
+        private int nextColumn;
+        private boolean hasValue;
+
+        private RowHandler(Consumer<List<String>> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(values, null);
+            nextColumn = 0;
+            hasValue = false;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum > 0 && hasValue) {
+                rowConsumer.accept(Arrays.asList(values.clone()));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // r 속성이 없는 셀은 직전 셀 다음 열로 간주
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            nextColumn = column + 1;
+            if (column < values.length && formattedValue != null && !formattedValue.isBlank()) {
+                values[column] = formattedValue;
+                hasValue = true;
+            }
+        }
+    }
+}
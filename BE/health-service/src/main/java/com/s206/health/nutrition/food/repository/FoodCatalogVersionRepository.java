@@ -0,0 +1,20 @@
+package com.s206.health.nutrition.food.repository;
+
+import com.s206.health.nutrition.food.entity.FoodCatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface FoodCatalogVersionRepository extends JpaRepository<FoodCatalogVersion, Integer> {
+
+    // 버전 증가 (행이 없으면 0, 증가한 행은 커밋까지 잠김)
+    @Modifying
+    @Query("UPDATE FoodCatalogVersion v SET v.version = v.version + 1 WHERE v.foodCatalogVersionId = :id")
+    int increase(@Param("id") Integer id);
+
+    @Query("SELECT v.version FROM FoodCatalogVersion v WHERE v.foodCatalogVersionId = :id")
+    Optional<Long> findVersion(@Param("id") Integer id);
+}
@@ -1,11 +1,38 @@
 package com.s206.health.nutrition.food.repository;
 
 import com.s206.health.nutrition.food.entity.Food;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FoodRepository extends JpaRepository<Food, Integer> {
     List<Food> findAllByFoodIdIn(List<Integer> foodIds);
     boolean existsByFoodName(String foodName);
+    boolean existsByFoodIdAndIsDeletedFalse(Integer foodId);
+
+    // Elasticsearch 동기화 워터마크용 최종 수정 시각
+    @Query("SELECT MAX(f.updatedAt) FROM Food f")
+    LocalDateTime findLatestUpdatedAt();
+
+    // 카탈로그 버전 카운터가 없을 때의 기준 버전
+    @Query("SELECT COALESCE(MAX(f.catalogVersion), 0) FROM Food f")
+    long findMaxCatalogVersion();
+
+    // 동기화용: version 이후 변경(soft delete 포함)된 음식, 버전 순
+    @Query("SELECT f FROM Food f WHERE f.catalogVersion > :version ORDER BY f.catalogVersion ASC, f.foodId ASC")
+    List<Food> findAllChangedAfter(@Param("version") long version);
+
+    // Elasticsearch 전체 재색인용: foodId 순 페이지 조회
+    List<Food> findByFoodIdGreaterThanOrderByFoodIdAsc(Integer foodId, Pageable pageable);
+
+    // Elasticsearch 증분 동기화용: (updatedAt, foodId) 위치 이후 변경분을 순서대로 페이지 조회
+    @Query("SELECT f FROM Food f WHERE f.updatedAt > :updatedAt OR (f.updatedAt = :updatedAt AND f.foodId > :foodId) " +
+            "ORDER BY f.updatedAt ASC, f.foodId ASC")
+    List<Food> findUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("foodId") Integer foodId,
+                                Pageable pageable);
 }
@@ -0,0 +1,68 @@
+package com.s206.health.nutrition.food.search;
+
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 인메모리 음식 카탈로그 위 한글 이름 검색 (접두사 / 초성 / 오타 보정)
+// Elasticsearch 장애 시 대체 엔진이자 짧은 자동완성 검색어의 기본 엔진, 외부 의존이 없어 테스트에서도 사용 가능
+// 카탈로그 스냅샷이 교체되면 다음 검색 때 색인을 다시 만듦
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogFoodSearchEngine implements FoodSearchEngine {
+
+    private final FoodCatalog foodCatalog;
+
+    private volatile IndexedSnapshot indexed;
+
+    @Override
+    public List<Integer> search(String query, int limit) {
+        return index().search(query, limit);
+    }
+
+    private FoodNameIndex index() {
+        FoodCatalogSnapshot snapshot = foodCatalog.snapshot();
+        IndexedSnapshot current = indexed;
+        if (current != null && current.snapshot() == snapshot) {
+            return current.index();
+        }
+        synchronized (this) {
+            current = indexed;
+            if (current == null || current.snapshot() != snapshot) {
+                long start = System.currentTimeMillis();
+                FoodNameIndex index = FoodNameIndex.of(snapshot);
+                current = new IndexedSnapshot(snapshot, index);
+                indexed = current;
+                log.info("[FOOD_SEARCH] 이름 색인 생성: 음식 수={}, 노드 수={}, 크기={}KB, 소요={}ms",
+                        index.size(), index.nodeCount(), index.sizeInBytes() / 1024,
+                        System.currentTimeMillis() - start);
+            }
+            return current.index();
+        }
+    }
+
+    // 색인과 색인을 만든 스냅샷을 한 번에 교체
+    private static final class IndexedSnapshot {
+
+        private final FoodCatalogSnapshot snapshot;
+        private final FoodNameIndex index;
+
+        private IndexedSnapshot(FoodCatalogSnapshot snapshot, FoodNameIndex index) {
+            this.snapshot = snapshot;
+            this.index = index;
+        }
+
+        FoodCatalogSnapshot snapshot() {
+            return snapshot;
+        }
+
+        FoodNameIndex index() {
+            return index;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.s206.health.nutrition.food.search;
+
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// 음식 이름 인메모리 색인 (카탈로그 스냅샷마다 한 번 생성, 읽기 전용)
+// 이름의 각 단어 시작 위치부터의 부분을 키로 삼아 자모 trie와 초성 trie에 저장
+// 포스팅 값은 음식 순위(짧은 이름 우선)라서 정렬만으로 결과 순서가 정해짐
+final class FoodNameIndex {
+
+    // 자모 수가 이 이상이면 오타 2개까지 허용
+    private static final int TWO_EDITS_MIN_LENGTH = 8;
+    // 자모 수가 이 미만이면 오타 보정 없음 (짧은 검색어는 후보가 너무 많아짐)
+    private static final int ONE_EDIT_MIN_LENGTH = 3;
+
+    private final JamoTrie jamoTrie;
+    private final JamoTrie choseongTrie;
+    private final int[] foodIdByRank;
+
+    private FoodNameIndex(JamoTrie jamoTrie, JamoTrie choseongTrie, int[] foodIdByRank) {
+        this.jamoTrie = jamoTrie;
+        this.choseongTrie = choseongTrie;
+        this.foodIdByRank = foodIdByRank;
+    }
+
+    static FoodNameIndex of(FoodCatalogSnapshot snapshot) {
+        // 삭제되지 않은 음식을 (이름 길이, 이름, foodId) 순으로 정렬한 순서가 순위
+        List<Integer> slots = new ArrayList<>(snapshot.size());
+        for (int slot = 0; slot < snapshot.size(); slot++) {
+            if (!snapshot.isDeleted(slot) && snapshot.foodName(slot) != null) {
+                slots.add(slot);
+            }
+        }
+        slots.sort(Comparator.<Integer>comparingInt(slot -> snapshot.foodName(slot).length())
+                .thenComparing(snapshot::foodName)
+                .thenComparingInt(snapshot::foodId));
+
+        int[] foodIdByRank = new int[slots.size()];
+        List<String> jamoKeys = new ArrayList<>();
+        List<String> choseongKeys = new ArrayList<>();
+        IntList jamoValues = new IntList();
+        IntList choseongValues = new IntList();
+        for (int rank = 0; rank < slots.size(); rank++) {
+            int slot = slots.get(rank);
+            foodIdByRank[rank] = snapshot.foodId(slot);
+            for (String suffix : wordSuffixes(snapshot.foodName(slot))) {
+                jamoKeys.add(HangulJamo.decompose(suffix));
+                jamoValues.add(rank);
+                choseongKeys.add(HangulJamo.choseong(suffix));
+                choseongValues.add(rank);
+            }
+        }
+
+        return new FoodNameIndex(
+                JamoTrie.build(jamoKeys.toArray(new String[0]), jamoValues.toArray()),
+                JamoTrie.build(choseongKeys.toArray(new String[0]), choseongValues.toArray()),
+                foodIdByRank);
+    }
+
+    // 접두사 일치 → 모자라면 오타 보정 결과를 뒤에 덧붙임, 초성만 입력하면 초성 trie에서 접두사 일치
+    List<Integer> search(String query, int limit) {
+        if (query == null || limit <= 0) {
+            return List.of();
+        }
+
+        if (HangulJamo.isChoseongOnly(query)) {
+            IntList ranks = new IntList();
+            choseongTrie.collectPrefix(HangulJamo.choseong(query), ranks::add);
+            return toFoodIds(ranks.sortedDistinct(), null, limit);
+        }
+
+        String jamo = HangulJamo.decompose(query);
+        if (jamo.isEmpty()) {
+            return List.of();
+        }
+
+        IntList exact = new IntList();
+        jamoTrie.collectPrefix(jamo, exact::add);
+        int[] exactRanks = exact.sortedDistinct();
+        if (exactRanks.length >= limit) {
+            return toFoodIds(exactRanks, null, limit);
+        }
+
+        int maxEdits = jamo.length() >= TWO_EDITS_MIN_LENGTH ? 2 : jamo.length() >= ONE_EDIT_MIN_LENGTH ? 1 : 0;
+        if (maxEdits == 0) {
+            return toFoodIds(exactRanks, null, limit);
+        }
+        IntList fuzzy = new IntList();
+        jamoTrie.collectFuzzyPrefix(jamo, maxEdits, fuzzy::add);
+        return toFoodIds(exactRanks, fuzzy.sortedDistinct(), limit);
+    }
+
+    int size() {
+        return foodIdByRank.length;
+    }
+
+    long sizeInBytes() {
+        return jamoTrie.sizeInBytes() + choseongTrie.sizeInBytes() + 4L * foodIdByRank.length;
+    }
+
+    int nodeCount() {
+        return jamoTrie.nodeCount() + choseongTrie.nodeCount();
+    }
+
+    // primary 순위를 먼저, secondary 중 primary에 없는 순위를 이어서 최대 limit 개
+    private List<Integer> toFoodIds(int[] primary, int[] secondary, int limit) {
+        List<Integer> foodIds = new ArrayList<>(Math.min(limit, primary.length + (secondary != null ? secondary.length : 0)));
+        for (int i = 0; i < primary.length && foodIds.size() < limit; i++) {
+            foodIds.add(foodIdByRank[primary[i]]);
+        }
+        if (secondary != null) {
+            for (int i = 0; i < secondary.length && foodIds.size() < limit; i++) {
+                if (Arrays.binarySearch(primary, secondary[i]) < 0) {
+                    foodIds.add(foodIdByRank[secondary[i]]);
+                }
+            }
+        }
+        return foodIds;
+    }
+
+    // "닭가슴살 샐러드(소스포함)" → ["닭가슴살샐러드소스포함", "샐러드소스포함", "소스포함"]
+    private static List<String> wordSuffixes(String name) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+
+        List<String> suffixes = new ArrayList<>(words.size());
+        StringBuilder suffix = new StringBuilder();
+        for (int i = words.size() - 1; i >= 0; i--) {
+            suffix.insert(0, words.get(i));
+            suffixes.add(0, suffix.toString());
+        }
+        return suffixes;
+    }
+
+    // 박싱 없는 int 목록
+    private static final class IntList {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        int[] sortedDistinct() {
+            int[] sorted = toArray();
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
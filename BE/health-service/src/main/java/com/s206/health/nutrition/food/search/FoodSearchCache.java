@@ -0,0 +1,158 @@
+package com.s206.health.nutrition.food.search;
+
+import com.s206.health.elastic.entity.ElasticSyncState;
+import com.s206.health.elastic.repository.ElasticSyncStateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 음식 검색 결과 캐시 (정규화한 검색어 → 순위대로 정렬된 음식 ID 목록)
+// 사용자와 무관한 순위만 담고, 즐겨찾기 여부와 표시 값은 조회할 때마다 덧씌움
+// 결과는 Elasticsearch 인덱스 순위이므로 인덱스 버전(alias 가 가리키는 인덱스 + 동기화 워터마크)이 바뀌면 전체를 비움
+// 동기화는 한 인스턴스에서만 실행되므로, 다른 인스턴스는 동기화 상태 행을 주기적으로 읽어 버전 변경을 반영
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FoodSearchCache {
+
+    private final ElasticSyncStateRepository syncStateRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${food.search.cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${food.search.cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 인덱스 버전 확인 주기 (검색마다 DB 를 읽지 않도록 이 간격 안에서는 마지막으로 읽은 버전 사용)
+    @Value("${food.search.cache.version-check-ms:5000}")
+    private long versionCheckMs;
+
+    // 접근 순서 기준 LRU (오래 조회되지 않은 검색어부터 제거)
+    private Map<String, CachedResult> cache;
+    private String cachedVersion;
+    private long versionCheckedAt;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        hits = Counter.builder("food.search.cache")
+                .description("음식 검색 결과 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("food.search.cache")
+                .description("음식 검색 결과 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("food.search.cache.size", cache, Map::size)
+                .description("음식 검색 결과 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    // 캐시에 있으면 그대로, 없거나 만료되었으면 loader 결과를 저장 후 반환
+    // loader 가 예외를 던지면 저장하지 않고 그대로 전달
+    public List<Integer> get(String query, Supplier<List<Integer>> loader) {
+        String key = normalize(query);
+        String version = checkVersion();
+
+        CachedResult cached = cache.get(key);
+        if (cached != null && !cached.isExpired(ttlSeconds) && cached.version.equals(version)) {
+            hits.increment();
+            return cached.foodIds;
+        }
+
+        misses.increment();
+        List<Integer> foodIds = List.copyOf(loader.get());
+        cache.put(key, new CachedResult(foodIds, version));
+        return foodIds;
+    }
+
+    // 동기화 작업이 검색 인덱스에 변경을 반영했을 때 호출 (다음 조회에서 바뀐 버전을 바로 읽음)
+    public void invalidateAll() {
+        int size = cache.size();
+        cache.clear();
+        synchronized (this) {
+            versionCheckedAt = 0L;
+        }
+        log.info("[FOOD_SEARCH_CACHE] 캐시 비움: 항목 수={}", size);
+    }
+
+    // 앞뒤 공백 제거, 소문자 변환, 연속 공백은 하나로
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 인덱스 버전이 바뀌었으면 이전 버전 결과를 모두 비움
+    // 상태를 읽지 못하면 마지막으로 읽은 버전을 그대로 사용 (TTL 로 만료)
+    private synchronized String checkVersion() {
+        long now = System.currentTimeMillis();
+        if (cachedVersion != null && now - versionCheckedAt < versionCheckMs) {
+            return cachedVersion;
+        }
+        versionCheckedAt = now;
+
+        String version;
+        try {
+            version = syncStateRepository.findById(ElasticSyncState.SINGLETON_ID)
+                    .map(FoodSearchCache::toVersion)
+                    .orElse("");
+        } catch (RuntimeException e) {
+            log.warn("[FOOD_SEARCH_CACHE] 인덱스 버전 확인 실패: {}", e.getMessage());
+            return cachedVersion != null ? cachedVersion : "";
+        }
+
+        if (!version.equals(cachedVersion)) {
+            if (cachedVersion != null) {
+                log.info("[FOOD_SEARCH_CACHE] 인덱스 버전 변경: {} → {}", cachedVersion, version);
+            }
+            cache.clear();
+            cachedVersion = version;
+        }
+        return version;
+    }
+
+    // 재색인하면 인덱스 이름이, 증분 동기화하면 워터마크가 바뀜
+    private static String toVersion(ElasticSyncState state) {
+        return state.getIndexName() + "@" + state.getWatermark();
+    }
+
+    private static final class CachedResult {
+
+        private final List<Integer> foodIds;
+        private final String version;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private CachedResult(List<Integer> foodIds, String version) {
+            this.foodIds = foodIds;
+            this.version = version;
+        }
+
+        boolean isExpired(long ttlSeconds) {
+            return System.currentTimeMillis() - loadedAt > ttlSeconds * 1000;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.s206.health.nutrition.food.search;
+
+import java.util.List;
+
+// 음식 이름 검색 엔진 (Elasticsearch / 인메모리 카탈로그 색인)
+public interface FoodSearchEngine {
+
+    // 검색어와 일치하는 음식 ID (관련도 순, 최대 limit 개)
+    List<Integer> search(String query, int limit);
+}
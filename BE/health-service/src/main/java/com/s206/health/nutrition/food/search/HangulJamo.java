@@ -0,0 +1,113 @@
+package com.s206.health.nutrition.food.search;
+
+// 한글 음절 → 자모 분해
+// 입력 중인 글자("김치찍")도 완성된 이름("김치찌개")의 접두사가 되도록 겹모음/겹받침까지 낱자로 분해
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char COMPAT_JAMO_FIRST = 0x3131;
+    private static final char COMPAT_CONSONANT_LAST = 0x314E;
+    private static final char COMPAT_JAMO_LAST = 0x3163;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 호환 자모 중 겹자모 (0x3131부터 순서대로, 낱자는 그대로)
+    private static final String[] COMPAT_JAMO = buildCompatJamo();
+
+    private HangulJamo() {
+    }
+
+    // 이름/검색어 → 자모열 (공백·기호 제거, 영문 소문자)
+    public static String decompose(CharSequence text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                jamo.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                jamo.append(JUNGSEONG[(index / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                jamo.append(JONGSEONG[index % JONGSEONG_COUNT]);
+            } else if (c >= COMPAT_JAMO_FIRST && c <= COMPAT_JAMO_LAST) {
+                jamo.append(COMPAT_JAMO[c - COMPAT_JAMO_FIRST]);
+            } else if (Character.isLetterOrDigit(c)) {
+                jamo.append(Character.toLowerCase(c));
+            }
+        }
+        return jamo.toString();
+    }
+
+    // 이름 → 초성열 ("김치찌개" → "ㄱㅊㅉㄱ"), 한글이 아닌 글자는 그대로
+    public static String choseong(CharSequence text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                result.append(CHOSEONG[(c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else if (isCompatConsonant(c)) {
+                result.append(c);
+            } else if (Character.isLetterOrDigit(c)) {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    // 초성만으로 이루어진 검색어인지 ("ㄱㅊㅉㄱ")
+    public static boolean isChoseongOnly(CharSequence text) {
+        boolean found = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (!isCompatConsonant(c)) {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+
+    private static boolean isCompatConsonant(char c) {
+        return c >= COMPAT_JAMO_FIRST && c <= COMPAT_CONSONANT_LAST;
+    }
+
+    private static String[] buildCompatJamo() {
+        String[] table = new String[COMPAT_JAMO_LAST - COMPAT_JAMO_FIRST + 1];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = String.valueOf((char) (COMPAT_JAMO_FIRST + i));
+        }
+        // 겹받침
+        table['ㄳ' - COMPAT_JAMO_FIRST] = "ㄱㅅ";
+        table['ㄵ' - COMPAT_JAMO_FIRST] = "ㄴㅈ";
+        table['ㄶ' - COMPAT_JAMO_FIRST] = "ㄴㅎ";
+        table['ㄺ' - COMPAT_JAMO_FIRST] = "ㄹㄱ";
+        table['ㄻ' - COMPAT_JAMO_FIRST] = "ㄹㅁ";
+        table['ㄼ' - COMPAT_JAMO_FIRST] = "ㄹㅂ";
+        table['ㄽ' - COMPAT_JAMO_FIRST] = "ㄹㅅ";
+        table['ㄾ' - COMPAT_JAMO_FIRST] = "ㄹㅌ";
+        table['ㄿ' - COMPAT_JAMO_FIRST] = "ㄹㅍ";
+        table['ㅀ' - COMPAT_JAMO_FIRST] = "ㄹㅎ";
+        table['ㅄ' - COMPAT_JAMO_FIRST] = "ㅂㅅ";
+        // 겹모음
+        table['ㅘ' - COMPAT_JAMO_FIRST] = "ㅗㅏ";
+        table['ㅙ' - COMPAT_JAMO_FIRST] = "ㅗㅐ";
+        table['ㅚ' - COMPAT_JAMO_FIRST] = "ㅗㅣ";
+        table['ㅝ' - COMPAT_JAMO_FIRST] = "ㅜㅓ";
+        table['ㅞ' - COMPAT_JAMO_FIRST] = "ㅜㅔ";
+        table['ㅟ' - COMPAT_JAMO_FIRST] = "ㅜㅣ";
+        table['ㅢ' - COMPAT_JAMO_FIRST] = "ㅡㅣ";
+        return table;
+    }
+}
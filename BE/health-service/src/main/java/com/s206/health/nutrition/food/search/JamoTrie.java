@@ -0,0 +1,211 @@
+package com.s206.health.nutrition.food.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// 읽기 전용 trie (키 → int 값 포스팅)
+// 노드 번호를 전위 순서로 매기고 간선/포스팅을 원시 배열(CSR)에 연속 배치
+// - 노드 n의 간선: edgeLabel/edgeTarget[edgeStart[n] .. edgeStart[n + 1])  (문자 순 정렬, 이진 탐색)
+// - 노드 n의 서브트리: 노드 [n, subtreeEnd[n]) → 서브트리 포스팅도 postings[postingStart[n] .. postingStart[subtreeEnd[n]]) 로 연속
+final class JamoTrie {
+
+    private final int[] edgeStart;
+    private final char[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] subtreeEnd;
+    private final int[] postingStart;
+    private final int[] postings;
+
+    private JamoTrie(int[] edgeStart, char[] edgeLabel, int[] edgeTarget, int[] subtreeEnd,
+                     int[] postingStart, int[] postings) {
+        this.edgeStart = edgeStart;
+        this.edgeLabel = edgeLabel;
+        this.edgeTarget = edgeTarget;
+        this.subtreeEnd = subtreeEnd;
+        this.postingStart = postingStart;
+        this.postings = postings;
+    }
+
+    // keys[i] → values[i] (같은 키에 여러 값 가능)
+    static JamoTrie build(String[] keys, int[] values) {
+        Integer[] order = new Integer[keys.length];
+        long totalChars = 0;
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = i;
+            totalChars += keys[i].length();
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+
+        String[] sortedKeys = new String[keys.length];
+        int[] sortedValues = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedValues[i] = values[order[i]];
+        }
+
+        Builder builder = new Builder(sortedKeys, sortedValues, (int) Math.min(totalChars + 1, Integer.MAX_VALUE - 1));
+        builder.buildNode(0, sortedKeys.length, 0);
+        return builder.finish();
+    }
+
+    // prefix로 시작하는 모든 키의 값
+    void collectPrefix(String prefix, IntConsumer sink) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+        if (node >= 0) {
+            collectSubtree(node, sink);
+        }
+    }
+
+    // 편집 거리 maxEdits 이내로 prefix가 일치하는 모든 키의 값 (trie 경로를 따라 Levenshtein 행을 갱신하며 가지치기)
+    void collectFuzzyPrefix(String prefix, int maxEdits, IntConsumer sink) {
+        int[] row = new int[prefix.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        for (int edge = edgeStart[0]; edge < edgeStart[1]; edge++) {
+            visitFuzzy(edgeTarget[edge], edgeLabel[edge], prefix, row, maxEdits, sink);
+        }
+    }
+
+    int nodeCount() {
+        return subtreeEnd.length;
+    }
+
+    int postingCount() {
+        return postings.length;
+    }
+
+    long sizeInBytes() {
+        return 4L * (edgeStart.length + edgeTarget.length + subtreeEnd.length + postingStart.length + postings.length)
+                + 2L * edgeLabel.length;
+    }
+
+    private void visitFuzzy(int node, char label, String prefix, int[] previous, int maxEdits, IntConsumer sink) {
+        int[] row = new int[previous.length];
+        row[0] = previous[0] + 1;
+        int min = row[0];
+        for (int j = 1; j < row.length; j++) {
+            int substitution = previous[j - 1] + (prefix.charAt(j - 1) == label ? 0 : 1);
+            row[j] = Math.min(substitution, Math.min(row[j - 1] + 1, previous[j] + 1));
+            min = Math.min(min, row[j]);
+        }
+
+        // 검색어 전체가 여기까지의 경로와 maxEdits 이내로 일치하면 서브트리 전체가 접두사 일치
+        if (row[row.length - 1] <= maxEdits) {
+            collectSubtree(node, sink);
+            return;
+        }
+        if (min > maxEdits) {
+            return;
+        }
+        for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+            visitFuzzy(edgeTarget[edge], edgeLabel[edge], prefix, row, maxEdits, sink);
+        }
+    }
+
+    private void collectSubtree(int node, IntConsumer sink) {
+        int end = postingStart[subtreeEnd[node]];
+        for (int i = postingStart[node]; i < end; i++) {
+            sink.accept(postings[i]);
+        }
+    }
+
+    private int child(int node, char label) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = edgeLabel[mid];
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return -1;
+    }
+
+    // 정렬된 키 구간을 재귀적으로 나누며 전위 순서로 노드/간선/포스팅 배치
+    private static final class Builder {
+
+        private final String[] keys;
+        private final int[] values;
+
+        private final int[] edgeStart;
+        private final char[] edgeLabel;
+        private final int[] edgeTarget;
+        private final int[] subtreeEnd;
+        private final int[] postingStart;
+        private final int[] postings;
+
+        private int nodeCount;
+        private int edgeCount;
+        private int postingCount;
+
+        private Builder(String[] keys, int[] values, int maxNodes) {
+            this.keys = keys;
+            this.values = values;
+            this.edgeStart = new int[maxNodes + 1];
+            this.edgeLabel = new char[maxNodes];
+            this.edgeTarget = new int[maxNodes];
+            this.subtreeEnd = new int[maxNodes];
+            this.postingStart = new int[maxNodes + 1];
+            this.postings = new int[keys.length];
+        }
+
+        // keys[from, to)는 depth 까지 같은 접두사를 공유
+        private int buildNode(int from, int to, int depth) {
+            int node = nodeCount++;
+            postingStart[node] = postingCount;
+
+            // 이 노드에서 끝나는 키 (정렬 순서상 구간 앞쪽)
+            int index = from;
+            while (index < to && keys[index].length() == depth) {
+                postings[postingCount++] = values[index++];
+            }
+
+            // 자식 간선을 먼저 연속으로 확보 (다음 노드의 간선 시작 = 이 노드 간선 끝)
+            int childFrom = index;
+            int childCount = 0;
+            for (int i = childFrom; i < to; ) {
+                char label = keys[i].charAt(depth);
+                while (i < to && keys[i].charAt(depth) == label) i++;
+                childCount++;
+            }
+            int firstEdge = edgeCount;
+            edgeStart[node] = firstEdge;
+            edgeCount += childCount;
+
+            int edge = firstEdge;
+            for (int i = childFrom; i < to; ) {
+                char label = keys[i].charAt(depth);
+                int groupEnd = i;
+                while (groupEnd < to && keys[groupEnd].charAt(depth) == label) groupEnd++;
+                edgeLabel[edge] = label;
+                edgeTarget[edge] = buildNode(i, groupEnd, depth + 1);
+                edge++;
+                i = groupEnd;
+            }
+
+            subtreeEnd[node] = nodeCount;
+            return node;
+        }
+
+        private JamoTrie finish() {
+            edgeStart[nodeCount] = edgeCount;
+            postingStart[nodeCount] = postingCount;
+            return new JamoTrie(
+                    Arrays.copyOf(edgeStart, nodeCount + 1),
+                    Arrays.copyOf(edgeLabel, edgeCount),
+                    Arrays.copyOf(edgeTarget, edgeCount),
+                    Arrays.copyOf(subtreeEnd, nodeCount),
+                    Arrays.copyOf(postingStart, nodeCount + 1),
+                    postings);
+        }
+    }
+}
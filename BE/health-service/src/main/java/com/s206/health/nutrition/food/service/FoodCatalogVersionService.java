@@ -0,0 +1,39 @@
+package com.s206.health.nutrition.food.service;
+
+import com.s206.health.nutrition.food.entity.FoodCatalogVersion;
+import com.s206.health.nutrition.food.repository.FoodCatalogVersionRepository;
+import com.s206.health.nutrition.food.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 음식 카탈로그 버전 발급/조회 (동기화 ETag 와 클라이언트가 가진 버전의 기준)
+// 수정 시각(updated_at)과 달리 커밋 순서대로 증가하므로, 늦게 커밋된 변경이 이미 내려준 버전보다 앞서는 일이 없음
+@Service
+@RequiredArgsConstructor
+public class FoodCatalogVersionService {
+
+    private final FoodCatalogVersionRepository foodCatalogVersionRepository;
+    private final FoodRepository foodRepository;
+
+    // 카탈로그를 바꾸는 트랜잭션 안에서 호출, 반환값을 바뀐 음식 행의 catalog_version 으로 기록
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next() {
+        if (foodCatalogVersionRepository.increase(FoodCatalogVersion.SINGLETON_ID) == 0) {
+            // 카운터 행이 없으면 기존 음식의 가장 큰 버전에서 이어서 생성
+            foodCatalogVersionRepository.saveAndFlush(FoodCatalogVersion.builder()
+                    .foodCatalogVersionId(FoodCatalogVersion.SINGLETON_ID)
+                    .version(foodRepository.findMaxCatalogVersion() + 1)
+                    .build());
+        }
+        return current();
+    }
+
+    // 커밋된 최신 버전 (이 값 이하의 변경은 모두 커밋되어 조회됨)
+    @Transactional(readOnly = true)
+    public long current() {
+        return foodCatalogVersionRepository.findVersion(FoodCatalogVersion.SINGLETON_ID)
+                .orElseGet(foodRepository::findMaxCatalogVersion);
+    }
+}
@@ -2,6 +2,8 @@ package com.s206.health.nutrition.food.service;
 
 import com.s206.common.exception.types.NotFoundException;
 import com.s206.health.nutrition.favorite.repository.FavoriteFoodRepository;
+import com.s206.health.nutrition.favorite.service.FavoriteFoodIds;
+import com.s206.health.nutrition.favorite.service.FavoriteService;
 import com.s206.health.nutrition.food.dto.response.FoodDetailResponse;
 import com.s206.health.nutrition.food.dto.response.FoodListResponse;
 import com.s206.health.nutrition.food.entity.Food;
@@ -19,12 +21,14 @@ public class FoodService {
 
     private final FoodRepository foodRepository;
     private final FavoriteFoodRepository favoriteFoodRepository;
+    private final FavoriteService favoriteService;
 
     @Transactional(readOnly = true)
     public List<FoodListResponse> getFoodList(Integer userId) {
+        // 즐겨찾기는 한 번만 조회하고 음식마다 집합에서 확인
+        FavoriteFoodIds favoriteFoodIds = favoriteService.getFavoriteFoodIds(userId);
         return foodRepository.findAll().stream()
-                .map(food -> FoodListResponse.toDto(food,
-                        favoriteFoodRepository.existsByUserIdAndFoodFoodId(userId, food.getFoodId())))
+                .map(food -> FoodListResponse.toDto(food, favoriteFoodIds.contains(food.getFoodId())))
                 .collect(Collectors.toList());
     }
 
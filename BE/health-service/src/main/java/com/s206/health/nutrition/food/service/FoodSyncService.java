@@ -0,0 +1,108 @@
+package com.s206.health.nutrition.food.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import com.s206.health.nutrition.food.dto.response.FoodSyncItem;
+import com.s206.health.nutrition.food.dto.response.FoodSyncResponse;
+import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.nutrition.food.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// 클라이언트 로컬 음식 카탈로그 동기화
+// 카탈로그 버전 = FoodCatalogVersion 카운터, 음식을 추가/수정/soft delete 하는 트랜잭션마다 커밋 순서대로 증가
+// (기존 버전은 updated_at 의 epoch millis 였으므로 카운터는 그 최댓값에서 이어서 시작, 기존 클라이언트 버전도 그대로 비교 가능)
+// 처음에는 스냅샷 전체를 받고, 이후에는 가진 버전 이후 변경분만 받음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FoodSyncService {
+
+    // 스냅샷 스트리밍 시 이 건수마다 flush (gzip 압축 단위로 내려가도록)
+    private static final int SNAPSHOT_FLUSH_SIZE = 500;
+
+    private final FoodRepository foodRepository;
+    private final FoodCatalog foodCatalog;
+    private final FoodCatalogVersionService foodCatalogVersionService;
+    private final ObjectMapper objectMapper;
+
+    public long getCurrentVersion() {
+        return foodCatalogVersionService.current();
+    }
+
+    // version 이후 변경분: 살아있는 음식은 foods, soft delete 된 음식은 deletedFoodIds (tombstone)
+    // 응답 버전은 조회 전에 읽은 커밋된 버전 이상이므로, 그 이하의 변경은 모두 이번 응답이나 이전 응답에 포함됨
+    // (조회 사이에 커밋된 변경이 함께 올 수 있고 다음 요청에서 다시 올 수 있으므로 클라이언트는 foodId 기준으로 덮어씀)
+    @Transactional(readOnly = true)
+    public FoodSyncResponse getChangesSince(long version) {
+        if (version <= 0) {
+            throw new BadRequestException("카탈로그 버전이 올바르지 않습니다. 전체 스냅샷부터 받아야 합니다.");
+        }
+
+        long latest = Math.max(version, foodCatalogVersionService.current());
+        List<Food> changed = foodRepository.findAllChangedAfter(version);
+
+        List<FoodSyncItem> foods = new ArrayList<>();
+        List<Integer> deletedFoodIds = new ArrayList<>();
+        for (Food food : changed) {
+            latest = Math.max(latest, food.getCatalogVersion());
+            if (Boolean.TRUE.equals(food.getIsDeleted())) {
+                deletedFoodIds.add(food.getFoodId());
+            } else {
+                foods.add(FoodSyncItem.toDto(food));
+            }
+        }
+
+        log.info("[FOOD_SYNC] 변경분 조회: version={}, 최신 version={}, 변경={}, 삭제={}",
+                version, latest, foods.size(), deletedFoodIds.size());
+
+        return FoodSyncResponse.builder()
+                .version(latest)
+                .foods(foods)
+                .deletedFoodIds(deletedFoodIds)
+                .build();
+    }
+
+    // 전체 스냅샷은 DB 대신 인메모리 카탈로그에서 내려줌
+    // 스냅샷이 최대 갱신 주기만큼 늦을 수 있지만, 클라이언트가 스냅샷 버전부터 변경분을 받으므로 따라잡음
+    public FoodCatalogSnapshot getSnapshot() {
+        return foodCatalog.snapshot();
+    }
+
+    // 스냅샷을 foodId 순 NDJSON(한 줄에 음식 한 건)으로 기록, 삭제된 음식은 제외
+    public void writeSnapshot(FoodCatalogSnapshot snapshot, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        ObjectWriter writer = objectMapper.writerFor(FoodSyncItem.class);
+
+        int written = 0;
+        for (int foodId = 0; foodId <= snapshot.maxFoodId(); foodId++) {
+            int slot = snapshot.indexOf(foodId);
+            if (slot < 0 || snapshot.isDeleted(slot)) continue;
+
+            out.write(writer.writeValueAsBytes(FoodSyncItem.toDto(snapshot, slot)));
+            out.write('\n');
+            if (++written % SNAPSHOT_FLUSH_SIZE == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+
+        log.info("[FOOD_SYNC] 스냅샷 전송 완료: version={}, 음식 수={}, 소요={}ms",
+                snapshot.getCatalogVersion(), written, System.currentTimeMillis() - start);
+    }
+
+    // ETag는 카탈로그 버전만으로 결정 (사용자별 값이 없으므로 모든 사용자가 공유)
+    public static String eTagOf(long version) {
+        return "\"food-" + version + "\"";
+    }
+}
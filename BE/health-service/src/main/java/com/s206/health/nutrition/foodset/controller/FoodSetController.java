@@ -1,10 +1,13 @@
 package com.s206.health.nutrition.foodset.controller;
 
 import com.s206.common.dto.ResponseDto;
+import com.s206.health.nutrition.foodset.dto.request.FoodSetApplyRequest;
 import com.s206.health.nutrition.foodset.dto.request.FoodSetRequest;
 import com.s206.health.nutrition.foodset.dto.response.FoodSetDetailResponse;
 import com.s206.health.nutrition.foodset.dto.response.FoodSetListResponse;
 import com.s206.health.nutrition.foodset.service.FoodSetService;
+import com.s206.health.nutrition.meal.dto.response.MealTimeResponse;
+import com.s206.health.nutrition.meal.service.MealService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -20,6 +23,7 @@ import java.util.List;
 public class FoodSetController {
 
     private final FoodSetService foodSetService;
+    private final MealService mealService;
 
     @PostMapping
     public ResponseEntity<ResponseDto<FoodSetDetailResponse>> createFoodSet(
@@ -43,10 +47,12 @@ public class FoodSetController {
 
     @GetMapping
     public ResponseEntity<ResponseDto<List<FoodSetDetailResponse>>> getAllFoodSetsByUser(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
             @RequestHeader("X-USER-ID") Integer userId
     ) {
         log.info("Getting all food sets for userId={}", userId);
-        List<FoodSetDetailResponse> response = foodSetService.getAllFoodSetsByUser(userId);
+        List<FoodSetDetailResponse> response = foodSetService.getAllFoodSetsByUser(userId, page, size);
         return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "음식 세트 목록 조회 성공", response));
     }
 
@@ -61,6 +67,18 @@ public class FoodSetController {
         return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "음식 세트 수정 성공", response));
     }
 
+    // 세트를 날짜/시간대 식단에 한 번에 추가
+    @PostMapping("/{id}/apply")
+    public ResponseEntity<ResponseDto<MealTimeResponse>> applyFoodSet(
+            @PathVariable("id") Integer foodSetId,
+            @RequestBody FoodSetApplyRequest request,
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        log.info("Applying food set: foodSetId={}, userId={}", foodSetId, userId);
+        MealTimeResponse response = mealService.applyFoodSet(foodSetId, request, userId);
+        return ResponseEntity.ok(ResponseDto.success(HttpStatus.CREATED, "음식 세트 식단 추가 성공", response));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ResponseDto<Void>> deleteFoodSet(
             @PathVariable("id") Integer foodSetId,
@@ -0,0 +1,25 @@
+package com.s206.health.nutrition.foodset.dto.request;
+
+import com.s206.health.nutrition.meal.entity.MealType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 음식 세트를 식단에 추가할 날짜와 시간대
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodSetApplyRequest {
+
+    private LocalDate mealDate;
+
+    private MealType mealType;
+
+    // 없으면 기존 시간대의 식사 시각 유지 (시간대를 새로 만들면 현재 시각)
+    private LocalTime eatingTime;
+}
@@ -1,6 +1,8 @@
 package com.s206.health.nutrition.foodset.dto.response;
 
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
 import com.s206.health.nutrition.foodset.entity.FoodSet;
+import com.s206.health.nutrition.foodset.entity.FoodSetFood;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -58,4 +60,53 @@ public class FoodSetDetailResponse {
                 .totalCalories(totalCalories)
                 .build();
     }
-}
+
+    // 음식 카탈로그 스냅샷 기반 변환 (Food 프록시 초기화 없이 응답 생성)
+    public static FoodSetDetailResponse toDto(FoodSet foodSet, FoodCatalogSnapshot catalog) {
+        List<FoodItem> foodItems = foodSet.getFoodSetFoods().stream()
+                .map(f -> toFoodItem(f, catalog))
+                .toList();
+
+        int totalCalories = foodItems.stream()
+                .mapToInt(item -> (int) (item.getCalorie() * item.getQuantity()))
+                .sum();
+
+        return FoodSetDetailResponse.builder()
+                .foodSetId(foodSet.getFoodSetId())
+                .name(foodSet.getName())
+                .foods(foodItems)
+                .totalCalories(totalCalories)
+                .build();
+    }
+
+    private static FoodItem toFoodItem(FoodSetFood f, FoodCatalogSnapshot catalog) {
+        int slot = catalog.indexOf(f.getFood().getFoodId());
+        if (slot < 0) {
+            return FoodItem.builder()
+                    .foodId(f.getFood().getFoodId())
+                    .foodName(f.getFood().getFoodName())
+                    .quantity(f.getQuantity())
+                    .carbohydrate(f.getFood().getCarbohydrate())
+                    .protein(f.getFood().getProtein())
+                    .fat(f.getFood().getFat())
+                    .sweet(f.getFood().getSweet())
+                    .sodium(f.getFood().getSodium())
+                    .baseAmount(f.getFood().getBaseAmount())
+                    .calorie(f.getFood().getCalorie())
+                    .build();
+        }
+
+        return FoodItem.builder()
+                .foodId(catalog.foodId(slot))
+                .foodName(catalog.foodName(slot))
+                .quantity(f.getQuantity())
+                .carbohydrate(FoodCatalogSnapshot.toDecimal(catalog.carbohydrate(slot)))
+                .protein(FoodCatalogSnapshot.toDecimal(catalog.protein(slot)))
+                .fat(FoodCatalogSnapshot.toDecimal(catalog.fat(slot)))
+                .sweet(FoodCatalogSnapshot.toDecimal(catalog.sugar(slot)))
+                .sodium(FoodCatalogSnapshot.toDecimal(catalog.sodium(slot)))
+                .baseAmount(catalog.baseAmount(slot))
+                .calorie(catalog.calorie(slot))
+                .build();
+    }
+}
\ No newline at end of file
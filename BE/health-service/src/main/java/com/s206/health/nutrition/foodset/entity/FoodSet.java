@@ -14,7 +14,8 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "food_set_tb")
+@Table(name = "food_set_tb",
+        indexes = {@Index(name = "IDX_food_set_user_id", columnList = "user_id, food_set_id")})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
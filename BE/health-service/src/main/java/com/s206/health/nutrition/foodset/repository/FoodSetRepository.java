@@ -1,9 +1,34 @@
 package com.s206.health.nutrition.foodset.repository;
 
 import com.s206.health.nutrition.foodset.entity.FoodSet;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface FoodSetRepository extends JpaRepository<FoodSet, Integer> {
+
+    // 사용자 세트 ID 페이지 (컬렉션 fetch join 은 DB 페이징이 안 되므로 ID 먼저 조회)
+    @Query(value = "SELECT fs.FoodSetId FROM FoodSet fs WHERE fs.userId = :userId ORDER BY fs.FoodSetId DESC",
+            countQuery = "SELECT COUNT(fs) FROM FoodSet fs WHERE fs.userId = :userId")
+    Page<Integer> findIdsByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    // 세트와 세트 음식을 한 번에 조회 (음식 값은 카탈로그 스냅샷에서 채움)
+    @Query("SELECT fs FROM FoodSet fs LEFT JOIN FETCH fs.foodSetFoods WHERE fs.FoodSetId IN :foodSetIds " +
+            "ORDER BY fs.FoodSetId DESC")
+    List<FoodSet> findAllWithFoodsByIdIn(@Param("foodSetIds") Collection<Integer> foodSetIds);
+
+    @Query("SELECT fs FROM FoodSet fs LEFT JOIN FETCH fs.foodSetFoods WHERE fs.FoodSetId = :foodSetId")
+    Optional<FoodSet> findWithFoodsById(@Param("foodSetId") Integer foodSetId);
+
+    // 사용자가 저장한 세트에 들어 있는 음식 ID (중복 제거)
+    @Query("SELECT DISTINCT sf.food.foodId FROM FoodSetFood sf WHERE sf.foodSet.userId = :userId")
+    List<Integer> findFoodIdsByUserId(@Param("userId") Integer userId);
 }
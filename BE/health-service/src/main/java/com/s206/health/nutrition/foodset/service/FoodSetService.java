@@ -3,6 +3,8 @@ package com.s206.health.nutrition.foodset.service;
 import com.s206.common.exception.types.BadRequestException;
 import com.s206.common.exception.types.NotFoundException;
 import com.s206.common.exception.types.UnauthorizedException;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
 import com.s206.health.nutrition.food.entity.Food;
 import com.s206.health.nutrition.food.repository.FoodRepository;
 import com.s206.health.nutrition.foodset.dto.request.FoodSetRequest;
@@ -11,8 +13,10 @@ import com.s206.health.nutrition.foodset.dto.response.FoodSetListResponse;
 import com.s206.health.nutrition.foodset.entity.FoodSet;
 import com.s206.health.nutrition.foodset.entity.FoodSetFood;
 import com.s206.health.nutrition.foodset.repository.FoodSetRepository;
+import com.s206.health.nutrition.recent.service.FoodAffinityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +27,12 @@ import java.util.List;
 @Slf4j
 public class FoodSetService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FoodSetRepository foodSetRepository;
     private final FoodRepository foodRepository;
+    private final FoodCatalog foodCatalog;
+    private final FoodAffinityService foodAffinityService;
 
     @Transactional
     public FoodSetDetailResponse createFoodSet(FoodSetRequest request, Integer userId) {
@@ -37,8 +45,7 @@ public class FoodSetService {
 
         List<FoodSetFood> foodSetFoods = request.getFoods().stream()
                 .map(item -> {
-                    Food food = foodRepository.findById(item.getFoodId())
-                            .orElseThrow(() -> new BadRequestException("유효하지 않은 음식 ID입니다: " + item.getFoodId()));
+                    Food food = resolveFood(item.getFoodId());
 
                     return FoodSetFood.builder()
                             .foodSet(foodSet)
@@ -49,9 +56,10 @@ public class FoodSetService {
 
         foodSet.getFoodSetFoods().addAll(foodSetFoods);
         foodSetRepository.save(foodSet);
+        foodAffinityService.refresh(userId);
 
         log.info("[CREATE] 세트 등록 완료: foodSetId={}", foodSet.getFoodSetId());
-        return FoodSetDetailResponse.toDto(foodSet);
+        return FoodSetDetailResponse.toDto(foodSet, foodCatalog.snapshot());
     }
 
     @Transactional(readOnly = true)
@@ -61,16 +69,26 @@ public class FoodSetService {
         FoodSet foodSet = findOwnedFoodSet(foodSetId, userId);
 
         log.info("[DETAIL] 조회 성공: foodSetId={}, name={}", foodSetId, foodSet.getName());
-        return FoodSetDetailResponse.toDto(foodSet);
+        return FoodSetDetailResponse.toDto(foodSet, foodCatalog.snapshot());
     }
 
+    // 사용자 세트 목록 (최근 등록 순): ID 페이지 조회 → 세트 음식 fetch join 한 번
     @Transactional(readOnly = true)
-    public List<FoodSetDetailResponse> getAllFoodSetsByUser(Integer userId) {
-        log.info("[LIST] userId={} → 음식 세트 목록 조회 요청", userId);
+    public List<FoodSetDetailResponse> getAllFoodSetsByUser(Integer userId, int page, int size) {
+        log.info("[LIST] userId={} → 음식 세트 목록 조회 요청: page={}, size={}", userId, page, size);
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        List<Integer> foodSetIds = foodSetRepository.findIdsByUserId(userId, PageRequest.of(page, size)).getContent();
+        if (foodSetIds.isEmpty()) {
+            return List.of();
+        }
 
-        return foodSetRepository.findAll().stream()
-                .filter(fs -> fs.getUserId().equals(userId))
-                .map(FoodSetDetailResponse::toDto)
+        FoodCatalogSnapshot catalog = foodCatalog.snapshot();
+        return foodSetRepository.findAllWithFoodsByIdIn(foodSetIds).stream()
+                .map(foodSet -> FoodSetDetailResponse.toDto(foodSet, catalog))
                 .toList();
     }
 
@@ -85,8 +103,7 @@ public class FoodSetService {
 
         List<FoodSetFood> newFoods = request.getFoods().stream()
                 .map(item -> {
-                    Food food = foodRepository.findById(item.getFoodId())
-                            .orElseThrow(() -> new BadRequestException("유효하지 않은 음식 ID입니다: " + item.getFoodId()));
+                    Food food = resolveFood(item.getFoodId());
                     return FoodSetFood.builder()
                             .foodSet(foodSet)
                             .food(food)
@@ -96,9 +113,10 @@ public class FoodSetService {
 
         foodSet.getFoodSetFoods().addAll(newFoods);
         foodSetRepository.save(foodSet);
+        foodAffinityService.refresh(userId);
 
         log.info("[UPDATE] 세트 수정 완료: foodSetId={}", foodSetId);
-        return FoodSetDetailResponse.toDto(foodSet);
+        return FoodSetDetailResponse.toDto(foodSet, foodCatalog.snapshot());
     }
 
     @Transactional
@@ -107,12 +125,21 @@ public class FoodSetService {
 
         FoodSet foodSet = findOwnedFoodSet(foodSetId, userId);
         foodSetRepository.delete(foodSet);
+        foodAffinityService.refresh(userId);
 
         log.info("[DELETE] 삭제 완료: foodSetId={}", foodSetId);
     }
 
+    // 음식 ID를 카탈로그 스냅샷으로 검증하고 조회 없이 프록시 참조 반환
+    private Food resolveFood(Integer foodId) {
+        if (!foodCatalog.contains(foodId)) {
+            throw new BadRequestException("유효하지 않은 음식 ID입니다: " + foodId);
+        }
+        return foodRepository.getReferenceById(foodId);
+    }
+
     private FoodSet findOwnedFoodSet(Integer foodSetId, Integer userId) {
-        FoodSet foodSet = foodSetRepository.findById(foodSetId)
+        FoodSet foodSet = foodSetRepository.findWithFoodsById(foodSetId)
                 .orElseThrow(() -> new NotFoundException("음식 세트를 찾을 수 없습니다."));
 
         if (!foodSet.getUserId().equals(userId)) {
@@ -130,6 +130,18 @@ public class MealController {
         return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "날짜별 식단 조회 성공", response));
     }
 
+    // 7-1. 기간 식단 조회 API (캘린더/주간 화면)
+    @GetMapping("/range")
+    public ResponseEntity<ResponseDto<MealRangeResponse>> getMealsByRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        log.info("Getting meals for range: startDate={}, endDate={}, userId={}", startDate, endDate, userId);
+        MealRangeResponse response = mealService.getMealsByRange(userId, startDate, endDate);
+        return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "기간 식단 조회 성공", response));
+    }
+
     // 8. 날짜별 식단 삭제 API
     @DeleteMapping("/date/{date}")
     public ResponseEntity<ResponseDto<Void>> deleteMealByDate(
@@ -191,10 +203,11 @@ public class MealController {
 
     @GetMapping("/recent-foods")
     public ResponseEntity<ResponseDto<List<FoodDetailResponse>>> getRecentFoods(
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
             @RequestHeader("X-USER-ID") Integer userId
     ) {
-        log.info("Getting recent foods: userId={}, limit={}", userId, 10);
-        List<FoodDetailResponse> response = mealService.getRecentFoods(userId, 10);
+        log.info("Getting recent foods: userId={}, limit={}", userId, limit);
+        List<FoodDetailResponse> response = mealService.getRecentFoods(userId, limit);
         return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "최근 먹은 음식 조회 성공", response));
     }
 }
\ No newline at end of file
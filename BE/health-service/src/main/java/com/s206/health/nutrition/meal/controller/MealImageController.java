@@ -1,6 +1,13 @@
 package com.s206.health.nutrition.meal.controller;
 
 import com.s206.common.dto.ResponseDto;
+import com.s206.health.config.AdminGuard;
+import com.s206.health.nutrition.meal.dto.request.MealImagePresignRequest;
+import com.s206.health.nutrition.meal.dto.response.MealImagePresignResponse;
+import com.s206.health.nutrition.meal.scheduler.MealImageSweepScheduler;
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import com.s206.health.nutrition.meal.service.MealImageDerivativeService;
+import com.s206.health.nutrition.meal.service.MealImageDirectUploadService;
 import com.s206.health.nutrition.meal.service.MealImageService;
 import com.s206.health.nutrition.meal.service.MealService;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +28,11 @@ import java.util.Map;
 public class MealImageController {
 
     private final MealImageService mealImageService;
+    private final MealImageDerivativeService mealImageDerivativeService;
+    private final MealImageDirectUploadService mealImageDirectUploadService;
     private final MealService mealService;
+    private final MealImageSweepScheduler mealImageSweepScheduler;
+    private final AdminGuard adminGuard;
 
     /**
      * 식단 이미지 업로드 API
@@ -39,10 +50,49 @@ public class MealImageController {
         // 접근 URL 생성
         String imageUrl = mealImageService.getMealImageUrl(objectName);
 
-        // 결과 반환
+        // 결과 반환 (썸네일/중간 크기는 비동기 생성)
         Map<String, String> result = new HashMap<>();
         result.put("objectName", objectName);
         result.put("imageUrl", imageUrl);
+        boolean derivativesReady = mealImageService.isDerivativesReady(objectName);
+        result.put("thumbnailUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, derivativesReady));
+        result.put("mediumUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.MEDIUM, derivativesReady));
+
+        return ResponseEntity.ok(ResponseDto.success(
+                HttpStatus.CREATED,
+                "식단 이미지 업로드 성공",
+                result));
+    }
+
+    /**
+     * 식단 이미지 직접 업로드 URL 발급 API (presigned PUT)
+     */
+    @PostMapping("/presigned")
+    public ResponseEntity<ResponseDto<MealImagePresignResponse>> issueUploadUrl(
+            @RequestBody MealImagePresignRequest request,
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        log.info("Issuing presigned upload URL: userId={}, request={}", userId, request);
+
+        MealImagePresignResponse response = mealImageDirectUploadService.issueUploadUrl(request, userId);
+
+        return ResponseEntity.ok(ResponseDto.success(
+                HttpStatus.OK,
+                "이미지 업로드 URL 발급 성공",
+                response));
+    }
+
+    /**
+     * 식단 이미지 직접 업로드 완료 API (HEAD 확인 후 연결 가능 상태로 등록)
+     */
+    @PostMapping("/presigned/complete")
+    public ResponseEntity<ResponseDto<Map<String, String>>> completeUpload(
+            @RequestParam("objectName") String objectName,
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        log.info("Completing presigned upload: objectName={}, userId={}", objectName, userId);
+
+        Map<String, String> result = mealImageDirectUploadService.completeUpload(objectName, userId);
 
         return ResponseEntity.ok(ResponseDto.success(
                 HttpStatus.CREATED,
@@ -89,6 +139,42 @@ public class MealImageController {
                 result));
     }
 
+    /**
+     * 파생본(썸네일/중간 크기)이 없는 기존 이미지 백필 API (관리자 전용, 진행 중이면 409)
+     */
+    @PostMapping("/derivatives/backfill")
+    public ResponseEntity<ResponseDto<Integer>> backfillDerivatives(
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        adminGuard.check(userId);
+        log.info("Backfilling meal image derivatives: userId={}", userId);
+
+        int scheduled = mealImageDerivativeService.backfill();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ResponseDto.success(
+                HttpStatus.ACCEPTED,
+                "이미지 파생본 생성 예약 완료",
+                scheduled));
+    }
+
+    /**
+     * 참조되지 않는 이미지 정리 API (관리자 전용, 비동기 실행, 진행 중이면 409)
+     */
+    @PostMapping("/orphans/sweep")
+    public ResponseEntity<ResponseDto<Void>> sweepOrphanImages(
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        adminGuard.check(userId);
+        log.info("Sweeping orphan meal images: userId={}", userId);
+
+        mealImageSweepScheduler.startSweep();
+        mealImageSweepScheduler.sweepAsync();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ResponseDto.success(
+                HttpStatus.ACCEPTED,
+                "고아 이미지 정리 시작"));
+    }
+
     /**
      * 이미지 URL 조회 API
      */
@@ -105,6 +191,9 @@ public class MealImageController {
         // 결과 반환
         Map<String, String> result = new HashMap<>();
         result.put("imageUrl", imageUrl);
+        boolean derivativesReady = mealImageService.isDerivativesReady(objectName);
+        result.put("thumbnailUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, derivativesReady));
+        result.put("mediumUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.MEDIUM, derivativesReady));
 
         return ResponseEntity.ok(ResponseDto.success(
                 HttpStatus.OK,
@@ -0,0 +1,20 @@
+package com.s206.health.nutrition.meal.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MealImagePresignRequest {
+
+    private String contentType;
+
+    // 업로드할 파일 크기 (byte)
+    private Long size;
+}
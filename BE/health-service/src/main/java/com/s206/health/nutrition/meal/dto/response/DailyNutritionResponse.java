@@ -1,9 +1,11 @@
 package com.s206.health.nutrition.meal.dto.response;
 
+import com.s206.health.nutrition.rollup.entity.UserDailyNutrition;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
 @Getter
@@ -23,4 +25,28 @@ public class DailyNutritionResponse {
     private BigDecimal totalSugar;
 
     private BigDecimal totalSodium;
-}
\ No newline at end of file
+
+    public static DailyNutritionResponse toDto(UserDailyNutrition rollup) {
+        return DailyNutritionResponse.builder()
+                .date(rollup.getNutritionDate())
+                .totalCalorie(rollup.getTotalCalorie().intValue())
+                .totalCarbohydrate(rollup.getTotalCarbohydrate().setScale(2, RoundingMode.HALF_UP))
+                .totalProtein(rollup.getTotalProtein().setScale(2, RoundingMode.HALF_UP))
+                .totalFat(rollup.getTotalFat().setScale(2, RoundingMode.HALF_UP))
+                .totalSugar(rollup.getTotalSugar().setScale(2, RoundingMode.HALF_UP))
+                .totalSodium(rollup.getTotalSodium().setScale(2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    public static DailyNutritionResponse empty(LocalDate date) {
+        return DailyNutritionResponse.builder()
+                .date(date)
+                .totalCalorie(0)
+                .totalCarbohydrate(BigDecimal.ZERO)
+                .totalProtein(BigDecimal.ZERO)
+                .totalFat(BigDecimal.ZERO)
+                .totalSugar(BigDecimal.ZERO)
+                .totalSodium(BigDecimal.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.s206.health.nutrition.meal.dto.response;
+
+import com.s206.health.nutrition.meal.entity.MealType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 날짜별 식단 조회용 평탄화 행 (meal_tb ⟕ meal_time_tb ⟕ meal_food_tb ⟕ food_information_tb)
+// 시간대/음식이 없는 경우 해당 컬럼은 null, 이미지가 참조 테이블에 없으면 파생본 저장 여부도 null
+public interface MealDayRowProjection {
+
+    Integer getMealId();
+
+    LocalDate getMealDate();
+
+    Boolean getIsMeal();
+
+    LocalDateTime getMealCreatedAt();
+
+    LocalDateTime getMealUpdatedAt();
+
+    Integer getMealTimeId();
+
+    MealType getMealType();
+
+    LocalTime getEatingTime();
+
+    String getMealTimeImageUrl();
+
+    Boolean getMealTimeImageDerivativesReady();
+
+    LocalDateTime getMealTimeCreatedAt();
+
+    LocalDateTime getMealTimeUpdatedAt();
+
+    Integer getMealFoodId();
+
+    Float getQuantity();
+
+    String getFoodImageUrl();
+
+    Boolean getFoodImageDerivativesReady();
+
+    Integer getFoodId();
+
+    String getFoodName();
+
+    Integer getCalorie();
+
+    BigDecimal getCarbohydrate();
+
+    BigDecimal getProtein();
+
+    BigDecimal getFat();
+
+    BigDecimal getSugar();
+
+    BigDecimal getSodium();
+
+    BigDecimal getSaturatedFat();
+
+    BigDecimal getTransFat();
+
+    BigDecimal getCholesterol();
+}
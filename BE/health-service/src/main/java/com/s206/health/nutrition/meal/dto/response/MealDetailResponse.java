@@ -1,5 +1,6 @@
 package com.s206.health.nutrition.meal.dto.response;
 
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
 import com.s206.health.nutrition.meal.entity.Meal;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,4 +39,18 @@ public class MealDetailResponse {
                 .updatedAt(meal.getUpdatedAt())
                 .build();
     }
+
+    public static MealDetailResponse toDto(Meal meal, FoodCatalogSnapshot catalog) {
+        return MealDetailResponse.builder()
+                .mealId(meal.getMealId())
+                .mealDate(meal.getMealDate())
+                .isMeal(meal.getIsMeal())
+                .mealTimes(meal.getMealTimes().stream()
+                        .filter(mealTime -> !mealTime.getIsDeleted())
+                        .map(mealTime -> MealTimeResponse.toDto(mealTime, catalog))
+                        .collect(Collectors.toList()))
+                .createdAt(meal.getCreatedAt())
+                .updatedAt(meal.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.s206.health.nutrition.meal.dto.response;
 
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import com.s206.health.nutrition.food.catalog.NutrientVector;
 import com.s206.health.nutrition.food.entity.Food;
 import com.s206.health.nutrition.meal.entity.MealFood;
 import lombok.Builder;
@@ -28,6 +30,8 @@ public class MealFoodResponse {
 
     private Float quantity;
     private String foodImageUrl;
+    private String foodImageThumbnailUrl;
+    private String foodImageMediumUrl;
 
     // 해당 음식의 수량을 고려한 총 영양소 정보
     private Integer totalCalorie;
@@ -41,15 +45,7 @@ public class MealFoodResponse {
         Food food = mealFood.getFood();
         Float quantity = mealFood.getQuantity();
 
-        // 수량을 고려한 총 영양소 계산
-        Integer totalCalorie = (int) (food.getCalorie() * quantity);
-        BigDecimal totalCarb = food.getCarbohydrate().multiply(BigDecimal.valueOf(quantity));
-        BigDecimal totalProtein = food.getProtein().multiply(BigDecimal.valueOf(quantity));
-        BigDecimal totalFat = food.getFat().multiply(BigDecimal.valueOf(quantity));
-        BigDecimal totalSugar = food.getSweet().multiply(BigDecimal.valueOf(quantity));
-        BigDecimal totalSodium = food.getSodium().multiply(BigDecimal.valueOf(quantity));
-
-        return MealFoodResponse.builder()
+        return totals(NutrientVector.of(food, quantity))
                 .mealFoodId(mealFood.getMealFoodId())
                 .foodId(food.getFoodId())
                 .foodName(food.getFoodName())
@@ -61,12 +57,59 @@ public class MealFoodResponse {
                 .sodium(food.getSodium())
                 .quantity(quantity)
                 .foodImageUrl(mealFood.getFoodImageUrl())
-                .totalCalorie(totalCalorie)
-                .totalCarbohydrate(totalCarb)
-                .totalProtein(totalProtein)
-                .totalFat(totalFat)
-                .totalSugar(totalSugar)
-                .totalSodium(totalSodium)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 음식 카탈로그 스냅샷 기반 변환 (Food 프록시 초기화 없이 응답 생성)
+    public static MealFoodResponse toDto(MealFood mealFood, FoodCatalogSnapshot catalog) {
+        int slot = catalog.indexOf(mealFood.getFood().getFoodId());
+        if (slot < 0) {
+            return toDto(mealFood);
+        }
+
+        Float quantity = mealFood.getQuantity();
+
+        return totals(NutrientVector.of(catalog, slot, quantity))
+                .mealFoodId(mealFood.getMealFoodId())
+                .foodId(catalog.foodId(slot))
+                .foodName(catalog.foodName(slot))
+                .calorie(catalog.calorie(slot))
+                .carbohydrate(FoodCatalogSnapshot.toDecimal(catalog.carbohydrate(slot)))
+                .protein(FoodCatalogSnapshot.toDecimal(catalog.protein(slot)))
+                .fat(FoodCatalogSnapshot.toDecimal(catalog.fat(slot)))
+                .sugar(FoodCatalogSnapshot.toDecimal(catalog.sugar(slot)))
+                .sodium(FoodCatalogSnapshot.toDecimal(catalog.sodium(slot)))
+                .quantity(quantity)
+                .foodImageUrl(mealFood.getFoodImageUrl())
+                .build();
+    }
+
+    // 날짜별 식단 평탄화 행 기반 변환 (Food 엔티티 로딩 없이 응답 생성)
+    // nutrients: 이 행의 수량 반영 영양소 (호출 측에서 합계 누적에 함께 사용)
+    public static MealFoodResponse toDto(MealDayRowProjection row, NutrientVector nutrients) {
+        return totals(nutrients)
+                .mealFoodId(row.getMealFoodId())
+                .foodId(row.getFoodId())
+                .foodName(row.getFoodName())
+                .calorie(row.getCalorie())
+                .carbohydrate(row.getCarbohydrate())
+                .protein(row.getProtein())
+                .fat(row.getFat())
+                .sugar(row.getSugar())
+                .sodium(row.getSodium())
+                .quantity(row.getQuantity())
+                .foodImageUrl(row.getFoodImageUrl())
+                .build();
+    }
+
+    // 수량 반영 영양소 → 응답 필드
+    private static MealFoodResponseBuilder totals(NutrientVector nutrients) {
+        return MealFoodResponse.builder()
+                .totalCalorie(nutrients.intValue(NutrientVector.CALORIE))
+                .totalCarbohydrate(nutrients.decimal(NutrientVector.CARBOHYDRATE))
+                .totalProtein(nutrients.decimal(NutrientVector.PROTEIN))
+                .totalFat(nutrients.decimal(NutrientVector.FAT))
+                .totalSugar(nutrients.decimal(NutrientVector.SUGAR))
+                .totalSodium(nutrients.decimal(NutrientVector.SODIUM));
+    }
+}
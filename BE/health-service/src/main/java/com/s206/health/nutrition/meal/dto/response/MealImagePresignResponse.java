@@ -0,0 +1,24 @@
+package com.s206.health.nutrition.meal.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class MealImagePresignResponse {
+
+    private String objectName;
+
+    // MinIO에 직접 PUT 할 URL (Content-Type 헤더는 contentType 값과 같아야 함)
+    private String uploadUrl;
+
+    private String method;
+
+    private String contentType;
+
+    private Long maxSize;
+
+    private LocalDateTime expiresAt;
+}
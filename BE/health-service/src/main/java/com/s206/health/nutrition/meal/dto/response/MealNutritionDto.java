@@ -1,5 +1,6 @@
 package com.s206.health.nutrition.meal.dto.response;
 
+import com.s206.health.nutrition.food.catalog.NutrientVector;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,4 +15,21 @@ public class MealNutritionDto {
     private BigDecimal totalFat;
     private BigDecimal totalSugar;
     private BigDecimal totalSodium;
-}
\ No newline at end of file
+    private BigDecimal totalSaturatedFat;
+    private BigDecimal totalTransFat;
+    private BigDecimal totalCholesterol;
+
+    public static MealNutritionDto toDto(NutrientVector nutrients) {
+        return MealNutritionDto.builder()
+                .totalCalorie(nutrients.intValue(NutrientVector.CALORIE))
+                .totalCarbohydrate(nutrients.decimal(NutrientVector.CARBOHYDRATE))
+                .totalProtein(nutrients.decimal(NutrientVector.PROTEIN))
+                .totalFat(nutrients.decimal(NutrientVector.FAT))
+                .totalSugar(nutrients.decimal(NutrientVector.SUGAR))
+                .totalSodium(nutrients.decimal(NutrientVector.SODIUM))
+                .totalSaturatedFat(nutrients.decimal(NutrientVector.SATURATED_FAT))
+                .totalTransFat(nutrients.decimal(NutrientVector.TRANS_FAT))
+                .totalCholesterol(nutrients.decimal(NutrientVector.CHOLESTEROL))
+                .build();
+    }
+}
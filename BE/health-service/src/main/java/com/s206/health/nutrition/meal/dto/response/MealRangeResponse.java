@@ -0,0 +1,18 @@
+package com.s206.health.nutrition.meal.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class MealRangeResponse {
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private List<MealDailyResponse> meals;
+}
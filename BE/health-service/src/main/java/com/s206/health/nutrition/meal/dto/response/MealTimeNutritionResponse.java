@@ -17,6 +17,8 @@ public class MealTimeNutritionResponse {
     private List<MealFoodResponse> foods;
     private MealNutritionDto nutrition;
     private String mealTimeImageUrl;
+    private String mealTimeImageThumbnailUrl;
+    private String mealTimeImageMediumUrl;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -1,5 +1,6 @@
 package com.s206.health.nutrition.meal.dto.response;
 
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
 import com.s206.health.nutrition.meal.entity.MealTime;
 import com.s206.health.nutrition.meal.entity.MealType;
 import lombok.Builder;
@@ -30,6 +31,10 @@ public class MealTimeResponse {
 
     private String mealTimeImageUrl;
 
+    private String mealTimeImageThumbnailUrl;
+
+    private String mealTimeImageMediumUrl;
+
     public static MealTimeResponse toDto(MealTime mealTime) {
         return MealTimeResponse.builder()
                 .mealTimeId(mealTime.getMealTimeId())
@@ -43,4 +48,18 @@ public class MealTimeResponse {
                 .updatedAt(mealTime.getUpdatedAt())
                 .build();
     }
+
+    public static MealTimeResponse toDto(MealTime mealTime, FoodCatalogSnapshot catalog) {
+        return MealTimeResponse.builder()
+                .mealTimeId(mealTime.getMealTimeId())
+                .mealType(mealTime.getMealType())
+                .eatingTime(mealTime.getEatingTime())
+                .mealTimeImageUrl(mealTime.getMealTimeImageUrl())
+                .foods(mealTime.getMealFoods().stream()
+                        .map(mealFood -> MealFoodResponse.toDto(mealFood, catalog))
+                        .collect(Collectors.toList()))
+                .createdAt(mealTime.getCreatedAt())
+                .updatedAt(mealTime.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
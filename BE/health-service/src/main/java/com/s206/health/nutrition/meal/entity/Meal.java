@@ -1,5 +1,6 @@
 package com.s206.health.nutrition.meal.entity;
 
+import com.s206.health.persistence.id.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// 삭제되지 않은 식단은 사용자/날짜당 하나 (UK_meal_user_date_active, 가상 컬럼 active_key 포함 - 18번 마이그레이션)
 @Entity
 @Getter
 @Table(name = "meal_tb")
@@ -22,7 +24,10 @@ import java.util.List;
 public class Meal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "meal_id")
+    @TableGenerator(name = "meal_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.MEAL, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Integer mealId;
 
     @Column(nullable = false)
@@ -1,6 +1,7 @@
 package com.s206.health.nutrition.meal.entity;
 
 import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.persistence.id.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +17,10 @@ import lombok.NoArgsConstructor;
 public class MealFood {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "meal_food_id")
+    @TableGenerator(name = "meal_food_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.MEAL_FOOD, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Integer mealFoodId;
 
     @ManyToOne(fetch = FetchType.LAZY)
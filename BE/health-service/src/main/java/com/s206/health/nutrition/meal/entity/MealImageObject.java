@@ -0,0 +1,69 @@
+package com.s206.health.nutrition.meal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// 식단 이미지 객체 (내용 해시 기반 저장, 참조 수 관리)
+// 같은 내용의 사진은 MinIO에 한 번만 저장하고, 참조가 모두 사라졌을 때만 객체를 삭제
+@Entity
+@Getter
+@Table(name = "meal_image_object_tb",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"content_hash"}),
+                @UniqueConstraint(columnNames = {"object_name"})
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealImageObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer mealImageObjectId;
+
+    // SHA-256 (hex), 서버를 거치지 않은 직접 업로드는 내용을 읽지 않으므로 null
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "object_name", nullable = false, length = 250)
+    private String objectName;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    // 썸네일/중간 크기 파생본이 모두 저장되었는지 (저장 전에는 파생본 URL 대신 원본 URL 응답)
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean derivativesReady = false;
+
+    @CreationTimestamp
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void increaseRefCount() {
+        this.refCount++;
+    }
+
+    public void decreaseRefCount() {
+        if (this.refCount > 0) {
+            this.refCount--;
+        }
+    }
+}
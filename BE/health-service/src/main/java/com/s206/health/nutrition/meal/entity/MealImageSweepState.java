@@ -0,0 +1,52 @@
+package com.s206.health.nutrition.meal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// 고아 이미지 정리 진행 상태 (단일 행)
+// 버킷 목록을 어디까지 훑었는지 저장해 두고 다음 실행에서 이어서 진행
+@Entity
+@Getter
+@Table(name = "meal_image_sweep_state_tb")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealImageSweepState {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer mealImageSweepStateId;
+
+    // 마지막으로 처리한 objectName (null이면 처음부터)
+    @Column(length = 250)
+    private String cursorKey;
+
+    // 여러 인스턴스 중 한 곳만 실행하기 위한 점유 만료 시각
+    private LocalDateTime lockedUntil;
+
+    private LocalDateTime lastCompletedAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public void updateCursor(String cursorKey) {
+        this.cursorKey = cursorKey;
+    }
+
+    // 목록 끝까지 훑었으면 처음부터 다시
+    public void complete(LocalDateTime completedAt) {
+        this.cursorKey = null;
+        this.lastCompletedAt = completedAt;
+    }
+
+    public void unlock() {
+        this.lockedUntil = null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.s206.health.nutrition.meal.entity;
 
+import com.s206.health.persistence.id.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,7 +23,10 @@ import java.util.List;
 public class MealTime {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "meal_time_id")
+    @TableGenerator(name = "meal_time_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.MEAL_TIME, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Integer mealTimeId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,25 +1,46 @@
 package com.s206.health.nutrition.meal.repository;
 
-import com.s206.health.nutrition.food.entity.Food;
 import com.s206.health.nutrition.meal.entity.MealFood;
+import com.s206.health.nutrition.recent.dto.response.FoodFrequencyProjection;
+import com.s206.health.nutrition.recent.dto.response.RecentFoodProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface MealFoodRepository extends JpaRepository<MealFood, Integer> {
 
-    @Query(value = "SELECT f.* FROM food_information_tb f " +
-            "JOIN (SELECT mf.food_id, MAX(m.meal_date) as latest_date, MAX(mt.eating_time) as latest_time " +
+    // 최근 먹은 음식 재구축용: 음식별 마지막으로 먹은 시각(식단 날짜 + 식사 시각) 기준 최근 limit 개
+    @Query(value = "SELECT mf.food_id AS foodId, MAX(TIMESTAMP(m.meal_date, mt.eating_time)) AS lastEatenAt " +
             "FROM meal_food_tb mf " +
             "JOIN meal_time_tb mt ON mf.meal_time_id = mt.meal_time_id " +
             "JOIN meal_tb m ON mt.meal_id = m.meal_id " +
             "WHERE m.user_id = :userId AND m.is_deleted = 0 AND mt.is_deleted = 0 " +
             "GROUP BY mf.food_id " +
-            "ORDER BY latest_date DESC, latest_time DESC " +
-            "LIMIT :limit) latest_foods " +
-            "ON f.food_id = latest_foods.food_id",
+            "ORDER BY lastEatenAt DESC " +
+            "LIMIT :limit",
             nativeQuery = true)
-    List<Food> findDistinctRecentFoodsByUserId(@Param("userId") Integer userId, @Param("limit") int limit);
-}
\ No newline at end of file
+    List<RecentFoodProjection> findRecentFoodsByUserId(@Param("userId") Integer userId, @Param("limit") int limit);
+
+    // 음식 선호도 계산용: since 이후 식단에서 음식별 섭취 횟수 상위 limit 개
+    @Query(value = "SELECT mf.food_id AS foodId, COUNT(*) AS eatCount " +
+            "FROM meal_food_tb mf " +
+            "JOIN meal_time_tb mt ON mf.meal_time_id = mt.meal_time_id " +
+            "JOIN meal_tb m ON mt.meal_id = m.meal_id " +
+            "WHERE m.user_id = :userId AND m.meal_date >= :since AND m.is_deleted = 0 AND mt.is_deleted = 0 " +
+            "GROUP BY mf.food_id " +
+            "ORDER BY eatCount DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<FoodFrequencyProjection> findFoodFrequenciesByUserId(@Param("userId") Integer userId,
+                                                             @Param("since") LocalDate since,
+                                                             @Param("limit") int limit);
+
+    // 고아 이미지 정리: 주어진 이미지 키 중 살아 있는 식단 음식이 참조하는 것만 조회 (배치 단위)
+    @Query("SELECT DISTINCT mf.foodImageUrl FROM MealFood mf JOIN mf.mealTime mt JOIN mt.meal m " +
+            "WHERE mf.foodImageUrl IN :imageUrls AND mt.isDeleted = false AND m.isDeleted = false")
+    List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+}
@@ -0,0 +1,54 @@
+package com.s206.health.nutrition.meal.repository;
+
+import com.s206.health.nutrition.meal.entity.MealImageObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MealImageObjectRepository extends JpaRepository<MealImageObject, Integer> {
+
+    // 내용 해시 기준 참조 획득 단일 문장 (UK_meal_image_object_content_hash)
+    // 없으면 참조 1로 생성하고, 있으면 참조 수만 증가 (잠금 조회 없이 동시 첫 업로드도 한 행으로 합쳐짐)
+    @Modifying
+    @Query(value = "INSERT INTO meal_image_object_tb " +
+            "(content_hash, object_name, size, content_type, ref_count, derivatives_ready, created_at, updated_at) " +
+            "VALUES (:contentHash, :objectName, :size, :contentType, 1, FALSE, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = :now",
+            nativeQuery = true)
+    int upsertByContentHash(@Param("contentHash") String contentHash,
+                            @Param("objectName") String objectName,
+                            @Param("size") long size,
+                            @Param("contentType") String contentType,
+                            @Param("now") LocalDateTime now);
+
+    Optional<MealImageObject> findByContentHash(String contentHash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM MealImageObject o WHERE o.objectName = :objectName")
+    Optional<MealImageObject> findByObjectNameForUpdate(@Param("objectName") String objectName);
+
+    boolean existsByObjectName(String objectName);
+
+    // 파생본 저장 완료 표시 (참조 테이블에 없는 기존 업로드는 갱신되지 않아 계속 원본 URL 사용)
+    @Modifying
+    @Query("UPDATE MealImageObject o SET o.derivativesReady = true " +
+            "WHERE o.objectName IN :objectNames AND o.derivativesReady = false")
+    int markDerivativesReady(@Param("objectNames") Collection<String> objectNames);
+
+    @Query("SELECT o.objectName FROM MealImageObject o " +
+            "WHERE o.objectName IN :objectNames AND o.derivativesReady = true")
+    List<String> findDerivativesReadyObjectNames(@Param("objectNames") Collection<String> objectNames);
+
+    // 고아 이미지 정리 중 같은 내용의 업로드가 참조를 얻지 못하도록 배치 단위로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM MealImageObject o WHERE o.objectName IN :objectNames")
+    List<MealImageObject> findAllByObjectNameInForUpdate(@Param("objectNames") Collection<String> objectNames);
+}
@@ -1,87 +1,104 @@
 package com.s206.health.nutrition.meal.repository;
 
+import com.s206.health.nutrition.meal.dto.response.MealDayRowProjection;
 import com.s206.health.nutrition.meal.entity.Meal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface MealRepository extends JpaRepository<Meal, Integer> {
 
+    // 날짜별/기간 식단 조회 공통 SELECT (meal_tb ⟕ meal_time_tb ⟕ meal_food_tb ⟕ food_information_tb)
+    // 이미지별 파생본 저장 여부는 meal_image_object_tb 를 objectName 으로 붙여 같은 문장에서 조회
+    String MEAL_DAY_ROW_SELECT = "SELECT m.mealId AS mealId, m.mealDate AS mealDate, m.isMeal AS isMeal, " +
+            "m.createdAt AS mealCreatedAt, m.updatedAt AS mealUpdatedAt, " +
+            "mt.mealTimeId AS mealTimeId, mt.mealType AS mealType, mt.eatingTime AS eatingTime, " +
+            "mt.mealTimeImageUrl AS mealTimeImageUrl, mti.derivativesReady AS mealTimeImageDerivativesReady, " +
+            "mt.createdAt AS mealTimeCreatedAt, mt.updatedAt AS mealTimeUpdatedAt, " +
+            "mf.mealFoodId AS mealFoodId, mf.quantity AS quantity, mf.foodImageUrl AS foodImageUrl, " +
+            "mfi.derivativesReady AS foodImageDerivativesReady, " +
+            "f.foodId AS foodId, f.foodName AS foodName, f.calorie AS calorie, f.carbohydrate AS carbohydrate, " +
+            "f.protein AS protein, f.fat AS fat, f.sweet AS sugar, f.sodium AS sodium, " +
+            "f.saturatedFat AS saturatedFat, f.transFat AS transFat, f.cholesterol AS cholesterol " +
+            "FROM Meal m " +
+            "LEFT JOIN m.mealTimes mt ON mt.isDeleted = false " +
+            "LEFT JOIN mt.mealFoods mf " +
+            "LEFT JOIN mf.food f " +
+            "LEFT JOIN MealImageObject mti ON mti.objectName = mt.mealTimeImageUrl " +
+            "LEFT JOIN MealImageObject mfi ON mfi.objectName = mf.foodImageUrl ";
+
     List<Meal> findByUserIdAndMealDate(Integer userId, LocalDate mealDate);
 
     List<Meal> findByUserIdAndMealDateBetween(Integer userId, LocalDate startDate, LocalDate endDate);
 
     List<Meal> findByUserIdAndMealDateAndIsDeletedFalse(Integer userId, LocalDate mealDate);
 
-    @Query("SELECT " +
-            "COALESCE(SUM(f.calorie * mf.quantity), 0), " +
+    // 날짜별 식단 단일 문장 upsert (UK_meal_user_date_active: 삭제되지 않은 식단은 사용자/날짜당 하나)
+    // 없으면 mealId 로 새 행을 만들고, 있으면 isMeal(전달된 경우)과 수정 시각만 갱신
+    // 같은 날짜 동시 요청은 유니크 키에서 한 행으로 합쳐지고, 이미 있는 행은 트랜잭션 끝까지 잠김
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO meal_tb (meal_id, user_id, meal_date, is_meal, created_at, updated_at, is_deleted) " +
+            "VALUES (:mealId, :userId, :mealDate, COALESCE(:isMeal, 1), :now, :now, 0) " +
+            "ON DUPLICATE KEY UPDATE is_meal = COALESCE(:isMeal, is_meal), updated_at = :now",
+            nativeQuery = true)
+    int upsertActiveMeal(@Param("mealId") Integer mealId,
+                         @Param("userId") Integer userId,
+                         @Param("mealDate") LocalDate mealDate,
+                         @Param("isMeal") Boolean isMeal,
+                         @Param("now") LocalDateTime now);
+
+    // 날짜별 식단 단건 조회 (시간대/음식/음식 정보를 한 번에 평탄화하여 조회)
+    @Query(MEAL_DAY_ROW_SELECT +
+            "WHERE m.userId = :userId AND m.mealDate = :mealDate AND m.isDeleted = false " +
+            "ORDER BY m.mealId, mt.mealTimeId, mf.mealFoodId")
+    List<MealDayRowProjection> findMealDayRows(@Param("userId") Integer userId,
+                                               @Param("mealDate") LocalDate mealDate);
+
+    // 기간 식단 조회 (캘린더/주간 화면용, 날짜별 조회와 같은 평탄화 행)
+    @Query(MEAL_DAY_ROW_SELECT +
+            "WHERE m.userId = :userId AND m.mealDate BETWEEN :startDate AND :endDate AND m.isDeleted = false " +
+            "ORDER BY m.mealDate, m.mealId, mt.mealTimeId, mf.mealFoodId")
+    List<MealDayRowProjection> findMealRangeRows(@Param("userId") Integer userId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    // 일별 영양소 원본 집계 (user_daily_nutrition 롤업 재구축/정합성 검사용)
+    // [날짜, 칼로리, 탄수화물, 단백질, 지방, 당, 나트륨, 음식 수]
+    @Query("SELECT m.mealDate, " +
+            "COALESCE(SUM(f.calorie * CAST(mf.quantity AS double)), 0), " +
             "COALESCE(SUM(f.carbohydrate * CAST(mf.quantity AS double)), 0), " +
             "COALESCE(SUM(f.protein * CAST(mf.quantity AS double)), 0), " +
             "COALESCE(SUM(f.fat * CAST(mf.quantity AS double)), 0), " +
             "COALESCE(SUM(f.sweet * CAST(mf.quantity AS double)), 0), " +
-            "COALESCE(SUM(f.sodium * CAST(mf.quantity AS double)), 0) " +
-            "FROM Meal m JOIN m.mealTimes mt JOIN mt.mealFoods mf JOIN mf.food f " +
-            "WHERE m.userId = :userId AND m.mealDate = :date " +
-            "AND m.isDeleted = false AND mt.isDeleted = false")
-    Object[] calculateDailyNutritionRaw(@Param("userId") Integer userId, @Param("date") LocalDate date);
-
-    @Query("SELECT m.mealDate as date, " +
-            "SUM(f.calorie * CAST(mf.quantity AS float)) as totalCalorie, " +
-            "SUM(f.carbohydrate * CAST(mf.quantity AS float)) as totalCarbohydrate, " +
-            "SUM(f.protein * CAST(mf.quantity AS float)) as totalProtein, " +
-            "SUM(f.fat * CAST(mf.quantity AS float)) as totalFat, " +
-            "SUM(f.sweet * CAST(mf.quantity AS float)) as totalSugar, " +
-            "SUM(f.sodium * CAST(mf.quantity AS float)) as totalSodium " +
+            "COALESCE(SUM(f.sodium * CAST(mf.quantity AS double)), 0), " +
+            "COUNT(mf) " +
             "FROM Meal m JOIN m.mealTimes mt JOIN mt.mealFoods mf JOIN mf.food f " +
             "WHERE m.userId = :userId AND m.mealDate BETWEEN :startDate AND :endDate " +
             "AND m.isDeleted = false AND mt.isDeleted = false " +
             "GROUP BY m.mealDate")
-    List<Object[]> calculateWeeklyNutrition(@Param("userId") Integer userId,
-                                            @Param("startDate") LocalDate startDate,
-                                            @Param("endDate") LocalDate endDate);
+    List<Object[]> calculateDailyNutritionByDate(@Param("userId") Integer userId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
 
-    // 주간 영양소 평균 섭취량 (모든 식사 유형 포함)
-    @Query(value = "SELECT YEARWEEK(m.meal_date, 1) as year_week, " +
-            "SUM(f.calorie * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_calorie, " +
-            "SUM(f.carbohydrate * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_carbohydrate, " +
-            "SUM(f.protein * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_protein, " +
-            "SUM(f.fat * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_fat, " +
-            "SUM(f.sweet * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_sugar, " +
-            "COUNT(DISTINCT m.meal_date) as day_count " +
-            "FROM meal_tb m " +
-            "JOIN meal_time_tb mt ON m.meal_id = mt.meal_id " +
-            "JOIN meal_food_tb mf ON mt.meal_time_id = mf.meal_time_id " +
-            "JOIN food_information_tb f ON mf.food_id = f.food_id " +
-            "WHERE m.user_id = :userId AND m.meal_date BETWEEN :startDate AND :endDate " +
-            "AND m.is_deleted = false AND mt.is_deleted = false " +
-            "GROUP BY YEARWEEK(m.meal_date, 1) " +
-            "ORDER BY year_week", nativeQuery = true)
-    List<Object[]> calculateWeeklyAverageNutrition(@Param("userId") Integer userId,
-                                                   @Param("startDate") LocalDate startDate,
-                                                   @Param("endDate") LocalDate endDate);
+    // 식단 기록이 있는 전체 사용자 (롤업 백필용)
+    @Query("SELECT DISTINCT m.userId FROM Meal m WHERE m.isDeleted = false")
+    List<Integer> findDistinctUserIds();
 
-    // 월별 영양소 평균 섭취량 (모든 식사 유형 포함)
-    @Query(value = "SELECT YEAR(m.meal_date) as year, " +
-            "MONTH(m.meal_date) as month, " +
-            "SUM(f.calorie * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_calorie, " +
-            "SUM(f.carbohydrate * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_carbohydrate, " +
-            "SUM(f.protein * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_protein, " +
-            "SUM(f.fat * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_fat, " +
-            "SUM(f.sweet * mf.quantity) / COUNT(DISTINCT m.meal_date) as avg_daily_sugar, " +
-            "COUNT(DISTINCT m.meal_date) as day_count " +
-            "FROM meal_tb m " +
-            "JOIN meal_time_tb mt ON m.meal_id = mt.meal_id " +
-            "JOIN meal_food_tb mf ON mt.meal_time_id = mf.meal_time_id " +
-            "JOIN food_information_tb f ON mf.food_id = f.food_id " +
-            "WHERE m.user_id = :userId AND m.meal_date BETWEEN :startDate AND :endDate " +
-            "AND m.is_deleted = false AND mt.is_deleted = false " +
-            "GROUP BY YEAR(m.meal_date), MONTH(m.meal_date) " +
-            "ORDER BY year, month", nativeQuery = true)
-    List<Object[]> calculateMonthlyAverageNutrition(@Param("userId") Integer userId,
-                                                    @Param("startDate") LocalDate startDate,
-                                                    @Param("endDate") LocalDate endDate);
+    // 기간 내 식단 기록이 있는 사용자 (롤업 정합성 검사용)
+    @Query("SELECT DISTINCT m.userId FROM Meal m " +
+            "WHERE m.mealDate BETWEEN :startDate AND :endDate AND m.isDeleted = false")
+    List<Integer> findDistinctUserIdsByMealDateBetween(@Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate);
 
-}
\ No newline at end of file
+    // 주어진 음식을 먹은 사용자별 식단 기간 [userId, 처음 날짜, 마지막 날짜] (음식 영양 정보 변경 후 롤업 재구축용)
+    @Query("SELECT m.userId, MIN(m.mealDate), MAX(m.mealDate) FROM Meal m JOIN m.mealTimes mt JOIN mt.mealFoods mf " +
+            "WHERE mf.food.foodId IN :foodIds AND m.isDeleted = false AND mt.isDeleted = false " +
+            "GROUP BY m.userId")
+    List<Object[]> findUserMealDateRangesByFoodIds(@Param("foodIds") Collection<Integer> foodIds);
+}
@@ -3,6 +3,7 @@ package com.s206.health.nutrition.meal.repository;
 import com.s206.health.nutrition.meal.entity.MealTime;
 import com.s206.health.nutrition.meal.entity.MealType;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -21,4 +22,9 @@ public interface MealTimeRepository extends JpaRepository<MealTime, Integer> {
 			@Param("userIds") List<Integer> userIds,
 			@Param("date") LocalDate date,
 			@Param("mealType") MealType mealType);
-}
\ No newline at end of file
+
+	// 고아 이미지 정리: 주어진 이미지 키 중 살아 있는 식사 시간이 참조하는 것만 조회 (배치 단위)
+	@Query("SELECT DISTINCT mt.mealTimeImageUrl FROM MealTime mt JOIN mt.meal m " +
+			"WHERE mt.mealTimeImageUrl IN :imageUrls AND mt.isDeleted = false AND m.isDeleted = false")
+	List<String> findReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+}
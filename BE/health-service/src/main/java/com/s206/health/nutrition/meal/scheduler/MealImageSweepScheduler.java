@@ -0,0 +1,36 @@
+package com.s206.health.nutrition.meal.scheduler;
+
+import com.s206.common.exception.types.ConflictException;
+import com.s206.health.nutrition.meal.service.MealImageSweepService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 고아 식단 이미지 정리 (새벽 3시 30분, 지난 실행이 멈춘 위치부터 이어서)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MealImageSweepScheduler {
+
+    private final MealImageSweepService mealImageSweepService;
+
+    @Scheduled(cron = "${meal.image.gc.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void sweepOrphanImages() {
+        mealImageSweepService.sweep();
+    }
+
+    // 수동 실행 점유, 예약 실행이나 다른 인스턴스가 실행 중이면 거부 (이후 sweepAsync 로 실행)
+    public void startSweep() {
+        if (!mealImageSweepService.tryAcquire()) {
+            throw new ConflictException("이미 진행 중인 이미지 정리가 있습니다.");
+        }
+    }
+
+    // 수동 실행 (startSweep 으로 점유한 뒤 호출)
+    @Async
+    public void sweepAsync() {
+        mealImageSweepService.sweepLocked();
+    }
+}
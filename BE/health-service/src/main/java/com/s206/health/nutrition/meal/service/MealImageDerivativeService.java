@@ -0,0 +1,417 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.common.exception.types.ConflictException;
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import io.minio.*;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 식단 이미지 파생본(썸네일/중간 크기) 생성
+// 원본 업로드 후 별도 워커 풀에서 비동기로 실행되며, 재인코딩 과정에서 EXIF 등 메타데이터는 제거됨
+// 대기 작업은 objectName 만 들고 있고 원본은 워커가 실행될 때 MinIO 에서 읽음 (큐에 원본 바이트를 쌓지 않음)
+// 파생본을 모두 저장한 뒤 meal_image_object_tb.derivatives_ready 를 표시하며, 표시 전(생성 대기/실패/디코딩 불가)에는 URL 이 원본을 가리킴
+// 같은 원본은 대기/실행 중인 작업이 끝나기 전에 다시 예약하지 않음 (백필을 반복 호출해도 작업이 쌓이지 않도록)
+@Service
+@Slf4j
+public class MealImageDerivativeService {
+
+    private static final String MEAL_PREFIX = "meal/";
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final int MARK_CHUNK_SIZE = 500;
+
+    @Autowired
+    private MinioClient minioClient;
+
+    @Autowired
+    private MealImageObjectService mealImageObjectService;
+
+    @Autowired
+    @Qualifier("mealImageDerivativeExecutor")
+    private ThreadPoolTaskExecutor derivativeExecutor;
+
+    @Value("${spring.minio.bucket.name}")
+    private String bucketName;
+
+    // 디코딩 전 헤더의 가로×세로로 확인하는 최대 픽셀 수 (작은 파일이 거대한 크기를 선언하는 압축 폭탄 방어)
+    @Value("${meal.image.derivative.max-pixels:40000000}")
+    private long maxPixels;
+
+    // 대기/실행 중인 파생본 작업의 원본 objectName
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    // 백필 실행 중 여부 (버킷 전체 목록 조회가 겹치지 않도록)
+    private final AtomicBoolean backfilling = new AtomicBoolean();
+
+    // 저장된 원본의 파생본 생성 예약 (큐가 가득 차면 건너뛰고 백필에 맡김)
+    public void generateAsync(String objectName) {
+        if (!MealImageSize.hasDerivatives(objectName)) {
+            return;
+        }
+        try {
+            schedule(objectName);
+        } catch (RejectedExecutionException e) {
+            log.warn("[MEAL_IMAGE_DERIVATIVE] 작업 큐 초과로 파생본 생성 생략: objectName={}", objectName);
+        }
+    }
+
+    // 워커 풀에 생성 작업 추가, 같은 원본의 작업이 이미 대기/실행 중이면 추가하지 않음 (반환값: 새로 추가 여부)
+    private boolean schedule(String objectName) {
+        if (!queued.add(objectName)) {
+            return false;
+        }
+        try {
+            derivativeExecutor.execute(() -> {
+                try {
+                    generate(objectName);
+                } finally {
+                    queued.remove(objectName);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(objectName);
+            throw e;
+        }
+    }
+
+    // 원본을 읽어 파생본 생성 및 저장
+    public void generate(String objectName) {
+        if (!MealImageSize.hasDerivatives(objectName)) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            byte[] original = readObject(objectName);
+            BufferedImage source = decode(objectName, original);
+            if (source == null) {
+                // 확장자와 내용이 다른 파일/허용 크기 초과: 원본(메타데이터 포함)을 파생본 이름으로 노출하지 않도록 생성하지 않음
+                log.warn("[MEAL_IMAGE_DERIVATIVE] 디코딩 불가, 파생본 생성 생략: objectName={}", objectName);
+                return;
+            }
+
+            BufferedImage upright = applyOrientation(source, readExifOrientation(original));
+            for (MealImageSize size : MealImageSize.values()) {
+                byte[] encoded = encodeJpeg(resize(upright, size.getMaxEdge()));
+                minioClient.putObject(PutObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(size.objectNameOf(objectName))
+                        .stream(new ByteArrayInputStream(encoded), encoded.length, -1)
+                        .contentType(CONTENT_TYPE)
+                        .build());
+            }
+            mealImageObjectService.markDerivativesReady(List.of(objectName));
+
+            log.info("[MEAL_IMAGE_DERIVATIVE] 파생본 생성 완료: objectName={}, 원본={}bytes, 소요={}ms",
+                    objectName, original.length, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[MEAL_IMAGE_DERIVATIVE] 파생본 생성 실패: objectName={}, 사유={}", objectName, e.getMessage());
+        }
+    }
+
+    // 헤더에서 크기를 먼저 읽고 허용 픽셀 수 이내일 때만 디코딩 (읽을 수 없거나 너무 크면 null)
+    private BufferedImage decode(String objectName, byte[] original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("[MEAL_IMAGE_DERIVATIVE] 허용 픽셀 수 초과, 디코딩 생략: objectName={}, 크기={}x{}",
+                            objectName, reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } catch (IOException | RuntimeException e) {
+                log.warn("[MEAL_IMAGE_DERIVATIVE] 이미지 디코딩 실패: objectName={}, 사유={}", objectName, e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본과 함께 파생본 삭제
+    public void deleteDerivatives(String objectName) {
+        for (MealImageSize size : MealImageSize.values()) {
+            try {
+                minioClient.removeObject(RemoveObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(size.objectNameOf(objectName))
+                        .build());
+            } catch (Exception e) {
+                log.warn("[MEAL_IMAGE_DERIVATIVE] 파생본 삭제 실패: objectName={}, 사유={}", objectName, e.getMessage());
+            }
+        }
+    }
+
+    // 파생본이 없는 기존 원본 이미지에 대해 생성 예약, 이미 모두 있는 원본은 준비 완료로 표시
+    // 다른 백필이 목록을 훑는 중이면 거부
+    public int backfill() {
+        if (!backfilling.compareAndSet(false, true)) {
+            throw new ConflictException("이미 진행 중인 이미지 파생본 백필이 있습니다.");
+        }
+        try {
+            return backfillMissing();
+        } finally {
+            backfilling.set(false);
+        }
+    }
+
+    private int backfillMissing() {
+        Set<String> objectNames = new HashSet<>();
+        try {
+            for (Result<Item> result : minioClient.listObjects(ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .prefix(MEAL_PREFIX)
+                    .recursive(true)
+                    .build())) {
+                objectNames.add(result.get().objectName());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("이미지 목록 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        int scheduled = 0;
+        List<String> complete = new ArrayList<>();
+        for (String objectName : objectNames) {
+            if (MealImageSize.isDerivative(objectName) || !MealImageSize.hasDerivatives(objectName)) continue;
+
+            boolean missing = false;
+            for (MealImageSize size : MealImageSize.values()) {
+                missing |= !objectNames.contains(size.objectNameOf(objectName));
+            }
+            if (!missing) {
+                complete.add(objectName);
+                continue;
+            }
+
+            try {
+                if (schedule(objectName)) {
+                    scheduled++;
+                }
+            } catch (RejectedExecutionException e) {
+                log.warn("[MEAL_IMAGE_DERIVATIVE] 백필 작업 큐 초과, 나머지는 다음 백필에서 처리: 예약={}", scheduled);
+                break;
+            }
+        }
+
+        int marked = 0;
+        for (int from = 0; from < complete.size(); from += MARK_CHUNK_SIZE) {
+            marked += mealImageObjectService.markDerivativesReady(
+                    complete.subList(from, Math.min(from + MARK_CHUNK_SIZE, complete.size())));
+        }
+
+        log.info("[MEAL_IMAGE_DERIVATIVE] 백필 예약 완료: 전체 객체={}, 예약={}, 준비 완료 표시={}",
+                objectNames.size(), scheduled, marked);
+        return scheduled;
+    }
+
+    private byte[] readObject(String objectName) {
+        try (InputStream in = minioClient.getObject(GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectName)
+                .build())) {
+            return in.readAllBytes();
+        } catch (Exception e) {
+            throw new RuntimeException("이미지 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 긴 변이 maxEdge 이하가 되도록 축소 (큰 배율은 절반씩 단계 축소하여 계단 현상 완화)
+    private BufferedImage resize(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = toRgb(source);
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // 투명 배경(PNG 등)은 흰색으로 채워 JPEG로 인코딩 가능한 RGB로 변환
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            // 메타데이터 없이 기록 (EXIF/GPS 제거)
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // EXIF 방향 값에 따라 회전 (3: 180°, 6: 시계 90°, 8: 반시계 90°)
+    private BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = new AffineTransform();
+        int targetWidth = width;
+        int targetHeight = height;
+
+        switch (orientation) {
+            case 3:
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+                break;
+            case 6:
+                targetWidth = height;
+                targetHeight = width;
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+                break;
+            case 8:
+                targetWidth = height;
+                targetHeight = width;
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+                break;
+            default:
+                return source;
+        }
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // JPEG APP1(Exif) 세그먼트에서 방향(0x0112) 태그 읽기, 없으면 1
+    private static int readExifOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= data.length) {
+            if ((data[offset] & 0xFF) != 0xFF) {
+                return 1;
+            }
+            int marker = data[offset + 1] & 0xFF;
+            int length = ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+            if (marker == 0xDA || length < 2) {
+                return 1; // 이미지 데이터 시작 전까지 Exif 없음
+            }
+
+            int segment = offset + 4;
+            if (marker == 0xE1 && segment + 14 <= data.length
+                    && data[segment] == 'E' && data[segment + 1] == 'x' && data[segment + 2] == 'i'
+                    && data[segment + 3] == 'f') {
+                return readTiffOrientation(data, segment + 6, Math.min(data.length, offset + 2 + length));
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiff, int end) {
+        boolean littleEndian = data[tiff] == 'I';
+        int ifd = tiff + readInt(data, tiff + 4, littleEndian);
+        if (ifd + 2 > end) {
+            return 1;
+        }
+
+        int entries = readShort(data, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readShort(data, entry, littleEndian) == 0x0112) {
+                return readShort(data, entry + 8, littleEndian);
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean littleEndian) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return littleEndian ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,213 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.common.exception.types.NotFoundException;
+import com.s206.common.exception.types.UnauthorizedException;
+import com.s206.health.nutrition.meal.dto.request.MealImagePresignRequest;
+import com.s206.health.nutrition.meal.dto.response.MealImagePresignResponse;
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 식단 이미지 직접 업로드 (presigned PUT)
+// 클라이언트가 MinIO에 바로 PUT 하고 완료만 알려주므로, 이미지 바이트가 gateway/health-service를 거치지 않음
+// presigned PUT은 크기/Content-Type을 저장소에서 강제할 수 없으므로 완료 시 HEAD로 확인하고, 어긋나면 객체를 지움
+@Service
+@Slf4j
+public class MealImageDirectUploadService {
+
+    // meal/direct/{userId}/{uuid}.{ext}
+    public static final String DIRECT_PREFIX = "meal/direct/";
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+
+    @Autowired
+    private MinioClient minioClient;
+
+    @Autowired
+    private MealImageService mealImageService;
+
+    @Autowired
+    private MealImageObjectService mealImageObjectService;
+
+    @Autowired
+    private MealImageDerivativeService mealImageDerivativeService;
+
+    @Value("${spring.minio.endpoint}")
+    private String endpoint;
+
+    @Value("${spring.minio.external-endpoint:#{null}}")
+    private String externalEndpoint;
+
+    @Value("${spring.minio.accessKey}")
+    private String accessKey;
+
+    @Value("${spring.minio.secretKey}")
+    private String secretKey;
+
+    @Value("${spring.minio.region:us-east-1}")
+    private String region;
+
+    @Value("${spring.minio.bucket.name}")
+    private String bucketName;
+
+    @Value("${spring.minio.presigned.expiry-seconds:600}")
+    private int expirySeconds;
+
+    @Value("${spring.minio.presigned.max-size:10485760}")
+    private long maxSize;
+
+    // 서명에 Host가 포함되므로 클라이언트가 접근하는 외부 엔드포인트로 서명
+    // region을 지정하여 서명 시 외부 엔드포인트로 region 조회 요청이 나가지 않도록 함
+    private MinioClient presignClient;
+
+    @PostConstruct
+    public void initPresignClient() {
+        String presignEndpoint = externalEndpoint != null && !externalEndpoint.isEmpty() ? externalEndpoint : endpoint;
+        presignClient = MinioClient.builder()
+                .endpoint(presignEndpoint)
+                .credentials(accessKey, secretKey)
+                .region(region)
+                .build();
+    }
+
+    // 업로드용 presigned PUT URL 발급
+    public MealImagePresignResponse issueUploadUrl(MealImagePresignRequest request, Integer userId) {
+        String contentType = request.getContentType() != null ? request.getContentType().toLowerCase() : null;
+        String extension = contentType != null ? EXTENSIONS.get(contentType) : null;
+        if (extension == null) {
+            throw new BadRequestException("지원하지 않는 이미지 형식입니다.");
+        }
+        if (request.getSize() == null || request.getSize() <= 0 || request.getSize() > maxSize) {
+            throw new BadRequestException("이미지 크기는 " + maxSize + " byte 이하여야 합니다.");
+        }
+
+        mealImageService.checkBucket();
+
+        String objectName = DIRECT_PREFIX + userId + "/" + UUID.randomUUID() + extension;
+        String uploadUrl;
+        try {
+            uploadUrl = presignClient.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
+                    .method(Method.PUT)
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .expiry(expirySeconds, TimeUnit.SECONDS)
+                    .build());
+        } catch (Exception e) {
+            throw new RuntimeException("업로드 URL 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        log.info("[MEAL_IMAGE_DIRECT] 업로드 URL 발급: userId={}, objectName={}, size={}",
+                userId, objectName, request.getSize());
+
+        return MealImagePresignResponse.builder()
+                .objectName(objectName)
+                .uploadUrl(uploadUrl)
+                .method(Method.PUT.name())
+                .contentType(contentType)
+                .maxSize(maxSize)
+                .expiresAt(LocalDateTime.now().plusSeconds(expirySeconds))
+                .build();
+    }
+
+    // 업로드 완료 콜백: HEAD로 객체를 확인한 뒤 참조 테이블에 등록하고 파생본 생성을 예약
+    public Map<String, String> completeUpload(String objectName, Integer userId) {
+        checkOwner(objectName, userId);
+
+        StatObjectResponse stat;
+        try {
+            stat = minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .build());
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new NotFoundException("업로드된 이미지를 찾을 수 없습니다.");
+            }
+            throw new RuntimeException("이미지 확인 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("이미지 확인 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        // 발급 시 Content-Type으로 정한 확장자와 실제 저장된 Content-Type이 일치해야 함
+        String contentType = stat.contentType() != null ? stat.contentType().toLowerCase() : null;
+        String extension = contentType != null ? EXTENSIONS.get(contentType) : null;
+        if (stat.size() <= 0 || stat.size() > maxSize || extension == null || !objectName.endsWith(extension)) {
+            log.warn("[MEAL_IMAGE_DIRECT] 정책 위반 업로드 삭제: objectName={}, size={}, contentType={}",
+                    objectName, stat.size(), stat.contentType());
+            removeQuietly(objectName);
+            throw new BadRequestException("업로드된 이미지의 크기 또는 형식이 허용되지 않습니다.");
+        }
+
+        boolean registered;
+        try {
+            registered = mealImageObjectService.register(objectName, stat.size(), contentType);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 완료 콜백이 동시에 들어온 경우: 먼저 등록한 쪽이 파생본 생성
+            registered = false;
+        }
+        if (registered) {
+            mealImageDerivativeService.generateAsync(objectName);
+        }
+
+        log.info("[MEAL_IMAGE_DIRECT] 업로드 완료 확인: userId={}, objectName={}, size={}",
+                userId, objectName, stat.size());
+
+        Map<String, String> result = new HashMap<>();
+        result.put("objectName", objectName);
+        result.put("imageUrl", mealImageService.getMealImageUrl(objectName));
+        boolean derivativesReady = mealImageService.isDerivativesReady(objectName);
+        result.put("thumbnailUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, derivativesReady));
+        result.put("mediumUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.MEDIUM, derivativesReady));
+        return result;
+    }
+
+    // 식단에 연결하기 전 확인: 직접 업로드 객체는 본인 것이고 완료 확인을 거친 것만 허용
+    public void checkAttachable(String objectName, Integer userId) {
+        if (objectName == null || !objectName.startsWith(DIRECT_PREFIX)) {
+            return;
+        }
+        checkOwner(objectName, userId);
+        if (!mealImageObjectService.isRegistered(objectName)) {
+            throw new BadRequestException("업로드 완료가 확인되지 않은 이미지입니다.");
+        }
+    }
+
+    private void checkOwner(String objectName, Integer userId) {
+        if (objectName == null || !objectName.startsWith(DIRECT_PREFIX + userId + "/")) {
+            throw new UnauthorizedException("이 이미지에 접근할 권한이 없습니다.");
+        }
+    }
+
+    private void removeQuietly(String objectName) {
+        try {
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .build());
+        } catch (Exception e) {
+            log.warn("[MEAL_IMAGE_DIRECT] 객체 삭제 실패: objectName={}, 사유={}", objectName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.common.exception.types.InternalServerErrorException;
+import com.s206.health.nutrition.meal.entity.MealImageObject;
+import com.s206.health.nutrition.meal.repository.MealImageObjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+// 내용 해시 기반 식단 이미지 참조 수 관리 (참조 수 = 이미지를 가리키는 식단 행 수)
+// 업로드(acquire)는 MinIO 쓰기가 끝난 뒤 참조 수만 한 문장으로 올리고 호출한 쪽과 분리하여 커밋 (업로드한 요청이 바로 연결하는 참조 1개)
+// 연결(acquireExisting)/해제(release)는 식단 행 변경과 같은 트랜잭션에서 커밋되어, 롤백되면 참조 수도 함께 되돌려짐
+// 객체 삭제는 해제가 커밋된 뒤 다시 행을 잠그고 그 사이 같은 객체가 다시 참조되지 않았을 때만 실행
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MealImageObjectService {
+
+    private final MealImageObjectRepository mealImageObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 참조 획득: 내용 해시 행을 한 문장으로 생성하거나 참조 수 증가 (MinIO 쓰기는 호출한 쪽에서 트랜잭션 밖에서 먼저 실행)
+    // 반환값: 실제 저장된 행 (같은 내용이 다른 objectName 으로 먼저 저장됐으면 그 행, 참조 수 1이면 이번에 생성된 행)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public MealImageObject acquire(String contentHash, String objectName, long size, String contentType) {
+        mealImageObjectRepository.upsertByContentHash(contentHash, objectName, size, contentType, LocalDateTime.now());
+        // upsert 가 잡은 행 잠금이 커밋까지 유지되므로 다시 읽은 참조 수는 이번 획득 직후 값
+        MealImageObject stored = mealImageObjectRepository.findByContentHash(contentHash)
+                .orElseThrow(() -> new InternalServerErrorException("이미지 참조를 저장하지 못했습니다."));
+        if (stored.getRefCount() > 1) {
+            log.info("[MEAL_IMAGE_DEDUP] 중복 이미지 참조 추가: objectName={}, 참조 수={}",
+                    stored.getObjectName(), stored.getRefCount());
+        }
+        return stored;
+    }
+
+    // 직접 업로드(presigned PUT) 완료 객체 등록: 내용 해시 없이 참조 수 0으로 생성 (식단에 연결할 때 acquireExisting으로 증가)
+    // 연결되지 않은 채 남은 객체는 고아 이미지 정리에서 삭제 (반환값: 새로 등록 여부)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean register(String objectName, long size, String contentType) {
+        if (mealImageObjectRepository.findByObjectNameForUpdate(objectName).isPresent()) {
+            return false;
+        }
+        mealImageObjectRepository.saveAndFlush(MealImageObject.builder()
+                .objectName(objectName)
+                .size(size)
+                .contentType(contentType)
+                .refCount(0)
+                .build());
+        return true;
+    }
+
+    // 이미 저장된 객체를 식단에 연결할 때마다 참조 추가 (호출한 쪽 트랜잭션에 참여)
+    // 참조 테이블에 없는 객체(해시 저장 도입 전 업로드)는 참조 수를 관리하지 않음
+    @Transactional
+    public void acquireExisting(String objectName) {
+        Optional<MealImageObject> existing = mealImageObjectRepository.findByObjectNameForUpdate(objectName);
+        if (existing.isEmpty()) {
+            log.info("[MEAL_IMAGE_DEDUP] 참조 테이블에 없는 이미지 연결: objectName={}", objectName);
+            return;
+        }
+        existing.get().increaseRefCount();
+        log.info("[MEAL_IMAGE_DEDUP] 기존 이미지 참조 추가: objectName={}, 참조 수={}",
+                objectName, existing.get().getRefCount());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isRegistered(String objectName) {
+        return mealImageObjectRepository.existsByObjectName(objectName);
+    }
+
+    // 파생본 저장이 끝난 객체 표시 (파생본 워커/백필에서 호출)
+    @Transactional
+    public int markDerivativesReady(Collection<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return 0;
+        }
+        return mealImageObjectRepository.markDerivativesReady(objectNames);
+    }
+
+    // 파생본이 준비된 objectName 만 반환 (응답 하나의 이미지들을 한 번에 확인)
+    @Transactional(readOnly = true)
+    public Set<String> findDerivativesReady(Collection<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(mealImageObjectRepository.findDerivativesReadyObjectNames(objectNames));
+    }
+
+    // 고아 이미지 일괄 삭제: 후보의 참조 행을 잠근 상태에서 remove 실행 후 행 삭제
+    // threshold 이후에 참조를 얻은 객체(방금 같은 사진이 다시 업로드된 경우)는 제외
+    // remove는 삭제에 실패한 objectName을 반환, 반환값: 실제 삭제한 objectName
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<String> sweep(Collection<String> objectNames, LocalDateTime threshold,
+                              Function<List<String>, Set<String>> remove) {
+        if (objectNames.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, MealImageObject> rows = new HashMap<>();
+        for (MealImageObject row : mealImageObjectRepository.findAllByObjectNameInForUpdate(objectNames)) {
+            rows.put(row.getObjectName(), row);
+        }
+
+        List<String> targets = new ArrayList<>(objectNames.size());
+        for (String objectName : objectNames) {
+            MealImageObject row = rows.get(objectName);
+            if (row == null || row.getUpdatedAt().isBefore(threshold)) {
+                targets.add(objectName);
+            }
+        }
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> failed = remove.apply(targets);
+        List<String> removed = new ArrayList<>(targets.size());
+        List<MealImageObject> removedRows = new ArrayList<>();
+        for (String objectName : targets) {
+            if (failed.contains(objectName)) continue;
+            removed.add(objectName);
+            MealImageObject row = rows.get(objectName);
+            if (row != null) {
+                removedRows.add(row);
+            }
+        }
+        mealImageObjectRepository.deleteAllInBatch(removedRows);
+        return removed;
+    }
+
+    // 참조 해제: 마지막 참조였으면 행 삭제 후, 호출한 쪽 트랜잭션이 커밋된 다음 remove 실행
+    // 참조 테이블에 없는 객체(해시 저장 도입 전 업로드)는 커밋 후 바로 remove 실행
+    @Transactional
+    public void release(String objectName, Runnable remove) {
+        Optional<MealImageObject> existing = mealImageObjectRepository.findByObjectNameForUpdate(objectName);
+        if (existing.isEmpty()) {
+            afterCommit(() -> removeIfUnreferenced(objectName, remove));
+            return;
+        }
+
+        MealImageObject imageObject = existing.get();
+        imageObject.decreaseRefCount();
+        if (imageObject.getRefCount() > 0) {
+            log.info("[MEAL_IMAGE_DEDUP] 참조 해제: objectName={}, 남은 참조 수={}", objectName, imageObject.getRefCount());
+            return;
+        }
+
+        mealImageObjectRepository.delete(imageObject);
+        afterCommit(() -> removeIfUnreferenced(objectName, remove));
+    }
+
+    // 커밋 후 삭제: 그 사이 같은 내용이 다시 업로드되어 행이 생겼으면 객체를 남김
+    // 이미 커밋된 요청을 실패시키지 않도록 삭제 실패는 로그만 남김 (남은 객체는 고아 이미지 정리에서 삭제)
+    private void removeIfUnreferenced(String objectName, Runnable remove) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (mealImageObjectRepository.findByObjectNameForUpdate(objectName).isPresent()) {
+                    log.info("[MEAL_IMAGE_DEDUP] 삭제 전 다시 참조된 이미지, 삭제 건너뜀: objectName={}", objectName);
+                    return;
+                }
+                remove.run();
+                log.info("[MEAL_IMAGE_DEDUP] 마지막 참조 해제, 객체 삭제: objectName={}", objectName);
+            });
+        } catch (RuntimeException e) {
+            log.warn("[MEAL_IMAGE_DEDUP] 객체 삭제 실패: objectName={}, 사유={}", objectName, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,20 +1,52 @@
 package com.s206.health.nutrition.meal.service;
 
+import com.s206.health.nutrition.meal.entity.MealImageObject;
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import io.minio.errors.ErrorResponseException;
 import io.minio.*;
 import io.minio.http.Method;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.UUID;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
+@Slf4j
 public class MealImageService {
 
     @Autowired
     private MinioClient minioClient;
 
+    @Autowired
+    @Qualifier("mealImageUploadExecutor")
+    private ThreadPoolTaskExecutor uploadExecutor;
+
+    @Autowired
+    private MealImageDerivativeService mealImageDerivativeService;
+
+    @Autowired
+    private MealImageObjectService mealImageObjectService;
+
     @Value("${spring.minio.endpoint}")
     private String endpoint;
 
@@ -24,8 +56,24 @@ public class MealImageService {
     @Value("${spring.minio.bucket.name}")
     private String bucketName;
 
+    // 버킷 확인 완료 여부 (한 번 확인되면 이후 업로드에서 원격 확인 생략)
+    private volatile boolean bucketReady = false;
+
+    // 시작 시 버킷을 한 번 확인 (MinIO가 아직 준비되지 않았으면 첫 업로드 때 다시 시도)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initBucket() {
+        try {
+            checkBucket();
+        } catch (Exception e) {
+            log.warn("[MEAL_IMAGE] 시작 시 버킷 확인 실패, 첫 업로드 시 재시도: {}", e.getMessage());
+        }
+    }
+
     // 버킷이 존재하는지 확인하고 없으면 생성
     public void checkBucket() {
+        if (bucketReady) {
+            return;
+        }
         try {
             boolean bucketExists = minioClient.bucketExists(BucketExistsArgs.builder()
                     .bucket(bucketName)
@@ -35,21 +83,22 @@ public class MealImageService {
                         .bucket(bucketName)
                         .build());
             }
+            bucketReady = true;
         } catch (Exception e) {
             throw new RuntimeException("버킷 생성 중 오류가 발생했습니다 :" + e.getMessage(), e);
         }
     }
 
     // 식단 이미지를 업로드
+    // 내용의 SHA-256을 키로 저장하여, 같은 사진은 한 객체를 공유하고 참조 수만 증가
+    // MinIO 쓰기는 트랜잭션 밖에서 먼저 실행 (같은 키에 같은 내용이므로 다시 써도 결과가 같음), 참조 수는 그 뒤 한 문장으로 갱신
     public String uploadMealImage(MultipartFile file) {
         checkBucket();
 
         try {
-            // 유니크한 파일명 생성 (충돌 방지)
             String originalFilename = file.getOriginalFilename();
             String extension = originalFilename != null && originalFilename.contains(".") ?
                     originalFilename.substring(originalFilename.lastIndexOf(".")) : ".jpg";
-            String objectName = "meal/" + UUID.randomUUID() + extension;
 
             // 파일 확장자에 따른 MIME 타입 결정
             String contentType;
@@ -64,22 +113,177 @@ public class MealImageService {
             } else {
                 contentType = file.getContentType();
             }
+            String resolvedContentType = contentType != null ? contentType : "image/jpeg"; // 기본값 설정
+
+            // 먼저 스트림으로 읽으면서 해시만 계산하고, 다시 열어 MinIO로 스트리밍 (업로드 전체를 힙에 두지 않음)
+            String contentHash;
+            try (DigestInputStream in = new DigestInputStream(file.getInputStream(),
+                    MessageDigest.getInstance("SHA-256"))) {
+                in.transferTo(OutputStream.nullOutputStream());
+                contentHash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            }
+            String objectName = "meal/" + contentHash + extension.toLowerCase();
+            long size = file.getSize();
+
+            putObject(objectName, file, size, resolvedContentType);
+            MealImageObject stored = acquireWithRetry(contentHash, objectName, size, resolvedContentType);
+            String storedObjectName = stored.getObjectName();
+
+            if (!storedObjectName.equals(objectName)) {
+                // 같은 내용이 다른 확장자로 먼저 저장됨: 방금 쓴 객체는 참조되지 않으므로 삭제
+                removeObjectQuietly(objectName);
+            } else if (stored.getRefCount() == 1) {
+                // 이번에 생성된 행: 직전 마지막 참조 해제의 객체 삭제와 겹쳤으면 객체가 지워졌을 수 있어 확인 후 다시 저장
+                // (삭제는 행이 없을 때만 행 잠금 아래에서 실행되고, 이제 행이 있으므로 이후에는 지워지지 않음)
+                if (!objectExists(objectName)) {
+                    putObject(objectName, file, size, resolvedContentType);
+                }
+                // 새로 저장된 경우에만 썸네일/중간 크기 파생본을 비동기로 생성
+                mealImageDerivativeService.generateAsync(storedObjectName);
+            }
+
+            return storedObjectName;
+        } catch (Exception e) {
+            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    // 같은 내용의 동시 첫 업로드가 unique 키에서 교착 상태로 실패하면 한 번 다시 시도
+    private MealImageObject acquireWithRetry(String contentHash, String objectName, long size, String contentType) {
+        try {
+            return mealImageObjectService.acquire(contentHash, objectName, size, contentType);
+        } catch (PessimisticLockingFailureException e) {
+            log.info("[MEAL_IMAGE_DEDUP] 참조 획득 재시도: objectName={}, 사유={}", objectName, e.getMessage());
+            return mealImageObjectService.acquire(contentHash, objectName, size, contentType);
+        }
+    }
+
+    private boolean objectExists(String objectName) {
+        try {
+            minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .build());
+            return true;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw new RuntimeException("이미지 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("이미지 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
 
+    private void removeObjectQuietly(String objectName) {
+        try {
+            minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectName)
+                    .build());
+        } catch (Exception e) {
+            log.warn("[MEAL_IMAGE_DEDUP] 참조되지 않는 객체 삭제 실패: objectName={}, 사유={}", objectName, e.getMessage());
+        }
+    }
+
+    private void putObject(String objectName, MultipartFile file, long size, String contentType) {
+        try (InputStream in = file.getInputStream()) {
             // MinIO에 파일 업로드 (명시적 Content-Type 설정)
             minioClient.putObject(PutObjectArgs.builder()
                     .bucket(bucketName)
                     .object(objectName)
-                    .stream(file.getInputStream(), file.getSize(), -1)
-                    .contentType(contentType != null ? contentType : "image/jpeg") // 기본값 설정
+                    .stream(in, size, -1)
+                    .contentType(contentType)
                     .build());
-
-            return objectName;
         } catch (Exception e) {
             throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
 
+    // 여러 이미지를 병렬로 업로드 (키별 objectName 반환)
+    // 하나라도 실패하면 이미 올라간 객체를 지우고 예외를 던짐
+    public <K> Map<K, String> uploadMealImages(Map<K, MultipartFile> files) {
+        if (files.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        checkBucket();
+
+        Map<K, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        files.forEach((key, file) ->
+                futures.put(key, CompletableFuture.supplyAsync(() -> uploadMealImage(file), uploadExecutor)));
+
+        Map<K, String> uploaded = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        for (Map.Entry<K, CompletableFuture<String>> entry : futures.entrySet()) {
+            try {
+                uploaded.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new RuntimeException("이미지 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            deleteMealImagesQuietly(uploaded.values());
+            throw failure;
+        }
+        return uploaded;
+    }
+
+    // 보상 삭제: 실패해도 예외를 던지지 않고 로그만 남김
+    public void deleteMealImagesQuietly(Collection<String> objectNames) {
+        for (String objectName : objectNames) {
+            try {
+                deleteMealImage(objectName);
+            } catch (Exception e) {
+                log.warn("[MEAL_IMAGE] 보상 삭제 실패: objectName={}, 사유={}", objectName, e.getMessage());
+            }
+        }
+    }
+
+    // 이미 저장된 이미지를 식단에 연결할 때 참조 추가 (같은 이미지를 여러 식단에 연결해도 마지막 해제 때만 삭제)
+    public void acquireMealImage(String objectName) {
+        if (objectName == null || objectName.isEmpty()) {
+            return;
+        }
+        mealImageObjectService.acquireExisting(objectName);
+    }
+
+    // 파생본 이미지 URL 생성 (derivativesReady: isDerivativesReady/findDerivativesReady 로 확인한 파생본 저장 여부)
+    public String getMealImageUrl(String objectName, MealImageSize size, boolean derivativesReady) {
+        if (objectName == null || objectName.isEmpty()) {
+            return null;
+        }
+        if (!objectName.startsWith("meal/")) {
+            objectName = "meal/" + objectName;
+        }
+        // 파생본이 아직 저장되지 않았거나(비동기 생성 대기/실패) 만들지 않는 형식은 원본 URL
+        if (!derivativesReady || !MealImageSize.hasDerivatives(objectName)) {
+            return getMealImageUrl(objectName);
+        }
+        return getMealImageUrl(size.objectNameOf(objectName));
+    }
+
+    // 이미지 하나의 파생본 저장 여부
+    public boolean isDerivativesReady(String objectName) {
+        if (objectName == null || objectName.isEmpty()) {
+            return false;
+        }
+        if (!objectName.startsWith("meal/")) {
+            objectName = "meal/" + objectName;
+        }
+        return !mealImageObjectService.findDerivativesReady(List.of(objectName)).isEmpty();
+    }
+
+    // 여러 이미지의 파생본 저장 여부를 한 번에 조회 (반환값: 파생본이 준비된 objectName)
+    public Set<String> findDerivativesReady(Collection<String> objectNames) {
+        return mealImageObjectService.findDerivativesReady(objectNames);
+    }
+
     // 이미지 URL 생성
     public String getMealImageUrl(String objectName) {
         if (objectName == null || objectName.isEmpty()) {
@@ -104,19 +308,23 @@ public class MealImageService {
     }
 
 
-    // 이미지 파일을 삭제
+    // 이미지 참조를 해제
+    // 참조가 남아 있으면 참조 수만 줄이고, 마지막 참조일 때만 호출한 쪽 트랜잭션이 커밋된 뒤 원본과 파생본을 삭제
     public void deleteMealImage(String objectName) {
         if (objectName == null || objectName.isEmpty()) {
             return; // 빈 URL이면 무시
         }
 
-        try {
-            minioClient.removeObject(RemoveObjectArgs.builder()
-                    .bucket(bucketName)
-                    .object(objectName)
-                    .build());
-        } catch (Exception e) {
-            throw new RuntimeException("이미지 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
-        }
+        mealImageObjectService.release(objectName, () -> {
+            try {
+                minioClient.removeObject(RemoveObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .build());
+            } catch (Exception e) {
+                throw new RuntimeException("이미지 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
+            }
+            mealImageDerivativeService.deleteDerivatives(objectName);
+        });
     }
 }
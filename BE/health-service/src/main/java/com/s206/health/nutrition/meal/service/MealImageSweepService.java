@@ -0,0 +1,338 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.health.nutrition.meal.entity.MealImageSweepState;
+import com.s206.health.nutrition.meal.repository.MealFoodRepository;
+import com.s206.health.nutrition.meal.repository.MealImageSweepStateRepository;
+import com.s206.health.nutrition.meal.repository.MealTimeRepository;
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 고아 식단 이미지 정리
+// 버킷 목록을 페이지 단위로 훑으면서, 페이지마다 참조 여부를 배치 조회하고 참조되지 않는 오래된 객체를 일괄 삭제
+// 진행 위치(cursor)를 DB에 남겨 중단되어도 다음 실행에서 이어서 진행
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MealImageSweepService {
+
+    private static final String MEAL_PREFIX = "meal/";
+
+    private final MinioClient minioClient;
+    private final MealFoodRepository mealFoodRepository;
+    private final MealTimeRepository mealTimeRepository;
+    private final MealImageObjectService mealImageObjectService;
+    private final MealImageSweepStateRepository sweepStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.minio.bucket.name}")
+    private String bucketName;
+
+    // 업로드 후 식단에 연결되기까지 기다려 주는 시간
+    @Value("${meal.image.gc.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${meal.image.gc.page-size:1000}")
+    private int pageSize;
+
+    // 한 번 실행에서 처리할 최대 페이지 수 (나머지는 다음 실행에서 이어서)
+    @Value("${meal.image.gc.max-pages:200}")
+    private int maxPages;
+
+    @Value("${meal.image.gc.lease-minutes:30}")
+    private long leaseMinutes;
+
+    private Counter scannedObjects;
+    private Counter scannedBytes;
+    private Counter deletedObjects;
+    private Counter deletedBytes;
+
+    @PostConstruct
+    public void initMetrics() {
+        scannedObjects = Counter.builder("meal.image.gc.scanned.objects")
+                .description("고아 이미지 정리 중 확인한 객체 수")
+                .register(meterRegistry);
+        scannedBytes = Counter.builder("meal.image.gc.scanned.bytes")
+                .description("고아 이미지 정리 중 확인한 객체 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        deletedObjects = Counter.builder("meal.image.gc.deleted.objects")
+                .description("고아 이미지 정리로 삭제한 객체 수")
+                .register(meterRegistry);
+        deletedBytes = Counter.builder("meal.image.gc.deleted.bytes")
+                .description("고아 이미지 정리로 삭제한 객체 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void sweep() {
+        if (!tryAcquire()) {
+            log.info("[MEAL_IMAGE_GC] 다른 인스턴스에서 실행 중이어서 건너뜀");
+            return;
+        }
+        sweepLocked();
+    }
+
+    // 점유 시도 (수동 실행은 요청 스레드에서 먼저 점유하여 이미 실행 중이면 바로 거부)
+    public boolean tryAcquire() {
+        return tryLock(LocalDateTime.now());
+    }
+
+    // tryAcquire 로 점유한 뒤 실행, 끝나면 점유 해제 (실행되지 못해도 점유 시간이 지나면 만료)
+    public void sweepLocked() {
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        // 점유 시간의 절반이 지나면 다음 실행으로 넘김 (점유가 만료되어 다른 인스턴스와 겹치지 않도록)
+        long deadline = start + leaseMinutes * 60_000L / 2;
+        ZonedDateTime objectThreshold = ZonedDateTime.now().minusHours(graceHours);
+        LocalDateTime rowThreshold = now.minusHours(graceHours);
+
+        SweepProgress progress = new SweepProgress();
+        try {
+            String cursor = sweepStateRepository.findById(MealImageSweepState.SINGLETON_ID)
+                    .map(MealImageSweepState::getCursorKey)
+                    .orElse(null);
+
+            ListObjectsArgs.Builder listArgs = ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .prefix(MEAL_PREFIX)
+                    .recursive(true)
+                    .maxKeys(pageSize);
+            if (cursor != null) {
+                listArgs.startAfter(cursor);
+            }
+            Iterator<Result<Item>> listing = minioClient.listObjects(listArgs.build()).iterator();
+
+            int pages = 0;
+            while (pages < maxPages && System.currentTimeMillis() < deadline && listing.hasNext()) {
+                List<Item> page = new ArrayList<>(pageSize);
+                while (page.size() < pageSize && listing.hasNext()) {
+                    Item item = listing.next().get();
+                    if (!item.isDir()) {
+                        page.add(item);
+                    }
+                }
+                if (page.isEmpty()) {
+                    continue;
+                }
+
+                sweepPage(page, objectThreshold, rowThreshold, progress);
+
+                String lastKey = page.get(page.size() - 1).objectName();
+                updateState(state -> state.updateCursor(lastKey));
+                pages++;
+            }
+
+            if (!listing.hasNext()) {
+                updateState(state -> state.complete(LocalDateTime.now()));
+                log.info("[MEAL_IMAGE_GC] 버킷 끝까지 확인 완료, 다음 실행은 처음부터");
+            }
+        } catch (Exception e) {
+            log.error("[MEAL_IMAGE_GC] 정리 중단, 다음 실행에서 이어서 진행: {}", e.getMessage(), e);
+        } finally {
+            updateState(MealImageSweepState::unlock);
+        }
+
+        log.info("[MEAL_IMAGE_GC] 정리 완료: 확인={}개, 삭제={}개 ({} bytes), 소요={}ms",
+                progress.scanned, progress.deleted, progress.deletedBytes, System.currentTimeMillis() - start);
+    }
+
+    // 한 페이지 처리: 원본은 DB 참조를 배치 조회해 판단하고, 파생본은 원본이 남아 있는지로 판단
+    private void sweepPage(List<Item> page, ZonedDateTime objectThreshold, LocalDateTime rowThreshold,
+                           SweepProgress progress) {
+        Map<String, Long> sizes = new HashMap<>();
+        List<Item> originals = new ArrayList<>();
+        List<Item> derivatives = new ArrayList<>();
+        for (Item item : page) {
+            sizes.put(item.objectName(), item.size());
+            scannedObjects.increment();
+            scannedBytes.increment(item.size());
+            progress.scanned++;
+            if (MealImageSize.isDerivative(item.objectName())) {
+                derivatives.add(item);
+            } else {
+                originals.add(item);
+            }
+        }
+
+        // 1. 원본: 유예 기간이 지났고 살아 있는 식단이 참조하지 않는 객체
+        List<String> candidates = new ArrayList<>();
+        for (Item item : originals) {
+            if (item.lastModified().isBefore(objectThreshold)) {
+                candidates.add(item.objectName());
+            }
+        }
+        Set<String> referenced = findReferenced(candidates);
+        List<String> unreferenced = candidates.stream()
+                .filter(objectName -> !referenced.contains(objectName))
+                .toList();
+
+        List<String> removedOriginals = mealImageObjectService.sweep(unreferenced, rowThreshold, this::removeObjects);
+        record(removedOriginals, sizes, progress);
+
+        Set<String> removedBases = new HashSet<>();
+        for (String objectName : removedOriginals) {
+            removedBases.add(MealImageSize.baseOf(objectName));
+        }
+        Set<String> keptBases = new HashSet<>();
+        for (Item item : originals) {
+            String base = MealImageSize.baseOf(item.objectName());
+            if (!removedBases.contains(base)) {
+                keptBases.add(base);
+            }
+        }
+
+        // 2. 파생본: 원본과 같은 페이지(또는 직전 페이지)에 있으면 원본의 결과를 따르고, 아니면 원본 존재 여부를 확인
+        // 목록은 사전순이라 원본(meal/x.jpg)이 파생본(meal/x_thumb.jpg)보다 먼저 나옴
+        List<String> orphanDerivatives = new ArrayList<>();
+        for (Item item : derivatives) {
+            String base = MealImageSize.baseOf(item.objectName());
+            if (removedBases.contains(base) || progress.previousRemovedBases.contains(base)) {
+                orphanDerivatives.add(item.objectName());
+            } else if (keptBases.contains(base) || progress.previousKeptBases.contains(base)) {
+                continue;
+            } else if (item.lastModified().isBefore(objectThreshold) && !originalExists(base)) {
+                orphanDerivatives.add(item.objectName());
+            }
+        }
+        Set<String> failed = removeObjects(orphanDerivatives);
+        record(orphanDerivatives.stream().filter(objectName -> !failed.contains(objectName)).toList(),
+                sizes, progress);
+
+        progress.previousRemovedBases = removedBases;
+        progress.previousKeptBases = keptBases;
+    }
+
+    // 참조 중인 objectName 조회 (meal/ 접두사 없이 저장된 기존 값도 같이 확인)
+    private Set<String> findReferenced(List<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> keys = new HashSet<>(objectNames);
+        for (String objectName : objectNames) {
+            keys.add(objectName.substring(MEAL_PREFIX.length()));
+        }
+
+        Set<String> found = new HashSet<>(mealFoodRepository.findReferencedImageUrls(keys));
+        found.addAll(mealTimeRepository.findReferencedImageUrls(keys));
+
+        Set<String> referenced = new HashSet<>();
+        for (String objectName : objectNames) {
+            if (found.contains(objectName) || found.contains(objectName.substring(MEAL_PREFIX.length()))) {
+                referenced.add(objectName);
+            }
+        }
+        return referenced;
+    }
+
+    // 파생본의 원본(meal/{uuid}.{ext})이 남아 있는지 확인
+    private boolean originalExists(String base) {
+        try {
+            for (Result<Item> result : minioClient.listObjects(ListObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .prefix(base + ".")
+                    .maxKeys(1)
+                    .build())) {
+                result.get();
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            // 확인할 수 없으면 지우지 않음
+            log.warn("[MEAL_IMAGE_GC] 원본 확인 실패: base={}, 사유={}", base, e.getMessage());
+            return true;
+        }
+    }
+
+    // 일괄 삭제, 반환값: 삭제에 실패한 objectName
+    private Set<String> removeObjects(List<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return Set.of();
+        }
+
+        List<DeleteObject> objects = objectNames.stream().map(DeleteObject::new).toList();
+        Set<String> failed = new HashSet<>();
+        try {
+            for (Result<DeleteError> result : minioClient.removeObjects(RemoveObjectsArgs.builder()
+                    .bucket(bucketName)
+                    .objects(objects)
+                    .build())) {
+                DeleteError error = result.get();
+                failed.add(error.objectName());
+                log.warn("[MEAL_IMAGE_GC] 삭제 실패: objectName={}, 사유={}", error.objectName(), error.message());
+            }
+        } catch (Exception e) {
+            log.warn("[MEAL_IMAGE_GC] 일괄 삭제 요청 실패: {}", e.getMessage());
+            return new HashSet<>(objectNames);
+        }
+        return failed;
+    }
+
+    private void record(List<String> removed, Map<String, Long> sizes, SweepProgress progress) {
+        for (String objectName : removed) {
+            long size = sizes.getOrDefault(objectName, 0L);
+            deletedObjects.increment();
+            deletedBytes.increment(size);
+            progress.deleted++;
+            progress.deletedBytes += size;
+        }
+    }
+
+    // 진행 상태 행이 없으면 만들고, 점유가 비어 있거나 만료된 경우에만 점유
+    private boolean tryLock(LocalDateTime now) {
+        if (!sweepStateRepository.existsById(MealImageSweepState.SINGLETON_ID)) {
+            try {
+                sweepStateRepository.saveAndFlush(MealImageSweepState.builder()
+                        .mealImageSweepStateId(MealImageSweepState.SINGLETON_ID)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 생성
+            }
+        }
+        Integer locked = transactionTemplate.execute(status -> sweepStateRepository.tryLock(
+                MealImageSweepState.SINGLETON_ID, now, now.plusMinutes(leaseMinutes)));
+        return locked != null && locked == 1;
+    }
+
+    private void updateState(Consumer<MealImageSweepState> update) {
+        transactionTemplate.executeWithoutResult(status -> sweepStateRepository
+                .findById(MealImageSweepState.SINGLETON_ID)
+                .ifPresent(update));
+    }
+
+    // 한 번 실행 동안의 집계와 페이지 경계를 넘는 파생본 판단용 직전 페이지 정보
+    private static class SweepProgress {
+        private long scanned;
+        private long deleted;
+        private long deletedBytes;
+        private Set<String> previousRemovedBases = Set.of();
+        private Set<String> previousKeptBases = Set.of();
+    }
+}
@@ -4,11 +4,18 @@ import com.s206.common.exception.types.BadRequestException;
 import com.s206.common.exception.types.InternalServerErrorException;
 import com.s206.common.exception.types.NotFoundException;
 import com.s206.common.exception.types.UnauthorizedException;
-import com.s206.health.nutrition.favorite.repository.FavoriteFoodRepository;
+import com.s206.health.nutrition.favorite.service.FavoriteFoodIds;
+import com.s206.health.nutrition.favorite.service.FavoriteService;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.NutrientVector;
 import com.s206.health.nutrition.food.dto.response.FoodDetailResponse;
 import com.s206.health.nutrition.food.dto.response.FoodListResponse;
 import com.s206.health.nutrition.food.entity.Food;
 import com.s206.health.nutrition.food.repository.FoodRepository;
+import com.s206.health.nutrition.foodset.dto.request.FoodSetApplyRequest;
+import com.s206.health.nutrition.foodset.entity.FoodSet;
+import com.s206.health.nutrition.foodset.entity.FoodSetFood;
+import com.s206.health.nutrition.foodset.repository.FoodSetRepository;
 import com.s206.health.nutrition.meal.dto.request.MealCreateRequest;
 import com.s206.health.nutrition.meal.dto.request.MealFoodRequest;
 import com.s206.health.nutrition.meal.dto.request.MealTimeRequest;
@@ -19,18 +26,29 @@ import com.s206.health.nutrition.meal.entity.MealTime;
 import com.s206.health.nutrition.meal.entity.MealType;
 import com.s206.health.nutrition.meal.repository.MealFoodRepository;
 import com.s206.health.nutrition.meal.repository.MealRepository;
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import com.s206.health.nutrition.recent.service.FoodAffinityService;
+import com.s206.health.nutrition.recent.service.RecentFoodService;
+import com.s206.health.nutrition.rollup.entity.UserDailyNutrition;
+import com.s206.health.nutrition.rollup.repository.UserDailyNutritionRepository;
+import com.s206.health.nutrition.rollup.service.NutritionRollupService;
+import com.s206.health.persistence.id.EntityIdAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.awt.print.Pageable;
 import java.lang.reflect.Field;
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -39,39 +57,36 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MealService {
 
+    // 기간 식단 조회 최대 일수 (월 캘린더 한 화면)
+    private static final int MAX_RANGE_DAYS = 31;
+
     private final MealRepository mealRepository;
     private final FoodRepository foodRepository;
     private final MealFoodRepository mealFoodRepository;
-    private final FavoriteFoodRepository favoriteFoodRepository;
+    private final FavoriteService favoriteService;
+    private final FoodCatalog foodCatalog;
+    private final NutritionRollupService nutritionRollupService;
+    private final UserDailyNutritionRepository userDailyNutritionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RecentFoodService recentFoodService;
+    private final FoodAffinityService foodAffinityService;
+    private final FoodSetRepository foodSetRepository;
+    private final EntityIdAllocator entityIdAllocator;
 
     @Transactional
     public MealDetailResponse createOrUpdateMeal(MealCreateRequest request, Integer userId) {
+        return createOrUpdateMeal(request, userId, new ArrayList<>());
+    }
+
+    // uploadedImages: 이번 요청에서 업로드하여 이미 참조를 얻은 이미지 (연결 시 참조를 다시 추가하지 않음)
+    private MealDetailResponse createOrUpdateMeal(MealCreateRequest request, Integer userId, List<String> uploadedImages) {
         log.info("[CREATE/UPDATE] userId={} → 식단 등록/수정 요청: 날짜={}", userId, request.getMealDate());
 
-        // 1. 해당 날짜의 식단이 있는지 확인
-        List<Meal> existingMeals = mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(userId, request.getMealDate());
-
-        Meal meal;
-        if (!existingMeals.isEmpty()) {
-            // 기존 식단이 있으면 가져옴
-            meal = existingMeals.get(0);
-            log.info("[UPDATE] 기존 식단 업데이트: mealId={}", meal.getMealId());
-
-            // isMeal 값 업데이트
-            if (request.getIsMeal() != null) {
-                meal.updateIsMeal(request.getIsMeal());
-            }
-        } else {
-            // 기존 식단이 없으면 새로 생성
-            meal = Meal.builder()
-                    .userId(userId)
-                    .mealDate(request.getMealDate())
-                    .isMeal(request.getIsMeal())
-                    .build();
-            log.info("[CREATE] 새 식단 생성: 날짜={}", request.getMealDate());
-        }
+        // 1. 해당 날짜의 식단 확보 (없으면 생성, 있으면 isMeal 갱신)
+        Meal meal = upsertMeal(userId, request.getMealDate(), request.getIsMeal());
 
         // 2. 요청의 각 MealTime 처리
+        List<MealTime> savedMealTimes = new ArrayList<>();
         if (request.getMealTimes() != null) {
             for (MealTimeRequest mealTimeRequest : request.getMealTimes()) {
                 // 같은 시간대(mealType)의 기존 MealTime 찾기
@@ -82,18 +97,18 @@ public class MealService {
                 if (existingMealTime.isPresent()) {
                     // 기존 MealTime이 있으면 MealFoods를 지우고 새로 추가
                     MealTime mealTime = existingMealTime.get();
-                    mealTime.getMealFoods().clear();
+                    List<String> removedFoodImages = clearMealFoods(mealTime);
 
                     // eatingTime 업데이트
                     mealTime.updateEatingTime(mealTimeRequest.getEatingTime());
 
-                    // mealTimeImageUrl 업데이트 - 여기에 코드 추가
-                    if (mealTimeRequest.getMealTimeImageUrl() != null && !mealTimeRequest.getMealTimeImageUrl().isEmpty()) {
-                        mealTime.updateMealTimeImageUrl(mealTimeRequest.getMealTimeImageUrl());
-                    }
+                    // mealTimeImageUrl 업데이트
+                    assignMealTimeImage(mealTime, mealTimeRequest.getMealTimeImageUrl(), uploadedImages);
 
-                    // 새 음식 추가
+                    // 새 음식 추가 후 지워진 음식의 이미지 참조 해제
                     addFoodsToMealTime(mealTime, mealTimeRequest.getFoods());
+                    releaseImages(removedFoodImages);
+                    savedMealTimes.add(mealTime);
                     log.info("[UPDATE] 기존 시간대 업데이트: 시간대={}", mealTimeRequest.getMealType());
                 } else {
                     // 기존 MealTime이 없으면 새로 생성
@@ -101,12 +116,13 @@ public class MealService {
                             .meal(meal)
                             .mealType(mealTimeRequest.getMealType())
                             .eatingTime(mealTimeRequest.getEatingTime())
-                            .mealTimeImageUrl(mealTimeRequest.getMealTimeImageUrl()) // 이미지 URL 설정
                             .build();
+                    assignMealTimeImage(mealTime, mealTimeRequest.getMealTimeImageUrl(), uploadedImages);
 
                     // 음식 추가
                     addFoodsToMealTime(mealTime, mealTimeRequest.getFoods());
                     meal.getMealTimes().add(mealTime);
+                    savedMealTimes.add(mealTime);
                     log.info("[CREATE] 새 시간대 추가: 시간대={}", mealTimeRequest.getMealType());
                 }
             }
@@ -114,17 +130,156 @@ public class MealService {
 
         // 3. 저장 및 결과 반환
         mealRepository.save(meal);
+        nutritionRollupService.refresh(meal);
+        recordRecentFoods(meal, savedMealTimes);
         log.info("[COMPLETE] 식단 등록/수정 완료: mealId={}", meal.getMealId());
 
-        return MealDetailResponse.toDto(meal);
+        return MealDetailResponse.toDto(meal, foodCatalog.snapshot());
+    }
+
+    // 날짜별 식단을 한 문장으로 확보 후 엔티티로 로드 (조회 후 생성하던 방식의 중복 식단 경쟁 제거)
+    // 새 식단은 isMeal 이 없으면 true, 기존 식단은 isMeal 이 전달된 경우에만 변경
+    // 이미 로드된 식단이면 upsert 결과가 반영되지 않으므로 isMeal 을 엔티티에도 맞춤
+    private Meal upsertMeal(Integer userId, LocalDate mealDate, Boolean isMeal) {
+        if (mealDate == null) {
+            throw new BadRequestException("식단 날짜는 필수입니다.");
+        }
+        // 기존 식단이 있으면 그대로 사용하고, 없을 때만 ID 를 발급하여 upsert (같은 날짜 동시 생성은 유니크 키에서 한 행으로 합쳐짐)
+        Optional<Meal> existing = mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(userId, mealDate).stream()
+                .findFirst();
+        Meal meal;
+        if (existing.isPresent()) {
+            meal = existing.get();
+        } else {
+            mealRepository.upsertActiveMeal(entityIdAllocator.nextId(Meal.class), userId, mealDate, isMeal,
+                    LocalDateTime.now());
+            meal = mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(userId, mealDate).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new InternalServerErrorException("식단을 저장하지 못했습니다."));
+        }
+        if (isMeal != null) {
+            meal.updateIsMeal(isMeal);
+        }
+        log.info("[UPSERT] 식단 확보: mealId={}, 날짜={}", meal.getMealId(), mealDate);
+        return meal;
+    }
+
+    // 음식 세트를 날짜/시간대 식단에 추가 (기존 음식은 유지)
+    // 세트 음식은 fetch join 한 번으로 읽고, 세트에 연결된 음식 참조를 그대로 사용하여 음식별 검증/조회 없음
+    @Transactional
+    public MealTimeResponse applyFoodSet(Integer foodSetId, FoodSetApplyRequest request, Integer userId) {
+        log.info("[APPLY_FOOD_SET] userId={} → 세트 식단 추가 요청: foodSetId={}, 날짜={}, 시간대={}",
+                userId, foodSetId, request.getMealDate(), request.getMealType());
+
+        if (request.getMealDate() == null || request.getMealType() == null) {
+            throw new BadRequestException("날짜와 시간대는 필수입니다.");
+        }
+
+        FoodSet foodSet = foodSetRepository.findWithFoodsById(foodSetId)
+                .orElseThrow(() -> new NotFoundException("음식 세트를 찾을 수 없습니다."));
+        if (!foodSet.getUserId().equals(userId)) {
+            throw new UnauthorizedException("세트에 접근할 권한이 없습니다.");
+        }
+        if (foodSet.getFoodSetFoods().isEmpty()) {
+            throw new BadRequestException("음식이 없는 세트입니다.");
+        }
+        // 세트를 만든 뒤 삭제된 음식은 식단에 새로 추가하지 않음
+        for (FoodSetFood item : foodSet.getFoodSetFoods()) {
+            if (!foodCatalog.isActive(item.getFood().getFoodId())) {
+                throw new BadRequestException("삭제된 음식이 포함된 세트입니다: " + item.getFood().getFoodId());
+            }
+        }
+
+        Meal meal = upsertMeal(userId, request.getMealDate(), null);
+
+        MealTime mealTime = meal.getMealTimes().stream()
+                .filter(mt -> mt.getMealType() == request.getMealType() && !mt.getIsDeleted())
+                .findFirst()
+                .orElse(null);
+        if (mealTime == null) {
+            // 새 시간대는 식사 시각이 필수 (요청에 없으면 현재 시각)
+            LocalTime eatingTime = request.getEatingTime() != null
+                    ? request.getEatingTime()
+                    : LocalTime.now(ZoneId.of("Asia/Seoul")).truncatedTo(ChronoUnit.MINUTES);
+            mealTime = MealTime.builder()
+                    .meal(meal)
+                    .mealType(request.getMealType())
+                    .eatingTime(eatingTime)
+                    .build();
+            meal.getMealTimes().add(mealTime);
+        } else if (request.getEatingTime() != null) {
+            mealTime.updateEatingTime(request.getEatingTime());
+        }
+
+        for (FoodSetFood item : foodSet.getFoodSetFoods()) {
+            mealTime.getMealFoods().add(MealFood.builder()
+                    .mealTime(mealTime)
+                    .food(item.getFood())
+                    .quantity(item.getQuantity())
+                    .build());
+        }
+
+        mealRepository.save(meal);
+        nutritionRollupService.refresh(meal);
+        recordRecentFoods(meal, List.of(mealTime));
+        log.info("[APPLY_FOOD_SET] 세트 식단 추가 완료: foodSetId={}, 음식 수={}", foodSetId, foodSet.getFoodSetFoods().size());
+
+        return MealTimeResponse.toDto(mealTime, foodCatalog.snapshot());
+    }
+
+    // 시간대 이미지 연결: 새 이미지 참조를 추가한 뒤 이전 이미지 참조 해제 (같은 이미지면 그대로 둠)
+    // 요청에 이미지가 없으면 기존 이미지 유지
+    private void assignMealTimeImage(MealTime mealTime, String objectName, List<String> uploadedImages) {
+        if (objectName == null || objectName.isEmpty()) {
+            return;
+        }
+        // 이번 요청에서 업로드한 이미지는 업로드 시 얻은 참조를 그대로 사용
+        boolean uploaded = uploadedImages.remove(objectName);
+        String previous = mealTime.getMealTimeImageUrl();
+        if (objectName.equals(previous)) {
+            if (uploaded) {
+                mealImageService.deleteMealImage(objectName);
+            }
+            return;
+        }
+        if (!uploaded) {
+            mealImageService.acquireMealImage(objectName);
+        }
+        mealTime.updateMealTimeImageUrl(objectName);
+        if (previous != null && !previous.isEmpty()) {
+            mealImageService.deleteMealImage(previous);
+        }
+    }
+
+    // 시간대 음식 목록 비우기 (지워진 음식의 이미지 objectName 반환, 새 음식 추가 후 참조 해제)
+    private List<String> clearMealFoods(MealTime mealTime) {
+        List<String> images = new ArrayList<>();
+        for (MealFood mealFood : mealTime.getMealFoods()) {
+            if (mealFood.getFoodImageUrl() != null && !mealFood.getFoodImageUrl().isEmpty()) {
+                images.add(mealFood.getFoodImageUrl());
+            }
+        }
+        mealTime.getMealFoods().clear();
+        return images;
+    }
+
+    private void releaseImages(List<String> objectNames) {
+        for (String objectName : objectNames) {
+            mealImageService.deleteMealImage(objectName);
+        }
     }
 
     // 음식 추가 헬퍼 메서드
+    // 음식 ID는 카탈로그 스냅샷으로 검증하고, 연관관계에는 조회 없이 프록시 참조만 연결
+    // 음식 이미지는 이미 저장된 객체를 연결하는 것이므로 참조 추가
     private void addFoodsToMealTime(MealTime mealTime, List<MealFoodRequest> foods) {
         if (foods != null) {
             for (MealFoodRequest foodRequest : foods) {
-                Food food = foodRepository.findById(foodRequest.getFoodId())
-                        .orElseThrow(() -> new BadRequestException("유효하지 않은 음식 ID입니다: " + foodRequest.getFoodId()));
+                if (!foodCatalog.contains(foodRequest.getFoodId())) {
+                    throw new BadRequestException("유효하지 않은 음식 ID입니다: " + foodRequest.getFoodId());
+                }
+                Food food = foodRepository.getReferenceById(foodRequest.getFoodId());
+                mealImageService.acquireMealImage(foodRequest.getFoodImageUrl());
 
                 MealFood mealFood = MealFood.builder()
                         .mealTime(mealTime)
@@ -138,30 +293,43 @@ public class MealService {
         }
     }
 
-    @Transactional
+    // 저장한 시간대의 음식을 최근 먹은 음식에 반영 (음식별로 가장 늦은 식사 시각)
+    private void recordRecentFoods(Meal meal, List<MealTime> mealTimes) {
+        Map<Integer, LocalDateTime> eatenAtByFoodId = new HashMap<>();
+        for (MealTime mealTime : mealTimes) {
+            LocalTime eatingTime = mealTime.getEatingTime() != null ? mealTime.getEatingTime() : LocalTime.MIDNIGHT;
+            LocalDateTime eatenAt = LocalDateTime.of(meal.getMealDate(), eatingTime);
+            for (MealFood mealFood : mealTime.getMealFoods()) {
+                eatenAtByFoodId.merge(mealFood.getFood().getFoodId(), eatenAt,
+                        (current, candidate) -> current.isAfter(candidate) ? current : candidate);
+            }
+        }
+        recentFoodService.record(meal.getUserId(), eatenAtByFoodId);
+        foodAffinityService.refresh(meal.getUserId());
+    }
+
+    // 이미지 업로드(트랜잭션 밖, 병렬) → 식단 저장(짧은 트랜잭션) 두 단계로 처리
+    // 저장이 실패하면 이번 요청에서 올린 이미지를 지워 고아 객체를 남기지 않음
     public MealDetailResponse createOrUpdateMealWithImages(MealCreateRequest request, List<MultipartFile> images, Integer userId) {
         log.info("[CREATE/UPDATE_WITH_IMAGES] userId={} → 식단 및 이미지 등록/수정 요청: 날짜={}", userId, request.getMealDate());
 
-        // 1. 이미지가 존재하면 업로드
-        Map<MealType, String> imageUrlMap = new HashMap<>();
+        // 1. 요청의 각 mealTime에 이미지 할당 후 병렬 업로드
+        Map<MealType, MultipartFile> imageFileMap = new LinkedHashMap<>();
         if (images != null && !images.isEmpty()) {
             int imageIndex = 0;
 
-            // 요청에 있는 각 mealTime에 이미지 할당
             for (MealTimeRequest mealTimeRequest : request.getMealTimes()) {
                 if (imageIndex < images.size()) {
                     MultipartFile image = images.get(imageIndex);
                     if (image != null && !image.isEmpty()) {
-                        // 이미지 업로드
-                        String objectName = mealImageService.uploadMealImage(image);
-
-                        // mealTimeRequest에 이미지 URL 설정
-                        imageUrlMap.put(mealTimeRequest.getMealType(), objectName);
+                        imageFileMap.put(mealTimeRequest.getMealType(), image);
                         imageIndex++;
                     }
                 }
             }
         }
+        Map<MealType, String> imageUrlMap = mealImageService.uploadMealImages(imageFileMap);
+        log.info("[CREATE/UPDATE_WITH_IMAGES] 이미지 업로드 완료: 업로드 수={}", imageUrlMap.size());
 
         // 2. 이미지 URL을 MealTimeRequest에 설정 (새 객체 생성 방식)
         List<MealTimeRequest> updatedMealTimes = new ArrayList<>();
@@ -189,21 +357,41 @@ public class MealService {
                 .mealTimes(updatedMealTimes)
                 .build();
 
-        // 3. 기존 식단 등록/수정 로직 호출
-        MealDetailResponse response = createOrUpdateMeal(updatedRequest, userId);
+        // 3. 기존 식단 등록/수정 로직을 별도 트랜잭션으로 실행 (실패 시 업로드한 이미지 보상 삭제)
+        MealDetailResponse response;
+        try {
+            response = transactionTemplate.execute(status ->
+                    createOrUpdateMeal(updatedRequest, userId, new ArrayList<>(imageUrlMap.values())));
+        } catch (RuntimeException e) {
+            log.warn("[CREATE/UPDATE_WITH_IMAGES] 식단 저장 실패, 업로드 이미지 삭제: 이미지 수={}", imageUrlMap.size());
+            mealImageService.deleteMealImagesQuietly(imageUrlMap.values());
+            throw e;
+        }
+
+        // 4. 이미지 URL을 완전한 URL로 변환 (원본/썸네일/중간 크기, 파생본 저장 여부는 응답의 이미지를 모아 한 번에 조회)
+        List<String> objectNames = new ArrayList<>();
+        for (MealTimeResponse mealTimeResponse : response.getMealTimes()) {
+            objectNames.add(mealTimeResponse.getMealTimeImageUrl());
+            for (MealFoodResponse foodResponse : mealTimeResponse.getFoods()) {
+                objectNames.add(foodResponse.getFoodImageUrl());
+            }
+        }
+        objectNames.removeIf(objectName -> objectName == null || objectName.isEmpty());
+        Set<String> derivativesReady = mealImageService.findDerivativesReady(objectNames);
 
-        // 4. 이미지 URL을 완전한 URL로 변환
         for (MealTimeResponse mealTimeResponse : response.getMealTimes()) {
             String mealTimeImageUrl = mealTimeResponse.getMealTimeImageUrl();
             if (mealTimeImageUrl != null && !mealTimeImageUrl.isEmpty()) {
+                boolean ready = derivativesReady.contains(mealTimeImageUrl);
                 mealTimeResponse.setMealTimeImageUrl(mealImageService.getMealImageUrl(mealTimeImageUrl));
+                mealTimeResponse.setMealTimeImageThumbnailUrl(
+                        mealImageService.getMealImageUrl(mealTimeImageUrl, MealImageSize.THUMBNAIL, ready));
+                mealTimeResponse.setMealTimeImageMediumUrl(
+                        mealImageService.getMealImageUrl(mealTimeImageUrl, MealImageSize.MEDIUM, ready));
             }
 
             for (MealFoodResponse foodResponse : mealTimeResponse.getFoods()) {
-                String imageUrl = foodResponse.getFoodImageUrl();
-                if (imageUrl != null && !imageUrl.isEmpty()) {
-                    foodResponse.setFoodImageUrl(mealImageService.getMealImageUrl(imageUrl));
-                }
+                resolveFoodImageUrls(foodResponse, derivativesReady.contains(foodResponse.getFoodImageUrl()));
             }
         }
 
@@ -217,24 +405,8 @@ public class MealService {
                                                         MealTimeRequest request, Integer userId) {
         log.info("[UPDATE_MEALTIME] userId={} → 특정 시간대 수정 요청: 날짜={}, 시간대={}", userId, date, mealType);
 
-        // 1. 해당 날짜의 식단 조회
-        List<Meal> meals = mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(userId, date);
-        if (meals.isEmpty()) {
-            // 해당 날짜 식단이 없으면 새로 생성
-            MealCreateRequest createRequest = MealCreateRequest.builder()
-                    .mealDate(date)
-                    .isMeal(true)
-                    .mealTimes(Collections.singletonList(request))
-                    .build();
-
-            MealDetailResponse response = createOrUpdateMeal(createRequest, userId);
-            return response.getMealTimes().stream()
-                    .filter(mt -> mt.getMealType() == mealType)
-                    .findFirst()
-                    .orElseThrow(() -> new InternalServerErrorException("식단 생성 후 해당 시간대를 찾을 수 없습니다."));
-        }
-
-        Meal meal = meals.get(0);
+        // 1. 해당 날짜의 식단 확보 (없으면 생성)
+        Meal meal = upsertMeal(userId, date, null);
 
         // 2. 해당 시간대의 MealTime 찾기
         Optional<MealTime> existingMealTime = meal.getMealTimes().stream()
@@ -242,10 +414,11 @@ public class MealService {
                 .findFirst();
 
         MealTime mealTime;
+        List<String> removedFoodImages = List.of();
         if (existingMealTime.isPresent()) {
             // 기존 MealTime이 있으면 음식 목록 초기화
             mealTime = existingMealTime.get();
-            mealTime.getMealFoods().clear();
+            removedFoodImages = clearMealFoods(mealTime);
 
             // eatingTime 업데이트
             mealTime.updateEatingTime(request.getEatingTime());
@@ -259,14 +432,17 @@ public class MealService {
             meal.getMealTimes().add(mealTime);
         }
 
-        // 3. 새 음식 추가
+        // 3. 새 음식 추가 후 지워진 음식의 이미지 참조 해제
         addFoodsToMealTime(mealTime, request.getFoods());
+        releaseImages(removedFoodImages);
 
         // 4. 저장 및 결과 반환
         mealRepository.save(meal);
+        nutritionRollupService.refresh(meal);
+        recordRecentFoods(meal, List.of(mealTime));
         log.info("[UPDATE_MEALTIME] 시간대 수정 완료: 날짜={}, 시간대={}", date, mealType);
 
-        return MealTimeResponse.toDto(mealTime);
+        return MealTimeResponse.toDto(mealTime, foodCatalog.snapshot());
     }
 
     // 날짜별 식단 삭제
@@ -279,6 +455,8 @@ public class MealService {
             Meal meal = meals.get(0);
             meal.delete(); // soft delete 수행
             mealRepository.save(meal);
+            nutritionRollupService.refresh(meal);
+            foodAffinityService.refresh(meal.getUserId());
             log.info("[DELETE_DATE] 식단 삭제 완료: date={}", date);
         } else {
             throw new NotFoundException("해당 날짜의 식단을 찾을 수 없습니다.");
@@ -301,6 +479,8 @@ public class MealService {
                         log.info("[DELETE_MEALTIME] 시간대 삭제 완료: date={}, type={}", date, mealType);
                     });
             mealRepository.save(meal);
+            nutritionRollupService.refresh(meal);
+            foodAffinityService.refresh(meal.getUserId());
         } else {
             throw new NotFoundException("해당 날짜의 식단을 찾을 수 없습니다.");
         }
@@ -336,17 +516,58 @@ public class MealService {
         // MealFood 삭제
         mealTime.getMealFoods().remove(mealFood);
         mealFoodRepository.delete(mealFood);
+        nutritionRollupService.refresh(meal);
+        foodAffinityService.refresh(meal.getUserId());
 
         log.info("[DELETE_FOOD] 음식 삭제 완료: mealFoodId={}", mealFoodId);
     }
 
     // 날짜별 식단 조회 (영양소 정보 포함)
+    // 식단/시간대/음식/음식 정보를 평탄화한 한 번의 조회 결과로 응답과 영양소 합계를 함께 조립
     @Transactional(readOnly = true)
     public MealDailyResponse getMealByDate(LocalDate date, Integer userId) {
         log.info("[GET_DATE] userId={} → 날짜별 식단 조회 요청: date={}", userId, date);
 
-        List<Meal> meals = mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(userId, date);
-        if (meals.isEmpty()) {
+        MealDailyResponse response = toMealDailyResponse(date, mealRepository.findMealDayRows(userId, date));
+
+        log.info("[GET_DATE] 조회 성공: date={}, 시간대 수={}", date, response.getMealTimes().size());
+        return response;
+    }
+
+    // 기간 식단 조회 (캘린더/주간 화면용)
+    // 기간 전체를 한 번에 조회한 뒤 날짜별로 나누고, 기록이 없는 날은 빈 식단으로 채움
+    @Transactional(readOnly = true)
+    public MealRangeResponse getMealsByRange(Integer userId, LocalDate startDate, LocalDate endDate) {
+        log.info("[GET_RANGE] userId={} → 기간 식단 조회 요청: {} ~ {}", userId, startDate, endDate);
+
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("기간 식단 조회는 최대 " + MAX_RANGE_DAYS + "일까지 가능합니다.");
+        }
+
+        Map<LocalDate, List<MealDayRowProjection>> rowsByDate = new HashMap<>();
+        for (MealDayRowProjection row : mealRepository.findMealRangeRows(userId, startDate, endDate)) {
+            rowsByDate.computeIfAbsent(row.getMealDate(), d -> new ArrayList<>()).add(row);
+        }
+
+        List<MealDailyResponse> meals = startDate.datesUntil(endDate.plusDays(1))
+                .map(date -> toMealDailyResponse(date, rowsByDate.getOrDefault(date, Collections.emptyList())))
+                .collect(Collectors.toList());
+
+        log.info("[GET_RANGE] 조회 성공: userId={}, 일수={}, 기록된 일수={}", userId, meals.size(), rowsByDate.size());
+
+        return MealRangeResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .meals(meals)
+                .build();
+    }
+
+    // 한 날짜의 평탄화 행(식단 → 시간대 → 음식 순 정렬)을 응답으로 조립
+    private MealDailyResponse toMealDailyResponse(LocalDate date, List<MealDayRowProjection> rows) {
+        if (rows.isEmpty()) {
             // 해당 날짜 식단이 없으면 빈 식단 반환
             return MealDailyResponse.builder()
                     .mealDate(date)
@@ -356,139 +577,100 @@ public class MealService {
                     .build();
         }
 
-        Meal meal = meals.get(0);
-
-        // 전체 영양소 계산
-        MealNutritionDto totalNutrition = calculateTotalNutrition(meal);
+        // 같은 날짜에 식단이 여러 개면 첫 번째 식단만 사용
+        MealDayRowProjection mealRow = rows.get(0);
+        NutrientVector totalNutrients = NutrientVector.zero();
+        List<MealTimeNutritionResponse> mealTimeResponses = new ArrayList<>();
+
+        int index = 0;
+        while (index < rows.size() && rows.get(index).getMealId().equals(mealRow.getMealId())) {
+            MealDayRowProjection timeRow = rows.get(index);
+            if (timeRow.getMealTimeId() == null) {
+                index++;
+                continue;
+            }
 
-        // 시간대별 응답 생성 (영양소 포함)
-        List<MealTimeNutritionResponse> mealTimeResponses = meal.getMealTimes().stream()
-                .filter(mt -> !mt.getIsDeleted())
-                .map(this::convertToMealTimeNutritionResponse)
-                .collect(Collectors.toList());
+            // 같은 시간대 행을 묶어서 음식 응답 생성
+            NutrientVector timeNutrients = NutrientVector.zero();
+            List<MealFoodResponse> foodResponses = new ArrayList<>();
+            while (index < rows.size()
+                    && timeRow.getMealTimeId().equals(rows.get(index).getMealTimeId())) {
+                MealDayRowProjection foodRow = rows.get(index++);
+                if (foodRow.getMealFoodId() == null) continue;
+
+                NutrientVector foodNutrients = NutrientVector.of(foodRow.getCalorie(), foodRow.getCarbohydrate(),
+                        foodRow.getProtein(), foodRow.getFat(), foodRow.getSugar(), foodRow.getSodium(),
+                        foodRow.getSaturatedFat(), foodRow.getTransFat(), foodRow.getCholesterol(),
+                        foodRow.getQuantity());
+                timeNutrients.add(foodNutrients);
+
+                MealFoodResponse response = MealFoodResponse.toDto(foodRow, foodNutrients);
+                resolveFoodImageUrls(response, Boolean.TRUE.equals(foodRow.getFoodImageDerivativesReady()));
+                foodResponses.add(response);
+            }
 
-        log.info("[GET_DATE] 조회 성공: date={}, 시간대 수={}", date, mealTimeResponses.size());
+            totalNutrients.add(timeNutrients);
+            mealTimeResponses.add(toMealTimeNutritionResponse(timeRow, foodResponses,
+                    MealNutritionDto.toDto(timeNutrients)));
+        }
 
         return MealDailyResponse.builder()
-                .mealId(meal.getMealId())
-                .mealDate(meal.getMealDate())
-                .isMeal(meal.getIsMeal())
-                .totalNutrition(totalNutrition)
+                .mealId(mealRow.getMealId())
+                .mealDate(mealRow.getMealDate())
+                .isMeal(mealRow.getIsMeal())
+                .totalNutrition(MealNutritionDto.toDto(totalNutrients))
                 .mealTimes(mealTimeResponses)
-                .createdAt(meal.getCreatedAt())
-                .updatedAt(meal.getUpdatedAt())
+                .createdAt(mealRow.getMealCreatedAt())
+                .updatedAt(mealRow.getMealUpdatedAt())
                 .build();
     }
 
     // 시간대별 영양소 응답 생성
-    private MealTimeNutritionResponse convertToMealTimeNutritionResponse(MealTime mealTime) {
-        // 음식 응답 생성
-        List<MealFoodResponse> foodResponses = mealTime.getMealFoods().stream()
-                .map(mf -> {
-                    MealFoodResponse response = MealFoodResponse.toDto(mf);
-
-                    // 음식 이미지 URL 처리
-                    if (response.getFoodImageUrl() != null && !response.getFoodImageUrl().isEmpty()) {
-                        response.setFoodImageUrl(mealImageService.getMealImageUrl(response.getFoodImageUrl()));
-                    }
-
-                    return response;
-                })
-                .collect(Collectors.toList());
-
-        // 시간대별 영양소 계산
-        MealNutritionDto nutrition = calculateMealTimeNutrition(mealTime);
-
-        // MealTime 이미지 URL 처리
-        String mealTimeImageUrl = mealTime.getMealTimeImageUrl();
-        if (mealTimeImageUrl != null && !mealTimeImageUrl.isEmpty()) {
-            mealTimeImageUrl = mealImageService.getMealImageUrl(mealTimeImageUrl);
+    private MealTimeNutritionResponse toMealTimeNutritionResponse(MealDayRowProjection timeRow,
+                                                                  List<MealFoodResponse> foodResponses,
+                                                                  MealNutritionDto nutrition) {
+        // MealTime 이미지 URL 처리 (원본/썸네일/중간 크기)
+        String objectName = timeRow.getMealTimeImageUrl();
+        String mealTimeImageUrl = null;
+        String thumbnailUrl = null;
+        String mediumUrl = null;
+        if (objectName != null && !objectName.isEmpty()) {
+            boolean derivativesReady = Boolean.TRUE.equals(timeRow.getMealTimeImageDerivativesReady());
+            mealTimeImageUrl = mealImageService.getMealImageUrl(objectName);
+            thumbnailUrl = mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, derivativesReady);
+            mediumUrl = mealImageService.getMealImageUrl(objectName, MealImageSize.MEDIUM, derivativesReady);
         }
 
         return MealTimeNutritionResponse.builder()
-                .mealTimeId(mealTime.getMealTimeId())
-                .mealType(mealTime.getMealType())
-                .eatingTime(mealTime.getEatingTime())
+                .mealTimeId(timeRow.getMealTimeId())
+                .mealType(timeRow.getMealType())
+                .eatingTime(timeRow.getEatingTime())
                 .foods(foodResponses)
                 .nutrition(nutrition)
                 .mealTimeImageUrl(mealTimeImageUrl)
-                .createdAt(mealTime.getCreatedAt())
-                .updatedAt(mealTime.getUpdatedAt())
-                .build();
-    }
-
-    // 빈 영양소 객체 생성
-    private MealNutritionDto createEmptyNutrition() {
-        return MealNutritionDto.builder()
-                .totalCalorie(0)
-                .totalCarbohydrate(BigDecimal.ZERO)
-                .totalProtein(BigDecimal.ZERO)
-                .totalFat(BigDecimal.ZERO)
-                .totalSugar(BigDecimal.ZERO)
-                .totalSodium(BigDecimal.ZERO)
+                .mealTimeImageThumbnailUrl(thumbnailUrl)
+                .mealTimeImageMediumUrl(mediumUrl)
+                .createdAt(timeRow.getMealTimeCreatedAt())
+                .updatedAt(timeRow.getMealTimeUpdatedAt())
                 .build();
     }
 
-    // 시간대별 영양소 계산
-    private MealNutritionDto calculateMealTimeNutrition(MealTime mealTime) {
-        int totalCalorie = 0;
-        BigDecimal totalCarb = BigDecimal.ZERO;
-        BigDecimal totalProtein = BigDecimal.ZERO;
-        BigDecimal totalFat = BigDecimal.ZERO;
-        BigDecimal totalSugar = BigDecimal.ZERO;
-        BigDecimal totalSodium = BigDecimal.ZERO;
-
-        for (MealFood mealFood : mealTime.getMealFoods()) {
-            Food food = mealFood.getFood();
-            Float quantity = mealFood.getQuantity();
-
-            totalCalorie += (int) (food.getCalorie() * quantity);
-            totalCarb = totalCarb.add(food.getCarbohydrate().multiply(BigDecimal.valueOf(quantity)));
-            totalProtein = totalProtein.add(food.getProtein().multiply(BigDecimal.valueOf(quantity)));
-            totalFat = totalFat.add(food.getFat().multiply(BigDecimal.valueOf(quantity)));
-            totalSugar = totalSugar.add(food.getSweet().multiply(BigDecimal.valueOf(quantity)));
-            totalSodium = totalSodium.add(food.getSodium().multiply(BigDecimal.valueOf(quantity)));
-        }
-
-        return MealNutritionDto.builder()
-                .totalCalorie(totalCalorie)
-                .totalCarbohydrate(totalCarb)
-                .totalProtein(totalProtein)
-                .totalFat(totalFat)
-                .totalSugar(totalSugar)
-                .totalSodium(totalSodium)
-                .build();
+    // 음식 이미지 objectName → 원본/썸네일/중간 크기 URL (파생본이 저장되기 전에는 모두 원본 URL)
+    private void resolveFoodImageUrls(MealFoodResponse response, boolean derivativesReady) {
+        String objectName = response.getFoodImageUrl();
+        if (objectName == null || objectName.isEmpty()) {
+            return;
+        }
+        response.setFoodImageUrl(mealImageService.getMealImageUrl(objectName));
+        response.setFoodImageThumbnailUrl(
+                mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, derivativesReady));
+        response.setFoodImageMediumUrl(
+                mealImageService.getMealImageUrl(objectName, MealImageSize.MEDIUM, derivativesReady));
     }
 
-    // 전체 식단 영양소 계산
-    private MealNutritionDto calculateTotalNutrition(Meal meal) {
-        int totalCalorie = 0;
-        BigDecimal totalCarb = BigDecimal.ZERO;
-        BigDecimal totalProtein = BigDecimal.ZERO;
-        BigDecimal totalFat = BigDecimal.ZERO;
-        BigDecimal totalSugar = BigDecimal.ZERO;
-        BigDecimal totalSodium = BigDecimal.ZERO;
-
-        for (MealTime mealTime : meal.getMealTimes()) {
-            if (mealTime.getIsDeleted()) continue;
-
-            MealNutritionDto timeNutrition = calculateMealTimeNutrition(mealTime);
-            totalCalorie += timeNutrition.getTotalCalorie();
-            totalCarb = totalCarb.add(timeNutrition.getTotalCarbohydrate());
-            totalProtein = totalProtein.add(timeNutrition.getTotalProtein());
-            totalFat = totalFat.add(timeNutrition.getTotalFat());
-            totalSugar = totalSugar.add(timeNutrition.getTotalSugar());
-            totalSodium = totalSodium.add(timeNutrition.getTotalSodium());
-        }
-
-        return MealNutritionDto.builder()
-                .totalCalorie(totalCalorie)
-                .totalCarbohydrate(totalCarb)
-                .totalProtein(totalProtein)
-                .totalFat(totalFat)
-                .totalSugar(totalSugar)
-                .totalSodium(totalSodium)
-                .build();
+    // 빈 영양소 객체 생성
+    private MealNutritionDto createEmptyNutrition() {
+        return MealNutritionDto.toDto(NutrientVector.zero());
     }
 
     // 기존 getMealDetail 메서드
@@ -499,7 +681,7 @@ public class MealService {
         Meal meal = findOwnedMeal(mealId, userId);
 
         log.info("[DETAIL] 조회 성공: mealId={}, date={}", mealId, meal.getMealDate());
-        return MealDetailResponse.toDto(meal);
+        return MealDetailResponse.toDto(meal, foodCatalog.snapshot());
     }
 
     // 소유권 확인 및 식단 조회 메소드 (기존 코드에서 가져옴)
@@ -526,106 +708,27 @@ public class MealService {
         Meal meal = findOwnedMeal(mealId, userId);
         meal.delete(); // soft delete 수행
         mealRepository.save(meal);
+        nutritionRollupService.refresh(meal);
+        foodAffinityService.refresh(meal.getUserId());
 
         log.info("[DELETE] 식단 삭제 완료: mealId={}", mealId);
     }
 
     // 영양 정보 계산 관련 메서드
+    // user_daily_nutrition 롤업 한 행만 조회
     @Transactional(readOnly = true)
     public DailyNutritionResponse getDailyNutrition(Integer userId, LocalDate date) {
         log.info("[DAILY] userId={} → 일일 영양정보 조회 요청: date={}", userId, date);
 
-        try {
-            Object[] result = mealRepository.calculateDailyNutritionRaw(userId, date);
-
-            // null 또는 빈 배열 체크
-            if (result == null || result.length == 0) {
-                log.info("[DAILY] 영양 정보 없음: userId={}, date={}", userId, date);
-                return DailyNutritionResponse.builder()
-                        .date(date)
-                        .totalCalorie(0)
-                        .totalCarbohydrate(BigDecimal.ZERO)
-                        .totalProtein(BigDecimal.ZERO)
-                        .totalFat(BigDecimal.ZERO)
-                        .totalSodium(BigDecimal.ZERO)
-                        .totalSugar(BigDecimal.ZERO)
-                        .build();
-            }
-
-            // 첫 번째 요소가 배열인 경우 (쿼리 결과가 배열의 배열로 반환되는 경우)
-            if (result[0] instanceof Object[]) {
-                result = (Object[]) result[0];
-            }
-
-            // 안전한 타입 변환 로직
-            Number calorieNum = result[0] instanceof Number ? (Number) result[0] : null;
-            Integer calories = (calorieNum != null) ? calorieNum.intValue() : 0;
-
-            // 안전한 변환 메서드 사용
-            BigDecimal carbs = toBigDecimal(result[1]);
-            BigDecimal protein = toBigDecimal(result[2]);
-            BigDecimal fat = toBigDecimal(result[3]);
-            BigDecimal sugar = toBigDecimal(result[4]);
-            BigDecimal sodium = toBigDecimal(result[5]);
-
-            // 로그 추가하여 실제 결과값과 타입 확인
-            log.info("[DAILY] 결과 확인: [1]={} ({}), [2]={} ({}), [3]={} ({}), [4]={} ({}), [5]={} ({})",
-                    result[1], result[1] != null ? result[1].getClass().getName() : "null",
-                    result[2], result[2] != null ? result[2].getClass().getName() : "null",
-                    result[3], result[3] != null ? result[3].getClass().getName() : "null",
-                    result[4], result[4] != null ? result[4].getClass().getName() : "null",
-                    result[5], result[5] != null ? result[5].getClass().getName() : "null");
-
-            log.info("[DAILY] 계산 완료: userId={}, date={}, 칼로리={}, 탄수화물={}, 단백질={}, 지방={}, 당={}, 나트륨={}",
-                    userId, date, calories, carbs, protein, fat, sugar, sodium);
-
-            return DailyNutritionResponse.builder()
-                    .date(date)
-                    .totalCalorie(calories)
-                    .totalCarbohydrate(carbs)
-                    .totalProtein(protein)
-                    .totalFat(fat)
-                    .totalSugar(sugar)
-                    .totalSodium(sodium)
-                    .build();
-        } catch (Exception e) {
-            log.error("[DAILY] 오류 발생: userId={}, date={}, 오류={}", userId, date, e.getMessage(), e);
-
-            // 오류 발생 시 기본값 반환
-            return DailyNutritionResponse.builder()
-                    .date(date)
-                    .totalCalorie(0)
-                    .totalCarbohydrate(BigDecimal.ZERO)
-                    .totalProtein(BigDecimal.ZERO)
-                    .totalFat(BigDecimal.ZERO)
-                    .totalSugar(BigDecimal.ZERO)
-                    .totalSodium(BigDecimal.ZERO)
-                    .build();
-        }
-    }
-
-    // 안전한 BigDecimal 변환 메서드 추가
-    private BigDecimal toBigDecimal(Object value) {
-        if (value == null) {
-            return BigDecimal.ZERO;
-        }
-
-        if (value instanceof BigDecimal) {
-            return (BigDecimal) value;
-        }
-
-        if (value instanceof Number) {
-            return BigDecimal.valueOf(((Number) value).doubleValue());
-        }
+        DailyNutritionResponse response = userDailyNutritionRepository.findByUserIdAndNutritionDate(userId, date)
+                .map(DailyNutritionResponse::toDto)
+                .orElseGet(() -> DailyNutritionResponse.empty(date));
 
-        try {
-            return new BigDecimal(value.toString());
-        } catch (Exception e) {
-            log.warn("BigDecimal 변환 실패: {}", value);
-            return BigDecimal.ZERO;
-        }
+        log.info("[DAILY] 조회 완료: userId={}, date={}, 칼로리={}", userId, date, response.getTotalCalorie());
+        return response;
     }
 
+    // 최근 7일 롤업 행 조회 후 빈 날짜는 0으로 채움
     @Transactional(readOnly = true)
     public WeeklyNutritionResponse getWeeklyNutrition(Integer userId, LocalDate endDate) {
         log.info("[WEEKLY] userId={} → 주간 영양정보 조회 요청: endDate={}", userId, endDate);
@@ -633,53 +736,13 @@ public class MealService {
         // 시작 날짜 계산 (끝 날짜로부터 6일 전)
         LocalDate startDate = endDate.minusDays(6);
 
-        // 한 번의 쿼리로 주간 영양정보 조회
-        List<Object[]> weeklyNutritionData = mealRepository.calculateWeeklyNutrition(userId, startDate, endDate);
-
-        // 결과 변환
-        List<DailyNutritionResponse> dailyNutritions = new ArrayList<>();
-
-        // 날짜별로 데이터 매핑
-        Map<LocalDate, DailyNutritionResponse> nutritionMap = new HashMap<>();
-
-        // 주간 범위의 모든 날짜에 대해 객체 생성
-        startDate.datesUntil(endDate.plusDays(1)).forEach(date ->
-                nutritionMap.put(date, DailyNutritionResponse.builder()
-                        .date(date)
-                        .totalCalorie(0)
-                        .totalCarbohydrate(BigDecimal.ZERO)
-                        .totalProtein(BigDecimal.ZERO)
-                        .totalFat(BigDecimal.ZERO)
-                        .totalSugar(BigDecimal.ZERO)
-                        .totalSodium(BigDecimal.ZERO)
-                        .build())
-        );
-
-        // 쿼리 결과로 데이터 채우기
-        for (Object[] row : weeklyNutritionData) {
-            LocalDate date = (LocalDate) row[0];
-            Integer calories = ((Number) row[1]).intValue();
-            BigDecimal carbs = (BigDecimal) row[2];
-            BigDecimal protein = (BigDecimal) row[3];
-            BigDecimal fat = (BigDecimal) row[4];
-            BigDecimal sugar = (BigDecimal) row[5];
-            BigDecimal sodium = (BigDecimal) row[6];
-
-            nutritionMap.put(date, DailyNutritionResponse.builder()
-                    .date(date)
-                    .totalCalorie(calories)
-                    .totalCarbohydrate(carbs)
-                    .totalProtein(protein)
-                    .totalFat(fat)
-                    .totalSugar(sugar)
-                    .totalSodium(sodium)
-                    .build());
-        }
+        Map<LocalDate, DailyNutritionResponse> nutritionMap = userDailyNutritionRepository
+                .findByUserIdAndNutritionDateBetweenOrderByNutritionDate(userId, startDate, endDate)
+                .stream()
+                .collect(Collectors.toMap(UserDailyNutrition::getNutritionDate, DailyNutritionResponse::toDto));
 
-        // 날짜 순서대로 정렬
-        dailyNutritions = nutritionMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(Map.Entry::getValue)
+        List<DailyNutritionResponse> dailyNutritions = startDate.datesUntil(endDate.plusDays(1))
+                .map(date -> nutritionMap.getOrDefault(date, DailyNutritionResponse.empty(date)))
                 .collect(Collectors.toList());
 
         log.info("[WEEKLY] 계산 완료: userId={}, startDate={}, endDate={}", userId, startDate, endDate);
@@ -694,6 +757,9 @@ public class MealService {
     @Autowired
     private MealImageService mealImageService;
 
+    @Autowired
+    private MealImageDirectUploadService mealImageDirectUploadService;
+
     // 음식 이미지를 업로드하고 식단에 추가
     @Transactional
     public Map<String, String> uploadMealFoodImage(Integer mealFoodId, MultipartFile file, Integer userId) {
@@ -710,19 +776,15 @@ public class MealService {
             throw new UnauthorizedException("이 음식에 접근할 권한이 없습니다.");
         }
 
-        // 기존 이미지가 있다면 삭제
+        // 새 이미지 업로드 (업로드 시 얻은 참조를 이 음식의 참조로 사용)
+        String objectName = mealImageService.uploadMealImage(file);
+
+        // 기존 이미지 참조 해제 (같은 사진을 다시 올렸으면 업로드로 늘어난 참조만 해제)
         String existingImageUrl = mealFood.getFoodImageUrl();
         if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
-            try {
-                mealImageService.deleteMealImage(existingImageUrl);
-            } catch (Exception e) {
-                log.warn("기존 이미지 삭제 실패: {}", e.getMessage());
-            }
+            mealImageService.deleteMealImage(existingImageUrl);
         }
 
-        // 새 이미지 업로드
-        String objectName = mealImageService.uploadMealImage(file);
-
         // 이미지 URL을 MealFood에 저장
         mealFood.updateFoodImageUrl(objectName);
         mealFoodRepository.save(mealFood);
@@ -734,6 +796,9 @@ public class MealService {
         Map<String, String> result = new HashMap<>();
         result.put("objectName", objectName);
         result.put("imageUrl", imageUrl);
+        boolean derivativesReady = mealImageService.isDerivativesReady(objectName);
+        result.put("thumbnailUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, derivativesReady));
+        result.put("mediumUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.MEDIUM, derivativesReady));
 
         log.info("[UPLOAD_IMAGE] 이미지 업로드 완료: mealFoodId={}, objectName={}", mealFoodId, objectName);
         return result;
@@ -755,13 +820,15 @@ public class MealService {
             throw new UnauthorizedException("이 음식에 접근할 권한이 없습니다.");
         }
 
-        // 기존 이미지가 있다면 삭제
+        // 직접 업로드한 이미지는 완료 확인(HEAD)을 거친 것만 연결
+        mealImageDirectUploadService.checkAttachable(objectName, userId);
+
+        // 새 이미지 참조 추가 후 기존 이미지 참조 해제 (같은 이미지를 다시 연결하면 그대로 둠)
         String existingImageUrl = mealFood.getFoodImageUrl();
-        if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
-            try {
+        if (!objectName.equals(existingImageUrl)) {
+            mealImageService.acquireMealImage(objectName);
+            if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
                 mealImageService.deleteMealImage(existingImageUrl);
-            } catch (Exception e) {
-                log.warn("기존 이미지 삭제 실패: {}", e.getMessage());
             }
         }
 
@@ -776,31 +843,33 @@ public class MealService {
         Map<String, String> result = new HashMap<>();
         result.put("objectName", objectName);
         result.put("imageUrl", imageUrl);
+        boolean derivativesReady = mealImageService.isDerivativesReady(objectName);
+        result.put("thumbnailUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, derivativesReady));
+        result.put("mediumUrl", mealImageService.getMealImageUrl(objectName, MealImageSize.MEDIUM, derivativesReady));
 
         log.info("[ATTACH_IMAGE] 이미지 연결 완료: mealFoodId={}, objectName={}", mealFoodId, objectName);
         return result;
     }
 
-    @Transactional(readOnly = true)
+    // 최근 먹은 음식 목록은 사용자별 최근 음식 캐시에서 limit 개만 읽고, 음식/즐겨찾기는 한 번씩 조회
     public List<FoodDetailResponse> getRecentFoods(Integer userId, int limit) {
         log.info("[RECENT_FOODS] userId={} → 최근 먹은 음식 조회 요청: limit={}", userId, limit);
 
-        // 최근 등록된 식단에서 음식 리스트 조회 (중복 제거)
-        List<Food> recentFoods = mealFoodRepository.findDistinctRecentFoodsByUserId(userId, 10);
-        if (recentFoods.isEmpty()) {
+        List<Integer> foodIds = recentFoodService.getRecentFoodIds(userId, limit);
+        if (foodIds.isEmpty()) {
             log.info("[RECENT_FOODS] 최근 먹은 음식이 없습니다: userId={}", userId);
             return List.of();
         }
 
-        List<Integer> foodIds = recentFoods.stream()
-                .map(Food::getFoodId)
-                .collect(Collectors.toList());
+        // 최근 순서 유지
+        Map<Integer, Food> foodsById = foodRepository.findAllById(foodIds).stream()
+                .collect(Collectors.toMap(Food::getFoodId, food -> food));
+        List<Food> recentFoods = foodIds.stream()
+                .map(foodsById::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        Set<Integer> favoriteFoodIds = favoriteFoodRepository
-                .findAllByUserIdAndFoodFoodIdIn(userId, foodIds)
-                .stream()
-                .map(favoriteFood -> favoriteFood.getFood().getFoodId())
-                .collect(Collectors.toSet());
+        FavoriteFoodIds favoriteFoodIds = favoriteService.getFavoriteFoodIds(userId);
 
         List<FoodDetailResponse> result = recentFoods.stream()
                 .map(food -> FoodDetailResponse.toDto(food, favoriteFoodIds.contains(food.getFoodId())))
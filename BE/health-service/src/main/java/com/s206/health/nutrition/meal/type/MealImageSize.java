@@ -0,0 +1,66 @@
+package com.s206.health.nutrition.meal.type;
+
+import java.util.Locale;
+import java.util.Set;
+
+// 식단 이미지 파생본 크기 (긴 변 기준 px)
+// 원본 meal/{uuid}.{ext} 옆에 meal/{uuid}_{suffix}.jpg 로 저장
+public enum MealImageSize {
+    THUMBNAIL("thumb", 240),
+    MEDIUM("medium", 960);
+
+    private static final String DERIVATIVE_EXTENSION = ".jpg";
+
+    // 파생본을 만드는 원본 확장자 (ImageIO 기본 디코더가 읽을 수 있는 형식)
+    private static final Set<String> DECODABLE_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".bmp");
+
+    private final String suffix;
+    private final int maxEdge;
+
+    MealImageSize(String suffix, int maxEdge) {
+        this.suffix = suffix;
+        this.maxEdge = maxEdge;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    // 원본 objectName → 파생본 objectName
+    public String objectNameOf(String objectName) {
+        int slash = objectName.lastIndexOf('/');
+        int dot = objectName.lastIndexOf('.');
+        String base = dot > slash ? objectName.substring(0, dot) : objectName;
+        return base + "_" + suffix + DERIVATIVE_EXTENSION;
+    }
+
+    // 원본/파생본 objectName → 확장자와 크기 접미사를 뗀 공통 부분 (meal/{uuid})
+    public static String baseOf(String objectName) {
+        for (MealImageSize size : values()) {
+            String derivativeSuffix = "_" + size.suffix + DERIVATIVE_EXTENSION;
+            if (objectName.endsWith(derivativeSuffix)) {
+                return objectName.substring(0, objectName.length() - derivativeSuffix.length());
+            }
+        }
+        int slash = objectName.lastIndexOf('/');
+        int dot = objectName.lastIndexOf('.');
+        return dot > slash ? objectName.substring(0, dot) : objectName;
+    }
+
+    // 파생본을 만드는 형식인지 (HEIC/WebP 등은 파생본 없이 원본 URL 사용)
+    public static boolean hasDerivatives(String objectName) {
+        int slash = objectName.lastIndexOf('/');
+        int dot = objectName.lastIndexOf('.');
+        return dot > slash && DECODABLE_EXTENSIONS.contains(objectName.substring(dot).toLowerCase(Locale.ROOT));
+    }
+
+    // 파생본 objectName 여부 (백필 시 원본만 고르기 위해 사용)
+    public static boolean isDerivative(String objectName) {
+        for (MealImageSize size : values()) {
+            if (objectName.endsWith("_" + size.suffix + DERIVATIVE_EXTENSION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.s206.health.nutrition.recent.dto.response;
+
+// 식단 원본에서 집계한 음식별 섭취 횟수
+public interface FoodFrequencyProjection {
+
+    Integer getFoodId();
+
+    Long getEatCount();
+}
@@ -0,0 +1,11 @@
+package com.s206.health.nutrition.recent.dto.response;
+
+import java.time.LocalDateTime;
+
+// 식단 원본에서 다시 만든 최근 먹은 음식 행 (음식별 마지막으로 먹은 시각)
+public interface RecentFoodProjection {
+
+    Integer getFoodId();
+
+    LocalDateTime getLastEatenAt();
+}
@@ -0,0 +1,41 @@
+package com.s206.health.nutrition.recent.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// 사용자별 최근 먹은 음식 (음식당 한 행, 마지막으로 먹은 시각)
+// 식단 쓰기 경로에서 같은 트랜잭션으로 갱신되며, 사용자당 RecentFoodService.CAPACITY 개 안팎으로 유지
+@Entity
+@Getter
+@Table(name = "user_recent_food_tb",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "food_id"})},
+        indexes = {@Index(name = "IDX_user_recent_food_user_eaten", columnList = "user_id, last_eaten_at")})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserRecentFood {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer userRecentFoodId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "food_id", nullable = false)
+    private Integer foodId;
+
+    // 식단 날짜 + 식사 시각
+    @Column(name = "last_eaten_at", nullable = false)
+    private LocalDateTime lastEatenAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.s206.health.nutrition.recent.repository;
+
+import com.s206.health.nutrition.recent.entity.UserRecentFood;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserRecentFoodRepository extends JpaRepository<UserRecentFood, Integer> {
+
+    // (user_id, last_eaten_at) 인덱스를 역순으로 읽으므로 limit 개만 읽음
+    List<UserRecentFood> findByUserIdOrderByLastEatenAtDesc(Integer userId, Pageable pageable);
+
+    boolean existsByUserId(Integer userId);
+
+    // 지난 날짜 식단을 수정해도 더 최근 기록을 덮어쓰지 않도록 큰 값을 유지
+    @Modifying
+    @Query(value = "INSERT INTO user_recent_food_tb (user_id, food_id, last_eaten_at, updated_at) " +
+            "VALUES (:userId, :foodId, :lastEatenAt, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE last_eaten_at = GREATEST(last_eaten_at, VALUES(last_eaten_at)), " +
+            "updated_at = NOW(6)",
+            nativeQuery = true)
+    int upsert(@Param("userId") Integer userId,
+               @Param("foodId") Integer foodId,
+               @Param("lastEatenAt") LocalDateTime lastEatenAt);
+
+    // 최근 keep 개만 남기고 삭제 (MySQL은 IN 서브쿼리의 LIMIT을 허용하지 않아 파생 테이블로 감쌈)
+    @Modifying
+    @Query(value = "DELETE FROM user_recent_food_tb WHERE user_id = :userId " +
+            "AND user_recent_food_id NOT IN (SELECT id FROM (" +
+            "SELECT user_recent_food_id AS id FROM user_recent_food_tb WHERE user_id = :userId " +
+            "ORDER BY last_eaten_at DESC LIMIT :keep) kept)",
+            nativeQuery = true)
+    int prune(@Param("userId") Integer userId, @Param("keep") int keep);
+}
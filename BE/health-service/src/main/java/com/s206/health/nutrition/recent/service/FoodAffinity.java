@@ -0,0 +1,82 @@
+package com.s206.health.nutrition.recent.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 음식 선호도 (foodId → 가중치, 정렬된 int 배열 + 이진 탐색)
+// 검색 시점에는 조회 없이 이 값만으로 결과 순서를 조정
+public final class FoodAffinity {
+
+    static final FoodAffinity EMPTY = new FoodAffinity(new int[0], new float[0]);
+
+    private final int[] sortedFoodIds;
+    private final float[] weights;
+    private final long loadedAt = System.currentTimeMillis();
+
+    private FoodAffinity(int[] sortedFoodIds, float[] weights) {
+        this.sortedFoodIds = sortedFoodIds;
+        this.weights = weights;
+    }
+
+    static FoodAffinity of(Map<Integer, Float> weightByFoodId) {
+        if (weightByFoodId.isEmpty()) {
+            return EMPTY;
+        }
+        int[] foodIds = weightByFoodId.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        float[] weights = new float[foodIds.length];
+        for (int i = 0; i < foodIds.length; i++) {
+            weights[i] = weightByFoodId.get(foodIds[i]);
+        }
+        return new FoodAffinity(foodIds, weights);
+    }
+
+    public float weightOf(Integer foodId) {
+        if (foodId == null) {
+            return 0f;
+        }
+        int index = Arrays.binarySearch(sortedFoodIds, foodId);
+        return index >= 0 ? weights[index] : 0f;
+    }
+
+    public boolean isEmpty() {
+        return sortedFoodIds.length == 0;
+    }
+
+    public int size() {
+        return sortedFoodIds.length;
+    }
+
+    // 검색 순위 재정렬: 원래 순위 점수(1 → 0 선형) + 선호도 × strength 내림차순, 같으면 원래 순서 유지
+    public List<Integer> rerank(List<Integer> rankedFoodIds, float strength) {
+        int size = rankedFoodIds.size();
+        if (isEmpty() || size < 2 || strength <= 0f) {
+            return rankedFoodIds;
+        }
+
+        float[] scores = new float[size];
+        Integer[] order = new Integer[size];
+        boolean boosted = false;
+        for (int i = 0; i < size; i++) {
+            float weight = weightOf(rankedFoodIds.get(i));
+            boosted |= weight > 0f;
+            scores[i] = (float) (size - i) / size + weight * strength;
+            order[i] = i;
+        }
+        if (!boosted) {
+            return rankedFoodIds;
+        }
+
+        Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+        List<Integer> result = new ArrayList<>(size);
+        for (Integer index : order) {
+            result.add(rankedFoodIds.get(index));
+        }
+        return result;
+    }
+
+    boolean isExpired(long ttlMillis) {
+        return System.currentTimeMillis() - loadedAt > ttlMillis;
+    }
+}
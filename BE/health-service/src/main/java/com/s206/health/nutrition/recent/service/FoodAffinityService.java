@@ -0,0 +1,170 @@
+package com.s206.health.nutrition.recent.service;
+
+import com.s206.health.nutrition.favorite.repository.FavoriteFoodRepository;
+import com.s206.health.nutrition.foodset.repository.FoodSetRepository;
+import com.s206.health.nutrition.meal.repository.MealFoodRepository;
+import com.s206.health.nutrition.recent.dto.response.FoodFrequencyProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+// 사용자별 음식 선호도 (검색 결과 개인화 재정렬용)
+// 즐겨찾기 / 최근 먹은 음식 / 최근 기간 섭취 횟수 / 저장한 세트를 합쳐 foodId → 가중치로 미리 계산
+// 계산은 모두 전용 실행기에서 비동기로 하고, 검색 시점에는 캐시된 값만 읽음 (없으면 빈 선호도, 만료되었으면 이전 값)
+// 식단/즐겨찾기/세트가 바뀌면 커밋 후 다시 계산을 예약
+// 캐시는 인스턴스별이라 다른 인스턴스의 변경은 TTL 이후 반영
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FoodAffinityService {
+
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    // 섭취 횟수 집계 기간 / 상위 음식 수
+    private static final int FREQUENCY_DAYS = 90;
+    private static final int FREQUENCY_LIMIT = 200;
+
+    // 신호별 최대 가중치 (순위 점수 범위 0~1 기준)
+    private static final float FAVORITE_WEIGHT = 0.5f;
+    private static final float RECENT_WEIGHT = 0.4f;
+    private static final float FREQUENCY_WEIGHT = 0.4f;
+    private static final float FOOD_SET_WEIGHT = 0.3f;
+
+    private final FavoriteFoodRepository favoriteFoodRepository;
+    private final MealFoodRepository mealFoodRepository;
+    private final FoodSetRepository foodSetRepository;
+    private final RecentFoodService recentFoodService;
+
+    @Autowired
+    @Qualifier("foodAffinityExecutor")
+    private ThreadPoolTaskExecutor affinityExecutor;
+
+    // 접근 순서 기준 LRU (오래 검색하지 않은 사용자부터 제거)
+    private final Map<Integer, FoodAffinity> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, FoodAffinity> eldest) {
+                    return size() > MAX_CACHED_USERS;
+                }
+            });
+
+    // 같은 사용자의 계산이 동시에 여러 번 실행되지 않도록 예약/실행 중인 사용자
+    private final Set<Integer> computing = ConcurrentHashMap.newKeySet();
+    // 계산 중에 변경이 커밋된 사용자 (끝나면 한 번 더 계산)
+    private final Set<Integer> recomputeRequested = ConcurrentHashMap.newKeySet();
+
+    // 검색 시 호출: 캐시에 없거나 만료된 경우 계산을 예약하고, 그동안은 빈 선호도나 이전 값 사용
+    public FoodAffinity getAffinity(Integer userId) {
+        if (userId == null) {
+            return FoodAffinity.EMPTY;
+        }
+        FoodAffinity affinity = cache.get(userId);
+        if (affinity == null || affinity.isExpired(TTL.toMillis())) {
+            computeAsync(userId, false);
+        }
+        return affinity != null ? affinity : FoodAffinity.EMPTY;
+    }
+
+    // 식단/즐겨찾기/세트 변경 시 호출 (변경과 같은 트랜잭션), 커밋 후 캐시에 있는 사용자만 다시 계산 예약
+    public void refresh(Integer userId) {
+        afterCommit(() -> {
+            if (cache.containsKey(userId)) {
+                computeAsync(userId, true);
+            }
+        });
+    }
+
+    private void computeAsync(Integer userId, boolean recomputeIfRunning) {
+        if (!computing.add(userId)) {
+            if (recomputeIfRunning) {
+                recomputeRequested.add(userId);
+            }
+            return;
+        }
+        try {
+            affinityExecutor.execute(() -> recompute(userId));
+        } catch (RejectedExecutionException e) {
+            computing.remove(userId);
+            log.debug("[FOOD_AFFINITY] 계산 대기열이 가득 차 생략: userId={}", userId);
+        }
+    }
+
+    private void recompute(Integer userId) {
+        try {
+            recomputeRequested.remove(userId);
+            cache.put(userId, compute(userId));
+        } catch (Exception e) {
+            cache.remove(userId);
+            log.warn("[FOOD_AFFINITY] 선호도 계산 실패: userId={}, 사유={}", userId, e.getMessage());
+        } finally {
+            computing.remove(userId);
+            if (recomputeRequested.remove(userId)) {
+                computeAsync(userId, true);
+            }
+        }
+    }
+
+    private FoodAffinity compute(Integer userId) {
+        Map<Integer, Float> weights = new HashMap<>();
+
+        for (Integer foodId : favoriteFoodRepository.findFoodIdsByUserId(userId)) {
+            weights.merge(foodId, FAVORITE_WEIGHT, Float::sum);
+        }
+
+        // 최근 순위가 높을수록 큰 가중치 (선형 감소)
+        List<Integer> recentFoodIds = recentFoodService.getRecentFoodIds(userId, RecentFoodService.CAPACITY);
+        for (int i = 0; i < recentFoodIds.size(); i++) {
+            float weight = RECENT_WEIGHT * (RecentFoodService.CAPACITY - i) / RecentFoodService.CAPACITY;
+            weights.merge(recentFoodIds.get(i), weight, Float::sum);
+        }
+
+        // 섭취 횟수는 로그 스케일로 최다 음식 대비 비율
+        LocalDate since = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(FREQUENCY_DAYS);
+        List<FoodFrequencyProjection> frequencies =
+                mealFoodRepository.findFoodFrequenciesByUserId(userId, since, FREQUENCY_LIMIT);
+        if (!frequencies.isEmpty()) {
+            double maxLog = Math.log1p(frequencies.get(0).getEatCount());
+            for (FoodFrequencyProjection row : frequencies) {
+                float weight = (float) (FREQUENCY_WEIGHT * Math.log1p(row.getEatCount()) / maxLog);
+                weights.merge(row.getFoodId(), weight, Float::sum);
+            }
+        }
+
+        for (Integer foodId : foodSetRepository.findFoodIdsByUserId(userId)) {
+            weights.merge(foodId, FOOD_SET_WEIGHT, Float::sum);
+        }
+
+        return FoodAffinity.of(weights);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
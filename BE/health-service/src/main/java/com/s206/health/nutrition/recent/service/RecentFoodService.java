@@ -0,0 +1,215 @@
+package com.s206.health.nutrition.recent.service;
+
+import com.s206.health.nutrition.meal.repository.MealFoodRepository;
+import com.s206.health.nutrition.recent.dto.response.RecentFoodProjection;
+import com.s206.health.nutrition.recent.entity.UserRecentFood;
+import com.s206.health.nutrition.recent.repository.UserRecentFoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 최근 먹은 음식
+// user_recent_food_tb에 쓰기 시점에 바로 반영(write-through)하고, 조회는 사용자별 크기 제한 목록 캐시에서 limit 개만 읽음
+// 캐시는 인스턴스별이라 다른 인스턴스의 쓰기는 TTL 이후 DB에서 다시 읽어 반영
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecentFoodService {
+
+    // 사용자당 보관하는 최근 음식 수 (조회 limit 상한)
+    public static final int CAPACITY = 50;
+
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserRecentFoodRepository userRecentFoodRepository;
+    private final MealFoodRepository mealFoodRepository;
+
+    // 접근 순서 기준 LRU (오래 조회되지 않은 사용자부터 제거)
+    private final Map<Integer, RecentFoods> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, RecentFoods> eldest) {
+                    return size() > MAX_CACHED_USERS;
+                }
+            });
+
+    // 식단 저장 시 호출 (식단과 같은 트랜잭션), 캐시는 커밋 후 반영
+    @Transactional
+    public void record(Integer userId, Map<Integer, LocalDateTime> eatenAtByFoodId) {
+        if (eatenAtByFoodId.isEmpty()) {
+            return;
+        }
+
+        // 테이블 도입 전부터 기록이 있던 사용자는 첫 쓰기 때 식단 원본에서 먼저 채움
+        RecentFoods cached = cache.get(userId);
+        boolean rebuilt = (cached == null || cached.isEmpty())
+                && !userRecentFoodRepository.existsByUserId(userId)
+                && !rebuild(userId, new RecentFoods()).isEmpty();
+
+        eatenAtByFoodId.forEach((foodId, eatenAt) -> userRecentFoodRepository.upsert(userId, foodId, eatenAt));
+
+        // 이미 꽉 찬 사용자에게 새 음식이 들어오면 오래된 행 정리
+        if (cached != null && cached.overflowsWith(eatenAtByFoodId.keySet())) {
+            userRecentFoodRepository.prune(userId, CAPACITY);
+        }
+
+        afterCommit(() -> {
+            if (rebuilt) {
+                cache.remove(userId);
+                return;
+            }
+            RecentFoods current = cache.get(userId);
+            if (current != null) {
+                eatenAtByFoodId.forEach(current::record);
+            }
+        });
+    }
+
+    // 최근 먹은 음식 ID (최근 순, 최대 limit 개)
+    @Transactional
+    public List<Integer> getRecentFoodIds(Integer userId, int limit) {
+        int bounded = Math.min(Math.max(limit, 0), CAPACITY);
+
+        RecentFoods recent = cache.get(userId);
+        if (recent == null || recent.isExpired()) {
+            recent = load(userId);
+            cache.put(userId, recent);
+        }
+        return recent.top(bounded);
+    }
+
+    // DB에서 최근 CAPACITY 개 로드, 테이블에 기록이 없으면 식단 원본에서 한 번 재구축
+    private RecentFoods load(Integer userId) {
+        RecentFoods recent = new RecentFoods();
+        List<UserRecentFood> rows = userRecentFoodRepository
+                .findByUserIdOrderByLastEatenAtDesc(userId, PageRequest.of(0, CAPACITY));
+        if (!rows.isEmpty()) {
+            for (UserRecentFood row : rows) {
+                recent.record(row.getFoodId(), row.getLastEatenAt());
+            }
+            return recent;
+        }
+
+        return rebuild(userId, recent);
+    }
+
+    // 식단 원본에서 최근 CAPACITY 개를 다시 만들어 테이블과 target에 채움
+    private RecentFoods rebuild(Integer userId, RecentFoods target) {
+        List<RecentFoodProjection> rows = mealFoodRepository.findRecentFoodsByUserId(userId, CAPACITY);
+        for (RecentFoodProjection row : rows) {
+            userRecentFoodRepository.upsert(userId, row.getFoodId(), row.getLastEatenAt());
+            target.record(row.getFoodId(), row.getLastEatenAt());
+        }
+        if (!rows.isEmpty()) {
+            log.info("[RECENT_FOODS] 식단 기록에서 최근 음식 재구축: userId={}, 음식 수={}", userId, rows.size());
+        }
+        return target;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 마지막으로 먹은 시각 내림차순으로 정렬된 최대 CAPACITY 개 목록
+    private static final class RecentFoods {
+
+        private final int[] foodIds = new int[CAPACITY];
+        private final LocalDateTime[] eatenAts = new LocalDateTime[CAPACITY];
+        private final long loadedAt = System.currentTimeMillis();
+        private int size;
+
+        synchronized void record(Integer foodId, LocalDateTime eatenAt) {
+            int existing = indexOf(foodId);
+            if (existing >= 0) {
+                if (!eatenAt.isAfter(eatenAts[existing])) {
+                    return;
+                }
+                remove(existing);
+            }
+
+            int position = 0;
+            while (position < size && !eatenAt.isAfter(eatenAts[position])) {
+                position++;
+            }
+            if (position >= CAPACITY) {
+                return;
+            }
+
+            int tail = Math.min(size, CAPACITY - 1) - position;
+            System.arraycopy(foodIds, position, foodIds, position + 1, tail);
+            System.arraycopy(eatenAts, position, eatenAts, position + 1, tail);
+            foodIds[position] = foodId;
+            eatenAts[position] = eatenAt;
+            size = Math.min(size + 1, CAPACITY);
+        }
+
+        synchronized List<Integer> top(int limit) {
+            int count = Math.min(limit, size);
+            List<Integer> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(foodIds[i]);
+            }
+            return result;
+        }
+
+        // 가득 찬 상태에서 목록에 없는 음식이 추가되는지 (DB에 CAPACITY 개를 넘는 행이 생기는지)
+        synchronized boolean overflowsWith(Iterable<Integer> newFoodIds) {
+            if (size < CAPACITY) {
+                return false;
+            }
+            for (Integer foodId : newFoodIds) {
+                if (indexOf(foodId) < 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > TTL.toMillis();
+        }
+
+        private int indexOf(int foodId) {
+            for (int i = 0; i < size; i++) {
+                if (foodIds[i] == foodId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void remove(int index) {
+            int tail = size - index - 1;
+            System.arraycopy(foodIds, index + 1, foodIds, index, tail);
+            System.arraycopy(eatenAts, index + 1, eatenAts, index, tail);
+            size--;
+            eatenAts[size] = null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.s206.health.nutrition.rollup.controller;
+
+import com.s206.common.dto.ResponseDto;
+import com.s206.health.config.AdminGuard;
+import com.s206.health.nutrition.rollup.dto.response.RollupMismatchResponse;
+import com.s206.health.nutrition.rollup.scheduler.NutritionRollupScheduler;
+import com.s206.health.nutrition.rollup.service.NutritionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/meals/statistics/rollup")
+@RequiredArgsConstructor
+@Slf4j
+public class NutritionRollupController {
+
+    private final NutritionRollupService nutritionRollupService;
+    private final NutritionRollupScheduler nutritionRollupScheduler;
+    private final AdminGuard adminGuard;
+
+    // 내 롤업 재구축
+    @PostMapping("/rebuild")
+    public ResponseEntity<ResponseDto<Integer>> rebuild(
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        log.info("[ROLLUP_REBUILD] userId={} → 롤업 재구축 요청", userId);
+        int days = nutritionRollupService.rebuild(userId);
+        return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "영양 롤업 재구축 완료", days));
+    }
+
+    // 전체 사용자 롤업 재구축 (관리자 전용, 비동기, 진행 중이면 409)
+    @PostMapping("/rebuild-all")
+    public ResponseEntity<ResponseDto<Void>> rebuildAll(
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        adminGuard.check(userId);
+        log.info("[ROLLUP_REBUILD] userId={} → 전체 롤업 재구축 요청", userId);
+        nutritionRollupScheduler.startRebuildAll();
+        nutritionRollupScheduler.rebuildAllAsync();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ResponseDto.success(HttpStatus.ACCEPTED, "전체 영양 롤업 재구축 시작"));
+    }
+
+    // 롤업 정합성 검사
+    @GetMapping("/check")
+    public ResponseEntity<ResponseDto<List<RollupMismatchResponse>>> check(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader("X-USER-ID") Integer userId
+    ) {
+        List<RollupMismatchResponse> mismatches = nutritionRollupService.check(userId, startDate, endDate);
+        return ResponseEntity.ok(ResponseDto.success(HttpStatus.OK, "영양 롤업 정합성 검사 완료", mismatches));
+    }
+}
@@ -0,0 +1,32 @@
+package com.s206.health.nutrition.rollup.dto.response;
+
+import com.s206.health.nutrition.rollup.entity.UserDailyNutrition;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class RollupMismatchResponse {
+    private Integer userId;
+    private LocalDate date;
+    private BigDecimal expectedCalorie;
+    private Integer expectedFoodCount;
+    private BigDecimal rollupCalorie;
+    private Integer rollupFoodCount;
+
+    public static RollupMismatchResponse of(Integer userId, LocalDate date, BigDecimal expectedCalorie,
+                                            int expectedFoodCount, UserDailyNutrition rollup) {
+        return RollupMismatchResponse.builder()
+                .userId(userId)
+                .date(date)
+                .expectedCalorie(expectedCalorie.setScale(2, RoundingMode.HALF_UP))
+                .expectedFoodCount(expectedFoodCount)
+                .rollupCalorie(rollup != null ? rollup.getTotalCalorie().setScale(2, RoundingMode.HALF_UP) : null)
+                .rollupFoodCount(rollup != null ? rollup.getFoodCount() : 0)
+                .build();
+    }
+}
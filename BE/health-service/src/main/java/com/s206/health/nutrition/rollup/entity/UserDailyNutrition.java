@@ -0,0 +1,72 @@
+package com.s206.health.nutrition.rollup.entity;
+
+import com.s206.health.nutrition.food.catalog.NutrientVector;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 사용자별 일일 영양소 합계 (meal_tb → meal_time_tb → meal_food_tb → food_information_tb 집계 결과)
+// 식단 쓰기 경로에서 같은 트랜잭션으로 갱신되며, 음식이 하나도 없는 날은 행을 두지 않음
+@Entity
+@Getter
+@Table(name = "user_daily_nutrition",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"user_id", "nutrition_date"})})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDailyNutrition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer userDailyNutritionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "nutrition_date", nullable = false)
+    private LocalDate nutritionDate;
+
+    @Column(nullable = false, precision = 14, scale = 4)
+    private BigDecimal totalCalorie;
+
+    @Column(nullable = false, precision = 14, scale = 4)
+    private BigDecimal totalCarbohydrate;
+
+    @Column(nullable = false, precision = 14, scale = 4)
+    private BigDecimal totalProtein;
+
+    @Column(nullable = false, precision = 14, scale = 4)
+    private BigDecimal totalFat;
+
+    @Column(nullable = false, precision = 14, scale = 4)
+    private BigDecimal totalSugar;
+
+    @Column(nullable = false, precision = 14, scale = 4)
+    private BigDecimal totalSodium;
+
+    // 집계에 포함된 음식 수
+    @Column(nullable = false)
+    private Integer foodCount;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 저장된 합계를 영양소 벡터로 변환 (통계 평균/정합성 비교용)
+    public NutrientVector toNutrientVector() {
+        return NutrientVector.zero()
+                .set(NutrientVector.CALORIE, totalCalorie)
+                .set(NutrientVector.CARBOHYDRATE, totalCarbohydrate)
+                .set(NutrientVector.PROTEIN, totalProtein)
+                .set(NutrientVector.FAT, totalFat)
+                .set(NutrientVector.SUGAR, totalSugar)
+                .set(NutrientVector.SODIUM, totalSodium);
+    }
+}
@@ -0,0 +1,55 @@
+package com.s206.health.nutrition.rollup.repository;
+
+import com.s206.health.nutrition.rollup.entity.UserDailyNutrition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserDailyNutritionRepository extends JpaRepository<UserDailyNutrition, Integer> {
+
+    Optional<UserDailyNutrition> findByUserIdAndNutritionDate(Integer userId, LocalDate nutritionDate);
+
+    // 하루치 합계 단일 문장 upsert (UK_user_daily_nutrition_user_date 기준)
+    // 같은 날짜의 동시 식단 쓰기도 키 충돌 없이 마지막 합계로 덮어씀
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_nutrition (user_id, nutrition_date, total_calorie, total_carbohydrate, " +
+            "total_protein, total_fat, total_sugar, total_sodium, food_count, updated_at) " +
+            "VALUES (:userId, :nutritionDate, :calorie, :carbohydrate, :protein, :fat, :sugar, :sodium, :foodCount, :now) " +
+            "AS new ON DUPLICATE KEY UPDATE total_calorie = new.total_calorie, " +
+            "total_carbohydrate = new.total_carbohydrate, total_protein = new.total_protein, total_fat = new.total_fat, " +
+            "total_sugar = new.total_sugar, total_sodium = new.total_sodium, food_count = new.food_count, " +
+            "updated_at = new.updated_at",
+            nativeQuery = true)
+    int upsertTotals(@Param("userId") Integer userId,
+                     @Param("nutritionDate") LocalDate nutritionDate,
+                     @Param("calorie") BigDecimal calorie,
+                     @Param("carbohydrate") BigDecimal carbohydrate,
+                     @Param("protein") BigDecimal protein,
+                     @Param("fat") BigDecimal fat,
+                     @Param("sugar") BigDecimal sugar,
+                     @Param("sodium") BigDecimal sodium,
+                     @Param("foodCount") Integer foodCount,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyNutrition n WHERE n.userId = :userId AND n.nutritionDate = :nutritionDate")
+    int deleteByUserIdAndNutritionDate(@Param("userId") Integer userId,
+                                       @Param("nutritionDate") LocalDate nutritionDate);
+
+    List<UserDailyNutrition> findByUserIdAndNutritionDateBetweenOrderByNutritionDate(
+            Integer userId, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM UserDailyNutrition n WHERE n.userId = :userId " +
+            "AND n.nutritionDate BETWEEN :startDate AND :endDate")
+    int deleteByUserIdAndNutritionDateBetween(@Param("userId") Integer userId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,148 @@
+package com.s206.health.nutrition.rollup.scheduler;
+
+import com.s206.common.exception.types.ConflictException;
+import com.s206.health.nutrition.meal.repository.MealRepository;
+import com.s206.health.nutrition.rollup.dto.response.RollupMismatchResponse;
+import com.s206.health.nutrition.rollup.repository.UserDailyNutritionRepository;
+import com.s206.health.nutrition.rollup.service.NutritionRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 롤업 백필 / 야간 정합성 검사
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NutritionRollupScheduler {
+
+    private static final int CHECK_DAYS = 7;
+    // 음식 ID IN 절 최대 크기
+    private static final int FOOD_ID_CHUNK_SIZE = 1000;
+
+    private final NutritionRollupService nutritionRollupService;
+    private final UserDailyNutritionRepository rollupRepository;
+    private final MealRepository mealRepository;
+
+    // 전체 재구축 실행 중 여부 (시작 시 백필과 수동 요청이 겹치지 않도록)
+    private final AtomicBoolean rebuildingAll = new AtomicBoolean();
+
+    // 롤업 테이블이 비어 있으면 기존 식단 데이터로 백필
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (rollupRepository.count() == 0 && mealRepository.count() > 0 && rebuildingAll.compareAndSet(false, true)) {
+                try {
+                    log.info("[ROLLUP_BACKFILL] 롤업 테이블이 비어 있어 전체 백필 시작");
+                    rebuildAll();
+                } finally {
+                    rebuildingAll.set(false);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[ROLLUP_BACKFILL] 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 새벽 4시: 최근 7일 롤업과 원본 비교, 불일치한 사용자는 해당 기간 재구축
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void checkRecentRollups() {
+        LocalDate endDate = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        LocalDate startDate = endDate.minusDays(CHECK_DAYS - 1);
+
+        int repaired = 0;
+        for (Integer userId : mealRepository.findDistinctUserIdsByMealDateBetween(startDate, endDate)) {
+            try {
+                List<RollupMismatchResponse> mismatches = nutritionRollupService.check(userId, startDate, endDate);
+                if (!mismatches.isEmpty()) {
+                    nutritionRollupService.rebuild(userId, startDate, endDate);
+                    repaired++;
+                }
+            } catch (Exception e) {
+                log.error("[ROLLUP_CHECK] 검사 실패: userId={}, 사유={}", userId, e.getMessage());
+            }
+        }
+
+        log.info("[ROLLUP_CHECK] 야간 정합성 검사 완료: 기간={}~{}, 재구축 사용자 수={}", startDate, endDate, repaired);
+    }
+
+    // 전체 재구축 시작 표시, 이미 진행 중이면 거부 (이후 rebuildAllAsync 로 실행하면 끝날 때 해제)
+    public void startRebuildAll() {
+        if (!rebuildingAll.compareAndSet(false, true)) {
+            throw new ConflictException("이미 진행 중인 전체 롤업 재구축이 있습니다.");
+        }
+    }
+
+    // 전체 사용자 롤업 재구축 (startRebuildAll 로 시작 표시한 뒤 호출)
+    @Async
+    public void rebuildAllAsync() {
+        try {
+            rebuildAll();
+        } finally {
+            rebuildingAll.set(false);
+        }
+    }
+
+    // 영양 정보가 바뀐 음식을 먹은 사용자만, 그 음식이 들어간 식단 기간을 재구축 (음식 가져오기 후 호출)
+    // 반환값: 재구축한 사용자 수
+    public int rebuildForFoods(Collection<Integer> foodIds) {
+        if (foodIds.isEmpty()) {
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+
+        // 사용자별 기간을 청크 결과끼리 합침
+        Map<Integer, LocalDate[]> ranges = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(foodIds);
+        for (int from = 0; from < ids.size(); from += FOOD_ID_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + FOOD_ID_CHUNK_SIZE, ids.size()));
+            for (Object[] row : mealRepository.findUserMealDateRangesByFoodIds(chunk)) {
+                LocalDate first = (LocalDate) row[1];
+                LocalDate last = (LocalDate) row[2];
+                ranges.merge((Integer) row[0], new LocalDate[]{first, last}, (current, candidate) -> new LocalDate[]{
+                        current[0].isBefore(candidate[0]) ? current[0] : candidate[0],
+                        current[1].isAfter(candidate[1]) ? current[1] : candidate[1]});
+            }
+        }
+
+        int users = 0;
+        for (Map.Entry<Integer, LocalDate[]> entry : ranges.entrySet()) {
+            try {
+                nutritionRollupService.rebuild(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+                users++;
+            } catch (Exception e) {
+                log.error("[ROLLUP_REBUILD] 재구축 실패: userId={}, 사유={}", entry.getKey(), e.getMessage());
+            }
+        }
+        log.info("[ROLLUP_REBUILD] 음식 변경 재구축 완료: 음식 수={}, 사용자 수={}, 소요={}ms",
+                foodIds.size(), users, System.currentTimeMillis() - start);
+        return users;
+    }
+
+    private void rebuildAll() {
+        long start = System.currentTimeMillis();
+        int users = 0;
+        for (Integer userId : mealRepository.findDistinctUserIds()) {
+            try {
+                nutritionRollupService.rebuild(userId);
+                users++;
+            } catch (Exception e) {
+                log.error("[ROLLUP_REBUILD] 재구축 실패: userId={}, 사유={}", userId, e.getMessage());
+            }
+        }
+        log.info("[ROLLUP_REBUILD] 전체 재구축 완료: 사용자 수={}, 소요={}ms", users, System.currentTimeMillis() - start);
+    }
+}
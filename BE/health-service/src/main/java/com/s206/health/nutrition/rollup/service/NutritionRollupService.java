@@ -0,0 +1,211 @@
+package com.s206.health.nutrition.rollup.service;
+
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import com.s206.health.nutrition.food.catalog.NutrientVector;
+import com.s206.health.nutrition.meal.entity.Meal;
+import com.s206.health.nutrition.meal.entity.MealFood;
+import com.s206.health.nutrition.meal.entity.MealTime;
+import com.s206.health.nutrition.meal.repository.MealRepository;
+import com.s206.health.nutrition.rollup.dto.response.RollupMismatchResponse;
+import com.s206.health.nutrition.rollup.entity.UserDailyNutrition;
+import com.s206.health.nutrition.rollup.repository.UserDailyNutritionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// user_daily_nutrition 롤업 유지/재구축/정합성 검사
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NutritionRollupService {
+
+    // 정합성 검사 허용 오차 0.01 (1/10000 단위, float 수량 연산 오차 흡수)
+    private static final long TOLERANCE = 100L;
+    // 전체 재구축 시 사용하는 날짜 범위 (MySQL DATE 범위)
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final UserDailyNutritionRepository rollupRepository;
+    private final MealRepository mealRepository;
+    private final FoodCatalog foodCatalog;
+
+    // 식단 쓰기 후 해당 날짜 롤업 갱신 (호출한 트랜잭션에 참여)
+    // 이미 메모리에 올라온 Meal 집합을 기준으로 다시 합산하므로 추가 조회 없이 upsert 한 번으로 끝남
+    @Transactional
+    public void refresh(Meal meal) {
+        FoodCatalogSnapshot catalog = foodCatalog.snapshot();
+        DailyTotals totals = new DailyTotals();
+
+        if (!Boolean.TRUE.equals(meal.getIsDeleted())) {
+            for (MealTime mealTime : meal.getMealTimes()) {
+                if (mealTime.getIsDeleted()) continue;
+
+                for (MealFood mealFood : mealTime.getMealFoods()) {
+                    totals.add(catalog, mealFood);
+                }
+            }
+        }
+
+        apply(meal.getUserId(), meal.getMealDate(), totals);
+    }
+
+    // 사용자 롤업 전체 재구축 (기존 사용자 백필)
+    @Transactional
+    public int rebuild(Integer userId) {
+        return rebuild(userId, MIN_DATE, MAX_DATE);
+    }
+
+    // 사용자 롤업 기간 재구축: 원본 조인 결과로 덮어씀
+    @Transactional
+    public int rebuild(Integer userId, LocalDate startDate, LocalDate endDate) {
+        rollupRepository.deleteByUserIdAndNutritionDateBetween(userId, startDate, endDate);
+
+        List<Object[]> rows = mealRepository.calculateDailyNutritionByDate(userId, startDate, endDate);
+        List<UserDailyNutrition> rollups = new ArrayList<>();
+        for (Object[] row : rows) {
+            DailyTotals totals = DailyTotals.fromRow(row);
+            if (totals.foodCount == 0) continue;
+            rollups.add(totals.toEntity(userId, (LocalDate) row[0]));
+        }
+        rollupRepository.saveAll(rollups);
+
+        log.info("[ROLLUP_REBUILD] userId={}, 기간={}~{}, 재구축 일수={}", userId, startDate, endDate, rollups.size());
+        return rollups.size();
+    }
+
+    // 롤업과 원본 조인 결과 비교
+    @Transactional(readOnly = true)
+    public List<RollupMismatchResponse> check(Integer userId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, DailyTotals> expected = new HashMap<>();
+        for (Object[] row : mealRepository.calculateDailyNutritionByDate(userId, startDate, endDate)) {
+            expected.put((LocalDate) row[0], DailyTotals.fromRow(row));
+        }
+
+        Map<LocalDate, UserDailyNutrition> actual = new HashMap<>();
+        for (UserDailyNutrition rollup : rollupRepository
+                .findByUserIdAndNutritionDateBetweenOrderByNutritionDate(userId, startDate, endDate)) {
+            actual.put(rollup.getNutritionDate(), rollup);
+        }
+
+        Set<LocalDate> dates = new TreeSet<>(expected.keySet());
+        dates.addAll(actual.keySet());
+
+        List<RollupMismatchResponse> mismatches = new ArrayList<>();
+        for (LocalDate date : dates) {
+            DailyTotals raw = expected.getOrDefault(date, new DailyTotals());
+            UserDailyNutrition rollup = actual.get(date);
+            if (!raw.matches(rollup)) {
+                mismatches.add(RollupMismatchResponse.of(userId, date, raw.calorie(), raw.foodCount, rollup));
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            log.warn("[ROLLUP_CHECK] 롤업 불일치 발견: userId={}, 기간={}~{}, 불일치 일수={}",
+                    userId, startDate, endDate, mismatches.size());
+        }
+        return mismatches;
+    }
+
+    // 합계가 비어 있으면 행 삭제, 아니면 단일 문장 upsert (조회 후 저장하지 않으므로 같은 날짜 동시 쓰기에도 키 충돌 없음)
+    private void apply(Integer userId, LocalDate date, DailyTotals totals) {
+        if (totals.foodCount == 0) {
+            rollupRepository.deleteByUserIdAndNutritionDate(userId, date);
+            return;
+        }
+
+        rollupRepository.upsertTotals(userId, date,
+                totals.nutrients.decimal(NutrientVector.CALORIE),
+                totals.nutrients.decimal(NutrientVector.CARBOHYDRATE),
+                totals.nutrients.decimal(NutrientVector.PROTEIN),
+                totals.nutrients.decimal(NutrientVector.FAT),
+                totals.nutrients.decimal(NutrientVector.SUGAR),
+                totals.nutrients.decimal(NutrientVector.SODIUM),
+                totals.foodCount,
+                LocalDateTime.now());
+    }
+
+    // 하루치 영양소 합계 누적기
+    private static class DailyTotals {
+        private final NutrientVector nutrients = NutrientVector.zero();
+        private int foodCount;
+
+        private void add(FoodCatalogSnapshot catalog, MealFood mealFood) {
+            int slot = catalog.indexOf(mealFood.getFood().getFoodId());
+
+            if (slot >= 0) {
+                nutrients.addScaled(catalog, slot, mealFood.getQuantity());
+            } else {
+                nutrients.add(NutrientVector.of(mealFood.getFood(), mealFood.getQuantity()));
+            }
+            foodCount++;
+        }
+
+        // calculateDailyNutritionByDate 결과 행 변환: [날짜, 칼로리, 탄수화물, 단백질, 지방, 당, 나트륨, 음식 수]
+        private static DailyTotals fromRow(Object[] row) {
+            DailyTotals totals = new DailyTotals();
+            totals.nutrients
+                    .set(NutrientVector.CALORIE, toBigDecimal(row[1]))
+                    .set(NutrientVector.CARBOHYDRATE, toBigDecimal(row[2]))
+                    .set(NutrientVector.PROTEIN, toBigDecimal(row[3]))
+                    .set(NutrientVector.FAT, toBigDecimal(row[4]))
+                    .set(NutrientVector.SUGAR, toBigDecimal(row[5]))
+                    .set(NutrientVector.SODIUM, toBigDecimal(row[6]));
+            totals.foodCount = row[7] instanceof Number ? ((Number) row[7]).intValue() : 0;
+            return totals;
+        }
+
+        private UserDailyNutrition toEntity(Integer userId, LocalDate date) {
+            return UserDailyNutrition.builder()
+                    .userId(userId)
+                    .nutritionDate(date)
+                    .totalCalorie(nutrients.decimal(NutrientVector.CALORIE))
+                    .totalCarbohydrate(nutrients.decimal(NutrientVector.CARBOHYDRATE))
+                    .totalProtein(nutrients.decimal(NutrientVector.PROTEIN))
+                    .totalFat(nutrients.decimal(NutrientVector.FAT))
+                    .totalSugar(nutrients.decimal(NutrientVector.SUGAR))
+                    .totalSodium(nutrients.decimal(NutrientVector.SODIUM))
+                    .foodCount(foodCount)
+                    .build();
+        }
+
+        private BigDecimal calorie() {
+            return nutrients.decimal(NutrientVector.CALORIE);
+        }
+
+        private boolean matches(UserDailyNutrition rollup) {
+            if (rollup == null) {
+                return foodCount == 0;
+            }
+            NutrientVector stored = rollup.toNutrientVector();
+            if (foodCount != rollup.getFoodCount()) {
+                return false;
+            }
+            for (int i = NutrientVector.CALORIE; i <= NutrientVector.SODIUM; i++) {
+                if (Math.abs(nutrients.raw(i) - stored.raw(i)) > TOLERANCE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static BigDecimal toBigDecimal(Object value) {
+            if (value == null) {
+                return BigDecimal.ZERO;
+            }
+            if (value instanceof BigDecimal) {
+                return (BigDecimal) value;
+            }
+            if (value instanceof Number) {
+                return BigDecimal.valueOf(((Number) value).doubleValue());
+            }
+            return new BigDecimal(value.toString());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.s206.health.persistence.id;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+// 네이티브 INSERT(upsert 등)에 쓸 ID 를 엔티티에 설정된 생성기에서 발급
+// Hibernate 가 쓰는 것과 같은 pooled-lo 구간에서 꺼내므로 JPA 로 저장하는 행과 ID 가 겹치지 않음
+// 현재 트랜잭션의 세션을 사용하므로 트랜잭션 안에서 호출할 것
+@Component
+@RequiredArgsConstructor
+public class EntityIdAllocator {
+
+    private final EntityManager entityManager;
+
+    public Integer nextId(Class<?> entityClass) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+        return (Integer) generator.generate(session, null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.s206.health.persistence.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 시작 시 시퀀스 행을 만들고 next_val 을 각 테이블의 MAX(id) + 1 이상으로 맞춤
+// 마이그레이션 전 DB, 더미 데이터 적재 후 DB 에서도 이미 있는 ID 를 다시 발급하지 않도록 하는 안전장치
+// 값을 올리기만 하므로 다른 인스턴스가 실행 중이어도 이미 예약된 구간과 겹치지 않음
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        for (Map.Entry<String, String> entry : IdSequences.ID_COLUMNS.entrySet()) {
+            String sequence = entry.getKey();
+            String idColumn = entry.getValue();
+
+            jdbcTemplate.update("INSERT IGNORE INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", "
+                    + IdSequences.VALUE_COLUMN + ") VALUES (?, 1)", sequence);
+            int raised = jdbcTemplate.update("UPDATE " + IdSequences.TABLE + " s SET s." + IdSequences.VALUE_COLUMN
+                    + " = (SELECT COALESCE(MAX(t." + idColumn + "), 0) + 1 FROM " + sequence + " t)"
+                    + " WHERE s." + IdSequences.NAME_COLUMN + " = ?"
+                    + " AND s." + IdSequences.VALUE_COLUMN + " <= (SELECT COALESCE(MAX(t." + idColumn + "), 0) FROM " + sequence + " t)",
+                    sequence);
+            if (raised > 0) {
+                log.info("[ID_SEQUENCE] 시퀀스를 기존 ID 이후로 조정: sequence={}", sequence);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.s206.health.persistence.id;
+
+import java.util.Map;
+
+// 대량 INSERT 테이블의 ID 발급 (IDENTITY 대신 테이블 시퀀스 + pooled-lo)
+// IDENTITY 는 INSERT 마다 생성된 키를 받아야 해서 Hibernate JDBC batch 가 꺼지므로,
+// id_sequence_tb 에서 ALLOCATION_SIZE 개씩 미리 예약하고 메모리에서 발급
+// 시퀀스 이름은 테이블 이름과 같고, next_val 은 다음에 예약할 구간의 첫 ID
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequence_tb";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String MEAL = "meal_tb";
+    public static final String MEAL_TIME = "meal_time_tb";
+    public static final String MEAL_FOOD = "meal_food_tb";
+    public static final String EXERCISE = "exercise_tb";
+    public static final String STEP_COUNT = "step_count_tb";
+    public static final String BODY = "body_tb";
+
+    // 시퀀스(테이블) → ID 컬럼
+    static final Map<String, String> ID_COLUMNS = Map.of(
+            MEAL, "meal_id",
+            MEAL_TIME, "meal_time_id",
+            MEAL_FOOD, "meal_food_id",
+            EXERCISE, "exercise_id",
+            STEP_COUNT, "step_count_id",
+            BODY, "body_id");
+
+    private IdSequences() {
+    }
+}
@@ -21,7 +21,7 @@ public class StepController {
 
     private final StepService stepService;
 
-    // 걸음 수 등록
+    // 걸음 수 등록 (여러 날짜 일괄 등록/동기화, 같은 날짜는 마지막 값 사용)
     @PostMapping("/step")
     public ResponseEntity<ResponseDto<List<StepResponse>>> createStepCount(
             @RequestHeader("X-USER-ID") Integer userId,
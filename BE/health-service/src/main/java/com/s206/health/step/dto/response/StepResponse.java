@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class StepResponse {
+    // 오늘 걸음 수 등록 응답은 쓰기 버퍼에서 기록 전이라 stepCountId/createdAt 이 null
     private Integer stepCountId;
     private Integer userId;
     private LocalDate stepDate;
@@ -1,5 +1,6 @@
 package com.s206.health.step.entity;
 
+import com.s206.health.persistence.id.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
 
+// 삭제되지 않은 기록은 사용자/날짜당 하나 (UK_step_count_user_date_active, 가상 컬럼 active_key 포함 - 18번 마이그레이션)
 @Entity
 @Table(name = "step_count_tb")
 @Getter
@@ -19,7 +21,10 @@ import java.util.Date;
 public class Step {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "step_count_id")
+    @TableGenerator(name = "step_count_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.STEP_COUNT, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "step_count_id", nullable = false)
     private Integer stepCountId;
 
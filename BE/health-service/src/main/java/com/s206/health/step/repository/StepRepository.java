@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,11 +19,26 @@ public interface StepRepository extends JpaRepository<Step, Integer> {
             @Param("userId") Integer userId,
             @Param("date")LocalDate date);
 
+    // 같은 날짜의 여러 사용자 기록 조회 (쓰기 버퍼 flush 시 기존 ID 재사용)
+    @Query("SELECT s FROM Step s WHERE s.stepDate = :date AND s.userId IN :userIds AND s.isDeleted = false")
+    List<Step> findStepsByStepDateAndUserIds(
+            @Param("date") LocalDate date,
+            @Param("userIds") Collection<Integer> userIds);
+
     // 특정 사용자의 모든 걸음 수 기록 조회
     @Query("SELECT s FROM Step s WHERE s.userId = :userId AND s.isDeleted = false ORDER BY s.stepDate DESC")
     List<Step> findAllStepsByUser(
             @Param("userId") Integer userId);
 
+    // 특정 사용자의 날짜 범위 내 기록 ID 조회 (일괄 등록 시 기존 ID 재사용, 엔티티를 올리지 않아 이후 조회에 upsert 결과가 보임)
+    // [날짜, ID]
+    @Query("SELECT s.stepDate, s.stepCountId FROM Step s " +
+            "WHERE s.userId = :userId AND s.stepDate BETWEEN :startDate AND :endDate AND s.isDeleted = false")
+    List<Object[]> findStepIdsByDateRange(
+            @Param("userId") Integer userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     // 특정 사용자의 날짜 범위 내 걸음 수 조회
     @Query("SELECT s FROM Step s WHERE s.userId = :userId AND s.stepDate BETWEEN :startDate AND :endDate AND s.isDeleted = false ORDER BY s.stepDate DESC")
     List<Step> findStepsByDateRange(
@@ -0,0 +1,20 @@
+package com.s206.health.step.scheduler;
+
+import com.s206.health.step.service.StepWriteBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 버퍼에 모인 오늘 걸음 수를 짧은 주기로 DB 에 기록
+@Component
+@RequiredArgsConstructor
+public class StepWriteBufferScheduler {
+
+    private final StepWriteBuffer stepWriteBuffer;
+
+    @Scheduled(fixedDelayString = "${step.buffer.flush-interval-ms:5000}",
+            initialDelayString = "${step.buffer.flush-interval-ms:5000}")
+    public void flush() {
+        stepWriteBuffer.flush();
+    }
+}
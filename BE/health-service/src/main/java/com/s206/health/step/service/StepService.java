@@ -1,15 +1,20 @@
 package com.s206.health.step.service;
 
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.health.persistence.id.EntityIdAllocator;
 import com.s206.health.step.dto.request.StepCreateRequest;
 import com.s206.health.step.dto.response.StepResponse;
 import com.s206.health.step.dto.response.StepWeeklyResponse;
 import com.s206.health.step.entity.Step;
 import com.s206.health.step.repository.StepRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cglib.core.Local;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalField;
@@ -19,67 +24,94 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class StepService {
 
+    // 한 번에 등록할 수 있는 최대 일수 (1년치 백필)
+    private static final int MAX_SYNC_DAYS = 366;
+
+    // 날짜별 걸음 수 upsert (UK_step_count_user_date_active: 삭제되지 않은 기록은 사용자/날짜당 하나, JDBC batch 용)
+    // 없으면 새 행을 만들고, 있으면 걸음 수와 수정 시각만 덮어씀
+    private static final String UPSERT_SQL = "INSERT INTO step_count_tb " +
+            "(step_count_id, user_id, step_date, step_count, created_at, updated_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0) " +
+            "AS new ON DUPLICATE KEY UPDATE step_count = new.step_count, updated_at = new.updated_at";
+
     private final StepRepository stepRepository;
+    private final EntityIdAllocator entityIdAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final StepWriteBuffer stepWriteBuffer;
 
-    // 단일 걸음 수 등록 (새로운 걸음 수 등록 또는 기존 기록 업데이트)
+    // 걸음 수 리스트로 등록 (Health Connect 동기화/백필)
+    // 같은 날짜는 마지막 값만 사용하고, 기간 조회 한 번으로 기존 기록 ID 를 확인해 새 날짜에만 ID 를 발급한 뒤
+    // 등록/갱신 전체를 upsert 한 번의 JDBC batch 로 전송하고 기간 조회 한 번으로 기록된 행을 읽어 응답 (기존 기록 ID/생성 시각 그대로)
     @Transactional
-    public StepResponse createOrUpdateStepCount(Integer userId, StepCreateRequest request) {
-        LocalDate stepDate = request.getStepDate();
-        // 날짜가 없으면 오늘로 인식
-        if (stepDate == null) {
-            stepDate = LocalDate.now();
+    public List<StepResponse> createOrUpdateStepCount(Integer userId, List<StepCreateRequest> requestList) {
+        if (requestList == null || requestList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (requestList.size() > MAX_SYNC_DAYS) {
+            throw new BadRequestException("걸음 수는 한 번에 최대 " + MAX_SYNC_DAYS + "일까지 등록할 수 있습니다.");
         }
 
-        // 해당 날짜에 이미 기록이 있는지 확인
-        Optional<Step> existingStep = stepRepository.findStepByStepDate(userId, stepDate);
-
-        if (existingStep.isPresent()) {
-            // 기존 기록 업데이트
-            Step step = existingStep.get();
-
-            Step updatedStep = Step.builder()
-                    .stepCountId(step.getStepCountId())
-                    .userId(userId)
-                    .stepDate(stepDate)
-                    .stepCount(request.getStepCount())
-                    .createdAt(step.getCreatedAt())
-                    .updatedAt(LocalDateTime.now())
-                    .deletedAt(null)
-                    .isDeleted(false)
-                    .build();
+        // 1. 날짜별 중복 제거 (처음 나온 순서 유지, 값은 마지막 요청)
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, Integer> stepCountByDate = new LinkedHashMap<>();
+        for (StepCreateRequest request : requestList) {
+            LocalDate stepDate = request.getStepDate() != null ? request.getStepDate() : today;
+            stepCountByDate.put(stepDate, request.getStepCount());
+        }
 
-            Step savedStep = stepRepository.save(updatedStep);
-            return mapToResponse(savedStep);
-        } else {
-            // 새 기록 생성
-            Step newStep = Step.builder()
+        // 2. 오늘 누적 걸음 수는 쓰기 버퍼로 (다음 flush 에서 받은 값 그대로 기록)
+        //    기록 전이라 오늘 응답에는 stepCountId/createdAt 이 없음 (기존 기록이 있어도 null, 조회 API 에서는 채워짐)
+        Map<LocalDate, StepResponse> responseByDate = new HashMap<>();
+        if (stepCountByDate.containsKey(today) && stepWriteBuffer.offer(userId, today, stepCountByDate.get(today))) {
+            responseByDate.put(today, StepResponse.builder()
                     .userId(userId)
-                    .stepDate(stepDate)
-                    .stepCount(request.getStepCount())
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .deletedAt(null)
-                    .isDeleted(false)
-                    .build();
-
-            Step savedStep = stepRepository.save(newStep);
-            return mapToResponse(savedStep);
+                    .stepDate(today)
+                    .stepCount(stepCountByDate.get(today))
+                    .build());
         }
-    }
 
-    // 걸음 수 리스트로 등록
-    @Transactional
-    public List<StepResponse> createOrUpdateStepCount(Integer userId, List<StepCreateRequest> requestList) {
-        List<StepResponse> responseList = new ArrayList<>();
-
-        for (StepCreateRequest request : requestList) {
-            StepResponse response = createOrUpdateStepCount(userId, request);
-            responseList.add(response);
+        List<LocalDate> writeDates = stepCountByDate.keySet().stream()
+                .filter(date -> !responseByDate.containsKey(date))
+                .collect(Collectors.toList());
+        if (!writeDates.isEmpty()) {
+            // 3. 기존 기록 ID 한 번에 조회 (쓰기 버퍼와 같은 방식으로, 기록이 없는 날짜에만 새 ID 발급)
+            LocalDate startDate = Collections.min(writeDates);
+            LocalDate endDate = Collections.max(writeDates);
+            Map<LocalDate, Integer> existingIds = new HashMap<>();
+            for (Object[] row : stepRepository.findStepIdsByDateRange(userId, startDate, endDate)) {
+                existingIds.put((LocalDate) row[0], (Integer) row[1]);
+            }
+
+            // 4. upsert batch (ID 조회 후 같은 날짜가 동시에 생성된 경우에만 발급한 ID 가 갱신으로 처리되어 버려짐)
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batchArgs = new ArrayList<>(writeDates.size());
+            for (LocalDate stepDate : writeDates) {
+                Integer stepCountId = existingIds.get(stepDate);
+                if (stepCountId == null) {
+                    stepCountId = entityIdAllocator.nextId(Step.class);
+                }
+                batchArgs.add(new Object[]{stepCountId, userId, java.sql.Date.valueOf(stepDate),
+                        stepCountByDate.get(stepDate), now, now});
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+
+            // 5. 기록된 행 한 번에 조회 (ID 조회는 엔티티가 아닌 값만 읽으므로 upsert 결과가 그대로 보임)
+            for (Step step : stepRepository.findStepsByDateRange(userId, startDate, endDate)) {
+                if (stepCountByDate.containsKey(step.getStepDate())) {
+                    responseByDate.putIfAbsent(step.getStepDate(), mapToResponse(step));
+                }
+            }
+
+            log.info("[STEP_SYNC] 걸음 수 일괄 등록: userId={}, 요청={}, 기록={}",
+                    userId, requestList.size(), writeDates.size());
         }
 
-        return responseList;
+        return stepCountByDate.keySet().stream()
+                .map(responseByDate::get)
+                .collect(Collectors.toList());
     }
 
     // 사용자의 모든 걸을 수 기록 조회
@@ -87,15 +119,29 @@ public class StepService {
     public List<StepResponse> getAllStepCounts(Integer userId) {
         List<Step> steps = stepRepository.findAllStepsByUser(userId);
 
-        return steps.stream()
-                .map(this::mapToResponse)
+        // 아직 기록되지 않은 오늘 걸음 수 반영 (최신 날짜순이므로 오늘 기록이 없으면 맨 앞에 추가)
+        LocalDate today = LocalDate.now();
+        Integer buffered = stepWriteBuffer.peek(userId, today);
+
+        List<StepResponse> responses = steps.stream()
+                .map(step -> step.getStepDate().equals(today) ? mapToResponse(step, buffered) : mapToResponse(step))
                 .collect(Collectors.toList());
+        if (buffered != null && steps.stream().noneMatch(step -> step.getStepDate().equals(today))) {
+            responses.add(0, StepResponse.builder()
+                    .userId(userId)
+                    .stepDate(today)
+                    .stepCount(buffered)
+                    .build());
+        }
+        return responses;
     }
 
     // 사용자의 특정 날짜 걸음 수 조회
     @Transactional(readOnly = true)
     public StepResponse getStepCountByDate(Integer userId, LocalDate date) {
         Optional<Step> stepOptional = stepRepository.findStepByStepDate(userId, date);
+        // 아직 기록되지 않은 걸음 수 (쓰기 버퍼)
+        Integer buffered = stepWriteBuffer.peek(userId, date);
 
         // 해당 날짜의 기록이 없으면 기본값으로 응답
         if (stepOptional.isEmpty()) {
@@ -103,12 +149,12 @@ public class StepService {
             return StepResponse.builder()
                     .userId(userId)
                     .stepDate(date)
-                    .stepCount(0)
+                    .stepCount(buffered != null ? buffered : 0)
                     .createdAt(null)
                     .build();
         }
 
-        return mapToResponse(stepOptional.get());
+        return mapToResponse(stepOptional.get(), buffered);
     }
 
     // 일별 걸음 수 조회 (7일)
@@ -136,16 +182,17 @@ public class StepService {
                     .filter(step -> step.getStepDate().equals(currentDate))
                     .findFirst();
 
-            // 일별 데이터 추가
+            // 일별 데이터 추가 (아직 기록되지 않은 걸음 수 반영)
             dailyData.add(StepWeeklyResponse.StepDailyData.builder()
                     .date(date)
-                    .stepCount(stepForDate.map(Step::getStepCount).orElse(0))
+                    .stepCount(withBuffered(stepForDate.map(Step::getStepCount).orElse(0),
+                            stepWriteBuffer.peek(userId, date)))
                     .build());
         }
 
         // 총 걸음 수 및 평균 계산
-        int totalSteps = weeklySteps.stream()
-                .mapToInt(Step::getStepCount)
+        int totalSteps = dailyData.stream()
+                .mapToInt(StepWeeklyResponse.StepDailyData::getStepCount)
                 .sum();
 
         // 평균 걸음 수 계산 - 항상 7로 나눔 (일주일)
@@ -164,13 +211,23 @@ public class StepService {
                 .build();
     }
 
+    // 버퍼 값은 DB 값보다 나중에 받은 값이므로 있으면 그 값 (flush 후 조회와 같은 값, 값을 낮춘 수정도 그대로 보임)
+    private Integer withBuffered(Integer stepCount, Integer buffered) {
+        return buffered != null ? buffered : stepCount;
+    }
+
     // Entity를 Response DTO로 변환하는 헬퍼 메서드
     private StepResponse mapToResponse(Step step) {
+        return mapToResponse(step, null);
+    }
+
+    // 쓰기 버퍼에 아직 기록되지 않은 값이 있으면 그 값으로 응답
+    private StepResponse mapToResponse(Step step, Integer buffered) {
         return StepResponse.builder()
                 .stepCountId(step.getStepCountId())
                 .userId(step.getUserId())
                 .stepDate(step.getStepDate())
-                .stepCount(step.getStepCount())
+                .stepCount(withBuffered(step.getStepCount(), buffered))
                 .createdAt(step.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,205 @@
+package com.s206.health.step.service;
+
+import com.s206.health.persistence.id.EntityIdAllocator;
+import com.s206.health.step.entity.Step;
+import com.s206.health.step.repository.StepRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 오늘 누적 걸음 수 쓰기 버퍼 (사용자/날짜별로 마지막 값만 남기고 주기적으로 모아서 기록)
+// 앱이 하루에 여러 번 보내는 누적값을 요청마다 쓰지 않고, flush 주기(기본 5초)마다 한 번의 JDBC batch 로 upsert
+// 버퍼의 값도 클라이언트가 보낸 값이므로 flush 는 저장된 값을 그대로 덮어씀 (값을 낮추는 수정도 반영)
+// 단, 받은 시각을 updated_at 으로 기록하고 저장된 행보다 먼저 받은 값은 덮어쓰지 않음
+// (여러 인스턴스가 같은 사용자/날짜를 각자 버퍼링하거나 실패한 flush 를 다시 시도해도 마지막으로 받은 값이 남음)
+// 버퍼는 인스턴스별이라 다른 인스턴스에서는 최대 flush 주기만큼 이전 값이 보일 수 있음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StepWriteBuffer {
+
+    // 값 비교 없이 받은 시각이 더 늦은 쪽의 값으로 갱신 (step_count 를 updated_at 보다 먼저 대입해야 이전 시각과 비교됨)
+    private static final String UPSERT_LATEST_SQL = "INSERT INTO step_count_tb " +
+            "(step_count_id, user_id, step_date, step_count, created_at, updated_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0) " +
+            "AS new ON DUPLICATE KEY UPDATE " +
+            "step_count = IF(new.updated_at >= step_count_tb.updated_at, new.step_count, step_count_tb.step_count), " +
+            "updated_at = GREATEST(step_count_tb.updated_at, new.updated_at)";
+
+    // 기존 ID 조회 시 IN 절 최대 크기
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final StepRepository stepRepository;
+    private final EntityIdAllocator entityIdAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${step.buffer.enabled:true}")
+    private boolean enabled;
+
+    // 이 수를 넘으면 버퍼링하지 않고 바로 기록 (flush 가 밀릴 때 메모리 보호)
+    @Value("${step.buffer.max-pending:50000}")
+    private int maxPending;
+
+    private final Map<StepKey, BufferedStep> pending = new ConcurrentHashMap<>();
+
+    // flush 중인 값 (DB 에 반영되기 전까지 조회에서 보이도록 유지)
+    private volatile Map<StepKey, BufferedStep> flushing = Map.of();
+
+    private Counter buffered;
+    private Counter written;
+
+    @PostConstruct
+    public void init() {
+        buffered = Counter.builder("step.buffer.buffered")
+                .description("쓰기 버퍼로 받은 걸음 수 갱신 수")
+                .register(meterRegistry);
+        written = Counter.builder("step.buffer.written")
+                .description("쓰기 버퍼에서 DB 에 기록한 행 수")
+                .register(meterRegistry);
+        Gauge.builder("step.buffer.pending", pending, Map::size)
+                .description("기록 대기 중인 사용자/날짜 수")
+                .register(meterRegistry);
+    }
+
+    // 버퍼에 넣었으면 true, 비활성/가득 찬 경우 false (호출한 쪽에서 바로 기록)
+    public boolean offer(Integer userId, LocalDate stepDate, Integer stepCount) {
+        if (!enabled || stepCount == null) {
+            return false;
+        }
+        StepKey key = new StepKey(userId, stepDate);
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            return false;
+        }
+        pending.put(key, new BufferedStep(stepCount, LocalDateTime.now()));
+        buffered.increment();
+        return true;
+    }
+
+    // 아직 기록되지 않은 값 (없으면 null)
+    public Integer peek(Integer userId, LocalDate stepDate) {
+        StepKey key = new StepKey(userId, stepDate);
+        BufferedStep value = pending.get(key);
+        if (value == null) {
+            value = flushing.get(key);
+        }
+        return value != null ? value.stepCount : null;
+    }
+
+    // 스케줄러와 종료 시 호출이 겹치지 않도록 동기화
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 복사본을 먼저 flushing 으로 공개한 뒤 pending 에서 제거 (조회가 두 맵 모두에서 놓치는 순간이 없도록)
+        Map<StepKey, BufferedStep> drained = new HashMap<>(pending);
+        if (drained.isEmpty()) {
+            return;
+        }
+        flushing = drained;
+        // 복사 후 더 새로운 값이 들어온 키는 남겨 두고 다음 flush 에서 기록
+        drained.forEach(pending::remove);
+
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(drained));
+            written.increment(drained.size());
+            log.debug("[STEP_BUFFER] flush 완료: 행 수={}, 소요={}ms", drained.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 실패한 값은 다음 flush 에서 다시 시도 (그 사이 들어온 최신 값이 있으면 그 값 유지)
+            drained.forEach(pending::putIfAbsent);
+            log.warn("[STEP_BUFFER] flush 실패, 다음 주기에 재시도: 행 수={}, 사유={}", drained.size(), e.getMessage());
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[STEP_BUFFER] 종료 전 flush: 대기 행 수={}", pending.size());
+        flush();
+    }
+
+    private void write(Map<StepKey, BufferedStep> drained) {
+        Map<LocalDate, List<Integer>> userIdsByDate = new HashMap<>();
+        drained.keySet().forEach(key -> userIdsByDate.computeIfAbsent(key.stepDate, d -> new ArrayList<>()).add(key.userId));
+
+        // 갱신마다 새 ID 를 쓰지 않도록 기존 기록 ID 를 날짜별로 한 번에 조회
+        Map<StepKey, Integer> existingIds = new HashMap<>();
+        userIdsByDate.forEach((stepDate, userIds) -> {
+            for (int from = 0; from < userIds.size(); from += LOOKUP_CHUNK_SIZE) {
+                List<Integer> chunk = userIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, userIds.size()));
+                for (Step step : stepRepository.findStepsByStepDateAndUserIds(stepDate, chunk)) {
+                    existingIds.put(new StepKey(step.getUserId(), step.getStepDate()), step.getStepCountId());
+                }
+            }
+        });
+
+        List<Object[]> batchArgs = new ArrayList<>(drained.size());
+        drained.forEach((key, value) -> {
+            Integer stepCountId = existingIds.get(key);
+            if (stepCountId == null) {
+                stepCountId = entityIdAllocator.nextId(Step.class);
+            }
+            Timestamp receivedAt = Timestamp.valueOf(value.receivedAt);
+            batchArgs.add(new Object[]{stepCountId, key.userId, java.sql.Date.valueOf(key.stepDate), value.stepCount,
+                    receivedAt, receivedAt});
+        });
+        jdbcTemplate.batchUpdate(UPSERT_LATEST_SQL, batchArgs);
+    }
+
+    // 받은 값과 받은 시각 (flush 가 늦어져도 저장된 행과 받은 순서로 비교)
+    private static final class BufferedStep {
+
+        private final Integer stepCount;
+        private final LocalDateTime receivedAt;
+
+        private BufferedStep(Integer stepCount, LocalDateTime receivedAt) {
+            this.stepCount = stepCount;
+            this.receivedAt = receivedAt;
+        }
+    }
+
+    private static final class StepKey {
+
+        private final Integer userId;
+        private final LocalDate stepDate;
+
+        private StepKey(Integer userId, LocalDate stepDate) {
+            this.userId = userId;
+            this.stepDate = stepDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StepKey other)) return false;
+            return userId.equals(other.userId) && stepDate.equals(other.stepDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, stepDate);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.s206.health.nutrition.food.search;
+
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.s206.health.support.TestFoods.food;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodNameIndexTest {
+
+    private FoodNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = FoodNameIndex.of(FoodCatalogSnapshot.of(List.of(
+                food("김치찌개").foodId(1).build(),
+                food("김치볶음밥").foodId(2).build(),
+                food("된장찌개").foodId(3).build(),
+                food("닭가슴살 샐러드(소스포함)").foodId(4).build(),
+                food("김치전").foodId(5).isDeleted(true).build()
+        ), 1L));
+    }
+
+    @Test
+    void prefixSearch_ordersShorterNamesFirstAndSkipsDeletedFoods() {
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("김치", 10)).containsExactly(1, 2);
+        assertThat(index.search("김치", 1)).containsExactly(1);
+    }
+
+    @Test
+    void prefixSearch_matchesFromEachWordStart() {
+        assertThat(index.search("샐러드", 10)).containsExactly(4);
+        assertThat(index.search("소스", 10)).containsExactly(4);
+        // 단어 중간부터는 일치하지 않음
+        assertThat(index.search("찌개", 10)).isEmpty();
+    }
+
+    @Test
+    void prefixSearch_matchesHalfTypedSyllable() {
+        assertThat(index.search("김치찍", 10)).containsExactly(1);
+        assertThat(index.search("닭갓", 10)).containsExactly(4);
+    }
+
+    @Test
+    void choseongSearch() {
+        assertThat(index.search("ㄱㅊ", 10)).containsExactly(1, 2);
+        assertThat(index.search("ㄷㅈㅉㄱ", 10)).containsExactly(3);
+        assertThat(index.search("ㅅㄹㄷ", 10)).containsExactly(4);
+    }
+
+    @Test
+    void fuzzySearch_oneEditForMediumQuery() {
+        // 된잔(ㄷㅗㅣㄴㅈㅏㄴ, 자모 7개) → 된장 (받침 치환 1개)
+        assertThat(index.search("된잔", 10)).containsExactly(3);
+    }
+
+    @Test
+    void fuzzySearch_twoEditsForLongQuery() {
+        // 김취찌게 (자모 10개) → 김치찌개 (ㅜ 삽입 + ㅔ/ㅐ 치환)
+        assertThat(index.search("김취찌게", 10)).containsExactly(1);
+    }
+
+    @Test
+    void fuzzySearch_exactMatchesComeFirst() {
+        // 김치찌(자모 7개): 김치찌개는 접두사 일치, 된장찌개 등은 1개 편집으로도 닿지 않음
+        assertThat(index.search("김치찌", 10)).first().isEqualTo(1);
+    }
+
+    @Test
+    void shortQueryHasNoFuzzyMatches() {
+        assertThat(index.search("가", 10)).isEmpty();
+        assertThat(index.search("", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+}
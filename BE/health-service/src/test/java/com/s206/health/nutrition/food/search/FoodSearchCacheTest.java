@@ -0,0 +1,94 @@
+package com.s206.health.nutrition.food.search;
+
+import com.s206.health.elastic.entity.ElasticSyncState;
+import com.s206.health.elastic.repository.ElasticSyncStateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class FoodSearchCacheTest {
+
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    private ElasticSyncStateRepository syncStateRepository;
+    private FoodSearchCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        syncStateRepository = mock(ElasticSyncStateRepository.class);
+        givenState("food_v3_20250501000000", WATERMARK);
+
+        cache = new FoodSearchCache(syncStateRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+        // 매 조회마다 버전 확인 (다른 인스턴스의 동기화를 바로 관찰)
+        ReflectionTestUtils.setField(cache, "versionCheckMs", 0L);
+        cache.init();
+    }
+
+    @Test
+    void sameIndexVersion_hitsCache() {
+        assertThat(search(" 김치  찌개 ")).containsExactly(1);
+        assertThat(search("김치 찌개")).containsExactly(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void watermarkAdvancedOnAnotherInstance_reloads() {
+        search("김치");
+        givenState("food_v3_20250501000000", WATERMARK.plusMinutes(1));
+
+        search("김치");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void indexRebuiltOnAnotherInstance_reloads() {
+        search("김치");
+        givenState("food_v3_20250502000000", WATERMARK);
+
+        search("김치");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void versionReadWithinCheckInterval_usesLastVersion() {
+        ReflectionTestUtils.setField(cache, "versionCheckMs", 60_000L);
+        search("김치");
+        givenState("food_v3_20250501000000", WATERMARK.plusMinutes(1));
+
+        search("김치");
+        assertThat(loads).hasValue(1);
+
+        // 이 인스턴스가 동기화한 경우에는 바로 비우고 새 버전을 읽음
+        cache.invalidateAll();
+        search("김치");
+        assertThat(loads).hasValue(2);
+    }
+
+    private List<Integer> search(String query) {
+        return cache.get(query, () -> {
+            loads.incrementAndGet();
+            return List.of(1);
+        });
+    }
+
+    private void givenState(String indexName, LocalDateTime watermark) {
+        given(syncStateRepository.findById(ElasticSyncState.SINGLETON_ID)).willReturn(Optional.of(ElasticSyncState.builder()
+                .elasticSyncStateId(ElasticSyncState.SINGLETON_ID)
+                .indexName(indexName)
+                .watermark(watermark)
+                .build()));
+    }
+}
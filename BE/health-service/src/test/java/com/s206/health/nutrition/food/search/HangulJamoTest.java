@@ -0,0 +1,50 @@
+package com.s206.health.nutrition.food.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void decompose_splitsSyllablesIntoJamo() {
+        assertThat(HangulJamo.decompose("김치찌개")).isEqualTo("ㄱㅣㅁㅊㅣㅉㅣㄱㅐ");
+    }
+
+    @Test
+    void decompose_splitsCompoundVowelsAndFinals() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄺㅘ")).isEqualTo("ㄹㄱㅗㅏ");
+    }
+
+    @Test
+    void decompose_halfTypedSyllableIsPrefixOfCompletedName() {
+        // "찍"의 받침 ㄱ은 다음 글자 "개"의 초성으로 이어질 수 있음
+        assertThat(HangulJamo.decompose("김치찌개")).startsWith(HangulJamo.decompose("김치찍"));
+        // 조합 중인 낱자(호환 자모)도 그대로 이어 붙임
+        assertThat(HangulJamo.decompose("된장")).startsWith(HangulJamo.decompose("된ㅈ"));
+    }
+
+    @Test
+    void decompose_dropsSpacesAndSymbolsAndLowercases() {
+        assertThat(HangulJamo.decompose("Coke-Zero 2")).isEqualTo("cokezero2");
+        assertThat(HangulJamo.decompose("닭 (소)")).isEqualTo("ㄷㅏㄹㄱㅅㅗ");
+    }
+
+    @Test
+    void choseong_keepsInitialConsonantsOnly() {
+        assertThat(HangulJamo.choseong("김치 찌개")).isEqualTo("ㄱㅊㅉㄱ");
+        assertThat(HangulJamo.choseong("ㄱㅊ")).isEqualTo("ㄱㅊ");
+        assertThat(HangulJamo.choseong("Tea 2잔")).isEqualTo("tea2ㅈ");
+    }
+
+    @Test
+    void isChoseongOnly() {
+        assertThat(HangulJamo.isChoseongOnly("ㄱㅊ")).isTrue();
+        assertThat(HangulJamo.isChoseongOnly("ㄱ ㅊ")).isTrue();
+        assertThat(HangulJamo.isChoseongOnly("김ㅊ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("ㄱㅏ")).isFalse();
+        assertThat(HangulJamo.isChoseongOnly("  ")).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package com.s206.health.nutrition.food.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JamoTrieTest {
+
+    private final JamoTrie trie = JamoTrie.build(
+            new String[]{"abd", "abc", "ab", "b", "abc"},
+            new int[]{1, 0, 2, 3, 4});
+
+    @Test
+    void collectPrefix_returnsValuesOfWholeSubtree() {
+        assertThat(prefix("ab")).containsExactlyInAnyOrder(0, 1, 2, 4);
+        assertThat(prefix("abc")).containsExactlyInAnyOrder(0, 4);
+        assertThat(prefix("b")).containsExactly(3);
+    }
+
+    @Test
+    void collectPrefix_emptyPrefixReturnsEverything() {
+        assertThat(prefix("")).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void collectPrefix_missingPathReturnsNothing() {
+        assertThat(prefix("abx")).isEmpty();
+        assertThat(prefix("c")).isEmpty();
+        assertThat(prefix("abcd")).isEmpty();
+    }
+
+    @Test
+    void collectFuzzyPrefix_oneEdit() {
+        JamoTrie names = JamoTrie.build(new String[]{"chicken", "kitchen", "chick"}, new int[]{0, 1, 2});
+
+        // 치환 1개
+        assertThat(fuzzy(names, "chocken", 1)).containsExactly(0);
+        // 누락 1개
+        assertThat(fuzzy(names, "chcken", 1)).containsExactly(0);
+        // 삽입 1개 (검색어가 더 짧은 키 "chick"까지 덮음)
+        assertThat(fuzzy(names, "chicck", 1)).containsExactlyInAnyOrder(0, 2);
+    }
+
+    @Test
+    void collectFuzzyPrefix_twoEditsNeedsLargerBudget() {
+        JamoTrie names = JamoTrie.build(new String[]{"chicken", "kitchen"}, new int[]{0, 1});
+
+        // 자리 바꿈은 편집 2개
+        assertThat(fuzzy(names, "chikcen", 1)).isEmpty();
+        assertThat(fuzzy(names, "chikcen", 2)).containsExactly(0);
+    }
+
+    @Test
+    void emptyTrie() {
+        JamoTrie empty = JamoTrie.build(new String[0], new int[0]);
+
+        assertThat(prefix(empty, "")).isEmpty();
+        assertThat(fuzzy(empty, "abc", 2)).isEmpty();
+        assertThat(empty.postingCount()).isZero();
+    }
+
+    private List<Integer> prefix(String prefix) {
+        return prefix(trie, prefix);
+    }
+
+    private static List<Integer> prefix(JamoTrie trie, String prefix) {
+        List<Integer> values = new ArrayList<>();
+        trie.collectPrefix(prefix, values::add);
+        return values;
+    }
+
+    private static List<Integer> fuzzy(JamoTrie trie, String prefix, int maxEdits) {
+        List<Integer> values = new ArrayList<>();
+        trie.collectFuzzyPrefix(prefix, maxEdits, values::add);
+        return values;
+    }
+}
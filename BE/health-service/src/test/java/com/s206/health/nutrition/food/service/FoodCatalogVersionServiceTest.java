@@ -0,0 +1,55 @@
+package com.s206.health.nutrition.food.service;
+
+import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.nutrition.food.repository.FoodRepository;
+import com.s206.health.support.JpaSliceTestConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+
+import static com.s206.health.support.TestFoods.food;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 카탈로그 버전 카운터: 기존 음식 버전에서 이어서 시작하고, 발급한 버전 이후 변경분만 조회되는지 검증
+@DataJpaTest(properties = JpaSliceTestConfig.NO_CONFIG_SERVER)
+@ContextConfiguration(classes = JpaSliceTestConfig.class)
+@Import(FoodCatalogVersionService.class)
+class FoodCatalogVersionServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private FoodCatalogVersionService foodCatalogVersionService;
+
+    @Test
+    void next_continuesFromExistingFoodsAndIncreases() {
+        entityManager.persist(food("쌀밥").catalogVersion(1_700_000_000_000L).build());
+        entityManager.flush();
+        assertThat(foodCatalogVersionService.current()).isEqualTo(1_700_000_000_000L);
+
+        assertThat(foodCatalogVersionService.next()).isEqualTo(1_700_000_000_001L);
+        assertThat(foodCatalogVersionService.next()).isEqualTo(1_700_000_000_002L);
+        assertThat(foodCatalogVersionService.current()).isEqualTo(1_700_000_000_002L);
+    }
+
+    @Test
+    void changedAfter_returnsOnlyFoodsWrittenWithLaterVersion() {
+        entityManager.persist(food("쌀밥").catalogVersion(10L).build());
+        entityManager.flush();
+        long clientVersion = foodCatalogVersionService.current();
+
+        Food soup = entityManager.persist(food("된장국").catalogVersion(foodCatalogVersionService.next()).build());
+        entityManager.flush();
+
+        assertThat(foodRepository.findAllChangedAfter(clientVersion))
+                .extracting(Food::getFoodId)
+                .containsExactly(soup.getFoodId());
+    }
+}
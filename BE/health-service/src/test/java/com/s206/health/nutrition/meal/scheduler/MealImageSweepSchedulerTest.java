@@ -0,0 +1,44 @@
+package com.s206.health.nutrition.meal.scheduler;
+
+import com.s206.common.exception.types.ConflictException;
+import com.s206.health.nutrition.meal.service.MealImageSweepService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 수동 이미지 정리: 요청 시점에 점유하지 못하면(예약 실행/다른 인스턴스 실행 중) 바로 거부
+@ExtendWith(MockitoExtension.class)
+class MealImageSweepSchedulerTest {
+
+    @Mock
+    private MealImageSweepService mealImageSweepService;
+
+    @InjectMocks
+    private MealImageSweepScheduler scheduler;
+
+    @Test
+    void startSweep_whileLeaseHeld_isRejected() {
+        given(mealImageSweepService.tryAcquire()).willReturn(false);
+
+        assertThatThrownBy(scheduler::startSweep).isInstanceOf(ConflictException.class);
+        verify(mealImageSweepService, never()).sweepLocked();
+    }
+
+    @Test
+    void startSweep_thenSweepAsync_runsWithAcquiredLease() {
+        given(mealImageSweepService.tryAcquire()).willReturn(true);
+
+        scheduler.startSweep();
+        scheduler.sweepAsync();
+
+        verify(mealImageSweepService, never()).sweep();
+        verify(mealImageSweepService).sweepLocked();
+    }
+}
@@ -0,0 +1,165 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import com.s206.health.support.InMemoryObjectStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class MealImageDerivativeServiceTest {
+
+    private static final String BUCKET = "meal-bucket";
+
+    private InMemoryObjectStore store;
+    private MealImageDerivativeService derivativeService;
+    private MealImageService mealImageService;
+    private MealImageObjectService mealImageObjectService;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryObjectStore();
+
+        mealImageObjectService = mock(MealImageObjectService.class);
+        derivativeService = new MealImageDerivativeService();
+        ReflectionTestUtils.setField(derivativeService, "mealImageObjectService", mealImageObjectService);
+        ReflectionTestUtils.setField(derivativeService, "minioClient", store.client());
+        ReflectionTestUtils.setField(derivativeService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(derivativeService, "maxPixels", 40_000_000L);
+
+        mealImageService = new MealImageService();
+        ReflectionTestUtils.setField(mealImageService, "endpoint", "http://minio:9000");
+        ReflectionTestUtils.setField(mealImageService, "bucketName", BUCKET);
+    }
+
+    @Test
+    void generate_writesResizedJpegDerivatives() throws IOException {
+        String objectName = "meal/photo.png";
+        store.put(objectName, encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png"), "image/png");
+
+        derivativeService.generate(objectName);
+
+        BufferedImage thumbnail = decode(MealImageSize.THUMBNAIL.objectNameOf(objectName));
+        BufferedImage medium = decode(MealImageSize.MEDIUM.objectNameOf(objectName));
+        assertThat(thumbnail.getWidth()).isEqualTo(240);
+        assertThat(thumbnail.getHeight()).isEqualTo(120);
+        assertThat(medium.getWidth()).isEqualTo(960);
+        assertThat(medium.getHeight()).isEqualTo(480);
+        assertThat(store.contentType(MealImageSize.THUMBNAIL.objectNameOf(objectName))).isEqualTo("image/jpeg");
+        verify(mealImageObjectService).markDerivativesReady(List.of(objectName));
+    }
+
+    @Test
+    void derivativeUrl_isOriginalUntilDerivativesAreReady() {
+        String objectName = "meal/photo.jpg";
+
+        assertThat(mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, false))
+                .isEqualTo("http://minio:9000/meal-bucket/meal/photo.jpg");
+        assertThat(mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, true))
+                .isEqualTo("http://minio:9000/meal-bucket/" + MealImageSize.THUMBNAIL.objectNameOf(objectName));
+    }
+
+    @Test
+    void generate_skipsUndecodableFormatAndUrlFallsBackToOriginal() {
+        String objectName = "meal/photo.heic";
+        store.put(objectName, new byte[]{0, 0, 0, 24, 'f', 't', 'y', 'p', 'h', 'e', 'i', 'c'}, "image/heic");
+
+        derivativeService.generate(objectName);
+
+        assertThat(store.size()).isEqualTo(1);
+        verify(mealImageObjectService, never()).markDerivativesReady(any());
+        assertThat(mealImageService.getMealImageUrl(objectName, MealImageSize.THUMBNAIL, true))
+                .isEqualTo("http://minio:9000/meal-bucket/meal/photo.heic");
+    }
+
+    @Test
+    void generate_doesNotCopyOriginalWhenContentCannotBeDecoded() {
+        String objectName = "meal/broken.jpg";
+        store.put(objectName, "not an image".getBytes(), "image/jpeg");
+
+        derivativeService.generate(objectName);
+
+        assertThat(store.contains(MealImageSize.THUMBNAIL.objectNameOf(objectName))).isFalse();
+        assertThat(store.contains(MealImageSize.MEDIUM.objectNameOf(objectName))).isFalse();
+        verify(mealImageObjectService, never()).markDerivativesReady(any());
+    }
+
+    @Test
+    void generate_rejectsImageAbovePixelLimitBeforeDecoding() throws IOException {
+        String objectName = "meal/bomb.png";
+        // 수백 바이트 PNG 가 100,000 x 100,000 크기를 선언 (디코딩하면 수십 GB 필요)
+        store.put(objectName, withPngSize(encode(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "png"),
+                100_000, 100_000), "image/png");
+
+        derivativeService.generate(objectName);
+
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void generate_respectsConfiguredPixelLimit() throws IOException {
+        String objectName = "meal/large.png";
+        ReflectionTestUtils.setField(derivativeService, "maxPixels", 1_000_000L);
+        store.put(objectName, encode(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "png"), "image/png");
+
+        derivativeService.generate(objectName);
+
+        assertThat(store.contains(MealImageSize.THUMBNAIL.objectNameOf(objectName))).isFalse();
+    }
+
+    // 같은 원본의 작업이 대기 중이면 다시 예약하지 않고, 작업이 끝난 뒤에는 다시 예약 가능
+    @Test
+    void generateAsync_doesNotQueueSameObjectTwice() {
+        List<Runnable> tasks = new ArrayList<>();
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(executor).execute(any(Runnable.class));
+        ReflectionTestUtils.setField(derivativeService, "derivativeExecutor", executor);
+
+        derivativeService.generateAsync("meal/photo.jpg");
+        derivativeService.generateAsync("meal/photo.jpg");
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+        derivativeService.generateAsync("meal/photo.jpg");
+        assertThat(tasks).hasSize(2);
+    }
+
+    private BufferedImage decode(String objectName) throws IOException {
+        byte[] content = store.get(objectName);
+        assertThat(content).as(objectName).isNotNull();
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    // PNG IHDR 의 가로/세로를 바꾸고 CRC 다시 계산 (시그니처 8 + 길이 4 + 타입 4 뒤에 가로/세로)
+    private static byte[] withPngSize(byte[] png, int width, int height) {
+        byte[] patched = png.clone();
+        ByteBuffer.wrap(patched, 16, 8).putInt(width).putInt(height);
+        CRC32 crc = new CRC32();
+        crc.update(patched, 12, 17);
+        ByteBuffer.wrap(patched, 29, 4).putInt((int) crc.getValue());
+        return patched;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
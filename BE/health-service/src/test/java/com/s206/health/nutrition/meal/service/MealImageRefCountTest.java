@@ -0,0 +1,213 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.health.nutrition.meal.entity.MealImageObject;
+import com.s206.health.nutrition.meal.repository.MealImageObjectRepository;
+import com.s206.health.support.InMemoryObjectStore;
+import com.s206.health.support.JpaSliceTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 식단 이미지 참조 수 수명주기 검증 (연결마다 참조 추가, 마지막 해제가 커밋된 뒤에만 객체 삭제)
+// 커밋 후 삭제를 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@DataJpaTest(properties = {
+        JpaSliceTestConfig.NO_CONFIG_SERVER,
+        JpaSliceTestConfig.MYSQL_MODE_REPLACE,
+        JpaSliceTestConfig.MYSQL_MODE_URL
+})
+@ContextConfiguration(classes = JpaSliceTestConfig.class)
+@Import(MealImageObjectService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MealImageRefCountTest {
+
+    private static final String DIRECT_OBJECT = "meal/direct/1/photo.jpg";
+
+    @Autowired
+    private MealImageObjectService mealImageObjectService;
+
+    @Autowired
+    private MealImageObjectRepository mealImageObjectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private InMemoryObjectStore store;
+    private MealImageService mealImageService;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryObjectStore();
+
+        mealImageService = new MealImageService();
+        ReflectionTestUtils.setField(mealImageService, "minioClient", store.client());
+        ReflectionTestUtils.setField(mealImageService, "mealImageObjectService", mealImageObjectService);
+        ReflectionTestUtils.setField(mealImageService, "mealImageDerivativeService", mock(MealImageDerivativeService.class));
+        ReflectionTestUtils.setField(mealImageService, "bucketName", "meal-bucket");
+        ReflectionTestUtils.setField(mealImageService, "bucketReady", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mealImageObjectRepository.deleteAll();
+    }
+
+    @Test
+    void attachTwiceThenDeleteOnce_keepsObject() {
+        registerDirectUpload();
+
+        inTransaction(() -> mealImageService.acquireMealImage(DIRECT_OBJECT));
+        inTransaction(() -> mealImageService.acquireMealImage(DIRECT_OBJECT));
+        assertThat(refCount(DIRECT_OBJECT)).isEqualTo(2);
+
+        inTransaction(() -> mealImageService.deleteMealImage(DIRECT_OBJECT));
+        assertThat(refCount(DIRECT_OBJECT)).isEqualTo(1);
+        assertThat(store.contains(DIRECT_OBJECT)).isTrue();
+
+        inTransaction(() -> mealImageService.deleteMealImage(DIRECT_OBJECT));
+        assertThat(mealImageObjectRepository.existsByObjectName(DIRECT_OBJECT)).isFalse();
+        assertThat(store.contains(DIRECT_OBJECT)).isFalse();
+    }
+
+    @Test
+    void lastRelease_removesObjectOnlyAfterCommit() {
+        registerDirectUpload();
+        inTransaction(() -> mealImageService.acquireMealImage(DIRECT_OBJECT));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            mealImageService.deleteMealImage(DIRECT_OBJECT);
+            assertThat(store.contains(DIRECT_OBJECT)).isTrue();
+        });
+
+        assertThat(store.contains(DIRECT_OBJECT)).isFalse();
+    }
+
+    @Test
+    void rolledBackRelease_keepsObjectAndReference() {
+        registerDirectUpload();
+        inTransaction(() -> mealImageService.acquireMealImage(DIRECT_OBJECT));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            mealImageService.deleteMealImage(DIRECT_OBJECT);
+            status.setRollbackOnly();
+        });
+
+        assertThat(refCount(DIRECT_OBJECT)).isEqualTo(1);
+        assertThat(store.contains(DIRECT_OBJECT)).isTrue();
+    }
+
+    @Test
+    void rolledBackAttach_doesNotAddReference() {
+        registerDirectUpload();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            mealImageService.acquireMealImage(DIRECT_OBJECT);
+            status.setRollbackOnly();
+        });
+
+        assertThat(refCount(DIRECT_OBJECT)).isZero();
+    }
+
+    @Test
+    void uploadSameContentTwice_storesOnceWithTwoReferences() {
+        byte[] content = "same photo".getBytes();
+
+        String first = mealImageService.uploadMealImage(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+        String second = mealImageService.uploadMealImage(new MockMultipartFile("file", "b.JPG", "image/jpeg", content));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.get(first)).isEqualTo(content);
+        assertThat(refCount(first)).isEqualTo(2);
+
+        inTransaction(() -> mealImageService.deleteMealImage(first));
+        assertThat(store.contains(first)).isTrue();
+        inTransaction(() -> mealImageService.deleteMealImage(first));
+        assertThat(store.contains(first)).isFalse();
+    }
+
+    @Test
+    void upload_writesObjectOutsideTransactionBeforeReference() {
+        byte[] content = "new photo".getBytes();
+        store.afterNextPut(objectName -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            assertThat(mealImageObjectRepository.existsByObjectName(objectName)).isFalse();
+        });
+
+        String objectName = mealImageService.uploadMealImage(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+
+        assertThat(store.get(objectName)).isEqualTo(content);
+        assertThat(refCount(objectName)).isEqualTo(1);
+    }
+
+    @Test
+    void uploadSameContentWithOtherExtension_keepsFirstObjectOnly() {
+        byte[] content = "same photo".getBytes();
+
+        String first = mealImageService.uploadMealImage(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+        String second = mealImageService.uploadMealImage(new MockMultipartFile("file", "b.png", "image/png", content));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(refCount(first)).isEqualTo(2);
+    }
+
+    @Test
+    void objectRemovedBetweenWriteAndReference_isWrittenAgain() {
+        byte[] content = "racing photo".getBytes();
+        // 이전 마지막 참조 해제의 객체 삭제가 이번 쓰기 직후 실행된 경우
+        store.afterNextPut(store::remove);
+
+        String objectName = mealImageService.uploadMealImage(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+
+        assertThat(store.get(objectName)).isEqualTo(content);
+        assertThat(refCount(objectName)).isEqualTo(1);
+    }
+
+    @Test
+    void derivativesReady_onlyAfterMarkedAndKeptForSameContent() {
+        byte[] content = "photo with derivatives".getBytes();
+        String objectName = mealImageService.uploadMealImage(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+        registerDirectUpload();
+
+        assertThat(mealImageService.isDerivativesReady(objectName)).isFalse();
+
+        mealImageObjectService.markDerivativesReady(List.of(objectName));
+        mealImageService.uploadMealImage(new MockMultipartFile("file", "b.jpg", "image/jpeg", content));
+
+        assertThat(mealImageService.isDerivativesReady(objectName)).isTrue();
+        assertThat(mealImageService.findDerivativesReady(List.of(objectName, DIRECT_OBJECT))).containsExactly(objectName);
+    }
+
+    private void registerDirectUpload() {
+        store.put(DIRECT_OBJECT, new byte[]{1, 2, 3}, "image/jpeg");
+        assertThat(mealImageObjectService.register(DIRECT_OBJECT, 3, "image/jpeg")).isTrue();
+        assertThat(refCount(DIRECT_OBJECT)).isZero();
+    }
+
+    private void inTransaction(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+
+    private int refCount(String objectName) {
+        return mealImageObjectRepository.findAll().stream()
+                .filter(row -> row.getObjectName().equals(objectName))
+                .map(MealImageObject::getRefCount)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,127 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.nutrition.foodset.dto.request.FoodSetApplyRequest;
+import com.s206.health.nutrition.foodset.entity.FoodSet;
+import com.s206.health.nutrition.foodset.entity.FoodSetFood;
+import com.s206.health.nutrition.foodset.repository.FoodSetRepository;
+import com.s206.health.nutrition.meal.entity.Meal;
+import com.s206.health.nutrition.meal.entity.MealTime;
+import com.s206.health.nutrition.meal.entity.MealType;
+import com.s206.health.nutrition.meal.repository.MealRepository;
+import com.s206.health.nutrition.recent.service.FoodAffinityService;
+import com.s206.health.nutrition.recent.service.RecentFoodService;
+import com.s206.health.nutrition.rollup.service.NutritionRollupService;
+import com.s206.health.persistence.id.EntityIdAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.s206.health.support.TestFoods.food;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MealServiceApplyFoodSetTest {
+
+    private static final Integer USER_ID = 1;
+    private static final Integer FOOD_SET_ID = 10;
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private MealRepository mealRepository;
+    @Mock
+    private FoodCatalog foodCatalog;
+    @Mock
+    private NutritionRollupService nutritionRollupService;
+    @Mock
+    private RecentFoodService recentFoodService;
+    @Mock
+    private FoodAffinityService foodAffinityService;
+    @Mock
+    private FoodSetRepository foodSetRepository;
+    @Mock
+    private EntityIdAllocator entityIdAllocator;
+
+    @InjectMocks
+    private MealService mealService;
+
+    private Food rice;
+    private Food soup;
+    private Meal meal;
+
+    @BeforeEach
+    void setUp() {
+        rice = food("쌀밥").foodId(1).build();
+        soup = food("된장국").foodId(2).build();
+        meal = Meal.builder().mealId(100).userId(USER_ID).mealDate(DATE).isMeal(true).build();
+
+        given(foodSetRepository.findWithFoodsById(FOOD_SET_ID)).willReturn(Optional.of(foodSet(rice, soup)));
+        lenient().when(mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(USER_ID, DATE)).thenReturn(List.of(meal));
+        lenient().when(foodCatalog.snapshot()).thenReturn(FoodCatalogSnapshot.of(List.of(rice, soup), 1L));
+    }
+
+    @Test
+    void newMealTimeWithoutEatingTime_defaultsToNow() {
+        given(foodCatalog.isActive(any())).willReturn(true);
+
+        mealService.applyFoodSet(FOOD_SET_ID, request(null), USER_ID);
+
+        MealTime mealTime = meal.getMealTimes().get(0);
+        assertThat(mealTime.getEatingTime()).isNotNull();
+        assertThat(mealTime.getMealFoods()).hasSize(2);
+    }
+
+    @Test
+    void newMealTimeWithEatingTime_keepsRequestedTime() {
+        given(foodCatalog.isActive(any())).willReturn(true);
+
+        mealService.applyFoodSet(FOOD_SET_ID, request(LocalTime.of(8, 30)), USER_ID);
+
+        assertThat(meal.getMealTimes().get(0).getEatingTime()).isEqualTo(LocalTime.of(8, 30));
+    }
+
+    @Test
+    void setWithDeletedFood_isRejectedBeforeAnyWrite() {
+        given(foodCatalog.isActive(1)).willReturn(true);
+        given(foodCatalog.isActive(2)).willReturn(false);
+
+        assertThatThrownBy(() -> mealService.applyFoodSet(FOOD_SET_ID, request(null), USER_ID))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(mealRepository, never()).save(any());
+        assertThat(meal.getMealTimes()).isEmpty();
+    }
+
+    private static FoodSetApplyRequest request(LocalTime eatingTime) {
+        return FoodSetApplyRequest.builder()
+                .mealDate(DATE)
+                .mealType(MealType.LUNCH)
+                .eatingTime(eatingTime)
+                .build();
+    }
+
+    private static FoodSet foodSet(Food... foods) {
+        FoodSet foodSet = FoodSet.builder().FoodSetId(FOOD_SET_ID).userId(USER_ID).name("점심 세트").build();
+        for (Food food : foods) {
+            foodSet.getFoodSetFoods().add(FoodSetFood.builder().foodSet(foodSet).food(food).quantity(1f).build());
+        }
+        return foodSet;
+    }
+}
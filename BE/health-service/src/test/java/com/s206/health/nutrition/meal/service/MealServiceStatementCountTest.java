@@ -0,0 +1,145 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.health.nutrition.favorite.service.FavoriteService;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.nutrition.meal.dto.response.MealDailyResponse;
+import com.s206.health.nutrition.meal.dto.response.MealTimeNutritionResponse;
+import com.s206.health.nutrition.meal.entity.Meal;
+import com.s206.health.nutrition.meal.entity.MealFood;
+import com.s206.health.nutrition.meal.entity.MealImageObject;
+import com.s206.health.nutrition.meal.entity.MealTime;
+import com.s206.health.nutrition.meal.entity.MealType;
+import com.s206.health.nutrition.meal.type.MealImageSize;
+import com.s206.health.nutrition.recent.service.FoodAffinityService;
+import com.s206.health.nutrition.recent.service.RecentFoodService;
+import com.s206.health.nutrition.rollup.service.NutritionRollupService;
+import com.s206.health.persistence.id.EntityIdAllocator;
+import com.s206.health.support.JpaSliceTestConfig;
+import io.minio.MinioClient;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static com.s206.health.support.TestFoods.food;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 날짜별 식단 조회가 시간대/음식 수와 무관하게 쿼리 한 번으로 끝나는지 검증 (N+1 재발 방지)
+// 조회 경로는 JPA 리포지토리만 쓰므로 MealService/MealImageService 는 실제 빈, 그 밖의 협력 빈은 mock
+@DataJpaTest(properties = {
+        JpaSliceTestConfig.NO_CONFIG_SERVER,
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.minio.endpoint=http://minio:9000",
+        "spring.minio.bucket.name=meal-bucket"
+})
+@ContextConfiguration(classes = JpaSliceTestConfig.class)
+@Import({MealService.class, MealImageService.class})
+class MealServiceStatementCountTest {
+
+    private static final Integer USER_ID = 1;
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 1);
+    private static final String READY_IMAGE = "meal/ready.jpg";
+    private static final String PENDING_IMAGE = "meal/pending.jpg";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MealService mealService;
+
+    @MockitoBean
+    private FavoriteService favoriteService;
+    @MockitoBean
+    private FoodCatalog foodCatalog;
+    @MockitoBean
+    private NutritionRollupService nutritionRollupService;
+    @MockitoBean
+    private RecentFoodService recentFoodService;
+    @MockitoBean
+    private FoodAffinityService foodAffinityService;
+    @MockitoBean
+    private EntityIdAllocator entityIdAllocator;
+    @MockitoBean
+    private MealImageDirectUploadService mealImageDirectUploadService;
+    @MockitoBean
+    private MealImageDerivativeService mealImageDerivativeService;
+    @MockitoBean
+    private MealImageObjectService mealImageObjectService;
+    @MockitoBean
+    private MinioClient minioClient;
+    @MockitoBean(name = "mealImageUploadExecutor")
+    private ThreadPoolTaskExecutor mealImageUploadExecutor;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 이미지 URL 은 파생본 저장 여부가 행에 함께 실려 오므로 별도 조회 없이 생성
+        Food rice = entityManager.persist(food("쌀밥").calorie(300).build());
+        Food soup = entityManager.persist(food("된장국").calorie(80).build());
+        Food egg = entityManager.persist(food("계란찜").calorie(120).build());
+
+        // 아침 사진은 파생본 저장 완료, 점심 사진은 생성 대기, 저녁은 사진 없음
+        entityManager.persist(imageObject(READY_IMAGE, true));
+        entityManager.persist(imageObject(PENDING_IMAGE, false));
+        String[] images = {READY_IMAGE, PENDING_IMAGE, null};
+
+        Meal meal = Meal.builder().userId(USER_ID).mealDate(DATE).isMeal(true).build();
+        MealType[] mealTypes = {MealType.BREAKFAST, MealType.LUNCH, MealType.DINNER};
+        for (int i = 0; i < mealTypes.length; i++) {
+            MealTime mealTime = MealTime.builder().meal(meal).mealType(mealTypes[i]).eatingTime(LocalTime.NOON)
+                    .mealTimeImageUrl(images[i]).build();
+            for (Food food : new Food[]{rice, soup, egg}) {
+                mealTime.getMealFoods().add(MealFood.builder().mealTime(mealTime).food(food).quantity(1f).build());
+            }
+            meal.getMealTimes().add(mealTime);
+        }
+        entityManager.persist(meal);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getMealByDate_issuesSingleStatement() {
+        MealDailyResponse response = mealService.getMealByDate(DATE, USER_ID);
+
+        assertThat(response.getMealTimes()).hasSize(3);
+        assertThat(response.getMealTimes()).allSatisfy(mealTime -> assertThat(mealTime.getFoods()).hasSize(3));
+        assertThat(response.getTotalNutrition().getTotalCalorie()).isEqualTo(1500);
+        assertThat(response.getMealTimes())
+                .extracting(MealTimeNutritionResponse::getMealTimeImageThumbnailUrl)
+                .containsExactly(
+                        "http://minio:9000/meal-bucket/" + MealImageSize.THUMBNAIL.objectNameOf(READY_IMAGE),
+                        "http://minio:9000/meal-bucket/" + PENDING_IMAGE,
+                        null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static MealImageObject imageObject(String objectName, boolean derivativesReady) {
+        return MealImageObject.builder()
+                .objectName(objectName)
+                .size(100L)
+                .contentType("image/jpeg")
+                .refCount(1)
+                .derivativesReady(derivativesReady)
+                .build();
+    }
+}
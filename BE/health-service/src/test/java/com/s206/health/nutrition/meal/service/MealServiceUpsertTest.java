@@ -0,0 +1,129 @@
+package com.s206.health.nutrition.meal.service;
+
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.common.exception.types.InternalServerErrorException;
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.meal.dto.request.MealCreateRequest;
+import com.s206.health.nutrition.meal.dto.response.MealDetailResponse;
+import com.s206.health.nutrition.meal.entity.Meal;
+import com.s206.health.nutrition.meal.repository.MealRepository;
+import com.s206.health.nutrition.recent.service.FoodAffinityService;
+import com.s206.health.nutrition.recent.service.RecentFoodService;
+import com.s206.health.nutrition.rollup.service.NutritionRollupService;
+import com.s206.health.persistence.id.EntityIdAllocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+// 날짜별 식단 확보: 기존 식단은 조회한 엔티티를 그대로 쓰고, 없을 때만 ID 를 발급하여 upsert
+@ExtendWith(MockitoExtension.class)
+class MealServiceUpsertTest {
+
+    private static final Integer USER_ID = 1;
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private MealRepository mealRepository;
+    @Mock
+    private FoodCatalog foodCatalog;
+    @Mock
+    private NutritionRollupService nutritionRollupService;
+    @Mock
+    private RecentFoodService recentFoodService;
+    @Mock
+    private FoodAffinityService foodAffinityService;
+    @Mock
+    private EntityIdAllocator entityIdAllocator;
+
+    @InjectMocks
+    private MealService mealService;
+
+    @Test
+    void existingMeal_isUsedWithoutAllocatingId() {
+        Meal meal = meal(100, true);
+        given(mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(USER_ID, DATE)).willReturn(List.of(meal));
+
+        MealDetailResponse response = mealService.createOrUpdateMeal(request(DATE, null), USER_ID);
+
+        assertThat(response.getMealId()).isEqualTo(100);
+        verify(entityIdAllocator, never()).nextId(any());
+        verify(mealRepository, never()).upsertActiveMeal(any(), any(), any(), any(), any());
+        verify(mealRepository).save(meal);
+    }
+
+    @Test
+    void newMeal_allocatesIdAndUpsertsBeforeLoading() {
+        Meal meal = meal(500, true);
+        given(entityIdAllocator.nextId(Meal.class)).willReturn(500);
+        given(mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(USER_ID, DATE))
+                .willReturn(List.of(), List.of(meal));
+
+        MealDetailResponse response = mealService.createOrUpdateMeal(request(DATE, null), USER_ID);
+
+        assertThat(response.getMealId()).isEqualTo(500);
+        InOrder order = inOrder(mealRepository);
+        order.verify(mealRepository).findByUserIdAndMealDateAndIsDeletedFalse(USER_ID, DATE);
+        order.verify(mealRepository).upsertActiveMeal(eq(500), eq(USER_ID), eq(DATE), isNull(), any());
+        order.verify(mealRepository).findByUserIdAndMealDateAndIsDeletedFalse(USER_ID, DATE);
+        order.verify(mealRepository).save(meal);
+        verifyNoMoreInteractions(mealRepository);
+    }
+
+    @Test
+    void upsert_appliesIsMealToExistingMeal() {
+        Meal meal = meal(100, true);
+        given(mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(USER_ID, DATE)).willReturn(List.of(meal));
+
+        mealService.createOrUpdateMeal(request(DATE, false), USER_ID);
+
+        assertThat(meal.getIsMeal()).isFalse();
+    }
+
+    @Test
+    void upsert_withoutDate_isRejectedBeforeAnyWrite() {
+        assertThatThrownBy(() -> mealService.createOrUpdateMeal(request(null, null), USER_ID))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(entityIdAllocator, never()).nextId(any());
+        verifyNoMoreInteractions(mealRepository);
+    }
+
+    @Test
+    void upsert_rowNotVisibleAfterWrite_fails() {
+        given(entityIdAllocator.nextId(Meal.class)).willReturn(500);
+        given(mealRepository.findByUserIdAndMealDateAndIsDeletedFalse(USER_ID, DATE)).willReturn(List.of());
+
+        assertThatThrownBy(() -> mealService.createOrUpdateMeal(request(DATE, null), USER_ID))
+                .isInstanceOf(InternalServerErrorException.class);
+
+        verify(mealRepository, never()).save(any());
+    }
+
+    private static MealCreateRequest request(LocalDate mealDate, Boolean isMeal) {
+        return MealCreateRequest.builder()
+                .mealDate(mealDate)
+                .isMeal(isMeal)
+                .build();
+    }
+
+    private static Meal meal(int mealId, boolean isMeal) {
+        return Meal.builder().mealId(mealId).userId(USER_ID).mealDate(DATE).isMeal(isMeal).build();
+    }
+}
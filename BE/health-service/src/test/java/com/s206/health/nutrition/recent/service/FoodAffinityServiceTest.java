@@ -0,0 +1,131 @@
+package com.s206.health.nutrition.recent.service;
+
+import com.s206.health.nutrition.favorite.repository.FavoriteFoodRepository;
+import com.s206.health.nutrition.foodset.repository.FoodSetRepository;
+import com.s206.health.nutrition.meal.repository.MealFoodRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 선호도 계산이 검색 스레드에서 실행되지 않고 실행기로 넘어가는지 검증 (실행기 작업은 테스트에서 직접 실행)
+@ExtendWith(MockitoExtension.class)
+class FoodAffinityServiceTest {
+
+    private static final Integer USER_ID = 7;
+
+    @Mock
+    private FavoriteFoodRepository favoriteFoodRepository;
+    @Mock
+    private MealFoodRepository mealFoodRepository;
+    @Mock
+    private FoodSetRepository foodSetRepository;
+    @Mock
+    private RecentFoodService recentFoodService;
+
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+    private FoodAffinityService foodAffinityService;
+
+    @BeforeEach
+    void setUp() {
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        lenient().doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(executor).execute(any(Runnable.class));
+
+        foodAffinityService = new FoodAffinityService(
+                favoriteFoodRepository, mealFoodRepository, foodSetRepository, recentFoodService);
+        ReflectionTestUtils.setField(foodAffinityService, "affinityExecutor", executor);
+    }
+
+    @Test
+    void miss_returnsEmptyAndComputesInBackground() {
+        givenFavorites(List.of(10));
+
+        assertThat(foodAffinityService.getAffinity(USER_ID).isEmpty()).isTrue();
+        verify(favoriteFoodRepository, never()).findFoodIdsByUserId(any());
+
+        runTasks();
+
+        assertThat(foodAffinityService.getAffinity(USER_ID).weightOf(10)).isPositive();
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void concurrentMisses_scheduleOneComputation() {
+        foodAffinityService.getAffinity(USER_ID);
+        foodAffinityService.getAffinity(USER_ID);
+
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void refresh_ofUncachedUserDoesNothing() {
+        foodAffinityService.refresh(USER_ID);
+
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void refresh_recomputesCachedUserInBackground() {
+        givenFavorites(List.of(10));
+        foodAffinityService.getAffinity(USER_ID);
+        runTasks();
+
+        givenFavorites(List.of(20));
+        foodAffinityService.refresh(USER_ID);
+        assertThat(foodAffinityService.getAffinity(USER_ID).weightOf(20)).isZero();
+
+        runTasks();
+        assertThat(foodAffinityService.getAffinity(USER_ID).weightOf(20)).isPositive();
+    }
+
+    @Test
+    void refreshDuringComputation_recomputesAfterward() {
+        givenFavorites(List.of(10));
+        foodAffinityService.getAffinity(USER_ID);
+        runTasks();
+
+        // 계산이 예약된 상태에서 다시 변경이 커밋됨
+        foodAffinityService.refresh(USER_ID);
+        Runnable running = tasks.poll();
+        doAnswer(invocation -> {
+            foodAffinityService.refresh(USER_ID);
+            return List.of(10);
+        }).doReturn(List.of(30)).when(favoriteFoodRepository).findFoodIdsByUserId(USER_ID);
+        running.run();
+
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(foodAffinityService.getAffinity(USER_ID).weightOf(30)).isPositive();
+    }
+
+    private void givenFavorites(List<Integer> foodIds) {
+        given(favoriteFoodRepository.findFoodIdsByUserId(USER_ID)).willReturn(foodIds);
+        given(recentFoodService.getRecentFoodIds(USER_ID, RecentFoodService.CAPACITY)).willReturn(List.of());
+        given(mealFoodRepository.findFoodFrequenciesByUserId(any(), any(), anyInt())).willReturn(List.of());
+        given(foodSetRepository.findFoodIdsByUserId(USER_ID)).willReturn(List.of());
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.s206.health.nutrition.rollup.scheduler;
+
+import com.s206.health.nutrition.meal.repository.MealRepository;
+import com.s206.health.nutrition.rollup.repository.UserDailyNutritionRepository;
+import com.s206.health.nutrition.rollup.service.NutritionRollupService;
+import com.s206.common.exception.types.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NutritionRollupSchedulerTest {
+
+    @Mock
+    private NutritionRollupService nutritionRollupService;
+    @Mock
+    private UserDailyNutritionRepository rollupRepository;
+    @Mock
+    private MealRepository mealRepository;
+
+    @InjectMocks
+    private NutritionRollupScheduler scheduler;
+
+    @Test
+    void rebuildForFoods_rebuildsEachUsersAffectedRangeOnce() {
+        // 음식 ID가 IN 절 크기를 넘으면 청크마다 조회하고 사용자별 기간을 합침
+        List<Integer> foodIds = new ArrayList<>(IntStream.rangeClosed(1, 1500).boxed().toList());
+        given(mealRepository.findUserMealDateRangesByFoodIds(anyCollection()))
+                .willReturn(List.<Object[]>of(
+                        new Object[]{1, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10)},
+                        new Object[]{2, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 1)}))
+                .willReturn(List.<Object[]>of(
+                        new Object[]{1, LocalDate.of(2025, 2, 20), LocalDate.of(2025, 3, 5)}));
+
+        int users = scheduler.rebuildForFoods(foodIds);
+
+        assertThat(users).isEqualTo(2);
+        verify(nutritionRollupService).rebuild(1, LocalDate.of(2025, 2, 20), LocalDate.of(2025, 3, 10));
+        verify(nutritionRollupService).rebuild(2, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 1));
+    }
+
+    @Test
+    void rebuildForFoods_withoutChangedFoodsDoesNothing() {
+        assertThat(scheduler.rebuildForFoods(Set.of())).isZero();
+        verifyNoInteractions(mealRepository, nutritionRollupService);
+    }
+
+    @Test
+    void startRebuildAll_rejectsWhileRunningAndAllowsAfterFinish() {
+        given(mealRepository.findDistinctUserIds()).willReturn(List.of(1));
+
+        scheduler.startRebuildAll();
+        assertThatThrownBy(scheduler::startRebuildAll).isInstanceOf(ConflictException.class);
+
+        scheduler.rebuildAllAsync();
+        verify(nutritionRollupService).rebuild(1);
+        scheduler.startRebuildAll();
+    }
+}
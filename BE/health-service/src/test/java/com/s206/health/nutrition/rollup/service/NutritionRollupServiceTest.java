@@ -0,0 +1,124 @@
+package com.s206.health.nutrition.rollup.service;
+
+import com.s206.health.nutrition.food.catalog.FoodCatalog;
+import com.s206.health.nutrition.food.catalog.FoodCatalogSnapshot;
+import com.s206.health.nutrition.food.entity.Food;
+import com.s206.health.nutrition.meal.entity.Meal;
+import com.s206.health.nutrition.meal.entity.MealFood;
+import com.s206.health.nutrition.meal.entity.MealTime;
+import com.s206.health.nutrition.meal.entity.MealType;
+import com.s206.health.nutrition.meal.repository.MealRepository;
+import com.s206.health.nutrition.rollup.repository.UserDailyNutritionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.s206.health.support.TestFoods.food;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NutritionRollupServiceTest {
+
+    private static final Integer USER_ID = 7;
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private UserDailyNutritionRepository rollupRepository;
+    @Mock
+    private MealRepository mealRepository;
+    @Mock
+    private FoodCatalog foodCatalog;
+
+    @InjectMocks
+    private NutritionRollupService nutritionRollupService;
+
+    private Food rice;
+    private Food egg;
+
+    @BeforeEach
+    void setUp() {
+        rice = food("쌀밥").foodId(1).calorie(300)
+                .carbohydrate(new BigDecimal("60.00")).protein(new BigDecimal("5.00")).fat(new BigDecimal("1.00")).build();
+        egg = food("계란").foodId(2).calorie(80)
+                .carbohydrate(new BigDecimal("1.00")).protein(new BigDecimal("6.50")).fat(new BigDecimal("5.00")).build();
+        given(foodCatalog.snapshot()).willReturn(FoodCatalogSnapshot.of(List.of(rice, egg), 1L));
+    }
+
+    @Test
+    void refresh_upsertsTotalsOfActiveMealTimes() {
+        Meal meal = meal();
+        MealTime breakfast = mealTime(meal, MealType.BREAKFAST);
+        addFood(breakfast, rice, 1.5f);
+        addFood(breakfast, egg, 2f);
+        MealTime deletedLunch = mealTime(meal, MealType.LUNCH);
+        addFood(deletedLunch, rice, 1f);
+        deletedLunch.delete();
+
+        nutritionRollupService.refresh(meal);
+
+        // 300 * 1.5 + 80 * 2 = 610 kcal, 삭제된 점심은 제외
+        verify(rollupRepository).upsertTotals(eq(USER_ID), eq(DATE),
+                argThat(decimalEquals("610")), argThat(decimalEquals("92")), argThat(decimalEquals("20.5")),
+                argThat(decimalEquals("11.5")), any(), any(), eq(2), any());
+        verify(rollupRepository, never()).deleteByUserIdAndNutritionDate(any(), any());
+    }
+
+    @Test
+    void refresh_deletesRowWhenDayHasNoFoods() {
+        Meal meal = meal();
+        MealTime breakfast = mealTime(meal, MealType.BREAKFAST);
+        addFood(breakfast, rice, 1f);
+        meal.delete();
+
+        nutritionRollupService.refresh(meal);
+
+        verify(rollupRepository).deleteByUserIdAndNutritionDate(USER_ID, DATE);
+        verify(rollupRepository, never()).upsertTotals(any(), any(), any(), any(), any(), any(), any(), any(),
+                anyInt(), any());
+    }
+
+    private static org.mockito.ArgumentMatcher<BigDecimal> decimalEquals(String expected) {
+        return actual -> actual != null && actual.compareTo(new BigDecimal(expected)) == 0;
+    }
+
+    private static Meal meal() {
+        return Meal.builder()
+                .mealId(1)
+                .userId(USER_ID)
+                .mealDate(DATE)
+                .isMeal(true)
+                .build();
+    }
+
+    private static MealTime mealTime(Meal meal, MealType mealType) {
+        MealTime mealTime = MealTime.builder()
+                .meal(meal)
+                .mealType(mealType)
+                .eatingTime(LocalTime.NOON)
+                .build();
+        meal.getMealTimes().add(mealTime);
+        return mealTime;
+    }
+
+    private static void addFood(MealTime mealTime, Food food, float quantity) {
+        mealTime.getMealFoods().add(MealFood.builder()
+                .mealTime(mealTime)
+                .food(food)
+                .quantity(quantity)
+                .build());
+    }
+}
@@ -0,0 +1,160 @@
+package com.s206.health.step.service;
+
+import com.s206.common.exception.types.BadRequestException;
+import com.s206.health.persistence.id.EntityIdAllocator;
+import com.s206.health.step.dto.request.StepCreateRequest;
+import com.s206.health.step.dto.response.StepResponse;
+import com.s206.health.step.entity.Step;
+import com.s206.health.step.repository.StepRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// 걸음 수 일괄 등록: 기존 ID 조회 한 번 → upsert batch 한 번 → 기록된 행 조회 한 번
+@ExtendWith(MockitoExtension.class)
+class StepServiceTest {
+
+    private static final Integer USER_ID = 1;
+    private static final LocalDate DAY1 = LocalDate.of(2025, 5, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 5, 2);
+
+    @Mock
+    private StepRepository stepRepository;
+    @Mock
+    private EntityIdAllocator entityIdAllocator;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private StepWriteBuffer stepWriteBuffer;
+
+    @InjectMocks
+    private StepService stepService;
+
+    @Test
+    void sync_reusesExistingIdsAndAllocatesOnlyForNewDates() {
+        // DAY1 은 기존 기록(ID 10)이 있고, DAY2 는 새 기록
+        given(stepRepository.findStepIdsByDateRange(USER_ID, DAY1, DAY2))
+                .willReturn(List.<Object[]>of(new Object[]{DAY1, 10}));
+        given(entityIdAllocator.nextId(Step.class)).willReturn(501);
+        given(stepRepository.findStepsByDateRange(USER_ID, DAY1, DAY2))
+                .willReturn(List.of(step(501, DAY2, 3000), step(10, DAY1, 7000)));
+
+        List<StepResponse> responses = stepService.createOrUpdateStepCount(USER_ID, List.of(
+                request(DAY1, 5000), request(DAY2, 3000), request(DAY1, 7000)));
+
+        // 같은 날짜는 마지막 값 하나로 합쳐서 처음 나온 순서로 응답
+        assertThat(responses).extracting(StepResponse::getStepDate).containsExactly(DAY1, DAY2);
+        assertThat(responses).extracting(StepResponse::getStepCountId).containsExactly(10, 501);
+        assertThat(responses).extracting(StepResponse::getStepCount).containsExactly(7000, 3000);
+
+        List<Object[]> batchArgs = captureBatch();
+        assertThat(batchArgs).hasSize(2);
+        assertThat(batchArgs.get(0)).startsWith(10, USER_ID, Date.valueOf(DAY1), 7000);
+        assertThat(batchArgs.get(1)).startsWith(501, USER_ID, Date.valueOf(DAY2), 3000);
+
+        verify(entityIdAllocator, times(1)).nextId(Step.class);
+        InOrder order = inOrder(jdbcTemplate, stepRepository);
+        order.verify(stepRepository).findStepIdsByDateRange(USER_ID, DAY1, DAY2);
+        order.verify(jdbcTemplate).batchUpdate(anyString(), any(List.class));
+        order.verify(stepRepository).findStepsByDateRange(USER_ID, DAY1, DAY2);
+    }
+
+    @Test
+    void sync_usesRowAliasInsteadOfValuesFunction() {
+        given(entityIdAllocator.nextId(Step.class)).willReturn(500);
+
+        stepService.createOrUpdateStepCount(USER_ID, List.of(request(DAY1, 5000)));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), any(List.class));
+        assertThat(sql.getValue())
+                .contains("AS new ON DUPLICATE KEY UPDATE")
+                .contains("step_count = new.step_count")
+                .doesNotContain("VALUES(");
+    }
+
+    @Test
+    void sync_bufferedTodayIsNotWrittenDirectly() {
+        LocalDate today = LocalDate.now();
+        given(stepWriteBuffer.offer(USER_ID, today, 4000)).willReturn(true);
+
+        List<StepResponse> responses = stepService.createOrUpdateStepCount(USER_ID, List.of(request(null, 4000)));
+
+        assertThat(responses).singleElement().satisfies(response -> {
+            assertThat(response.getStepDate()).isEqualTo(today);
+            assertThat(response.getStepCount()).isEqualTo(4000);
+        });
+        verifyNoInteractions(jdbcTemplate, stepRepository, entityIdAllocator);
+    }
+
+    @Test
+    void read_prefersBufferedValueEvenWhenLower() {
+        given(stepRepository.findStepByStepDate(USER_ID, DAY1)).willReturn(Optional.of(step(10, DAY1, 5000)));
+        given(stepWriteBuffer.peek(USER_ID, DAY1)).willReturn(3000);
+
+        StepResponse response = stepService.getStepCountByDate(USER_ID, DAY1);
+
+        assertThat(response.getStepCountId()).isEqualTo(10);
+        assertThat(response.getStepCount()).isEqualTo(3000);
+    }
+
+    @Test
+    void sync_overMaxDays_isRejectedBeforeAnyWrite() {
+        List<StepCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 367; i++) {
+            requests.add(request(DAY1.minusDays(i), 1000));
+        }
+
+        assertThatThrownBy(() -> stepService.createOrUpdateStepCount(USER_ID, requests))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(stepWriteBuffer, never()).offer(any(), any(), anyInt());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private static StepCreateRequest request(LocalDate stepDate, Integer stepCount) {
+        return StepCreateRequest.builder().stepDate(stepDate).stepCount(stepCount).build();
+    }
+
+    private static Step step(int stepCountId, LocalDate stepDate, int stepCount) {
+        return Step.builder()
+                .stepCountId(stepCountId)
+                .userId(USER_ID)
+                .stepDate(stepDate)
+                .stepCount(stepCount)
+                .createdAt(LocalDateTime.of(2025, 5, 1, 9, 0))
+                .isDeleted(false)
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.s206.health.step.service;
+
+import com.s206.health.persistence.id.EntityIdAllocator;
+import com.s206.health.step.entity.Step;
+import com.s206.health.step.repository.StepRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 오늘 걸음 수 쓰기 버퍼: 같은 키 병합, flush 중 조회/갱신, 실패 시 재시도
+@ExtendWith(MockitoExtension.class)
+class StepWriteBufferTest {
+
+    private static final Integer USER_ID = 1;
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private StepRepository stepRepository;
+    @Mock
+    private EntityIdAllocator entityIdAllocator;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private StepWriteBuffer buffer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        buffer = new StepWriteBuffer(stepRepository, entityIdAllocator, jdbcTemplate, transactionTemplate,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        ReflectionTestUtils.setField(buffer, "maxPending", 100);
+        buffer.init();
+
+        lenient().doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(entityIdAllocator.nextId(Step.class)).thenReturn(500);
+    }
+
+    @Test
+    void offersForSameDay_mergeToLastValue() {
+        buffer.offer(USER_ID, DATE, 1000);
+        buffer.offer(USER_ID, DATE, 2500);
+
+        buffer.flush();
+
+        List<List<Object[]>> batches = capturedBatches(1);
+        assertThat(batches.get(0)).singleElement().satisfies(args -> assertThat(args[3]).isEqualTo(2500));
+        assertThat(buffer.peek(USER_ID, DATE)).isNull();
+    }
+
+    // 받은 값이 저장된 값보다 작아도 그대로 기록 (받은 시각이 더 늦을 때만 덮어씀)
+    @Test
+    void lowerValue_replacesStoredValueByReceiveTime() {
+        LocalDateTime before = LocalDateTime.now();
+        buffer.offer(USER_ID, DATE, 5000);
+        buffer.offer(USER_ID, DATE, 3000);
+        LocalDateTime after = LocalDateTime.now();
+
+        buffer.flush();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), anyList());
+        assertThat(sql.getValue())
+                .contains("step_count = IF(new.updated_at >= step_count_tb.updated_at, new.step_count")
+                .doesNotContain("GREATEST(COALESCE(step_count_tb.step_count");
+        Object[] args = capturedBatches(1).get(0).get(0);
+        assertThat(args[3]).isEqualTo(3000);
+        assertThat(((Timestamp) args[5]).toLocalDateTime()).isBetween(before, after);
+    }
+
+    @Test
+    void valueStaysVisibleWhileBeingWritten() {
+        buffer.offer(USER_ID, DATE, 1000);
+        List<Integer> seenDuringWrite = new ArrayList<>();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            seenDuringWrite.add(buffer.peek(USER_ID, DATE));
+            return new int[]{1};
+        });
+
+        buffer.flush();
+
+        assertThat(seenDuringWrite).containsExactly(1000);
+    }
+
+    // flush 가 pending 에서 값을 빼는 동안 다른 스레드의 조회가 값을 놓치지 않아야 함
+    @Test
+    void concurrentReader_neverMissesValueWhileDraining() throws Exception {
+        int users = 20_000;
+        ReflectionTestUtils.setField(buffer, "maxPending", users);
+        for (int userId = 1; userId <= users; userId++) {
+            buffer.offer(userId, DATE, userId);
+        }
+
+        AtomicBoolean writing = new AtomicBoolean();
+        AtomicInteger misses = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            while (!writing.get()) {
+                for (int userId = 1; userId <= users && !writing.get(); userId += 7) {
+                    if (buffer.peek(userId, DATE) == null) {
+                        misses.incrementAndGet();
+                    }
+                }
+                started.countDown();
+            }
+        });
+        // 기록 중에는 flushing 에 값이 남아 있으므로, 기록이 끝나기 전에 조회 스레드를 멈춤
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            writing.set(true);
+            reader.join();
+            return new int[0];
+        });
+
+        reader.start();
+        started.await();
+        buffer.flush();
+
+        assertThat(misses.get()).isZero();
+        capturedBatches(1);
+    }
+
+    @Test
+    void newerValueDuringFlush_isKeptForNextFlush() {
+        buffer.offer(USER_ID, DATE, 1000);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            buffer.offer(USER_ID, DATE, 1800);
+            return new int[]{1};
+        }).willReturn(new int[]{1});
+
+        buffer.flush();
+        assertThat(buffer.peek(USER_ID, DATE)).isEqualTo(1800);
+
+        buffer.flush();
+        List<List<Object[]>> batches = capturedBatches(2);
+        assertThat(batches.get(0).get(0)[3]).isEqualTo(1000);
+        assertThat(batches.get(1).get(0)[3]).isEqualTo(1800);
+        assertThat(buffer.peek(USER_ID, DATE)).isNull();
+    }
+
+    @Test
+    void failedFlush_isRetriedOnNextFlush() {
+        buffer.offer(USER_ID, DATE, 1000);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("down"))
+                .willReturn(new int[]{1});
+
+        buffer.flush();
+        assertThat(buffer.peek(USER_ID, DATE)).isEqualTo(1000);
+
+        buffer.flush();
+        capturedBatches(2);
+        assertThat(buffer.peek(USER_ID, DATE)).isNull();
+    }
+
+    @Test
+    void disabledBuffer_rejectsOffers() {
+        ReflectionTestUtils.setField(buffer, "enabled", false);
+
+        assertThat(buffer.offer(USER_ID, DATE, 1000)).isFalse();
+
+        buffer.flush();
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> capturedBatches(int count) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(count)).batchUpdate(anyString(), captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,121 @@
+package com.s206.health.support;
+
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import okhttp3.Headers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// MinIO 대신 메모리에 객체를 두는 테스트용 저장소 (putObject/getObject/statObject/removeObject 만 지원)
+public class InMemoryObjectStore {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private final MinioClient client;
+
+    // putObject 직후 한 번 실행할 동작 (동시에 일어나는 삭제 등을 흉내)
+    private volatile Consumer<String> afterNextPut;
+
+    public InMemoryObjectStore() {
+        client = mock(MinioClient.class);
+        try {
+            when(client.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+                PutObjectArgs args = invocation.getArgument(0);
+                try (InputStream in = args.stream()) {
+                    objects.put(args.object(), in.readAllBytes());
+                }
+                contentTypes.put(args.object(), args.contentType());
+                Consumer<String> hook = afterNextPut;
+                if (hook != null) {
+                    afterNextPut = null;
+                    hook.accept(args.object());
+                }
+                return null;
+            });
+            when(client.getObject(any(GetObjectArgs.class))).thenAnswer(invocation -> {
+                GetObjectArgs args = invocation.getArgument(0);
+                byte[] content = objects.get(args.object());
+                if (content == null) {
+                    throw noSuchKey(args.bucket(), args.object());
+                }
+                return new GetObjectResponse(Headers.of(), args.bucket(), null, args.object(),
+                        new ByteArrayInputStream(content));
+            });
+            when(client.statObject(any(StatObjectArgs.class))).thenAnswer(invocation -> {
+                StatObjectArgs args = invocation.getArgument(0);
+                byte[] content = objects.get(args.object());
+                if (content == null) {
+                    throw noSuchKey(args.bucket(), args.object());
+                }
+                return new StatObjectResponse(Headers.of(
+                        "Content-Length", String.valueOf(content.length),
+                        "Content-Type", contentTypes.getOrDefault(args.object(), "application/octet-stream"),
+                        "Last-Modified", "Thu, 01 May 2025 00:00:00 GMT"),
+                        args.bucket(), null, args.object());
+            });
+            doAnswer(invocation -> {
+                RemoveObjectArgs args = invocation.getArgument(0);
+                objects.remove(args.object());
+                contentTypes.remove(args.object());
+                return null;
+            }).when(client).removeObject(any(RemoveObjectArgs.class));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ErrorResponseException noSuchKey(String bucket, String objectName) {
+        return new ErrorResponseException(new ErrorResponse("NoSuchKey", "객체 없음: " + objectName, bucket,
+                objectName, null, null, null), null, "객체 없음: " + objectName);
+    }
+
+    public MinioClient client() {
+        return client;
+    }
+
+    public void afterNextPut(Consumer<String> hook) {
+        this.afterNextPut = hook;
+    }
+
+    public void remove(String objectName) {
+        objects.remove(objectName);
+        contentTypes.remove(objectName);
+    }
+
+    public void put(String objectName, byte[] content, String contentType) {
+        objects.put(objectName, content);
+        contentTypes.put(objectName, contentType);
+    }
+
+    public byte[] get(String objectName) {
+        return objects.get(objectName);
+    }
+
+    public String contentType(String objectName) {
+        return contentTypes.get(objectName);
+    }
+
+    public boolean contains(String objectName) {
+        return objects.containsKey(objectName);
+    }
+
+    public int size() {
+        return objects.size();
+    }
+}
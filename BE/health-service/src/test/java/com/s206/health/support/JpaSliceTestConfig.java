@@ -0,0 +1,19 @@
+package com.s206.health.support;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.Configuration;
+
+// @DataJpaTest 용 설정 (@ContextConfiguration 으로 지정)
+// HealthServiceApplication 은 @ComponentScan 을 직접 선언하여 슬라이스 테스트에서도 모든 빈을 읽으므로,
+// 엔티티/JPA 리포지토리 패키지만 등록하는 설정을 따로 둠
+@Configuration
+@AutoConfigurationPackage(basePackages = "com.s206.health")
+public class JpaSliceTestConfig {
+
+    // 설정 서버 없이 실행 (@DataJpaTest(properties = ...) 에 사용)
+    public static final String NO_CONFIG_SERVER = "spring.cloud.config.enabled=false";
+
+    // MySQL 전용 문장(ON DUPLICATE KEY UPDATE 등)을 실행하는 테스트용 H2 MySQL 모드 (내장 DB 교체 없이 이 URL 사용)
+    public static final String MYSQL_MODE_REPLACE = "spring.test.database.replace=none";
+    public static final String MYSQL_MODE_URL = "spring.datasource.url=jdbc:h2:mem:health_mysql_mode;MODE=MySQL;DB_CLOSE_DELAY=-1";
+}
@@ -0,0 +1,27 @@
+package com.s206.health.support;
+
+import com.s206.health.nutrition.food.entity.Food;
+
+import java.math.BigDecimal;
+
+// 테스트용 음식 엔티티 빌더 (NOT NULL 영양소 컬럼을 기본값으로 채우고, 테스트에 필요한 값만 덮어씀)
+public final class TestFoods {
+
+    private TestFoods() {
+    }
+
+    public static Food.FoodBuilder food(String foodName) {
+        return Food.builder()
+                .foodName(foodName)
+                .calorie(100)
+                .carbohydrate(BigDecimal.ONE)
+                .protein(BigDecimal.ONE)
+                .fat(BigDecimal.ONE)
+                .sweet(BigDecimal.ZERO)
+                .sodium(BigDecimal.ZERO)
+                .saturatedFat(BigDecimal.ZERO)
+                .transFat(BigDecimal.ZERO)
+                .cholesterol(BigDecimal.ZERO)
+                .baseAmount("100g");
+    }
+}
@@ -169,7 +169,10 @@ CREATE TABLE IF NOT EXISTS `health_db`.`food_information_tb` (
   `sweet` DECIMAL(6,2) NOT NULL,
   `trans_fat` DECIMAL(6,2) NOT NULL,
   `updated_at` DATETIME(6) NOT NULL,
-  PRIMARY KEY (`food_id`))
+  `catalog_version` BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (`food_id`),
+  INDEX `IDX_food_information_updated_at` (`updated_at` ASC) VISIBLE,
+  INDEX `IDX_food_information_catalog_version` (`catalog_version` ASC) VISIBLE)
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
@@ -270,7 +273,8 @@ CREATE TABLE IF NOT EXISTS `health_db`.`food_set_tb` (
   `name` VARCHAR(50) NOT NULL,
   `updated_at` DATETIME(6) NOT NULL,
   `user_id` INT NOT NULL,
-  PRIMARY KEY (`food_set_id`))
+  PRIMARY KEY (`food_set_id`),
+  INDEX `IDX_food_set_user_id` (`user_id` ASC, `food_set_id` ASC) VISIBLE)
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
@@ -359,7 +363,9 @@ CREATE TABLE IF NOT EXISTS `health_db`.`meal_tb` (
   `meal_date` DATE NOT NULL,
   `updated_at` DATETIME(6) NOT NULL,
   `user_id` INT NOT NULL,
-  PRIMARY KEY (`meal_id`))
+  `active_key` TINYINT GENERATED ALWAYS AS (IF(`is_deleted` = 0, 1, NULL)) VIRTUAL,
+  PRIMARY KEY (`meal_id`),
+  UNIQUE INDEX `UK_meal_user_date_active` (`user_id` ASC, `meal_date` ASC, `active_key` ASC) VISIBLE)
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
@@ -382,6 +388,7 @@ CREATE TABLE IF NOT EXISTS `health_db`.`meal_time_tb` (
   `meal_id` INT NOT NULL,
   PRIMARY KEY (`meal_time_id`),
   INDEX `FKjj3qfbtg1tri1oj9xlatuw7vn` (`meal_id` ASC) VISIBLE,
+  INDEX `IDX_meal_time_image_url` (`meal_time_image_url` ASC) VISIBLE,
   CONSTRAINT `FKjj3qfbtg1tri1oj9xlatuw7vn`
     FOREIGN KEY (`meal_id`)
     REFERENCES `health_db`.`meal_tb` (`meal_id`))
@@ -390,6 +397,46 @@ DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
 
 
+-- -----------------------------------------------------
+-- Table `health_db`.`meal_image_object_tb`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `health_db`.`meal_image_object_tb` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`meal_image_object_tb` (
+  `meal_image_object_id` INT NOT NULL AUTO_INCREMENT,
+  `content_hash` VARCHAR(64) NULL DEFAULT NULL,
+  `object_name` VARCHAR(250) NOT NULL,
+  `size` BIGINT NOT NULL,
+  `content_type` VARCHAR(100) NULL DEFAULT NULL,
+  `ref_count` INT NOT NULL,
+  `derivatives_ready` TINYINT(1) NOT NULL DEFAULT 0,
+  `created_at` DATETIME(6) NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`meal_image_object_id`),
+  UNIQUE INDEX `UK_meal_image_object_content_hash` (`content_hash` ASC) VISIBLE,
+  UNIQUE INDEX `UK_meal_image_object_object_name` (`object_name` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
+-- -----------------------------------------------------
+-- Table `health_db`.`meal_image_sweep_state_tb`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `health_db`.`meal_image_sweep_state_tb` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`meal_image_sweep_state_tb` (
+  `meal_image_sweep_state_id` INT NOT NULL,
+  `cursor_key` VARCHAR(250) NULL DEFAULT NULL,
+  `locked_until` DATETIME(6) NULL DEFAULT NULL,
+  `last_completed_at` DATETIME(6) NULL DEFAULT NULL,
+  `updated_at` DATETIME(6) NULL DEFAULT NULL,
+  PRIMARY KEY (`meal_image_sweep_state_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
 -- -----------------------------------------------------
 -- Table `health_db`.`meal_food_tb`
 -- -----------------------------------------------------
@@ -404,6 +451,7 @@ CREATE TABLE IF NOT EXISTS `health_db`.`meal_food_tb` (
   PRIMARY KEY (`meal_food_id`),
   INDEX `FKn5rbxrg373a62nymvop08qg3x` (`food_id` ASC) VISIBLE,
   INDEX `FKxmt6apujhqxkem9l6vv92g2g` (`meal_time_id` ASC) VISIBLE,
+  INDEX `IDX_meal_food_image_url` (`food_image_url` ASC) VISIBLE,
   CONSTRAINT `FKn5rbxrg373a62nymvop08qg3x`
     FOREIGN KEY (`food_id`)
     REFERENCES `health_db`.`food_information_tb` (`food_id`),
@@ -415,6 +463,25 @@ DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
 
 
+-- -----------------------------------------------------
+-- Table `health_db`.`user_recent_food_tb`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `health_db`.`user_recent_food_tb` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`user_recent_food_tb` (
+  `user_recent_food_id` INT NOT NULL AUTO_INCREMENT,
+  `user_id` INT NOT NULL,
+  `food_id` INT NOT NULL,
+  `last_eaten_at` DATETIME(6) NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`user_recent_food_id`),
+  UNIQUE INDEX `UK_user_recent_food_user_food` (`user_id` ASC, `food_id` ASC) VISIBLE,
+  INDEX `IDX_user_recent_food_user_eaten` (`user_id` ASC, `last_eaten_at` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
 -- -----------------------------------------------------
 -- Table `health_db`.`step_count_tb`
 -- -----------------------------------------------------
@@ -429,7 +496,9 @@ CREATE TABLE IF NOT EXISTS `health_db`.`step_count_tb` (
   `step_date` DATE NOT NULL,
   `updated_at` DATETIME(6) NOT NULL,
   `user_id` INT NOT NULL,
-  PRIMARY KEY (`step_count_id`))
+  `active_key` TINYINT GENERATED ALWAYS AS (IF(`is_deleted` = 0, 1, NULL)) VIRTUAL,
+  PRIMARY KEY (`step_count_id`),
+  UNIQUE INDEX `UK_step_count_user_date_active` (`user_id` ASC, `step_date` ASC, `active_key` ASC) VISIBLE)
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
@@ -476,6 +545,75 @@ ENGINE = InnoDB
 DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
 
+-- -----------------------------------------------------
+-- Table `health_db`.`user_daily_nutrition`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `health_db`.`user_daily_nutrition` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`user_daily_nutrition` (
+  `user_daily_nutrition_id` INT NOT NULL AUTO_INCREMENT,
+  `user_id` INT NOT NULL,
+  `nutrition_date` DATE NOT NULL,
+  `total_calorie` DECIMAL(14,4) NOT NULL,
+  `total_carbohydrate` DECIMAL(14,4) NOT NULL,
+  `total_protein` DECIMAL(14,4) NOT NULL,
+  `total_fat` DECIMAL(14,4) NOT NULL,
+  `total_sugar` DECIMAL(14,4) NOT NULL,
+  `total_sodium` DECIMAL(14,4) NOT NULL,
+  `food_count` INT NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`user_daily_nutrition_id`),
+  UNIQUE INDEX `UK_user_daily_nutrition_user_date` (`user_id` ASC, `nutrition_date` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
+-- -----------------------------------------------------
+-- Table `health_db`.`food_catalog_version_tb`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `health_db`.`food_catalog_version_tb` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`food_catalog_version_tb` (
+  `food_catalog_version_id` INT NOT NULL,
+  `version` BIGINT NOT NULL,
+  PRIMARY KEY (`food_catalog_version_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
+-- -----------------------------------------------------
+-- Table `elastic_sync_state_tb`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `elastic_sync_state_tb` ;
+
+CREATE TABLE IF NOT EXISTS `elastic_sync_state_tb` (
+  `elastic_sync_state_id` INT NOT NULL,
+  `index_name` VARCHAR(100) NULL DEFAULT NULL,
+  `watermark` DATETIME(6) NULL DEFAULT NULL,
+  `locked_until` DATETIME(6) NULL DEFAULT NULL,
+  `last_rebuilt_at` DATETIME(6) NULL DEFAULT NULL,
+  `updated_at` DATETIME(6) NULL DEFAULT NULL,
+  PRIMARY KEY (`elastic_sync_state_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
+-- -----------------------------------------------------
+-- Table `id_sequence_tb`
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `id_sequence_tb` ;
+
+CREATE TABLE IF NOT EXISTS `id_sequence_tb` (
+  `sequence_name` VARCHAR(255) NOT NULL,
+  `next_val` BIGINT NULL DEFAULT NULL,
+  PRIMARY KEY (`sequence_name`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
 USE `notification_db` ;
 
 -- -----------------------------------------------------
@@ -0,0 +1,21 @@
+-- -----------------------------------------------------
+-- 식단 이미지 내용 해시 저장 / 참조 수 테이블
+-- (기존 meal/<uuid> 객체는 이 테이블에 없으며, 삭제 시 바로 제거됨)
+-- -----------------------------------------------------
+USE `health_db` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`meal_image_object_tb` (
+  `meal_image_object_id` INT NOT NULL AUTO_INCREMENT,
+  `content_hash` VARCHAR(64) NOT NULL,
+  `object_name` VARCHAR(250) NOT NULL,
+  `size` BIGINT NOT NULL,
+  `content_type` VARCHAR(100) NULL DEFAULT NULL,
+  `ref_count` INT NOT NULL,
+  `created_at` DATETIME(6) NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`meal_image_object_id`),
+  UNIQUE INDEX `UK_meal_image_object_content_hash` (`content_hash` ASC) VISIBLE,
+  UNIQUE INDEX `UK_meal_image_object_object_name` (`object_name` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,8 @@
+-- -----------------------------------------------------
+-- presigned PUT 직접 업로드 객체 등록용
+-- 직접 업로드는 서버가 내용을 읽지 않으므로 content_hash 없이 등록됨
+-- -----------------------------------------------------
+USE `health_db` ;
+
+ALTER TABLE `health_db`.`meal_image_object_tb`
+  MODIFY COLUMN `content_hash` VARCHAR(64) NULL DEFAULT NULL;
@@ -0,0 +1,22 @@
+-- -----------------------------------------------------
+-- 고아 식단 이미지 정리 진행 상태 (단일 행, 실행 시 자동 생성)
+-- -----------------------------------------------------
+USE `health_db` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`meal_image_sweep_state_tb` (
+  `meal_image_sweep_state_id` INT NOT NULL,
+  `cursor_key` VARCHAR(250) NULL DEFAULT NULL,
+  `locked_until` DATETIME(6) NULL DEFAULT NULL,
+  `last_completed_at` DATETIME(6) NULL DEFAULT NULL,
+  `updated_at` DATETIME(6) NULL DEFAULT NULL,
+  PRIMARY KEY (`meal_image_sweep_state_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+-- 고아 이미지 정리 시 페이지 단위 참조 조회(IN)용 인덱스
+ALTER TABLE `health_db`.`meal_food_tb`
+  ADD INDEX `IDX_meal_food_image_url` (`food_image_url` ASC) VISIBLE;
+
+ALTER TABLE `health_db`.`meal_time_tb`
+  ADD INDEX `IDX_meal_time_image_url` (`meal_time_image_url` ASC) VISIBLE;
@@ -0,0 +1,17 @@
+-- -----------------------------------------------------
+-- 사용자별 최근 먹은 음식 (기존 사용자는 첫 조회/식단 저장 시 식단 기록에서 자동 재구축)
+-- -----------------------------------------------------
+USE `health_db` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`user_recent_food_tb` (
+  `user_recent_food_id` INT NOT NULL AUTO_INCREMENT,
+  `user_id` INT NOT NULL,
+  `food_id` INT NOT NULL,
+  `last_eaten_at` DATETIME(6) NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`user_recent_food_id`),
+  UNIQUE INDEX `UK_user_recent_food_user_food` (`user_id` ASC, `food_id` ASC) VISIBLE,
+  INDEX `IDX_user_recent_food_user_eaten` (`user_id` ASC, `last_eaten_at` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
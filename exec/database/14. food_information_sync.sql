@@ -0,0 +1,7 @@
+-- -----------------------------------------------------
+-- 음식 카탈로그 변경분 동기화(updated_at 이후 조회)용 인덱스
+-- -----------------------------------------------------
+USE `health_db` ;
+
+ALTER TABLE `health_db`.`food_information_tb`
+  ADD INDEX `IDX_food_information_updated_at` (`updated_at` ASC) VISIBLE;
@@ -0,0 +1,17 @@
+-- -----------------------------------------------------
+-- Elasticsearch 음식 인덱스 동기화 상태 (단일 행, 실행 시 자동 생성)
+-- 기존 `food` 인덱스는 첫 전체 재색인 때 같은 이름의 alias로 원자적으로 교체됨
+-- -----------------------------------------------------
+USE `health_db` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`elastic_sync_state_tb` (
+  `elastic_sync_state_id` INT NOT NULL,
+  `index_name` VARCHAR(100) NULL DEFAULT NULL,
+  `watermark` DATETIME(6) NULL DEFAULT NULL,
+  `locked_until` DATETIME(6) NULL DEFAULT NULL,
+  `last_rebuilt_at` DATETIME(6) NULL DEFAULT NULL,
+  `updated_at` DATETIME(6) NULL DEFAULT NULL,
+  PRIMARY KEY (`elastic_sync_state_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,7 @@
+-- -----------------------------------------------------
+-- 사용자별 음식 세트 목록 조회용 인덱스
+-- -----------------------------------------------------
+USE `health_db` ;
+
+ALTER TABLE `health_db`.`food_set_tb`
+  ADD INDEX `IDX_food_set_user_id` (`user_id` ASC, `food_set_id` ASC) VISIBLE;
@@ -0,0 +1,29 @@
+-- -----------------------------------------------------
+-- 대량 INSERT 테이블 ID 발급용 시퀀스 (Hibernate 테이블 시퀀스, pooled-lo)
+-- next_val 은 다음에 예약할 구간의 첫 ID 이므로 기존 MAX(id) + 1 로 시작하여 기존 ID 유지
+-- 이후 이 테이블들에 직접 INSERT 할 때는 ID 를 비워 두지 말고 시퀀스를 통해 발급할 것
+-- (서버 시작 시 IdSequenceInitializer 가 같은 값으로 한 번 더 맞춤)
+-- -----------------------------------------------------
+USE `health_db` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`id_sequence_tb` (
+  `sequence_name` VARCHAR(255) NOT NULL,
+  `next_val` BIGINT NULL DEFAULT NULL,
+  PRIMARY KEY (`sequence_name`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+INSERT INTO `health_db`.`id_sequence_tb` (`sequence_name`, `next_val`)
+SELECT 'meal_tb', COALESCE(MAX(`meal_id`), 0) + 1 FROM `health_db`.`meal_tb`
+UNION ALL
+SELECT 'meal_time_tb', COALESCE(MAX(`meal_time_id`), 0) + 1 FROM `health_db`.`meal_time_tb`
+UNION ALL
+SELECT 'meal_food_tb', COALESCE(MAX(`meal_food_id`), 0) + 1 FROM `health_db`.`meal_food_tb`
+UNION ALL
+SELECT 'exercise_tb', COALESCE(MAX(`exercise_id`), 0) + 1 FROM `health_db`.`exercise_tb`
+UNION ALL
+SELECT 'step_count_tb', COALESCE(MAX(`step_count_id`), 0) + 1 FROM `health_db`.`step_count_tb`
+UNION ALL
+SELECT 'body_tb', COALESCE(MAX(`body_id`), 0) + 1 FROM `health_db`.`body_tb`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(`next_val`, VALUES(`next_val`));
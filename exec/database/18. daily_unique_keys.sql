@@ -0,0 +1,78 @@
+-- -----------------------------------------------------
+-- 날짜별 식단 / 걸음 수 중복 정리 + 유니크 키
+-- 조회 후 저장하던 경쟁으로 생긴 같은 날짜의 중복 활성 행을 하나로 합친 뒤,
+-- 삭제되지 않은 행만 (user_id, 날짜) 유니크가 되도록 가상 컬럼 active_key (활성 1, 삭제 NULL) 를 키에 포함
+-- (삭제된 행은 NULL 이라 몇 개든 허용되므로 soft delete 이력은 그대로 유지)
+-- 서비스는 이 키에 대한 INSERT ... ON DUPLICATE KEY UPDATE 로 식단/걸음 수를 등록함
+-- -----------------------------------------------------
+USE `health_db` ;
+
+-- 1. 식단: 같은 날짜의 활성 식단 중 가장 먼저 만든 식단(가장 작은 meal_id)만 남김
+CREATE TEMPORARY TABLE `meal_dedup_tmp` AS
+SELECT m.`meal_id` AS `duplicate_id`, k.`keep_id`
+FROM `health_db`.`meal_tb` m
+JOIN (SELECT `user_id`, `meal_date`, MIN(`meal_id`) AS `keep_id`
+      FROM `health_db`.`meal_tb`
+      WHERE `is_deleted` = 0
+      GROUP BY `user_id`, `meal_date`
+      HAVING COUNT(*) > 1) k
+  ON k.`user_id` = m.`user_id` AND k.`meal_date` = m.`meal_date`
+WHERE m.`is_deleted` = 0 AND m.`meal_id` <> k.`keep_id`;
+
+-- 1-1. 중복 식단의 시간대를 남길 식단으로 이동
+UPDATE `health_db`.`meal_time_tb` mt
+JOIN `meal_dedup_tmp` d ON mt.`meal_id` = d.`duplicate_id`
+SET mt.`meal_id` = d.`keep_id`;
+
+-- 1-2. 이동 후 같은 시간대가 여러 개면 가장 먼저 만든 시간대로 음식을 모으고 나머지는 삭제 처리
+CREATE TEMPORARY TABLE `meal_time_dedup_tmp` AS
+SELECT mt.`meal_time_id` AS `duplicate_id`, k.`keep_id`
+FROM `health_db`.`meal_time_tb` mt
+JOIN (SELECT `meal_id`, `meal_type`, MIN(`meal_time_id`) AS `keep_id`
+      FROM `health_db`.`meal_time_tb`
+      WHERE `is_deleted` = 0 AND `meal_id` IN (SELECT `keep_id` FROM `meal_dedup_tmp`)
+      GROUP BY `meal_id`, `meal_type`
+      HAVING COUNT(*) > 1) k
+  ON k.`meal_id` = mt.`meal_id` AND k.`meal_type` = mt.`meal_type`
+WHERE mt.`is_deleted` = 0 AND mt.`meal_time_id` <> k.`keep_id`;
+
+UPDATE `health_db`.`meal_food_tb` mf
+JOIN `meal_time_dedup_tmp` d ON mf.`meal_time_id` = d.`duplicate_id`
+SET mf.`meal_time_id` = d.`keep_id`;
+
+UPDATE `health_db`.`meal_time_tb` mt
+JOIN `meal_time_dedup_tmp` d ON mt.`meal_time_id` = d.`duplicate_id`
+SET mt.`is_deleted` = 1, mt.`deleted_at` = NOW(6), mt.`updated_at` = NOW(6);
+
+-- 1-3. 비워진 중복 식단 삭제 처리 (음식은 모두 남긴 식단으로 옮겨졌으므로 일별 영양 롤업 합계는 그대로)
+UPDATE `health_db`.`meal_tb` m
+JOIN `meal_dedup_tmp` d ON m.`meal_id` = d.`duplicate_id`
+SET m.`is_deleted` = 1, m.`deleted_at` = NOW(6), m.`updated_at` = NOW(6);
+
+DROP TEMPORARY TABLE `meal_time_dedup_tmp`;
+DROP TEMPORARY TABLE `meal_dedup_tmp`;
+
+-- 2. 걸음 수: 같은 날짜의 활성 기록 중 가장 최근에 수정된 기록만 남김 (덮어쓰기 방식이므로 마지막 값이 유효)
+CREATE TEMPORARY TABLE `step_dedup_tmp` AS
+SELECT DISTINCT s.`step_count_id` AS `duplicate_id`
+FROM `health_db`.`step_count_tb` s
+JOIN `health_db`.`step_count_tb` newer
+  ON newer.`user_id` = s.`user_id` AND newer.`step_date` = s.`step_date` AND newer.`is_deleted` = 0
+ AND (newer.`updated_at` > s.`updated_at`
+      OR (newer.`updated_at` = s.`updated_at` AND newer.`step_count_id` > s.`step_count_id`))
+WHERE s.`is_deleted` = 0;
+
+UPDATE `health_db`.`step_count_tb` s
+JOIN `step_dedup_tmp` d ON s.`step_count_id` = d.`duplicate_id`
+SET s.`is_deleted` = 1, s.`deleted_at` = NOW(6), s.`updated_at` = NOW(6);
+
+DROP TEMPORARY TABLE `step_dedup_tmp`;
+
+-- 3. 활성 행 유니크 키
+ALTER TABLE `health_db`.`meal_tb`
+  ADD COLUMN `active_key` TINYINT GENERATED ALWAYS AS (IF(`is_deleted` = 0, 1, NULL)) VIRTUAL,
+  ADD UNIQUE INDEX `UK_meal_user_date_active` (`user_id` ASC, `meal_date` ASC, `active_key` ASC) VISIBLE;
+
+ALTER TABLE `health_db`.`step_count_tb`
+  ADD COLUMN `active_key` TINYINT GENERATED ALWAYS AS (IF(`is_deleted` = 0, 1, NULL)) VIRTUAL,
+  ADD UNIQUE INDEX `UK_step_count_user_date_active` (`user_id` ASC, `step_date` ASC, `active_key` ASC) VISIBLE;
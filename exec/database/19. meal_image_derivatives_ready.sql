@@ -0,0 +1,9 @@
+-- -----------------------------------------------------
+-- 식단 이미지 파생본(썸네일/중간 크기) 생성 완료 여부
+-- 파생본은 업로드 후 비동기로 만들어지므로, 생성이 끝난 객체만 파생본 URL 을 응답하고 그 전에는 원본 URL 을 응답
+-- 기존 행은 0 으로 시작하며, 파생본 백필(/api/meals/images/derivatives/backfill)이 이미 만들어진 파생본을 확인해 1 로 표시
+-- -----------------------------------------------------
+USE `health_db` ;
+
+ALTER TABLE `health_db`.`meal_image_object_tb`
+  ADD COLUMN `derivatives_ready` TINYINT(1) NOT NULL DEFAULT 0 AFTER `ref_count`;
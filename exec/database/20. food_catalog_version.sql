@@ -0,0 +1,26 @@
+-- -----------------------------------------------------
+-- 음식 카탈로그 버전 (ETag / 변경분 동기화 기준)
+-- 카탈로그를 쓰는 트랜잭션이 food_catalog_version_tb 의 단일 행을 올려 그 값을 변경된 행에 기록
+-- 행 잠금이 커밋까지 유지되므로 버전은 커밋 순서대로 발급되어, 늦게 커밋된 변경을 놓치지 않음
+-- 기존 클라이언트가 가진 버전(updated_at epoch millis)과 이어지도록 기존 행은 updated_at 으로 채우고 카운터는 그 최댓값에서 시작
+-- -----------------------------------------------------
+USE `health_db` ;
+
+ALTER TABLE `health_db`.`food_information_tb`
+  ADD COLUMN `catalog_version` BIGINT NOT NULL DEFAULT 0,
+  ADD INDEX `IDX_food_information_catalog_version` (`catalog_version` ASC) VISIBLE;
+
+UPDATE `health_db`.`food_information_tb`
+SET `catalog_version` = TIMESTAMPDIFF(MICROSECOND, '1970-01-01 00:00:00', `updated_at`) DIV 1000;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`food_catalog_version_tb` (
+  `food_catalog_version_id` INT NOT NULL,
+  `version` BIGINT NOT NULL,
+  PRIMARY KEY (`food_catalog_version_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+INSERT INTO `health_db`.`food_catalog_version_tb` (`food_catalog_version_id`, `version`)
+SELECT 1, COALESCE(MAX(`catalog_version`), 0) FROM `health_db`.`food_information_tb`
+ON DUPLICATE KEY UPDATE `version` = GREATEST(`version`, VALUES(`version`));
@@ -0,0 +1,45 @@
+-- -----------------------------------------------------
+-- user_daily_nutrition 롤업 테이블 생성 및 기존 식단 데이터 백필
+-- (1. database create.sql 이후 기존 DB에 적용)
+-- -----------------------------------------------------
+USE `health_db` ;
+
+CREATE TABLE IF NOT EXISTS `health_db`.`user_daily_nutrition` (
+  `user_daily_nutrition_id` INT NOT NULL AUTO_INCREMENT,
+  `user_id` INT NOT NULL,
+  `nutrition_date` DATE NOT NULL,
+  `total_calorie` DECIMAL(14,4) NOT NULL,
+  `total_carbohydrate` DECIMAL(14,4) NOT NULL,
+  `total_protein` DECIMAL(14,4) NOT NULL,
+  `total_fat` DECIMAL(14,4) NOT NULL,
+  `total_sugar` DECIMAL(14,4) NOT NULL,
+  `total_sodium` DECIMAL(14,4) NOT NULL,
+  `food_count` INT NOT NULL,
+  `updated_at` DATETIME(6) NOT NULL,
+  PRIMARY KEY (`user_daily_nutrition_id`),
+  UNIQUE INDEX `UK_user_daily_nutrition_user_date` (`user_id` ASC, `nutrition_date` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+DELETE FROM `health_db`.`user_daily_nutrition`;
+
+INSERT INTO `health_db`.`user_daily_nutrition`
+  (user_id, nutrition_date, total_calorie, total_carbohydrate, total_protein, total_fat,
+   total_sugar, total_sodium, food_count, updated_at)
+SELECT m.user_id,
+       DATE(m.meal_date),
+       SUM(f.calorie * mf.quantity),
+       SUM(f.carbohydrate * mf.quantity),
+       SUM(f.protein * mf.quantity),
+       SUM(f.fat * mf.quantity),
+       SUM(f.sweet * mf.quantity),
+       SUM(f.sodium * mf.quantity),
+       COUNT(mf.meal_food_id),
+       NOW(6)
+FROM meal_tb m
+JOIN meal_time_tb mt ON mt.meal_id = m.meal_id AND mt.is_deleted = false
+JOIN meal_food_tb mf ON mf.meal_time_id = mt.meal_time_id
+JOIN food_information_tb f ON f.food_id = mf.food_id
+WHERE m.is_deleted = false
+GROUP BY m.user_id, DATE(m.meal_date);